@@ -11,7 +11,7 @@ package com.avispl.symphony.dal.communicator.lg.webos;
  * @version 1.4.0
  * @since 1.4.0
  */
-public enum AspectRatio {
+public enum AspectRatio implements NameValueEnum {
 
 	FULL_SCREEN("Full Screen", "02"),
 	ORIGINAL("Original", "06");
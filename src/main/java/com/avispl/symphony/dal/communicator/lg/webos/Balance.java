@@ -11,7 +11,7 @@ package com.avispl.symphony.dal.communicator.lg.webos;
  * @version 1.4.0
  * @since 1.4.0
  */
-public enum Balance {
+public enum Balance implements NameValueEnum {
 
 	L50("L50", "00"),
 	L49("L49", "01"),
@@ -12,7 +12,7 @@ package com.avispl.symphony.dal.communicator.lg.webos;
  * @version 1.4.0
  * @since 1.4.0
  */
-public enum BrightnessSize {
+public enum BrightnessSize implements NameValueEnum {
 
 	FULL_SCREEN("Off", "00"),
 	ORIGINAL("Minimum", "01"),
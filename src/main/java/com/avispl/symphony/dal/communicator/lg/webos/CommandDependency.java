@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.webos;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * CommandDependency class defined the enum provides the dependency graph of the polling commands
+ * A dependent command is polled right after its parent answers, and only if the parent value satisfies the dependency,
+ * otherwise the dependent command and its own dependents are pruned
+ * The same graph tells which commands are read again after a control changed the value of a parent
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public enum CommandDependency {
+
+	NATURAL_MODE(LgControllingCommand.NATURAL_MODE, LgControllingCommand.TILE_MODE_SETTINGS, LgWebOSProperty.TILE_MODE, LgWebOSConstants.ON::equals),
+	TILE_ID(LgControllingCommand.TILE_ID, LgControllingCommand.TILE_MODE_SETTINGS, LgWebOSProperty.TILE_MODE, LgWebOSConstants.ON::equals),
+	NATURAL_SIZE(LgControllingCommand.NATURAL_SIZE, LgControllingCommand.NATURAL_MODE, LgWebOSProperty.NATURAL_MODE,
+			value -> !LgWebOSConstants.NA.equals(value) && LgWebOSConstants.NUMBER_ONE == Integer.parseInt(value));
+
+	private static final Map<LgControllingCommand, CommandDependency> DEPENDENCY_BY_COMMAND = new EnumMap<>(LgControllingCommand.class);
+	private static final Map<LgControllingCommand, List<CommandDependency>> DEPENDENTS_BY_PARENT = new EnumMap<>(LgControllingCommand.class);
+	private static final Map<LgWebOSProperty, List<CommandDependency>> DEPENDENTS_BY_PARENT_PROPERTY = new EnumMap<>(LgWebOSProperty.class);
+
+	static {
+		for (CommandDependency dependency : values()) {
+			DEPENDENCY_BY_COMMAND.put(dependency.command, dependency);
+			DEPENDENTS_BY_PARENT.computeIfAbsent(dependency.parent, parent -> new ArrayList<>()).add(dependency);
+			DEPENDENTS_BY_PARENT_PROPERTY.computeIfAbsent(dependency.parentProperty, parentProperty -> new ArrayList<>()).add(dependency);
+		}
+	}
+
+	private final LgControllingCommand command;
+	private final LgControllingCommand parent;
+	private final LgWebOSProperty parentProperty;
+	private final Predicate<String> condition;
+
+	/**
+	 * CommandDependency instantiation
+	 *
+	 * @param command {@link #command}
+	 * @param parent {@link #parent}
+	 * @param parentProperty {@link #parentProperty}
+	 * @param condition {@link #condition}
+	 */
+	CommandDependency(LgControllingCommand command, LgControllingCommand parent, LgWebOSProperty parentProperty, Predicate<String> condition) {
+		this.command = command;
+		this.parent = parent;
+		this.parentProperty = parentProperty;
+		this.condition = condition;
+	}
+
+	/**
+	 * Retrieves {@link #command}
+	 *
+	 * @return value of {@link #command}
+	 */
+	public LgControllingCommand getCommand() {
+		return command;
+	}
+
+	/**
+	 * Retrieves {@link #parentProperty}
+	 *
+	 * @return value of {@link #parentProperty}
+	 */
+	public LgWebOSProperty getParentProperty() {
+		return parentProperty;
+	}
+
+	/**
+	 * Check whether the parent value allows polling the dependent command
+	 *
+	 * @param parentValue the parentValue is cached value of {@link #parentProperty}
+	 * @return boolean true if the dependent command is polled
+	 */
+	public boolean isSatisfiedBy(String parentValue) {
+		return condition.test(parentValue);
+	}
+
+	/**
+	 * Check whether the command depends on another command
+	 *
+	 * @param command the command is command to check
+	 * @return boolean true if the command is only polled after its parent
+	 */
+	public static boolean isDependent(LgControllingCommand command) {
+		return DEPENDENCY_BY_COMMAND.containsKey(command);
+	}
+
+	/**
+	 * Get the dependencies of the commands that depend on the parent command
+	 *
+	 * @param parent the parent is parent command
+	 * @return List<CommandDependency> is dependencies, empty if no command depends on the parent
+	 */
+	public static List<CommandDependency> getDependents(LgControllingCommand parent) {
+		List<CommandDependency> dependents = DEPENDENTS_BY_PARENT.get(parent);
+		return dependents == null ? Collections.emptyList() : dependents;
+	}
+
+	/**
+	 * Get the dependencies of the commands that depend on the value of a property
+	 *
+	 * @param parentProperty the parentProperty is property whose value the dependencies check
+	 * @return List<CommandDependency> is dependencies, empty if no command depends on the property
+	 */
+	public static List<CommandDependency> getDependents(LgWebOSProperty parentProperty) {
+		List<CommandDependency> dependents = DEPENDENTS_BY_PARENT_PROPERTY.get(parentProperty);
+		return dependents == null ? Collections.emptyList() : dependents;
+	}
+}
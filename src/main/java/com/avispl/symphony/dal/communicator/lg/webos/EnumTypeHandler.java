@@ -3,14 +3,13 @@
  */
 package com.avispl.symphony.dal.communicator.lg.webos;
 
-import java.lang.reflect.Method;
-import java.util.ArrayList;
-import java.util.List;
-
-import org.springframework.core.convert.ConversionException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * ClassTypeHandler  class defined the enum for monitoring and controlling process
+ * The names and values of every enum are indexed once, on the first lookup of the enum class
  *
  * @author Kevin / Symphony Dev Team<br>
  * Created on 12/13/2022
@@ -19,24 +18,24 @@ import org.springframework.core.convert.ConversionException;
  */
 public class EnumTypeHandler {
 
+	/**
+	 * Index of every enum class, computed once per class
+	 */
+	private static final ClassValue<EnumIndex> ENUM_INDEXES = new ClassValue<EnumIndex>() {
+		@Override
+		protected EnumIndex computeValue(Class<?> enumType) {
+			return new EnumIndex((NameValueEnum[]) enumType.getEnumConstants());
+		}
+	};
+
 	/**
 	 * Get an array of all enum names
+	 * The array is shared by every caller and must not be modified
 	 *
 	 * @param enumType the enumtype is enum class
 	 */
-	public static <T extends Enum<T>> String[] getEnumNames(Class<T> enumType) {
-		List<String> names = new ArrayList<>();
-		for (T c : enumType.getEnumConstants()) {
-			try {
-				Method method = c.getClass().getMethod("getName");
-				String name = (String) method.invoke(c); // getName executed
-				names.add(name);
-			} catch (Exception e) {
-				throw new ConversionException("Error to convert enum " + enumType.getSimpleName() + " to names") {
-				};
-			}
-		}
-		return names.toArray(new String[names.size()]);
+	public static <T extends Enum<T> & NameValueEnum> String[] getEnumNames(Class<T> enumType) {
+		return ENUM_INDEXES.get(enumType).names;
 	}
 
 	/**
@@ -47,20 +46,9 @@ public class EnumTypeHandler {
 	 * @param <T> is enum type instance
 	 * @return String is value of enum or None if not found the value of enum
 	 */
-	public static <T extends Enum<T>> String getNameEnumByValue(Class<T> enumType, String value) {
-		for (T c : enumType.getEnumConstants()) {
-			try {
-				Method method = c.getClass().getMethod("getValue");
-				String name = (String) method.invoke(c);
-				if (name.equals(value)) {
-					method = c.getClass().getMethod("getName");
-					return (String) method.invoke(c);
-				}
-			} catch (Exception e) {
-				return LgWebOSConstants.NA;
-			}
-		}
-		return LgWebOSConstants.NA;
+	public static <T extends Enum<T> & NameValueEnum> String getNameEnumByValue(Class<T> enumType, String value) {
+		String name = ENUM_INDEXES.get(enumType).nameByValue.get(value);
+		return name == null ? LgWebOSConstants.NA : name;
 	}
 
 	/**
@@ -71,19 +59,35 @@ public class EnumTypeHandler {
 	 * @param <T> is enum type instance
 	 * @return String is value of enum or None if not found the value of enum
 	 */
-	public static <T extends Enum<T>> String getValueOfEnumByName(Class<T> enumType, String value) {
-		for (T c : enumType.getEnumConstants()) {
-			try {
-				Method method = c.getClass().getMethod("getName");
-				String name = (String) method.invoke(c);
-				if (name.equals(value)) {
-					method = c.getClass().getMethod("getValue");
-					return (String) method.invoke(c);
-				}
-			} catch (Exception e) {
-				return LgWebOSConstants.NA;
+	public static <T extends Enum<T> & NameValueEnum> String getValueOfEnumByName(Class<T> enumType, String value) {
+		String enumValue = ENUM_INDEXES.get(enumType).valueByName.get(value);
+		return enumValue == null ? LgWebOSConstants.NA : enumValue;
+	}
+
+	/**
+	 * Immutable name and value indexes of one enum class, the first constant wins when names or values repeat
+	 */
+	private static final class EnumIndex {
+		private final String[] names;
+		private final Map<String, String> nameByValue;
+		private final Map<String, String> valueByName;
+
+		/**
+		 * EnumIndex instantiation
+		 *
+		 * @param constants the constants are constants of the enum in declaration order
+		 */
+		EnumIndex(NameValueEnum[] constants) {
+			Map<String, String> names = new HashMap<>();
+			Map<String, String> values = new HashMap<>();
+			this.names = new String[constants.length];
+			for (int i = 0; i < constants.length; i++) {
+				this.names[i] = constants[i].getName();
+				names.putIfAbsent(constants[i].getValue(), constants[i].getName());
+				values.putIfAbsent(constants[i].getName(), constants[i].getValue());
 			}
+			this.nameByValue = Collections.unmodifiableMap(names);
+			this.valueByName = Collections.unmodifiableMap(values);
 		}
-		return LgWebOSConstants.NA;
 	}
-}
\ No newline at end of file
+}
@@ -12,7 +12,7 @@ package com.avispl.symphony.dal.communicator.lg.webos;
  * @version 1.4.0
  * @since 1.4.0
  */
-public enum FailOverEnum {
+public enum FailOverEnum implements NameValueEnum {
 
 	OFF("Off", "00"),
 	AUTO("Auto", "01"),
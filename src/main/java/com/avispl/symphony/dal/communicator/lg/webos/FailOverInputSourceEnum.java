@@ -12,7 +12,7 @@ package com.avispl.symphony.dal.communicator.lg.webos;
  * @version 1.4.0
  * @since 1.4.0
  */
-public enum FailOverInputSourceEnum {
+public enum FailOverInputSourceEnum implements NameValueEnum {
 
 	RGB("AV", "60"),
 	DVI_D("DVI-D", "70"),
@@ -13,7 +13,7 @@ import java.util.Arrays;
  * @version 1.4.0
  * @since 1.4.0
  */
-public enum InputSourceDropdown {
+public enum InputSourceDropdown implements NameValueEnum {
 
 	AV("AV", "20", false),
 	COMPONENT("", "40", false),
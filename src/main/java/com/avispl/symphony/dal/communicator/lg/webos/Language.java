@@ -12,7 +12,7 @@ package com.avispl.symphony.dal.communicator.lg.webos;
  * @version 1.4.0
  * @since 1.4.0
  */
-public enum Language {
+public enum Language implements NameValueEnum {
 
 	CZECH("Czech", "00"),
 	DANISH("Danish", "01"),
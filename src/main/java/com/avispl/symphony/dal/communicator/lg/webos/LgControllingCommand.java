@@ -3,6 +3,12 @@
  */
 package com.avispl.symphony.dal.communicator.lg.webos;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
 import com.avispl.symphony.dal.communicator.lg.webos.LgWebOSConstants.commandNames;
 
 /**
@@ -15,53 +21,62 @@ import com.avispl.symphony.dal.communicator.lg.webos.LgWebOSConstants.commandNam
  */
 public enum LgControllingCommand {
 
-	INPUT_PRIORITY(LgWebOSConstants.INPUT_PRIORITY, false, false, LgWebOSConstants.commandNames.FAILOVER),
-	PRIORITY_UP(LgWebOSConstants.PRIORITY_UP, false, false, LgWebOSConstants.commandNames.FAILOVER),
-	PRIORITY_DOWN(LgWebOSConstants.PRIORITY_DOWN, false, false, LgWebOSConstants.commandNames.FAILOVER),
-	PRIORITY_INPUT(LgWebOSConstants.PRIORITY_INPUT, false, false, LgWebOSConstants.commandNames.FAILOVER),
-	TEMPERATURE(LgWebOSConstants.TEMPERATURE, true, false, LgWebOSConstants.commandNames.TEMPERATURE),
-	SOFTWARE_VERSION(LgWebOSConstants.SOFTWARE_VERSION, true, false, LgWebOSConstants.commandNames.SOFTWARE_VERSION),
-	TILE_MODE_SETTINGS(LgWebOSConstants.TILE_MODE_SETTINGS, true, false, LgWebOSConstants.commandNames.TILE_MODE_SETTINGS),
-	SERIAL_NUMBER(LgWebOSConstants.SERIAL_NUMBER, true, false, LgWebOSConstants.commandNames.SERIAL_NUMBER),
-	DISPLAY_STAND_BY_MODE(LgWebOSConstants.DISPLAY_STAND_BY_MODE, true, false, LgWebOSConstants.commandNames.DISPLAY_STAND_BY_MODE),
-	POWER_MANAGEMENT_MODE(LgWebOSConstants.POWER_MANAGEMENT_MODE, false, true, LgWebOSConstants.commandNames.POWER_MANAGEMENT_MODE),
-	DATE(LgWebOSConstants.DATE, true, false, LgWebOSConstants.commandNames.DATE),
-	TIME(LgWebOSConstants.TIME, true, false, LgWebOSConstants.commandNames.TIME),
-	NETWORK_SETTING(LgWebOSConstants.NETWORK_SETTING, true, false, LgWebOSConstants.commandNames.NETWORK_SETTING),
-	INPUT_SELECT(LgWebOSConstants.INPUT_SELECT, true, false, LgWebOSConstants.commandNames.INPUT_SELECT),
-	POWER(LgWebOSConstants.POWER, false, true, LgWebOSConstants.commandNames.POWER),
-	FAN_STATUS(LgWebOSConstants.FAN, true, false, LgWebOSConstants.commandNames.FAN_STATUS),
-	SYNC_STATUS(LgWebOSConstants.SIGNAL, true, false, LgWebOSConstants.commandNames.SYNC_STATUS),
-	FAILOVER(LgWebOSConstants.FAILOVER_MODE, true, false, LgWebOSConstants.commandNames.FAILOVER),
-	TILE_MODE(LgWebOSConstants.TILE_MODE, true, false, LgWebOSConstants.commandNames.TILE_MODE_CONTROL),
-	NATURAL_MODE(LgWebOSConstants.NATURAL_MODE, true, false, LgWebOSConstants.commandNames.NATURAL_MODE),
-	TILE_ID(LgWebOSConstants.TILE_MODE_ID, true, false, LgWebOSConstants.commandNames.TILE_ID),
-	NATURAL_SIZE(LgWebOSConstants.NATURAL_SIZE, true, false, LgWebOSConstants.commandNames.NATURAL_SIZE),
-	MUTE(LgWebOSConstants.MUTE, false, true, LgWebOSConstants.commandNames.MUTE),
-	VOLUME(LgWebOSConstants.VOLUME, false, true, LgWebOSConstants.commandNames.VOLUME),
-	BACKLIGHT(LgWebOSConstants.BACKLIGHT, false, true, LgWebOSConstants.commandNames.BACKLIGHT),
-	FAILOVER_INPUT_LIST(LgWebOSConstants.FAILOVER_INPUT_LIST, true, false, LgWebOSConstants.commandNames.FAILOVER_INPUT_LIST),
-	ASPECT_RATIO(LgWebOSConstants.ASPECT_RATIO, false, true, LgWebOSConstants.commandNames.ASPECT_RATIO),
-	BRIGHTNESS_CONTROL(LgWebOSConstants.BRIGHTNESS_CONTROL, false, true, LgWebOSConstants.commandNames.BRIGHTNESS_CONTROL),
-	CONTRAST(LgWebOSConstants.CONTRAST, false, true, LgWebOSConstants.commandNames.CONTRAST),
-	PICTURE_MODE(LgWebOSConstants.PICTURE_MODE, false, true, LgWebOSConstants.commandNames.PICTURE_MODE),
-	BRIGHTNESS(LgWebOSConstants.BRIGHTNESS, false, true, LgWebOSConstants.commandNames.BRIGHTNESS),
-	SHARPNESS(LgWebOSConstants.SHARPNESS, false, true, LgWebOSConstants.commandNames.SHARPNESS),
-	SCREEN_COLOR(LgWebOSConstants.SCREEN_COLOR, false, true, LgWebOSConstants.commandNames.SCREEN_COLOR),
-	TINT(LgWebOSConstants.TINT, false, true, LgWebOSConstants.commandNames.TINT),
-	COLOR_TEMPERATURE(LgWebOSConstants.COLOR_TEMPERATURE, false, true, LgWebOSConstants.commandNames.COLOR_TEMPERATURE),
-	BALANCE(LgWebOSConstants.BALANCE, false, true, LgWebOSConstants.commandNames.BALANCE),
-	SOUND_MODE(LgWebOSConstants.SOUND_MODE, false, true, LgWebOSConstants.commandNames.SOUND_MODE),
-	NO_SIGNAL_POWER_OFF(LgWebOSConstants.NO_SIGNAL_POWER_OFF, false, true, LgWebOSConstants.commandNames.NO_SIGNAL_POWER_OFF),
-	NO_IR_POWER_OFF(LgWebOSConstants.NO_IR_POWER_OFF, false, true, LgWebOSConstants.commandNames.NO_IR_POWER_OFF),
-	LANGUAGE(LgWebOSConstants.LANGUAGE, false, true, LgWebOSConstants.commandNames.LANGUAGE),
-	POWER_ON_STATUS(LgWebOSConstants.POWER_ON_STATUS, false, true, LgWebOSConstants.commandNames.POWER_ON_STATUS),
-	REBOOT(LgWebOSConstants.REBOOT, false, false, LgWebOSConstants.commandNames.REBOOT);
+	INPUT_PRIORITY(LgWebOSConstants.INPUT_PRIORITY, false, false, LgWebOSConstants.commandNames.FAILOVER, PollingTier.FAST),
+	PRIORITY_UP(LgWebOSConstants.PRIORITY_UP, false, false, LgWebOSConstants.commandNames.FAILOVER, PollingTier.FAST),
+	PRIORITY_DOWN(LgWebOSConstants.PRIORITY_DOWN, false, false, LgWebOSConstants.commandNames.FAILOVER, PollingTier.FAST),
+	PRIORITY_INPUT(LgWebOSConstants.PRIORITY_INPUT, false, false, LgWebOSConstants.commandNames.FAILOVER, PollingTier.FAST),
+	TEMPERATURE(LgWebOSConstants.TEMPERATURE, true, false, LgWebOSConstants.commandNames.TEMPERATURE, PollingTier.FAST),
+	SOFTWARE_VERSION(LgWebOSConstants.SOFTWARE_VERSION, true, false, LgWebOSConstants.commandNames.SOFTWARE_VERSION, PollingTier.STATIC),
+	TILE_MODE_SETTINGS(LgWebOSConstants.TILE_MODE_SETTINGS, true, false, LgWebOSConstants.commandNames.TILE_MODE_SETTINGS, PollingTier.SLOW),
+	SERIAL_NUMBER(LgWebOSConstants.SERIAL_NUMBER, true, false, LgWebOSConstants.commandNames.SERIAL_NUMBER, PollingTier.STATIC),
+	DISPLAY_STAND_BY_MODE(LgWebOSConstants.DISPLAY_STAND_BY_MODE, true, false, LgWebOSConstants.commandNames.DISPLAY_STAND_BY_MODE, PollingTier.FAST),
+	POWER_MANAGEMENT_MODE(LgWebOSConstants.POWER_MANAGEMENT_MODE, false, true, LgWebOSConstants.commandNames.POWER_MANAGEMENT_MODE, PollingTier.SLOW),
+	DATE(LgWebOSConstants.DATE, true, false, LgWebOSConstants.commandNames.DATE, PollingTier.FAST),
+	TIME(LgWebOSConstants.TIME, true, false, LgWebOSConstants.commandNames.TIME, PollingTier.FAST),
+	NETWORK_SETTING(LgWebOSConstants.NETWORK_SETTING, true, false, LgWebOSConstants.commandNames.NETWORK_SETTING, PollingTier.STATIC),
+	INPUT_SELECT(LgWebOSConstants.INPUT_SELECT, true, false, LgWebOSConstants.commandNames.INPUT_SELECT, PollingTier.FAST),
+	POWER(LgWebOSConstants.POWER, false, true, LgWebOSConstants.commandNames.POWER, PollingTier.FAST),
+	FAN_STATUS(LgWebOSConstants.FAN, true, false, LgWebOSConstants.commandNames.FAN_STATUS, PollingTier.FAST),
+	SYNC_STATUS(LgWebOSConstants.SIGNAL, true, false, LgWebOSConstants.commandNames.SYNC_STATUS, PollingTier.FAST),
+	FAILOVER(LgWebOSConstants.FAILOVER_MODE, true, false, LgWebOSConstants.commandNames.FAILOVER, PollingTier.SLOW),
+	TILE_MODE(LgWebOSConstants.TILE_MODE, true, false, LgWebOSConstants.commandNames.TILE_MODE_CONTROL, PollingTier.SLOW),
+	NATURAL_MODE(LgWebOSConstants.NATURAL_MODE, true, false, LgWebOSConstants.commandNames.NATURAL_MODE, PollingTier.SLOW),
+	TILE_ID(LgWebOSConstants.TILE_MODE_ID, true, false, LgWebOSConstants.commandNames.TILE_ID, PollingTier.SLOW),
+	NATURAL_SIZE(LgWebOSConstants.NATURAL_SIZE, true, false, LgWebOSConstants.commandNames.NATURAL_SIZE, PollingTier.SLOW),
+	MUTE(LgWebOSConstants.MUTE, false, true, LgWebOSConstants.commandNames.MUTE, PollingTier.FAST),
+	VOLUME(LgWebOSConstants.VOLUME, false, true, LgWebOSConstants.commandNames.VOLUME, PollingTier.FAST),
+	BACKLIGHT(LgWebOSConstants.BACKLIGHT, false, true, LgWebOSConstants.commandNames.BACKLIGHT, PollingTier.FAST),
+	FAILOVER_INPUT_LIST(LgWebOSConstants.FAILOVER_INPUT_LIST, true, false, LgWebOSConstants.commandNames.FAILOVER_INPUT_LIST, PollingTier.STATIC),
+	ASPECT_RATIO(LgWebOSConstants.ASPECT_RATIO, false, true, LgWebOSConstants.commandNames.ASPECT_RATIO, PollingTier.SLOW),
+	BRIGHTNESS_CONTROL(LgWebOSConstants.BRIGHTNESS_CONTROL, false, true, LgWebOSConstants.commandNames.BRIGHTNESS_CONTROL, PollingTier.SLOW),
+	CONTRAST(LgWebOSConstants.CONTRAST, false, true, LgWebOSConstants.commandNames.CONTRAST, PollingTier.SLOW),
+	PICTURE_MODE(LgWebOSConstants.PICTURE_MODE, false, true, LgWebOSConstants.commandNames.PICTURE_MODE, PollingTier.SLOW),
+	BRIGHTNESS(LgWebOSConstants.BRIGHTNESS, false, true, LgWebOSConstants.commandNames.BRIGHTNESS, PollingTier.SLOW),
+	SHARPNESS(LgWebOSConstants.SHARPNESS, false, true, LgWebOSConstants.commandNames.SHARPNESS, PollingTier.SLOW),
+	SCREEN_COLOR(LgWebOSConstants.SCREEN_COLOR, false, true, LgWebOSConstants.commandNames.SCREEN_COLOR, PollingTier.SLOW),
+	TINT(LgWebOSConstants.TINT, false, true, LgWebOSConstants.commandNames.TINT, PollingTier.SLOW),
+	COLOR_TEMPERATURE(LgWebOSConstants.COLOR_TEMPERATURE, false, true, LgWebOSConstants.commandNames.COLOR_TEMPERATURE, PollingTier.SLOW),
+	BALANCE(LgWebOSConstants.BALANCE, false, true, LgWebOSConstants.commandNames.BALANCE, PollingTier.SLOW),
+	SOUND_MODE(LgWebOSConstants.SOUND_MODE, false, true, LgWebOSConstants.commandNames.SOUND_MODE, PollingTier.SLOW),
+	NO_SIGNAL_POWER_OFF(LgWebOSConstants.NO_SIGNAL_POWER_OFF, false, true, LgWebOSConstants.commandNames.NO_SIGNAL_POWER_OFF, PollingTier.SLOW),
+	NO_IR_POWER_OFF(LgWebOSConstants.NO_IR_POWER_OFF, false, true, LgWebOSConstants.commandNames.NO_IR_POWER_OFF, PollingTier.SLOW),
+	LANGUAGE(LgWebOSConstants.LANGUAGE, false, true, LgWebOSConstants.commandNames.LANGUAGE, PollingTier.SLOW),
+	POWER_ON_STATUS(LgWebOSConstants.POWER_ON_STATUS, false, true, LgWebOSConstants.commandNames.POWER_ON_STATUS, PollingTier.SLOW),
+	REBOOT(LgWebOSConstants.REBOOT, false, false, LgWebOSConstants.commandNames.REBOOT, PollingTier.FAST);
+
+	private static final Map<String, LgControllingCommand> COMMAND_BY_NAME = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+	static {
+		for (LgControllingCommand lgControllingCommand : values()) {
+			COMMAND_BY_NAME.putIfAbsent(lgControllingCommand.getName(), lgControllingCommand);
+		}
+	}
 
 	private final String name;
 	private final boolean isMonitorType;
 	private final boolean isControlType;
 	private commandNames commandNames;
+	private final PollingTier pollingTier;
 
 	/**
 	 * InputSourceDropdown instantiation
@@ -70,12 +85,14 @@ public enum LgControllingCommand {
 	 * @param isMonitor {@link #isMonitorType}
 	 * @param isControl {@link #isControlType}
 	 * @param commandNames {@link #commandNames}
+	 * @param pollingTier {@link #pollingTier}
 	 */
-	LgControllingCommand(String name, boolean isMonitor, boolean isControl, commandNames commandNames) {
+	LgControllingCommand(String name, boolean isMonitor, boolean isControl, commandNames commandNames, PollingTier pollingTier) {
 		this.name = name;
 		this.isMonitorType = isMonitor;
 		this.isControlType = isControl;
 		this.commandNames = commandNames;
+		this.pollingTier = pollingTier;
 	}
 
 	/**
@@ -105,6 +122,15 @@ public enum LgControllingCommand {
 		return commandNames;
 	}
 
+	/**
+	 * Retrieves {@link #pollingTier}
+	 *
+	 * @return value of {@link #pollingTier}
+	 */
+	public PollingTier getPollingTier() {
+		return pollingTier;
+	}
+
 	/**
 	 * Retrieves {@link #isMonitorType}
 	 *
@@ -114,6 +140,101 @@ public enum LgControllingCommand {
 		return isMonitorType;
 	}
 
+	/**
+	 * Check whether the command is polled while the panel is off, the panel answers NG or slowly to the other commands
+	 *
+	 * @return boolean true if the command is part of the power off poll plan
+	 */
+	public boolean isPolledWhilePowerOff() {
+		switch (this) {
+			case POWER:
+			case TEMPERATURE:
+			case FAN_STATUS:
+			case SYNC_STATUS:
+				return true;
+			default:
+				return false;
+		}
+	}
+
+	/**
+	 * Check whether the command is controlled by a slider, a burst of values is coalesced and only the latest value is sent
+	 *
+	 * @return boolean true if the superseded values of the command are dropped
+	 */
+	public boolean isCoalesced() {
+		switch (this) {
+			case VOLUME:
+			case BACKLIGHT:
+			case BRIGHTNESS:
+			case CONTRAST:
+				return true;
+			default:
+				return false;
+		}
+	}
+
+	/**
+	 * Get the control that has to run before this control when both are sent together
+	 *
+	 * @return LgControllingCommand is the parent control, null if the control doesn't depend on another control
+	 */
+	public LgControllingCommand getControlParent() {
+		switch (this) {
+			case NATURAL_MODE:
+				return TILE_MODE;
+			case INPUT_PRIORITY:
+				return FAILOVER;
+			case PRIORITY_INPUT:
+				return INPUT_PRIORITY;
+			case PRIORITY_UP:
+			case PRIORITY_DOWN:
+				return PRIORITY_INPUT;
+			case MUTE:
+				//A volume control unmutes the display
+				return VOLUME;
+			default:
+				return null;
+		}
+	}
+
+	/**
+	 * Get the commands whose value the display changes as a side effect of this control, they are read again right after
+	 * the control succeeded. The commands that are only supported for some values of the control, e.g. the natural mode
+	 * of the tile mode, are not listed, they follow {@link CommandDependency} from {@link #getControlledProperty()}
+	 *
+	 * @return List<LgControllingCommand> is affected commands, empty if the control has no side effect
+	 */
+	public List<LgControllingCommand> getAffectedCommands() {
+		switch (this) {
+			case INPUT_SELECT:
+				return Collections.singletonList(SYNC_STATUS);
+			case PICTURE_MODE:
+				//Every picture mode has its own picture settings
+				return Arrays.asList(BACKLIGHT, CONTRAST, BRIGHTNESS, SHARPNESS, SCREEN_COLOR, TINT, COLOR_TEMPERATURE);
+			case SOUND_MODE:
+				return Collections.singletonList(BALANCE);
+			default:
+				return Collections.emptyList();
+		}
+	}
+
+	/**
+	 * Get the cached property a control sets when the parent of a {@link CommandDependency} is controlled
+	 *
+	 * @return LgWebOSProperty is the property, null if no command depends on the value of this control
+	 */
+	public LgWebOSProperty getControlledProperty() {
+		switch (this) {
+			case TILE_MODE:
+				return LgWebOSProperty.TILE_MODE;
+			case NATURAL_MODE:
+				return LgWebOSProperty.NATURAL_MODE;
+			default:
+				return null;
+		}
+	}
+
 	/**
 	 * Get command name by name of property
 	 *
@@ -121,10 +242,9 @@ public enum LgControllingCommand {
 	 * @return LgControllingCommand is LgControllingCommand instance
 	 */
 	public static LgControllingCommand getCommandByName(String value) {
-		for (LgControllingCommand lgControllingCommand : LgControllingCommand.values()) {
-			if (lgControllingCommand.getName().equalsIgnoreCase(value)) {
-				return lgControllingCommand;
-			}
+		LgControllingCommand lgControllingCommand = COMMAND_BY_NAME.get(value);
+		if (lgControllingCommand != null) {
+			return lgControllingCommand;
 		}
 		throw new IllegalArgumentException(String.format("The command %s doesn't support", value));
 	}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.webos;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * LgWebOSCodec class parses the ASCII hex and decimal fields of the replies straight from the reply bytes
+ * into primitives, nothing is allocated. Invalid fields and fields past the end of the data are reported as -1
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class LgWebOSCodec {
+
+	/**
+	 * Value of every hex digit, -1 for the other characters
+	 */
+	private static final byte[] HEX_DIGITS = new byte[128];
+
+	static {
+		Arrays.fill(HEX_DIGITS, (byte) -1);
+		for (int i = 0; i < 16; i++) {
+			HEX_DIGITS[Character.forDigit(i, 16)] = (byte) i;
+			HEX_DIGITS[Character.toUpperCase(Character.forDigit(i, 16))] = (byte) i;
+		}
+	}
+
+	/**
+	 * Get the value of a hex digit
+	 *
+	 * @param value the value is ASCII character
+	 * @return int is value from 0 to 15, or -1 if the character is not a hex digit
+	 */
+	public static int hexDigit(byte value) {
+		return value < 0 ? -1 : HEX_DIGITS[value];
+	}
+
+	/**
+	 * Get the value of a decimal digit
+	 *
+	 * @param value the value is ASCII character
+	 * @return int is value from 0 to 9, or -1 if the character is not a decimal digit
+	 */
+	public static int decimalDigit(byte value) {
+		return value >= '0' && value <= '9' ? value - '0' : -1;
+	}
+
+	/**
+	 * Parse the two hex digits at the offset
+	 *
+	 * @param data the data is reply bytes
+	 * @param offset the offset is index of the first digit
+	 * @return int is value from 0 to 255, or -1 if the digits are not hex digits or are past the end of the data
+	 */
+	public static int parseHexByte(byte[] data, int offset) {
+		if (offset < 0 || offset + 1 >= data.length) {
+			return -1;
+		}
+		return combine(hexDigit(data[offset]), hexDigit(data[offset + 1]));
+	}
+
+	/**
+	 * Parse the two hex digits at the absolute offset, the position of the buffer is not changed
+	 *
+	 * @param data the data is reply bytes
+	 * @param offset the offset is index of the first digit
+	 * @return int is value from 0 to 255, or -1 if the digits are not hex digits or are past the limit of the buffer
+	 */
+	public static int parseHexByte(ByteBuffer data, int offset) {
+		if (offset < 0 || offset + 1 >= data.limit()) {
+			return -1;
+		}
+		return combine(hexDigit(data.get(offset)), hexDigit(data.get(offset + 1)));
+	}
+
+	/**
+	 * Parse the decimal digits at the offset
+	 *
+	 * @param data the data is reply bytes
+	 * @param offset the offset is index of the first digit
+	 * @param length the length is number of digits, at most 9
+	 * @return int is the value, or -1 if a character is not a decimal digit or is past the end of the data
+	 */
+	public static int parseDecimal(byte[] data, int offset, int length) {
+		if (offset < 0 || offset + length > data.length) {
+			return -1;
+		}
+		int value = 0;
+		for (int i = offset; i < offset + length; i++) {
+			int digit = decimalDigit(data[i]);
+			if (digit < 0) {
+				return -1;
+			}
+			value = value * 10 + digit;
+		}
+		return value;
+	}
+
+	/**
+	 * Parse the decimal digits at the absolute offset, the position of the buffer is not changed
+	 *
+	 * @param data the data is reply bytes
+	 * @param offset the offset is index of the first digit
+	 * @param length the length is number of digits, at most 9
+	 * @return int is the value, or -1 if a character is not a decimal digit or is past the limit of the buffer
+	 */
+	public static int parseDecimal(ByteBuffer data, int offset, int length) {
+		if (offset < 0 || offset + length > data.limit()) {
+			return -1;
+		}
+		int value = 0;
+		for (int i = offset; i < offset + length; i++) {
+			int digit = decimalDigit(data.get(i));
+			if (digit < 0) {
+				return -1;
+			}
+			value = value * 10 + digit;
+		}
+		return value;
+	}
+
+	/**
+	 * Combine two hex digits
+	 *
+	 * @param high the high is value of the first digit
+	 * @param low the low is value of the second digit
+	 * @return int is value of the byte or -1 if a digit is invalid
+	 */
+	private static int combine(int high, int low) {
+		if (high < 0 || low < 0) {
+			return -1;
+		}
+		return high << 4 | low;
+	}
+}
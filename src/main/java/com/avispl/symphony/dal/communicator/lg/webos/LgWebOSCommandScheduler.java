@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.webos;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * LgWebOSCommandScheduler class gives the connection of one display to one frame at a time, a frame is sent in the
+ * {@link Lane#CONTROL} lane or in the {@link Lane#POLL} lane. A waiting control frame goes ahead of the waiting poll frames
+ * as soon as the frame in flight is answered, so a control never waits for a whole polling sweep
+ * The latency of every lane is measured from the moment a frame asks for the connection until its reply is received
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class LgWebOSCommandScheduler {
+
+	/**
+	 * Lanes of the frames, the control lane has priority
+	 */
+	public enum Lane {
+		CONTROL, POLL
+	}
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition released = lock.newCondition();
+	private Thread owner;
+	private Lane ownerLane;
+	private long requestTimestamp;
+	private int waitingControls;
+	private int controlFrames;
+
+	/**
+	 * Latency of the latest frame of every lane in ms, -1 if no frame was sent
+	 */
+	private final long[] lastLatencies = { -1, -1 };
+	private final long[] latencySums = new long[Lane.values().length];
+	private final int[] latencyCounts = new int[Lane.values().length];
+
+	/**
+	 * Wait until the frame can be sent, the poll frames wait while a control frame is waiting
+	 *
+	 * @param lane the lane is lane of the frame
+	 * @throws InterruptedException if the thread is interrupted while waiting
+	 */
+	public void acquire(Lane lane) throws InterruptedException {
+		lock.lock();
+		try {
+			long requested = System.nanoTime();
+			if (Lane.CONTROL == lane) {
+				waitingControls++;
+			}
+			try {
+				while (owner != null || Lane.POLL == lane && waitingControls > 0) {
+					released.await();
+				}
+			} finally {
+				if (Lane.CONTROL == lane) {
+					waitingControls--;
+					// the poll frames blocked by this control can go if it gave up
+					released.signalAll();
+				}
+			}
+			owner = Thread.currentThread();
+			ownerLane = lane;
+			requestTimestamp = requested;
+			if (Lane.CONTROL == lane) {
+				controlFrames++;
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Release the connection once the reply is received, the latency of the frame is recorded
+	 */
+	public void release() {
+		release(true);
+	}
+
+	/**
+	 * Release the connection
+	 *
+	 * @param isMeasured the isMeasured is false when the connection was held without sending a frame, e.g. to close it
+	 * between two frames, the latency is then not recorded
+	 */
+	public void release(boolean isMeasured) {
+		lock.lock();
+		try {
+			if (owner != Thread.currentThread()) {
+				throw new IllegalMonitorStateException("The connection is not owned by the current thread");
+			}
+			if (isMeasured) {
+				long latency = (System.nanoTime() - requestTimestamp) / 1_000_000;
+				int index = ownerLane.ordinal();
+				lastLatencies[index] = latency;
+				latencySums[index] += latency;
+				latencyCounts[index]++;
+			}
+			owner = null;
+			ownerLane = null;
+			released.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Check whether a control frame owns the connection
+	 *
+	 * @return boolean true if a control frame is in flight
+	 */
+	public boolean isControlInFlight() {
+		lock.lock();
+		try {
+			return Lane.CONTROL == ownerLane;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Retrieves {@link #controlFrames}, the number of control frames that got the connection
+	 *
+	 * @return value of {@link #controlFrames}
+	 */
+	public int getControlFrames() {
+		lock.lock();
+		try {
+			return controlFrames;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Get the latency of the latest frame of a lane
+	 *
+	 * @param lane the lane is lane of the frames
+	 * @return long is latency in ms, -1 if no frame was sent
+	 */
+	public long getLastLatency(Lane lane) {
+		lock.lock();
+		try {
+			return lastLatencies[lane.ordinal()];
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Get the average latency of the frames of a lane since the previous call
+	 *
+	 * @param lane the lane is lane of the frames
+	 * @return long is average latency in ms, -1 if no frame was sent since the previous call
+	 */
+	public long takeAverageLatency(Lane lane) {
+		lock.lock();
+		try {
+			int index = lane.ordinal();
+			long average = latencyCounts[index] == 0 ? -1 : latencySums[index] / latencyCounts[index];
+			latencySums[index] = 0;
+			latencyCounts[index] = 0;
+			return average;
+		} finally {
+			lock.unlock();
+		}
+	}
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.webos;
+
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+
+/**
+ * LgWebOSConnection class is the blocking transport, it keeps a single TCP socket to the display open across polling cycles
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class LgWebOSConnection extends LgWebOSTransport<Socket> {
+
+	/**
+	 * Buffered input of the current socket, created again for every new socket
+	 */
+	private SocketInputStream inputStream;
+
+	/**
+	 * LgWebOSConnection instantiation
+	 *
+	 * @param host {@link #host}
+	 * @param port {@link #port}
+	 */
+	public LgWebOSConnection(String host, int port) {
+		super(host, port);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected Socket open() throws IOException {
+		Socket newSocket = new Socket();
+		try {
+			newSocket.setTcpNoDelay(true);
+			newSocket.setKeepAlive(true);
+			newSocket.connect(new InetSocketAddress(host, port), getReadTimeout());
+			newSocket.setSoTimeout(getReadTimeout());
+			inputStream = new SocketInputStream(newSocket.getInputStream());
+			frameReader.reset();
+		} catch (IOException e) {
+			closeHandle(newSocket);
+			throw e;
+		}
+		return newSocket;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected boolean isHandleOpen(Socket current) {
+		return current.isConnected() && !current.isClosed();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void write(Socket current, byte[] frame) throws IOException {
+		OutputStream outputStream = current.getOutputStream();
+		outputStream.write(frame);
+		outputStream.flush();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * The bytes are read from {@link #inputStream}, the socket timeout is set to the time left before the reply deadline
+	 * every time the buffer is filled again, so a display sending its reply slowly can't hold the connection past
+	 * the read timeout
+	 */
+	@Override
+	protected byte[] readReply(Socket current) throws IOException {
+		long deadline = System.currentTimeMillis() + getReadTimeout();
+		while (true) {
+			if (inputStream.isEmpty()) {
+				long remaining = deadline - System.currentTimeMillis();
+				if (remaining <= 0) {
+					throw new SocketTimeoutException("The reply was not received in " + getReadTimeout() + " ms");
+				}
+				current.setSoTimeout((int) remaining);
+			}
+			int value = inputStream.read();
+			if (value < 0) {
+				throw new EOFException("The device closed the connection");
+			}
+			byte[] reply = frameReader.accept((byte) value);
+			if (reply != null) {
+				return reply;
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * The socket is read with a 1 ms timeout, a timeout means the socket is still healthy
+	 */
+	@Override
+	protected boolean isHalfOpen(Socket current) {
+		try {
+			frameReader.reset();
+			current.setSoTimeout(1);
+			try {
+				while (true) {
+					if (inputStream.read() < 0) {
+						return true;
+					}
+				}
+			} catch (SocketTimeoutException e) {
+				return false;
+			} finally {
+				current.setSoTimeout(getReadTimeout());
+			}
+		} catch (IOException e) {
+			return true;
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void closeHandle(Socket current) {
+		try {
+			current.close();
+		} catch (IOException e) {
+			// the socket is dropped anyway
+		}
+	}
+
+	/**
+	 * Buffered input stream of a socket, the bytes already buffered are read without a system call
+	 */
+	private static final class SocketInputStream extends BufferedInputStream {
+
+		/**
+		 * SocketInputStream instantiation
+		 *
+		 * @param in the in is input stream of the socket
+		 */
+		SocketInputStream(InputStream in) {
+			super(in, LgWebOSConstants.MAX_REPLY_SIZE);
+		}
+
+		/**
+		 * Check whether the next read fills the buffer from the socket
+		 *
+		 * @return boolean true if no byte is buffered
+		 */
+		synchronized boolean isEmpty() {
+			return pos >= count;
+		}
+	}
+}
@@ -253,6 +253,56 @@ public class LgWebOSConstants {
 	public static int MAX_DELAY_TIME = 500;
 	public static int DEFAULT_CONFIG_TIMEOUT = 2000;
 	public static int MAX_CONFIG_TIMEOUT = 3000;
+	public static final int CONFIG_TIMEOUT_STEP = 100;
 	public static int DEFAULT_POLLING_INTERVAL = 2;
 	public static int ORDINAL_TO_INDEX_CONVERT_FACTOR = 1;
+	public static final String TRUE = "true";
+	public static final int DEFAULT_CONNECTION_IDLE_TIMEOUT = 120000;
+	public static final int MIN_CONNECTION_IDLE_TIMEOUT = 1000;
+	public static final int MAX_CONNECTION_IDLE_TIMEOUT = 600000;
+	public static final int HALF_OPEN_PROBE_THRESHOLD = 1000;
+	public static final byte REPLY_TERMINATOR = 'x';
+	public static final int REPLY_STATUS_END_INDEX = 7;
+	public static final String ADAPTER_METRICS = "AdapterMetrics";
+	public static final String CONNECTIONS_OPENED = "ConnectionsOpened";
+	public static final String CONNECTS_AVOIDED = "ConnectsAvoided";
+	public static final int DEFAULT_PIPELINE_WINDOW = 1;
+	public static final int MAX_PIPELINE_WINDOW = 16;
+	public static final String TRANSPORT_MODE_BLOCKING = "Blocking";
+	public static final String TRANSPORT_MODE_NIO = "NIO";
+	public static final String TRANSPORT_MODE_EVENT_LOOP = "EventLoop";
+	public static final String EVENT_LOOP_THREAD_NAME = "LgWebOSEventLoop";
+	public static final int EVENT_LOOP_GRACE_PERIOD = 1000;
+	public static final int DEFAULT_SLOW_POLLING_MULTIPLIER = 3;
+	public static final int MIN_SLOW_POLLING_MULTIPLIER = 1;
+	public static final int MAX_SLOW_POLLING_MULTIPLIER = 100;
+	public static final String POWER_OFF_POLLING = "PowerOffPolling";
+	public static final String CACHED_DATA_AGE = "CachedDataAge(s)";
+	public static final int SCHEDULER_MAX_THREADS = 64;
+	public static final String SCHEDULER_THREAD_NAME = "LgWebOSScheduler-";
+	public static final int DEFAULT_BACKGROUND_POLLING_INTERVAL = 10000;
+	public static final int MIN_BACKGROUND_POLLING_INTERVAL = 1000;
+	public static final int MAX_BACKGROUND_POLLING_INTERVAL = 300000;
+	public static final String SERVED_WITHOUT_BLOCKING = "ServedWithoutBlocking";
+	public static final String SNAPSHOT_AGE = "SnapshotAge(s)";
+	public static final String SCHEDULING_LAG = "SchedulingLag(ms)";
+	public static final int NIO_BUFFER_SIZE = 256;
+	public static final int REPLY_INITIAL_SIZE = 32;
+	public static final int MAX_REPLY_SIZE = 256;
+	public static final String UNPARSED_FRAMES = "UnparsedFrames";
+	public static final int MIN_ADAPTIVE_DELAY_TIME = 20;
+	public static final int ADAPTIVE_DELAY_STEP = 10;
+	public static final int ADAPTIVE_CLEAN_REPLIES = 5;
+	public static final int ADAPTIVE_FLOOR_LIFETIME = 200;
+	public static final String COOL_DOWN_DELAY = "CoolDownDelay(ms)";
+	public static final String COOL_DOWN_FAULTS = "CoolDownFaults";
+	public static final String CONTROL_LATENCY = "ControlLatency(ms)";
+	public static final String POLL_LATENCY = "PollLatency(ms)";
+	public static final String COALESCED_CONTROLS = "CoalescedControls";
+	public static final String REFRESHED_PROPERTIES = "RefreshedProperties";
+	public static final int DEFAULT_IDEMPOTENT_CONTROL_MAX_AGE = 30000;
+	public static final int MIN_IDEMPOTENT_CONTROL_MAX_AGE = 1000;
+	public static final int MAX_IDEMPOTENT_CONTROL_MAX_AGE = 600000;
+	public static final String SENT_CONTROLS = "SentControls";
+	public static final String SKIPPED_CONTROLS = "SkippedControls";
 }
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.webos;
+
+import com.avispl.symphony.dal.communicator.lg.webos.LgWebOSConstants.commandNames;
+
+/**
+ * LgWebOSCoolDownController class paces the commands sent to one display. When the adaptive cool down is disabled
+ * the gap between two commands is the configured cool down delay. When it is enabled the gap starts at the configured
+ * delay, it shrinks by {@link LgWebOSConstants#ADAPTIVE_DELAY_STEP} after every {@link LgWebOSConstants#ADAPTIVE_CLEAN_REPLIES}
+ * clean replies and it is doubled on a fault: a timeout, a garbled frame, an unexpected reply or an NG reply to a query
+ * the display answered before, so the commands a firmware doesn't support and the control values it rejects are not counted
+ * The gap that caused a fault becomes the lowest gap for the next {@link LgWebOSConstants#ADAPTIVE_FLOOR_LIFETIME} clean
+ * replies, so the gap doesn't oscillate around the limit of the firmware
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class LgWebOSCoolDownController {
+
+	/**
+	 * Commands the display answered with OK at least once
+	 */
+	private final boolean[] answeredCommands = new boolean[commandNames.values().length];
+
+	private boolean isAdaptive;
+	private int configuredDelay = LgWebOSConstants.DEFAULT_DELAY_TIME;
+	private volatile int delay = LgWebOSConstants.DEFAULT_DELAY_TIME;
+	private int floor = LgWebOSConstants.MIN_ADAPTIVE_DELAY_TIME;
+	private int cleanReplies;
+	private int floorCleanReplies;
+	private volatile int faults;
+	private int lastUnparsedFrames;
+
+	/**
+	 * Apply the adapter properties, the learned gap is kept as long as the properties don't change
+	 *
+	 * @param configuredDelay the configuredDelay is cool down delay of the adapter properties in ms
+	 * @param isAdaptive the isAdaptive is true if the gap is learned
+	 */
+	public synchronized void configure(int configuredDelay, boolean isAdaptive) {
+		if (this.configuredDelay == configuredDelay && this.isAdaptive == isAdaptive) {
+			return;
+		}
+		this.configuredDelay = configuredDelay;
+		this.isAdaptive = isAdaptive;
+		delay = configuredDelay;
+		floor = LgWebOSConstants.MIN_ADAPTIVE_DELAY_TIME;
+		cleanReplies = 0;
+		floorCleanReplies = 0;
+	}
+
+	/**
+	 * Retrieves {@link #delay}, the gap to keep between two commands
+	 *
+	 * @return value of {@link #delay}
+	 */
+	public int getDelay() {
+		return delay;
+	}
+
+	/**
+	 * Retrieves {@link #faults}
+	 *
+	 * @return value of {@link #faults}
+	 */
+	public int getFaults() {
+		return faults;
+	}
+
+	/**
+	 * Check whether the gap is learned
+	 *
+	 * @return boolean true if the adaptive cool down is enabled
+	 */
+	public synchronized boolean isAdaptive() {
+		return isAdaptive;
+	}
+
+	/**
+	 * Record a clean reply
+	 *
+	 * @param command the command is command of the reply
+	 */
+	public synchronized void onCleanReply(commandNames command) {
+		answeredCommands[command.ordinal()] = true;
+		if (!isAdaptive) {
+			return;
+		}
+		if (floor > LgWebOSConstants.MIN_ADAPTIVE_DELAY_TIME && ++floorCleanReplies >= LgWebOSConstants.ADAPTIVE_FLOOR_LIFETIME) {
+			floor = Math.max(LgWebOSConstants.MIN_ADAPTIVE_DELAY_TIME, floor - LgWebOSConstants.ADAPTIVE_DELAY_STEP);
+			floorCleanReplies = 0;
+		}
+		if (++cleanReplies >= LgWebOSConstants.ADAPTIVE_CLEAN_REPLIES) {
+			delay = Math.max(floor, delay - LgWebOSConstants.ADAPTIVE_DELAY_STEP);
+			cleanReplies = 0;
+		}
+	}
+
+	/**
+	 * Record an NG reply, it is a fault only if it answers a query the display answered before
+	 * An NG reply to a control is a rejected value, e.g. a dropdown value the model doesn't support, not a fault of the link
+	 *
+	 * @param command the command is command of the reply
+	 * @param frame the frame is request bytes the reply answers
+	 */
+	public synchronized void onNgReply(commandNames command, byte[] frame) {
+		if (LgWebOSUtils.isQueryFrame(frame) && answeredCommands[command.ordinal()]) {
+			onFault();
+		}
+	}
+
+	/**
+	 * Record the unparsed frames counter of the connection, a new unparsed frame is a fault
+	 *
+	 * @param unparsedFrames the unparsedFrames is number of frames the connection could not parse
+	 */
+	public synchronized void onUnparsedFrames(int unparsedFrames) {
+		if (unparsedFrames > lastUnparsedFrames) {
+			onFault();
+		}
+		lastUnparsedFrames = unparsedFrames;
+	}
+
+	/**
+	 * Record a fault, the gap is doubled and the gap that caused the fault becomes the lowest gap
+	 */
+	public synchronized void onFault() {
+		faults++;
+		if (!isAdaptive) {
+			return;
+		}
+		floor = Math.min(LgWebOSConstants.MAX_DELAY_TIME, Math.max(floor, delay + LgWebOSConstants.ADAPTIVE_DELAY_STEP));
+		delay = Math.min(LgWebOSConstants.MAX_DELAY_TIME, Math.max(floor, delay * 2));
+		cleanReplies = 0;
+		floorCleanReplies = 0;
+	}
+}
@@ -10,21 +10,30 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
-import java.util.concurrent.locks.Condition;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
@@ -38,6 +47,7 @@ import com.avispl.symphony.api.dal.dto.monitor.Statistics;
 import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
 import com.avispl.symphony.api.dal.monitor.Monitorable;
 import com.avispl.symphony.dal.communicator.SocketCommunicator;
+import com.avispl.symphony.dal.communicator.lg.webos.LgWebOSCommandScheduler.Lane;
 import com.avispl.symphony.dal.communicator.lg.webos.LgWebOSConstants.commandNames;
 import com.avispl.symphony.dal.communicator.lg.webos.LgWebOSConstants.controlProperties;
 import com.avispl.symphony.dal.communicator.lg.webos.LgWebOSConstants.fanStatusNames;
@@ -86,13 +96,22 @@ public class LgWebOSDevice extends SocketCommunicator implements Controller, Mon
 	private int currentCachingLifetime;
 	private int pollingIntervalInIntValue;
 	private int currentGetMultipleInPollingInterval = 0;
-	private boolean isEmergencyDelivery;
+	private volatile boolean isEmergencyDelivery;
 	private final Set<String> historicalProperties = new HashSet<>();
-	private final Set<String> failedMonitor = new HashSet<>();
+	private final Set<LgControllingCommand> failedMonitor = EnumSet.noneOf(LgControllingCommand.class);
 	private int localCachedFailedMonitor = 0;
-	private Map<String, String> cacheMapOfPriorityInputAndValue = new HashMap<>();
+
+	/**
+	 * Input of every failover priority, the map is shared by the polling and the controls so it is never changed once
+	 * published, a new map is assigned instead
+	 */
+	private volatile Map<String, String> cacheMapOfPriorityInputAndValue = new HashMap<>();
 	private int countControlUnavailable = 0;
-	private ExtendedStatistics localExtendedStatistics;
+
+	/**
+	 * Latest published snapshot, a snapshot is never modified once published, writers publish a new version instead
+	 */
+	private final AtomicReference<ExtendedStatistics> localExtendedStatistics = new AtomicReference<>();
 
 	/**
 	 * a variable to check the adapter init
@@ -104,17 +123,21 @@ public class LgWebOSDevice extends SocketCommunicator implements Controller, Mon
 	 * should be performed asynchronously. This executor service executes such operations.
 	 */
 	private ExecutorService fetchingDataExSer;
-	private ExecutorService timeoutManagementExSer;
 
 	/**
-	 * Local caching to store failed requests after a period of time
+	 * Local cache stores data after a period of time, and the failed cycles of every command
+	 */
+	private final LgWebOSPropertyStore localPropertyStore = new LgWebOSPropertyStore();
+
+	/**
+	 * Decoders of the replies by command
 	 */
-	private final Map<String, Integer> localCachingLifeTimeOfMap = new HashMap<>();
+	private final ResponseDecoderRegistry responseDecoderRegistry = ResponseDecoderRegistry.createDefault();
 
 	/**
-	 * Local cache stores data after a period of time
+	 * Query frames of {@link #monitorID}
 	 */
-	private final Map<String, String> localCacheMapOfPropertyNameAndValue = new HashMap<>();
+	private volatile LgWebOSFrameCache frameCache;
 
 	/**
 	 * store pollingInterval adapter properties
@@ -136,6 +159,16 @@ public class LgWebOSDevice extends SocketCommunicator implements Controller, Mon
 	 */
 	private long commandsCoolDownDelay;
 
+	/**
+	 * Paces the commands, the gap is learned when the adaptive cool down is enabled
+	 */
+	private final LgWebOSCoolDownController coolDownController = new LgWebOSCoolDownController();
+
+	/**
+	 * Number of pacing faults reported in the previous cycle
+	 */
+	private int lastCoolDownFaults;
+
 	/**
 	 * store cachingLifetime adapter properties
 	 */
@@ -146,6 +179,31 @@ public class LgWebOSDevice extends SocketCommunicator implements Controller, Mon
 	 */
 	private String coolDownDelay;
 
+	/**
+	 * store adaptiveCoolDown adapter properties
+	 */
+	private String adaptiveCoolDown;
+
+	/**
+	 * store idempotentControl adapter properties
+	 */
+	private String idempotentControl;
+
+	/**
+	 * idempotentControl in boolean value, a control is skipped when the fresh cached value already matches it
+	 */
+	private volatile boolean isIdempotentControl;
+
+	/**
+	 * store idempotentControlMaxAge adapter properties
+	 */
+	private String idempotentControlMaxAge;
+
+	/**
+	 * Age in ms a cached value can have to skip a control
+	 */
+	private volatile int idempotentControlMaxAgeInIntValue = LgWebOSConstants.DEFAULT_IDEMPOTENT_CONTROL_MAX_AGE;
+
 	/**
 	 * store configManagement adapter properties
 	 */
@@ -157,45 +215,395 @@ public class LgWebOSDevice extends SocketCommunicator implements Controller, Mon
 	private boolean isConfigManagement;
 
 	/**
-	 * ReentrantLock to prevent null pointer exception to localExtendedStatistics when controlProperty method is called before GetMultipleStatistics method.
+	 * store persistentConnection adapter properties
+	 */
+	private String persistentConnection;
+
+	/**
+	 * persistentConnection in boolean value
+	 */
+	private boolean isPersistentConnection;
+
+	/**
+	 * store connectionIdleTimeout adapter properties
+	 */
+	private String connectionIdleTimeout;
+
+	/**
+	 * connectionIdleTimeout in int value
+	 */
+	private int connectionIdleTimeoutInIntValue;
+
+	/**
+	 * store pipelineWindow adapter properties
+	 */
+	private String pipelineWindow;
+
+	/**
+	 * Maximum number of polling commands in flight, 1 means the commands are sent one by one
+	 */
+	private int pipelineWindowInIntValue = LgWebOSConstants.DEFAULT_PIPELINE_WINDOW;
+
+	/**
+	 * store slowPollingMultiplier adapter properties
+	 */
+	private String slowPollingMultiplier;
+
+	/**
+	 * Number of polling cycles between two polls of a {@link PollingTier#SLOW} command
+	 */
+	private int slowPollingMultiplierInIntValue = LgWebOSConstants.DEFAULT_SLOW_POLLING_MULTIPLIER;
+
+	/**
+	 * Number of completed polling cycles
+	 */
+	private int pollingCycleCount = 0;
+
+	/**
+	 * {@link PollingTier#STATIC} commands already fetched in this session
+	 */
+	private final Set<LgControllingCommand> fetchedStaticCommands = EnumSet.noneOf(LgControllingCommand.class);
+
+	/**
+	 * Power value seen by the latest polling call, a change means a power cycle
+	 */
+	private String lastPowerValue;
+
+	/**
+	 * {@link PollingTier#SLOW} commands are polled in every cycle up to this one, so the values are refreshed right after power on
+	 */
+	private int slowRefreshUntilCycle = -1;
+
+	/**
+	 * store backgroundPolling adapter properties
+	 */
+	private String backgroundPolling;
+
+	/**
+	 * backgroundPolling in boolean value, the device is polled by {@link LgWebOSScheduler} instead of the monitoring call
+	 */
+	private volatile boolean isBackgroundPolling;
+
+	/**
+	 * store backgroundPollingInterval adapter properties
+	 */
+	private String backgroundPollingInterval;
+
+	/**
+	 * backgroundPollingInterval in int value, delay between two background polling calls in ms
+	 */
+	private int backgroundPollingIntervalInIntValue = LgWebOSConstants.DEFAULT_BACKGROUND_POLLING_INTERVAL;
+
+	/**
+	 * Background polling task and the interval it was scheduled with
+	 */
+	private ScheduledFuture<?> backgroundPollingTask;
+	private int scheduledBackgroundPollingInterval;
+
+	/**
+	 * Number of monitoring calls served from the latest snapshot without waiting for the device
+	 */
+	private long servedWithoutBlocking;
+
+	/**
+	 * Timestamp of the latest snapshot built by the background polling
+	 */
+	private volatile long snapshotTimestamp;
+
+	/**
+	 * Time the background polling started later than its interval, in ms, -1 until the task ran twice
+	 * A lag that keeps growing means the scheduler threads are busy with the sweeps of other adapter instances
+	 */
+	private volatile long schedulingLag = -1;
+
+	/**
+	 * Timestamp when the previous background polling call ended, 0 when the task is scheduled
+	 */
+	private long backgroundPollingEndTimestamp;
+
+	/**
+	 * store transportMode adapter properties
+	 */
+	private String transportMode;
+
+	/**
+	 * transportMode in normalized value, one of {@link LgWebOSConstants#TRANSPORT_MODE_BLOCKING}, {@link LgWebOSConstants#TRANSPORT_MODE_NIO}
+	 * and {@link LgWebOSConstants#TRANSPORT_MODE_EVENT_LOOP}
+	 */
+	private String transportModeInValue = LgWebOSConstants.TRANSPORT_MODE_BLOCKING;
+
+	/**
+	 * Transport mode of {@link #persistentChannel}
+	 */
+	private String persistentChannelMode;
+
+	/**
+	 * Connection every command is sent through, it is kept open across polling cycles when {@link #isPersistentConnection} is enabled
+	 * The polling and the controls create and close it while holding {@link #persistentChannelLock}
+	 */
+	private volatile LgWebOSTransport<?> persistentChannel;
+	private final Object persistentChannelLock = new Object();
+
+	/**
+	 * Values of the persistent connection counters when the current statistics were assembled
+	 */
+	private int lastOpenedConnections;
+	private int lastAvoidedConnects;
+	private int lastUnparsedFrames;
+
+	/**
+	 * ReentrantLock to serialize the polling and the controls on the device, the snapshot is read without it
 	 */
 	private final ReentrantLock reentrantLock = new ReentrantLock();
 
 	/**
-	 * Using Condition to pause the current thread execution until control is complete
+	 * Serializes the controls, a control doesn't wait for the polling sweep holding {@link #reentrantLock}
+	 */
+	private final ReentrantLock controlLock = new ReentrantLock();
+
+	/**
+	 * Thread running the current control, its frames are sent in the control lane of {@link #commandScheduler}
+	 */
+	private volatile Thread controlThread;
+
+	/**
+	 * Gives the connection to one frame at a time, control frames go ahead of poll frames
+	 */
+	private final LgWebOSCommandScheduler commandScheduler = new LgWebOSCommandScheduler();
+
+	/**
+	 * Set by a reboot control, the static values are fetched again in the next polling call
+	 */
+	private volatile boolean isStaticRefreshRequested;
+
+	/**
+	 * Latest value of every slider control waiting for {@link #controlLock}, a value replaced before it is sent is dropped
+	 */
+	private final Map<LgControllingCommand, String> pendingSliderValues = new ConcurrentHashMap<>();
+
+	/**
+	 * Cached value of every slider before its optimistic update, restored when the control fails
+	 * Guarded by itself together with the optimistic updates of {@link #pendingSliderValues}
+	 */
+	private final Map<LgControllingCommand, String> sliderRollbackValues = new EnumMap<>(LgControllingCommand.class);
+
+	/**
+	 * Number of slider controls superseded by a newer value of the same property
+	 */
+	private final AtomicInteger coalescedControls = new AtomicInteger();
+	private int lastCoalescedControls;
+
+	/**
+	 * Number of controls the device accepted and skipped because the cached value already matched
+	 */
+	private final AtomicInteger sentControls = new AtomicInteger();
+	private final AtomicInteger skippedControls = new AtomicInteger();
+	private int lastSentControls;
+	private int lastSkippedControls;
+
+	/**
+	 * Replies of the control frames sent in a pipelined burst, only used while holding {@link #controlLock}
+	 */
+	private final Map<commandNames, byte[]> controlReplies = new EnumMap<>(commandNames.class);
+
+	/**
+	 * Commands read by the running controls, an affected command read already isn't refreshed again after the controls
+	 * Only used while holding {@link #controlLock}
+	 */
+	private final Set<commandNames> controlReadCommands = EnumSet.noneOf(commandNames.class);
+
+	/**
+	 * Commands the running controls failed to read, they are reported with the controls and never counted in
+	 * {@link #failedMonitor}, which belongs to the polling. Only used while holding {@link #controlLock}
+	 */
+	private final Set<LgControllingCommand> controlFailedCommands = EnumSet.noneOf(LgControllingCommand.class);
+
+	/**
+	 * Number of properties read again after the controls that affect them
 	 */
-	private final Condition condition = reentrantLock.newCondition();
+	private final AtomicInteger refreshedProperties = new AtomicInteger();
+	private int lastRefreshedProperties;
+
 
 	/**
 	 * {@inheritDoc}
 	 *
 	 * Override the send() method to add a cool down delay time after every send command
+	 * The frame waits for the connection in the lane of the calling thread, see {@link LgWebOSCommandScheduler}
 	 */
 	@Override
 	public byte[] send(byte[] data) throws Exception {
+		commandScheduler.acquire(Thread.currentThread() == controlThread ? Lane.CONTROL : Lane.POLL);
 		try {
 			long currentTime = System.currentTimeMillis() - lastCommandTimestamp;
-			//check next command wait commandsCoolDownDelay time
-			if (currentTime < commandsCoolDownDelay) {
-				Thread.sleep(commandsCoolDownDelay - currentTime);
+			int delay = coolDownController.getDelay();
+			//check next command wait the cool down delay, the event loop schedules the cool down itself
+			if (currentTime < delay && !isEventLoopTransport()) {
+				Thread.sleep(delay - currentTime);
 			}
 			lastCommandTimestamp = System.currentTimeMillis();
 			if (logger.isDebugEnabled()) {
 				logger.debug(String.format("Issuing command %s, timestamp: %s", data, lastCommandTimestamp));
 			}
-			return super.send(data);
+			LgWebOSTransport<?> channel = getPersistentChannel();
+			try {
+				return channel.send(data);
+			} catch (SocketTimeoutException e) {
+				coolDownController.onFault();
+				throw e;
+			} finally {
+				coolDownController.onUnparsedFrames(channel.getUnparsedFrames());
+			}
 		} finally {
+			commandScheduler.release();
 			logger.debug("send data command successfully");
 		}
 	}
 
+	/**
+	 * Send the frames back-to-back, the cool down delay is applied once before the first frame
+	 * The frames are sent in bursts of one pipeline window, a control frame waiting for the connection goes between two
+	 * bursts and the cool down delay is applied again after it
+	 *
+	 * @param frames the frames are request bytes
+	 * @param lane the lane is lane of the frames, the cool down delay is applied before every burst of control frames
+	 * @return byte[][] is reply of every frame in the same order, or null if the frame was not answered
+	 * @throws Exception if the device can't be reached
+	 */
+	private byte[][] sendPipelined(byte[][] frames, Lane lane) throws Exception {
+		byte[][] replies = new byte[frames.length][];
+		int controlFrames = -1;
+		for (int start = 0; start < frames.length; start += pipelineWindowInIntValue) {
+			int end = Math.min(frames.length, start + pipelineWindowInIntValue);
+			commandScheduler.acquire(lane);
+			try {
+				if (Lane.CONTROL == lane || controlFrames != commandScheduler.getControlFrames()) {
+					long currentTime = System.currentTimeMillis() - lastCommandTimestamp;
+					int delay = coolDownController.getDelay();
+					if (currentTime < delay && !isEventLoopTransport()) {
+						Thread.sleep(delay - currentTime);
+					}
+					controlFrames = commandScheduler.getControlFrames();
+				}
+				LgWebOSTransport<?> channel = getPersistentChannel();
+				try {
+					byte[][] burstReplies = channel.sendPipelined(Arrays.copyOfRange(frames, start, end), pipelineWindowInIntValue);
+					for (byte[] reply : burstReplies) {
+						if (reply == null) {
+							coolDownController.onFault();
+						}
+					}
+					System.arraycopy(burstReplies, 0, replies, start, burstReplies.length);
+				} catch (SocketTimeoutException e) {
+					coolDownController.onFault();
+					throw e;
+				} finally {
+					coolDownController.onUnparsedFrames(channel.getUnparsedFrames());
+					lastCommandTimestamp = System.currentTimeMillis();
+				}
+			} finally {
+				commandScheduler.release();
+			}
+		}
+		return replies;
+	}
+
+	/**
+	 * Check whether the commands are sent through the shared {@link LgWebOSEventLoop}
+	 *
+	 * @return boolean true if the event loop transport is used
+	 */
+	private boolean isEventLoopTransport() {
+		return LgWebOSConstants.TRANSPORT_MODE_EVENT_LOOP.equals(transportModeInValue);
+	}
+
+	/**
+	 * Check whether the polling commands are pipelined
+	 *
+	 * @return boolean true if more than one command can be in flight
+	 */
+	private boolean isPipelined() {
+		return pipelineWindowInIntValue > LgWebOSConstants.DEFAULT_PIPELINE_WINDOW;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * Close the persistent connection as well, so a timed out or failed command never leaves a socket behind
+	 */
+	@Override
+	public void destroyChannel() {
+		synchronized (persistentChannelLock) {
+			if (persistentChannel != null) {
+				persistentChannel.close();
+			}
+		}
+		super.destroyChannel();
+	}
+
+	/**
+	 * Close the connection between two frames, the controls are not serialized by {@link #reentrantLock} so the polling
+	 * waits in the poll lane of {@link #commandScheduler} until no control frame is waiting or in flight
+	 *
+	 * @throws InterruptedException if the thread is interrupted while waiting
+	 */
+	private void destroyChannelBetweenFrames() throws InterruptedException {
+		commandScheduler.acquire(Lane.POLL);
+		try {
+			destroyChannel();
+		} finally {
+			commandScheduler.release(false);
+		}
+	}
+
+	/**
+	 * Get the persistent connection, the connection is created on first use and follows the current adapter properties
+	 *
+	 * @return LgWebOSTransport is persistent connection instance
+	 */
+	private LgWebOSTransport<?> getPersistentChannel() {
+		synchronized (persistentChannelLock) {
+			if (persistentChannel != null && !transportModeInValue.equals(persistentChannelMode)) {
+				persistentChannel.close();
+				persistentChannel = null;
+				lastOpenedConnections = 0;
+				lastAvoidedConnects = 0;
+				lastUnparsedFrames = 0;
+			}
+			if (persistentChannel == null) {
+				persistentChannel = createTransport();
+				persistentChannelMode = transportModeInValue;
+			}
+			LgWebOSTransport<?> channel = persistentChannel;
+			if (channel instanceof LgWebOSEventLoopTransport) {
+				((LgWebOSEventLoopTransport) channel).setCoolDown(coolDownController.getDelay());
+			}
+			channel.setIdleTimeout(connectionIdleTimeoutInIntValue);
+			channel.setReadTimeout(defaultConfigTimeout * LgWebOSConstants.CONFIG_TIMEOUT_STEP);
+			return channel;
+		}
+	}
+
+	/**
+	 * Create the transport of the current transport mode
+	 *
+	 * @return LgWebOSTransport is new transport instance
+	 */
+	private LgWebOSTransport<?> createTransport() {
+		if (LgWebOSConstants.TRANSPORT_MODE_NIO.equals(transportModeInValue)) {
+			return new LgWebOSNioTransport(this.host, this.getPort());
+		}
+		if (LgWebOSConstants.TRANSPORT_MODE_EVENT_LOOP.equals(transportModeInValue)) {
+			return new LgWebOSEventLoopTransport(this.host, this.getPort());
+		}
+		return new LgWebOSConnection(this.host, this.getPort());
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
 	protected void internalInit() throws Exception {
-		fetchingDataExSer = Executors.newFixedThreadPool(1);
-		timeoutManagementExSer = Executors.newFixedThreadPool(1);
 		isFirstInit = false;
 		super.internalInit();
 	}
@@ -205,23 +613,25 @@ public class LgWebOSDevice extends SocketCommunicator implements Controller, Mon
 	 */
 	@Override
 	protected void internalDestroy() {
-		if (localExtendedStatistics != null && localExtendedStatistics.getStatistics() != null && localExtendedStatistics.getControllableProperties() != null) {
-			localExtendedStatistics.getStatistics().clear();
-			localExtendedStatistics.getControllableProperties().clear();
-		}
-		if (!cacheMapOfPriorityInputAndValue.isEmpty()) {
-			cacheMapOfPriorityInputAndValue.clear();
-		}
+		cancelBackgroundPolling();
+		localExtendedStatistics.set(null);
+		cacheMapOfPriorityInputAndValue = new HashMap<>();
 
-		if (!localCacheMapOfPropertyNameAndValue.isEmpty()) {
-			localCacheMapOfPropertyNameAndValue.clear();
-		}
+		localPropertyStore.clearValues();
 		isConfigManagement = false;
+		synchronized (persistentChannelLock) {
+			if (persistentChannel != null) {
+				persistentChannel.close();
+				persistentChannel = null;
+			}
+		}
 		failedMonitor.clear();
-		localCachingLifeTimeOfMap.clear();
+		localPropertyStore.clearFailedCycles();
 		try {
-			fetchingDataExSer.shutdownNow();
-			timeoutManagementExSer.shutdownNow();
+			if (fetchingDataExSer != null) {
+				fetchingDataExSer.shutdownNow();
+				fetchingDataExSer = null;
+			}
 		} catch (Exception e) {
 			logger.warn("Unable to end the TCP connection.", e);
 		} finally {
@@ -237,10 +647,10 @@ public class LgWebOSDevice extends SocketCommunicator implements Controller, Mon
 		this.setPort(9761);
 		this.monitorID = 1;
 
-		// set list of command success strings (included at the end of response when command succeeds, typically ending with command prompt)
+		// SocketCommunicator requires the success and error lists, the replies are framed by LgWebOSFrameReader at the 'x' terminator
 		this.setCommandSuccessList(Collections.singletonList("OK"));
-		// set list of error response strings (included at the end of response when command fails, typically ending with command prompt)
 		this.setCommandErrorList(Collections.singletonList("NG"));
+		responseDecoderRegistry.register(commandNames.FAILOVER_INPUT_LIST, this::decodeFailoverInputList);
 	}
 
 	/**
@@ -345,542 +755,1155 @@ public class LgWebOSDevice extends SocketCommunicator implements Controller, Mon
 	}
 
 	/**
-	 * Pool for keeping all the async operations in, to track any operations in progress and cancel them if needed
+	 * Retrieves {@link #persistentConnection}
+	 *
+	 * @return value of {@link #persistentConnection}
 	 */
-	private final List<Future> devicesExecutionPool = new CopyOnWriteArrayList<>();
+	public String getPersistentConnection() {
+		return persistentConnection;
+	}
 
 	/**
-	 * Retrieves {@link #historicalProperties}
+	 * Sets {@link #persistentConnection} value
 	 *
-	 * @return value of {@link #historicalProperties}
+	 * @param persistentConnection new value of {@link #persistentConnection}
 	 */
-	public String getHistoricalProperties() {
-		return String.join(LgWebOSConstants.COMMA, this.historicalProperties);
+	public void setPersistentConnection(String persistentConnection) {
+		this.persistentConnection = persistentConnection;
 	}
 
 	/**
-	 * Sets {@link #historicalProperties} value
+	 * Retrieves {@link #connectionIdleTimeout}
 	 *
-	 * @param historicalProperties new value of {@link #historicalProperties}
+	 * @return value of {@link #connectionIdleTimeout}
 	 */
-	public void setHistoricalProperties(String historicalProperties) {
-		this.historicalProperties.clear();
-		Arrays.asList(historicalProperties.split(LgWebOSConstants.COMMA)).forEach(propertyName -> this.historicalProperties.add(propertyName.trim()));
+	public String getConnectionIdleTimeout() {
+		return connectionIdleTimeout;
 	}
 
 	/**
-	 * This method is recalled by Symphony to get the current monitor ID (Future purpose)
+	 * Sets {@link #connectionIdleTimeout} value
 	 *
-	 * @return int This returns the current monitor ID.
+	 * @param connectionIdleTimeout new value of {@link #connectionIdleTimeout}
 	 */
-	public int getMonitorID() {
-		return monitorID;
+	public void setConnectionIdleTimeout(String connectionIdleTimeout) {
+		this.connectionIdleTimeout = connectionIdleTimeout;
 	}
 
 	/**
-	 * This method is used by Symphony to set the monitor ID (Future purpose)
+	 * Retrieves {@link #pipelineWindow}
 	 *
-	 * @param monitorID This is the monitor ID to be set
+	 * @return value of {@link #pipelineWindow}
 	 */
-	public void setMonitorID(int monitorID) {
-		this.monitorID = monitorID;
+	public String getPipelineWindow() {
+		return pipelineWindow;
 	}
 
 	/**
-	 * Retrieves {@link #coolDownDelay}
+	 * Sets {@link #pipelineWindow} value
 	 *
-	 * @return value of {@link #coolDownDelay}
+	 * @param pipelineWindow new value of {@link #pipelineWindow}
 	 */
-	public String getCoolDownDelay() {
-		return coolDownDelay;
+	public void setPipelineWindow(String pipelineWindow) {
+		this.pipelineWindow = pipelineWindow;
 	}
 
 	/**
-	 * Sets {@link #coolDownDelay} value
+	 * Retrieves {@link #slowPollingMultiplier}
 	 *
-	 * @param coolDownDelay new value of {@link #coolDownDelay}
+	 * @return value of {@link #slowPollingMultiplier}
 	 */
-	public void setCoolDownDelay(String coolDownDelay) {
-		this.coolDownDelay = coolDownDelay;
+	public String getSlowPollingMultiplier() {
+		return slowPollingMultiplier;
 	}
 
 	/**
-	 * Retrieves {@link #pollingInterval}
+	 * Sets {@link #slowPollingMultiplier} value
 	 *
-	 * @return value of {@link #pollingInterval}
+	 * @param slowPollingMultiplier new value of {@link #slowPollingMultiplier}
 	 */
-	public String getPollingInterval() {
-		return pollingInterval;
+	public void setSlowPollingMultiplier(String slowPollingMultiplier) {
+		this.slowPollingMultiplier = slowPollingMultiplier;
 	}
 
 	/**
-	 * Sets {@link #pollingInterval} value
+	 * Retrieves {@link #backgroundPolling}
 	 *
-	 * @param pollingInterval new value of {@link #pollingInterval}
+	 * @return value of {@link #backgroundPolling}
 	 */
-	public void setPollingInterval(String pollingInterval) {
-		this.pollingInterval = pollingInterval;
+	public String getBackgroundPolling() {
+		return backgroundPolling;
 	}
 
 	/**
-	 * This method is recalled by Symphony to control a list of properties
+	 * Sets {@link #backgroundPolling} value
 	 *
-	 * @param controllableProperties This is the list of properties to be controlled
-	 * @return byte This returns the calculated xor checksum.
+	 * @param backgroundPolling new value of {@link #backgroundPolling}
 	 */
-	@Override
-	public void controlProperties(List<ControllableProperty> controllableProperties) {
-		if (CollectionUtils.isEmpty(controllableProperties)) {
-			throw new IllegalArgumentException("ControllableProperties can not be null or empty");
-		}
-		for (ControllableProperty p : controllableProperties) {
-			try {
-				controlProperty(p);
-			} catch (Exception e) {
-				e.printStackTrace();
-			}
-		}
+	public void setBackgroundPolling(String backgroundPolling) {
+		this.backgroundPolling = backgroundPolling;
 	}
 
 	/**
-	 * This method is recalled by Symphony to control specific property
+	 * Retrieves {@link #backgroundPollingInterval}
+	 *
+	 * @return value of {@link #backgroundPollingInterval}
+	 */
+	public String getBackgroundPollingInterval() {
+		return backgroundPollingInterval;
+	}
+
+	/**
+	 * Sets {@link #backgroundPollingInterval} value
+	 *
+	 * @param backgroundPollingInterval new value of {@link #backgroundPollingInterval}
+	 */
+	public void setBackgroundPollingInterval(String backgroundPollingInterval) {
+		this.backgroundPollingInterval = backgroundPollingInterval;
+	}
+
+	/**
+	 * Retrieves {@link #transportMode}
+	 *
+	 * @return value of {@link #transportMode}
+	 */
+	public String getTransportMode() {
+		return transportMode;
+	}
+
+	/**
+	 * Sets {@link #transportMode} value
+	 *
+	 * @param transportMode new value of {@link #transportMode}
+	 */
+	public void setTransportMode(String transportMode) {
+		this.transportMode = transportMode;
+	}
+
+	/**
+	 * Pool for keeping all the async operations in, to track any operations in progress and cancel them if needed
+	 */
+	private final List<Future> devicesExecutionPool = new CopyOnWriteArrayList<>();
+
+	/**
+	 * Retrieves {@link #historicalProperties}
+	 *
+	 * @return value of {@link #historicalProperties}
+	 */
+	public String getHistoricalProperties() {
+		return String.join(LgWebOSConstants.COMMA, this.historicalProperties);
+	}
+
+	/**
+	 * Sets {@link #historicalProperties} value
+	 *
+	 * @param historicalProperties new value of {@link #historicalProperties}
+	 */
+	public void setHistoricalProperties(String historicalProperties) {
+		this.historicalProperties.clear();
+		Arrays.asList(historicalProperties.split(LgWebOSConstants.COMMA)).forEach(propertyName -> this.historicalProperties.add(propertyName.trim()));
+	}
+
+	/**
+	 * This method is recalled by Symphony to get the current monitor ID (Future purpose)
+	 *
+	 * @return int This returns the current monitor ID.
+	 */
+	public int getMonitorID() {
+		return monitorID;
+	}
+
+	/**
+	 * This method is used by Symphony to set the monitor ID (Future purpose)
+	 *
+	 * @param monitorID This is the monitor ID to be set
+	 */
+	public void setMonitorID(int monitorID) {
+		this.monitorID = monitorID;
+	}
+
+	/**
+	 * Retrieves {@link #coolDownDelay}
+	 *
+	 * @return value of {@link #coolDownDelay}
+	 */
+	public String getCoolDownDelay() {
+		return coolDownDelay;
+	}
+
+	/**
+	 * Sets {@link #coolDownDelay} value
+	 *
+	 * @param coolDownDelay new value of {@link #coolDownDelay}
+	 */
+	public void setCoolDownDelay(String coolDownDelay) {
+		this.coolDownDelay = coolDownDelay;
+	}
+
+	/**
+	 * Retrieves {@link #adaptiveCoolDown}
+	 *
+	 * @return value of {@link #adaptiveCoolDown}
+	 */
+	public String getAdaptiveCoolDown() {
+		return adaptiveCoolDown;
+	}
+
+	/**
+	 * Sets {@link #adaptiveCoolDown} value
+	 *
+	 * @param adaptiveCoolDown new value of {@link #adaptiveCoolDown}
+	 */
+	public void setAdaptiveCoolDown(String adaptiveCoolDown) {
+		this.adaptiveCoolDown = adaptiveCoolDown;
+	}
+
+	/**
+	 * Retrieves {@link #idempotentControl}
+	 *
+	 * @return value of {@link #idempotentControl}
+	 */
+	public String getIdempotentControl() {
+		return idempotentControl;
+	}
+
+	/**
+	 * Sets {@link #idempotentControl} value
+	 *
+	 * @param idempotentControl new value of {@link #idempotentControl}
+	 */
+	public void setIdempotentControl(String idempotentControl) {
+		this.idempotentControl = idempotentControl;
+	}
+
+	/**
+	 * Retrieves {@link #idempotentControlMaxAge}
+	 *
+	 * @return value of {@link #idempotentControlMaxAge}
+	 */
+	public String getIdempotentControlMaxAge() {
+		return idempotentControlMaxAge;
+	}
+
+	/**
+	 * Sets {@link #idempotentControlMaxAge} value
+	 *
+	 * @param idempotentControlMaxAge new value of {@link #idempotentControlMaxAge}
+	 */
+	public void setIdempotentControlMaxAge(String idempotentControlMaxAge) {
+		this.idempotentControlMaxAge = idempotentControlMaxAge;
+	}
+
+	/**
+	 * Retrieves {@link #pollingInterval}
+	 *
+	 * @return value of {@link #pollingInterval}
+	 */
+	public String getPollingInterval() {
+		return pollingInterval;
+	}
+
+	/**
+	 * Sets {@link #pollingInterval} value
+	 *
+	 * @param pollingInterval new value of {@link #pollingInterval}
+	 */
+	public void setPollingInterval(String pollingInterval) {
+		this.pollingInterval = pollingInterval;
+	}
+
+	/**
+	 * Update the cached value of a slider right away, before the value is sent to the device
+	 * The value replaces the one still waiting for the previous controls
+	 *
+	 * @param sliderCommand the sliderCommand is command of the slider
+	 * @param value the value is value of the slider
+	 */
+	private void updateSliderCache(LgControllingCommand sliderCommand, String value) {
+		LgWebOSProperty property = LgWebOSProperty.valueOf(sliderCommand.name());
+		synchronized (sliderRollbackValues) {
+			if (pendingSliderValues.put(sliderCommand, value) != null) {
+				coalescedControls.incrementAndGet();
+			}
+			try {
+				String sliderValue = String.valueOf((int) Float.parseFloat(value));
+				if (!sliderRollbackValues.containsKey(sliderCommand)) {
+					sliderRollbackValues.put(sliderCommand, localPropertyStore.get(property));
+				}
+				localPropertyStore.put(property, sliderValue);
+			} catch (NumberFormatException e) {
+				//The control reports the invalid value, the cache is left as it is
+			}
+		}
+	}
+
+	/**
+	 * Settle the optimistic value of a slider once its control is done, the value before the optimistic update is
+	 * restored when the control failed. A newer value still waiting keeps the cache, it is settled by its own control
+	 *
+	 * @param control the control is resolved control
+	 * @param isAccepted the isAccepted is true if the display accepted the value or already had it
+	 */
+	private void settleSliderCache(ResolvedControl control, boolean isAccepted) {
+		if (!control.command.isCoalesced()) {
+			return;
+		}
+		LgWebOSProperty property = LgWebOSProperty.valueOf(control.command.name());
+		synchronized (sliderRollbackValues) {
+			if (!sliderRollbackValues.containsKey(control.command)) {
+				return;
+			}
+			if (pendingSliderValues.containsKey(control.command)) {
+				if (isAccepted) {
+					sliderRollbackValues.put(control.command, String.valueOf((int) Float.parseFloat(control.value)));
+				}
+				return;
+			}
+			String previousValue = sliderRollbackValues.remove(control.command);
+			if (isAccepted) {
+				return;
+			}
+			if (previousValue == null) {
+				localPropertyStore.remove(property);
+			} else {
+				localPropertyStore.put(property, previousValue);
+			}
+		}
+	}
+
+	/**
+	 * This method is recalled by Symphony to control a list of properties
+	 *
+	 * @param controllableProperties This is the list of properties to be controlled
+	 * @return byte This returns the calculated xor checksum.
+	 */
+	@Override
+	public void controlProperties(List<ControllableProperty> controllableProperties) {
+		if (CollectionUtils.isEmpty(controllableProperties)) {
+			throw new IllegalArgumentException("ControllableProperties can not be null or empty");
+		}
+		for (Entry<String, Exception> result : executeControls(controllableProperties).entrySet()) {
+			if (result.getValue() != null) {
+				this.logger.error(String.format("An error occurred when controlling property %s", result.getKey()), result.getValue());
+			}
+		}
+	}
+
+	/**
+	 * This method is recalled by Symphony to control specific property
 	 *
 	 * @param controllableProperty This is the property to be controlled
 	 */
 	@Override
 	public void controlProperty(ControllableProperty controllableProperty) throws Exception {
-		reentrantLock.lock();
+		Exception failure = executeControls(Collections.singletonList(controllableProperty)).get(controllableProperty.getProperty());
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+	/**
+	 * Run the controls in one pass: the properties are resolved and ordered by dependency, the single frame controls are
+	 * sent as one pipelined burst and the snapshot is published once at the end
+	 * The latest value of a slider waiting for {@link #controlLock} replaces the values still waiting before it
+	 *
+	 * @param controllableProperties the controllableProperties are properties to control
+	 * @return Map<String, Exception> is result of every property in the order the controls ran, null if the control succeeded
+	 */
+	Map<String, Exception> executeControls(List<ControllableProperty> controllableProperties) {
+		Map<String, Exception> results = new LinkedHashMap<>();
+		List<ResolvedControl> controls = resolveControls(controllableProperties, results);
+		for (ResolvedControl control : controls) {
+			if (control.command.isCoalesced()) {
+				updateSliderCache(control.command, control.value);
+			}
+		}
+		controlLock.lock();
+		controlThread = Thread.currentThread();
 		try {
-			if (localExtendedStatistics == null) {
-				return;
+			for (Iterator<ResolvedControl> iterator = controls.iterator(); iterator.hasNext(); ) {
+				ResolvedControl control = iterator.next();
+				if (control.command.isCoalesced()) {
+					control.value = pendingSliderValues.remove(control.command);
+					if (control.value == null) {
+						//A control that waited with this value has sent a newer value already
+						results.put(control.property, null);
+						iterator.remove();
+						continue;
+					}
+				}
+				if (isRedundantControl(control)) {
+					settleSliderCache(control, true);
+					results.put(control.property, null);
+					iterator.remove();
+				}
+			}
+			ExtendedStatistics snapshot = localExtendedStatistics.get();
+			if (snapshot == null || controls.isEmpty()) {
+				for (ResolvedControl control : controls) {
+					settleSliderCache(control, false);
+				}
+				return results;
 			}
-			condition.signal();
 			isEmergencyDelivery = true;
-			Map<String, String> stats = this.localExtendedStatistics.getStatistics();
-			List<AdvancedControllableProperty> advancedControllableProperties = this.localExtendedStatistics.getControllableProperties();
-			String value = String.valueOf(controllableProperty.getValue());
-			String property = controllableProperty.getProperty();
-			if (controllableProperty.getProperty().equalsIgnoreCase(controlProperties.power.name())) {
-				if (controllableProperty.getValue().toString().equals(String.valueOf(LgWebOSConstants.NUMBER_ONE))) {
-					powerON();
-				} else if (controllableProperty.getValue().toString().equals(String.valueOf(LgWebOSConstants.ZERO))) {
-					powerOFF();
+			//The controls work on a copy of the snapshot, the copy is published as a new version at the end
+			Map<String, String> stats = snapshot.getStatistics() == null ? new HashMap<>() : new HashMap<>(snapshot.getStatistics());
+			List<AdvancedControllableProperty> advancedControllableProperties = new ArrayList<>();
+			if (snapshot.getControllableProperties() != null) {
+				for (AdvancedControllableProperty advancedControllableProperty : snapshot.getControllableProperties()) {
+					advancedControllableProperties.add(new AdvancedControllableProperty(advancedControllableProperty.getName(), advancedControllableProperty.getTimestamp(),
+							advancedControllableProperty.getType(), advancedControllableProperty.getValue()));
+				}
+			}
+			boolean isBurstSent = false;
+			Set<LgControllingCommand> affectedCommands = EnumSet.noneOf(LgControllingCommand.class);
+			for (ResolvedControl control : controls) {
+				try {
+					if (!isBurstSent && encodeControlValue(control.command, control.value) != null) {
+						sendControlBurst(controls);
+						isBurstSent = true;
+					}
+					applyControl(control, stats, advancedControllableProperties);
+					sentControls.incrementAndGet();
+					settleSliderCache(control, true);
+					results.put(control.property, null);
+					affectedCommands.addAll(getAffectedCommands(control.command));
+				} catch (Exception e) {
+					settleSliderCache(control, false);
+					results.put(control.property, e);
 				}
+			}
+			controlReplies.clear();
+			refreshAffectedCommands(affectedCommands, stats, advancedControllableProperties);
+			if (!controlFailedCommands.isEmpty()) {
+				this.logger.warn(String.format("The controls %s could not read back the commands %s, they are read again by the next polling cycle", results.keySet(),
+						controlFailedCommands));
+			}
+			ExtendedStatistics extendedStatistics = new ExtendedStatistics();
+			extendedStatistics.setStatistics(stats);
+			extendedStatistics.setDynamicStatistics(snapshot.getDynamicStatistics());
+			extendedStatistics.setControllableProperties(advancedControllableProperties);
+			//A snapshot published by a poll in the meantime is newer than the copy, so the copy is dropped
+			localExtendedStatistics.compareAndSet(snapshot, freezeSnapshot(extendedStatistics));
+		} finally {
+			controlReadCommands.clear();
+			controlFailedCommands.clear();
+			controlThread = null;
+			controlLock.unlock();
+		}
+		return results;
+	}
+
+	/**
+	 * Read again the commands affected by the successful controls and show their new value in the snapshot copy, so the
+	 * side effects of a control don't wait for the next polling cycle
+	 * The commands read by the controls themselves are skipped, the pipelined transports read the others in one burst
+	 * Like the polling, the dependents of a refreshed command are read next if its new value satisfies {@link CommandDependency}
+	 *
+	 * @param affectedCommands the affectedCommands are commands affected by the controls
+	 * @param stats the stats are statistics of the snapshot copy
+	 * @param advancedControllableProperties the advancedControllableProperties are controllable properties of the snapshot copy
+	 */
+	private void refreshAffectedCommands(Set<LgControllingCommand> affectedCommands, Map<String, String> stats, List<AdvancedControllableProperty> advancedControllableProperties) {
+		affectedCommands.removeIf(command -> controlReadCommands.contains(command.getCommandNames()));
+		if (affectedCommands.isEmpty()) {
+			return;
+		}
+		List<LgControllingCommand> commands = new ArrayList<>();
+		List<LgControllingCommand> pendingCommands = new ArrayList<>(affectedCommands);
+		while (!pendingCommands.isEmpty()) {
+			if (isPipelined() || isEventLoopTransport()) {
+				retrieveDataPipelined(pendingCommands, pendingCommands.stream().map(this::getParamByCommandName).collect(Collectors.toList()));
 			} else {
-				String propertyKey;
-				String[] propertyList = property.split(LgWebOSConstants.HASH);
-				String group = property + LgWebOSConstants.HASH;
-				if (property.contains(LgWebOSConstants.HASH)) {
-					propertyKey = propertyList[1];
-					group = propertyList[0] + LgWebOSConstants.HASH;
-				} else {
-					propertyKey = property;
+				for (LgControllingCommand command : pendingCommands) {
+					retrieveDataByCommandName(command.getCommandNames(), getParamByCommandName(command), command);
 				}
-				LgControllingCommand lgControllingCommand = LgControllingCommand.getCommandByName(propertyKey);
-				switch (lgControllingCommand) {
-					case VOLUME:
-						String dataConvert = Integer.toHexString((int) Float.parseFloat(value));
-						sendRequestToControlValue(commandNames.VOLUME, dataConvert.getBytes(StandardCharsets.UTF_8), false, value);
-						String volumeValue = String.valueOf((int) Float.parseFloat(value));
-						stats.put(group + LgWebOSConstants.VOLUME_VALUE, volumeValue);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.VOLUME, volumeValue);
-						updateValueForTheControllableProperty(group + LgWebOSConstants.MUTE, String.valueOf(LgWebOSConstants.ZERO), stats, advancedControllableProperties);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.MUTE, String.valueOf(LgWebOSConstants.ZERO));
-						break;
-					case MUTE:
-						String mute = LgWebOSConstants.UNMUTE_VALUE;
-						if (String.valueOf(LgWebOSConstants.NUMBER_ONE).equals(value)) {
-							mute = LgWebOSConstants.MUTE_VALUE;
-						}
-						sendRequestToControlValue(commandNames.MUTE, mute.getBytes(StandardCharsets.UTF_8), false, value);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.MUTE, String.valueOf(Integer.parseInt(mute)));
-						break;
-					case BACKLIGHT:
-						dataConvert = Integer.toHexString((int) Float.parseFloat(value));
-						sendRequestToControlValue(commandNames.BACKLIGHT, dataConvert.getBytes(StandardCharsets.UTF_8), false, value);
-						String backlight = String.valueOf((int) Float.parseFloat(value));
-						stats.put(group + LgWebOSConstants.BACKLIGHT_VALUE, backlight);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.BACKLIGHT, backlight);
-						break;
-					case INPUT_SELECT:
-						dataConvert = InputSourceDropdown.getValueOfEnumByNameAndType(value, true);
-						try {
-							sendRequestToControlValue(commandNames.INPUT_SELECT, dataConvert.getBytes(StandardCharsets.UTF_8), true, value);
-						} catch (Exception e) {
-							dataConvert = InputSourceDropdown.getValueOfEnumByNameAndType(value, false);
-							sendRequestToControlValue(commandNames.INPUT_SELECT, dataConvert.getBytes(StandardCharsets.UTF_8), true, value);
-						}
-						String inputSelect = getValueByName(LgWebOSConstants.INPUT_SELECT);
-						stats.put(LgWebOSConstants.INPUT_SELECT, inputSelect);
-						retrieveDataByCommandName(commandNames.SYNC_STATUS, commandNames.SYNC_STATUS_PARAM, lgControllingCommand);
-						String signal = getValueByName(LgWebOSConstants.SIGNAL);
-						addOrUpdateStatisticProperties(stats,LgWebOSConstants.SIGNAL, signal);
-						addOrUpdateStatisticProperties(stats,group + LgWebOSConstants.SIGNAL, signal);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.SIGNAL, signal);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.INPUT_SELECT, inputSelect);
-						break;
-					case POWER_MANAGEMENT_MODE:
-						dataConvert = LgWebOSConstants.BYTE_COMMAND + EnumTypeHandler.getValueOfEnumByName(PowerManagementModeEnum.class, value);
-						sendRequestToControlValue(commandNames.POWER_MANAGEMENT_MODE, dataConvert.getBytes(StandardCharsets.UTF_8), true, value);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.POWER_MANAGEMENT_MODE, value);
-						break;
-					case DISPLAY_STAND_BY_MODE:
-						dataConvert = EnumTypeHandler.getValueOfEnumByName(PowerManagement.class, value);
-						sendRequestToControlValue(commandNames.DISPLAY_STAND_BY_MODE, dataConvert.getBytes(StandardCharsets.UTF_8), true, value);
-						if (LgWebOSConstants.OFF.equalsIgnoreCase(value)) {
-							stats.put(LgWebOSConstants.DISPLAY_STAND_BY_MODE, LgWebOSConstants.OFF);
-						} else {
-							stats.put(LgWebOSConstants.DISPLAY_STAND_BY_MODE, LgWebOSConstants.ON);
-						}
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.DISPLAY_STAND_BY_MODE, value);
-						break;
-					case FAILOVER:
-						String inputPriority = group + LgWebOSConstants.INPUT_PRIORITY;
-						String priorityInput = group + LgWebOSConstants.PRIORITY_INPUT;
-						String priorityInputDown = group + LgWebOSConstants.PRIORITY_DOWN;
-						String priorityInputUp = group + LgWebOSConstants.PRIORITY_UP;
-						int failOverStatus = Integer.parseInt(value);
-						String failOverName = LgWebOSConstants.OFF;
-						if (failOverStatus == LgWebOSConstants.ZERO) {
-							sendRequestToControlValue(commandNames.FAILOVER, FailOverEnum.OFF.getValue().getBytes(StandardCharsets.UTF_8), false, value);
-							//Remove all priority 0,1,2,3.etc, priorityInput, and inputPriority.
-							stats.remove(inputPriority);
-							advancedControllableProperties.removeIf(item -> item.getName().equals(inputPriority));
-
-							stats.remove(priorityInput);
-							advancedControllableProperties.removeIf(item -> item.getName().equals(priorityInput));
-
-							stats.remove(priorityInputDown);
-							advancedControllableProperties.removeIf(item -> item.getName().equals(priorityInputDown));
-
-							stats.remove(priorityInputUp);
-							advancedControllableProperties.removeIf(item -> item.getName().equals(priorityInputUp));
-
-							if (cacheMapOfPriorityInputAndValue != null) {
-								for (Entry<String, String> input : cacheMapOfPriorityInputAndValue.entrySet()) {
-									stats.remove(group + input.getKey());
-								}
+			}
+			commands.addAll(pendingCommands);
+			List<LgControllingCommand> dependentCommands = new ArrayList<>();
+			for (LgControllingCommand parentCommand : pendingCommands) {
+				if (controlFailedCommands.contains(parentCommand)) {
+					continue;
+				}
+				for (LgControllingCommand dependentCommand : getSatisfiedDependents(CommandDependency.getDependents(parentCommand))) {
+					if (!commands.contains(dependentCommand) && !dependentCommands.contains(dependentCommand) && !controlReadCommands.contains(dependentCommand.getCommandNames())) {
+						dependentCommands.add(dependentCommand);
+					}
+				}
+			}
+			pendingCommands = dependentCommands;
+		}
+		refreshedProperties.addAndGet(commands.size());
+		Map<String, String> refreshedStats = new HashMap<>();
+		List<AdvancedControllableProperty> refreshedControls = new ArrayList<>();
+		boolean isDisplayAndSoundGroupRefreshed = false;
+		boolean isTileModeGroupRefreshed = false;
+		for (LgControllingCommand command : commands) {
+			switch (command) {
+				case SYNC_STATUS:
+					String signal = getValueByName(LgWebOSProperty.SIGNAL);
+					if (LgWebOSConstants.NA.equals(signal)) {
+						signal = syncStatusNames.NO_SYNC.name();
+					}
+					refreshedStats.put(LgWebOSConstants.SIGNAL, signal);
+					break;
+				case BACKLIGHT:
+					if (!isDisplayAndSoundGroupRefreshed) {
+						retrieveDisplayAndSoundGroupValue(refreshedStats, refreshedControls);
+						isDisplayAndSoundGroupRefreshed = true;
+					}
+					break;
+				case NATURAL_MODE:
+				case NATURAL_SIZE:
+				case TILE_ID:
+					if (!isTileModeGroupRefreshed) {
+						retrieveTileModeGroupValue(refreshedStats, refreshedControls);
+						isTileModeGroupRefreshed = true;
+					}
+					break;
+				default:
+					populateDisplayPropertyGroup(command, refreshedStats, refreshedControls);
+					break;
+			}
+		}
+		stats.putAll(refreshedStats);
+		for (AdvancedControllableProperty refreshedControl : refreshedControls) {
+			advancedControllableProperties.removeIf(item -> item.getName().equals(refreshedControl.getName()));
+			advancedControllableProperties.add(refreshedControl);
+		}
+	}
+
+	/**
+	 * Get the commands affected by a successful control. The dependents of the property set by the control are only
+	 * affected when its new value satisfies their {@link CommandDependency}, the display doesn't support them otherwise
+	 *
+	 * @param lgControllingCommand the lgControllingCommand is command of the control
+	 * @return List<LgControllingCommand> is affected commands
+	 */
+	private List<LgControllingCommand> getAffectedCommands(LgControllingCommand lgControllingCommand) {
+		List<LgControllingCommand> affectedCommands = new ArrayList<>(lgControllingCommand.getAffectedCommands());
+		LgWebOSProperty controlledProperty = lgControllingCommand.getControlledProperty();
+		if (controlledProperty != null) {
+			affectedCommands.addAll(getSatisfiedDependents(CommandDependency.getDependents(controlledProperty)));
+		}
+		return affectedCommands;
+	}
+
+	/**
+	 * Get the dependent commands whose dependency is satisfied by the cached value of their parent
+	 *
+	 * @param dependencies the dependencies are dependencies to check
+	 * @return List<LgControllingCommand> is dependent commands supported by the display
+	 */
+	private List<LgControllingCommand> getSatisfiedDependents(List<CommandDependency> dependencies) {
+		List<LgControllingCommand> dependentCommands = new ArrayList<>();
+		for (CommandDependency dependency : dependencies) {
+			LgControllingCommand dependentCommand = dependency.getCommand();
+			if (isPowerOff() && !dependentCommand.isPolledWhilePowerOff()) {
+				continue;
+			}
+			if (dependency.isSatisfiedBy(getValueByName(dependency.getParentProperty()))) {
+				dependentCommands.add(dependentCommand);
+			}
+		}
+		return dependentCommands;
+	}
+
+	/**
+	 * Check whether the control can be skipped, the idempotent control must be enabled and the value of the property in the
+	 * latest reply of the device must be younger than {@link #idempotentControlMaxAgeInIntValue} and equal to the value of
+	 * the control. The cached value must be equal too, a value written by the adapter after that reply is never trusted
+	 * Only the properties cached in the same format by the polling and by the controls are checked
+	 *
+	 * @param control the control is resolved control
+	 * @return boolean true if the control is skipped, the skipped control is counted
+	 */
+	private boolean isRedundantControl(ResolvedControl control) {
+		if (!isIdempotentControl) {
+			return false;
+		}
+		LgWebOSProperty property;
+		String target;
+		try {
+			switch (control.command) {
+				case POWER:
+					property = LgWebOSProperty.POWER;
+					target = (String.valueOf(LgWebOSConstants.NUMBER_ONE).equals(control.value) ? LgWebOSConstants.powerStatusNames.ON : LgWebOSConstants.powerStatusNames.OFF).name();
+					break;
+				case VOLUME:
+				case BACKLIGHT:
+				case BRIGHTNESS:
+				case CONTRAST:
+				case SHARPNESS:
+				case SCREEN_COLOR:
+					property = LgWebOSProperty.valueOf(control.command.name());
+					target = String.valueOf((int) Float.parseFloat(control.value));
+					break;
+				case MUTE:
+					property = LgWebOSProperty.MUTE;
+					target = String.valueOf(Integer.parseInt(encodeControlValue(control.command, control.value)));
+					break;
+				case NO_IR_POWER_OFF:
+				case NO_SIGNAL_POWER_OFF:
+					property = LgWebOSProperty.valueOf(control.command.name());
+					target = String.valueOf(LgWebOSConstants.NUMBER_ONE).equals(control.value) ? LgWebOSConstants.ON : LgWebOSConstants.OFF;
+					break;
+				case ASPECT_RATIO:
+				case BRIGHTNESS_CONTROL:
+				case PICTURE_MODE:
+				case SOUND_MODE:
+				case LANGUAGE:
+				case POWER_ON_STATUS:
+				case POWER_MANAGEMENT_MODE:
+					property = LgWebOSProperty.valueOf(control.command.name());
+					target = control.value;
+					break;
+				default:
+					return false;
+			}
+		} catch (NumberFormatException e) {
+			return false;
+		}
+		long age = System.currentTimeMillis() - localPropertyStore.getReadTimestamp(property);
+		if (age > idempotentControlMaxAgeInIntValue || !target.equals(localPropertyStore.getReadValue(property)) || !target.equals(localPropertyStore.get(property))) {
+			return false;
+		}
+		skippedControls.incrementAndGet();
+		return true;
+	}
+
+	/**
+	 * Resolve the properties in one pass and order them so a control runs after the controls it depends on
+	 * The power on control runs first, the power off and reboot controls run last
+	 *
+	 * @param controllableProperties the controllableProperties are properties to control
+	 * @param results the results are results of the controls, the properties that can't be resolved are added with their error
+	 * @return List<ResolvedControl> is the controls in the order they run, the latest value wins if a property is sent twice
+	 */
+	private List<ResolvedControl> resolveControls(List<ControllableProperty> controllableProperties, Map<String, Exception> results) {
+		Map<String, ResolvedControl> controlByProperty = new LinkedHashMap<>();
+		for (ControllableProperty controllableProperty : controllableProperties) {
+			String property = controllableProperty.getProperty();
+			try {
+				controlByProperty.put(property, new ResolvedControl(property, String.valueOf(controllableProperty.getValue())));
+			} catch (Exception e) {
+				controlByProperty.remove(property);
+				results.put(property, e);
+			}
+		}
+		List<ResolvedControl> controls = new ArrayList<>(controlByProperty.values());
+		controls.sort(Comparator.comparingInt(control -> control.rank));
+		return controls;
+	}
+
+	/**
+	 * Get the param of a control sent in a single frame
+	 *
+	 * @param command the command is command of the control
+	 * @param value the value is value of the control
+	 * @return String is param of the frame, null if the control needs more than one frame or reads the device
+	 */
+	private String encodeControlValue(LgControllingCommand command, String value) {
+		switch (command) {
+			case VOLUME:
+			case BACKLIGHT:
+			case BRIGHTNESS:
+			case CONTRAST:
+			case SCREEN_COLOR:
+			case SHARPNESS:
+				return Integer.toHexString((int) Float.parseFloat(value));
+			case COLOR_TEMPERATURE:
+				return Integer.toHexString((int) convertFromUIValueToApiValue(String.valueOf((int) Float.parseFloat(value)), LgWebOSConstants.COLOR_TEMPERATURE_UI_MAX_VALUE,
+						LgWebOSConstants.COLOR_TEMPERATURE_UI_MIN_VALUE));
+			case MUTE:
+				return String.valueOf(LgWebOSConstants.NUMBER_ONE).equals(value) ? LgWebOSConstants.MUTE_VALUE : LgWebOSConstants.UNMUTE_VALUE;
+			case NO_IR_POWER_OFF:
+			case NO_SIGNAL_POWER_OFF:
+				return String.valueOf(LgWebOSConstants.ZERO) + (String.valueOf(LgWebOSConstants.NUMBER_ONE).equals(value) ? LgWebOSConstants.NUMBER_ONE : LgWebOSConstants.ZERO);
+			case POWER_MANAGEMENT_MODE:
+				return LgWebOSConstants.BYTE_COMMAND + EnumTypeHandler.getValueOfEnumByName(PowerManagementModeEnum.class, value);
+			case DISPLAY_STAND_BY_MODE:
+				return EnumTypeHandler.getValueOfEnumByName(PowerManagement.class, value);
+			case POWER_ON_STATUS:
+				return EnumTypeHandler.getValueOfEnumByName(PowerStatus.class, value);
+			case BALANCE:
+				return EnumTypeHandler.getValueOfEnumByName(Balance.class, value);
+			case TINT:
+				return EnumTypeHandler.getValueOfEnumByName(Tint.class, value);
+			case ASPECT_RATIO:
+				return EnumTypeHandler.getValueOfEnumByName(AspectRatio.class, value);
+			case BRIGHTNESS_CONTROL:
+				return EnumTypeHandler.getValueOfEnumByName(BrightnessSize.class, value);
+			case LANGUAGE:
+				return EnumTypeHandler.getValueOfEnumByName(Language.class, value);
+			case SOUND_MODE:
+				return EnumTypeHandler.getValueOfEnumByName(SoundMode.class, value);
+			case PICTURE_MODE:
+				return EnumTypeHandler.getValueOfEnumByName(PictureMode.class, value);
+			default:
+				return null;
+		}
+	}
+
+	/**
+	 * Send the single frame controls as one pipelined burst, the replies are kept in {@link #controlReplies} and the
+	 * controls digest them instead of sending their frame again
+	 * Nothing is sent if the transport can't pipeline the frames or if there is only one frame
+	 *
+	 * @param controls the controls are controls of the batch
+	 */
+	private void sendControlBurst(List<ResolvedControl> controls) {
+		if (!isPipelined() && !isEventLoopTransport()) {
+			return;
+		}
+		List<commandNames> commands = new ArrayList<>();
+		List<byte[]> frames = new ArrayList<>();
+		for (ResolvedControl control : controls) {
+			String param;
+			try {
+				param = encodeControlValue(control.command, control.value);
+			} catch (Exception e) {
+				//The control reports the invalid value when it runs
+				continue;
+			}
+			if (param == null || param.endsWith(LgWebOSConstants.NA)) {
+				continue;
+			}
+			commands.add(control.command.getCommandNames());
+			frames.add(LgWebOSUtils.buildSendString((byte) monitorID, LgWebOSConstants.commands.get(control.command.getCommandNames()), param.getBytes(StandardCharsets.UTF_8)));
+		}
+		if (frames.size() < 2) {
+			return;
+		}
+		try {
+			byte[][] replies = sendPipelined(frames.toArray(new byte[0][]), Lane.CONTROL);
+			for (int i = 0; i < replies.length; i++) {
+				if (replies[i] != null) {
+					controlReplies.put(commands.get(i), replies[i]);
+				}
+			}
+		} catch (Exception e) {
+			//The controls send their frame one by one
+			this.logger.warn("An error occurred when sending pipelined controls", e);
+		}
+	}
+
+	/**
+	 * Run one control on the copy of the snapshot
+	 *
+	 * @param control the control is resolved control
+	 * @param stats the stats are statistics of the snapshot copy
+	 * @param advancedControllableProperties the advancedControllableProperties are controllable properties of the snapshot copy
+	 * @throws Exception if the device can't be controlled
+	 */
+	private void applyControl(ResolvedControl control, Map<String, String> stats, List<AdvancedControllableProperty> advancedControllableProperties) throws Exception {
+		String property = control.property;
+		String value = control.value;
+		if (property.equalsIgnoreCase(controlProperties.power.name())) {
+			if (value.equals(String.valueOf(LgWebOSConstants.NUMBER_ONE))) {
+				powerON();
+			} else if (value.equals(String.valueOf(LgWebOSConstants.ZERO))) {
+				powerOFF();
+			}
+		} else {
+			String propertyKey = control.propertyKey;
+			String group = control.group;
+			LgControllingCommand lgControllingCommand = control.command;
+			switch (lgControllingCommand) {
+				case VOLUME:
+					String dataConvert = encodeControlValue(lgControllingCommand, value);
+					sendRequestToControlValue(commandNames.VOLUME, dataConvert.getBytes(StandardCharsets.UTF_8), false, value);
+					String volumeValue = String.valueOf((int) Float.parseFloat(value));
+					stats.put(group + LgWebOSConstants.VOLUME_VALUE, volumeValue);
+					updateCachedDeviceData(LgWebOSProperty.VOLUME, volumeValue);
+					updateValueForTheControllableProperty(group + LgWebOSConstants.MUTE, String.valueOf(LgWebOSConstants.ZERO), stats, advancedControllableProperties);
+					updateCachedDeviceData(LgWebOSProperty.MUTE, String.valueOf(LgWebOSConstants.ZERO));
+					break;
+				case MUTE:
+					String mute = encodeControlValue(lgControllingCommand, value);
+					sendRequestToControlValue(commandNames.MUTE, mute.getBytes(StandardCharsets.UTF_8), false, value);
+					updateCachedDeviceData(LgWebOSProperty.MUTE, String.valueOf(Integer.parseInt(mute)));
+					break;
+				case BACKLIGHT:
+					dataConvert = encodeControlValue(lgControllingCommand, value);
+					sendRequestToControlValue(commandNames.BACKLIGHT, dataConvert.getBytes(StandardCharsets.UTF_8), false, value);
+					String backlight = String.valueOf((int) Float.parseFloat(value));
+					stats.put(group + LgWebOSConstants.BACKLIGHT_VALUE, backlight);
+					updateCachedDeviceData(LgWebOSProperty.BACKLIGHT, backlight);
+					break;
+				case INPUT_SELECT:
+					dataConvert = InputSourceDropdown.getValueOfEnumByNameAndType(value, true);
+					try {
+						sendRequestToControlValue(commandNames.INPUT_SELECT, dataConvert.getBytes(StandardCharsets.UTF_8), true, value);
+					} catch (Exception e) {
+						dataConvert = InputSourceDropdown.getValueOfEnumByNameAndType(value, false);
+						sendRequestToControlValue(commandNames.INPUT_SELECT, dataConvert.getBytes(StandardCharsets.UTF_8), true, value);
+					}
+					String inputSelect = getValueByName(LgWebOSProperty.INPUT_SELECT);
+					stats.put(LgWebOSConstants.INPUT_SELECT, inputSelect);
+					retrieveDataByCommandName(commandNames.SYNC_STATUS, commandNames.SYNC_STATUS_PARAM, lgControllingCommand);
+					String signal = getValueByName(LgWebOSProperty.SIGNAL);
+					addOrUpdateStatisticProperties(stats,LgWebOSConstants.SIGNAL, signal);
+					addOrUpdateStatisticProperties(stats,group + LgWebOSConstants.SIGNAL, signal);
+					updateCachedDeviceData(LgWebOSProperty.SIGNAL, signal);
+					updateCachedDeviceData(LgWebOSProperty.INPUT_SELECT, inputSelect);
+					break;
+				case POWER_MANAGEMENT_MODE:
+					dataConvert = encodeControlValue(lgControllingCommand, value);
+					sendRequestToControlValue(commandNames.POWER_MANAGEMENT_MODE, dataConvert.getBytes(StandardCharsets.UTF_8), true, value);
+					updateCachedDeviceData(LgWebOSProperty.POWER_MANAGEMENT_MODE, value);
+					break;
+				case DISPLAY_STAND_BY_MODE:
+					dataConvert = encodeControlValue(lgControllingCommand, value);
+					sendRequestToControlValue(commandNames.DISPLAY_STAND_BY_MODE, dataConvert.getBytes(StandardCharsets.UTF_8), true, value);
+					if (LgWebOSConstants.OFF.equalsIgnoreCase(value)) {
+						stats.put(LgWebOSConstants.DISPLAY_STAND_BY_MODE, LgWebOSConstants.OFF);
+					} else {
+						stats.put(LgWebOSConstants.DISPLAY_STAND_BY_MODE, LgWebOSConstants.ON);
+					}
+					updateCachedDeviceData(LgWebOSProperty.DISPLAY_STAND_BY_MODE, value);
+					break;
+				case FAILOVER:
+					String inputPriority = group + LgWebOSConstants.INPUT_PRIORITY;
+					String priorityInput = group + LgWebOSConstants.PRIORITY_INPUT;
+					String priorityInputDown = group + LgWebOSConstants.PRIORITY_DOWN;
+					String priorityInputUp = group + LgWebOSConstants.PRIORITY_UP;
+					int failOverStatus = Integer.parseInt(value);
+					String failOverName = LgWebOSConstants.OFF;
+					if (failOverStatus == LgWebOSConstants.ZERO) {
+						sendRequestToControlValue(commandNames.FAILOVER, FailOverEnum.OFF.getValue().getBytes(StandardCharsets.UTF_8), false, value);
+						//Remove all priority 0,1,2,3.etc, priorityInput, and inputPriority.
+						stats.remove(inputPriority);
+						advancedControllableProperties.removeIf(item -> item.getName().equals(inputPriority));
+
+						stats.remove(priorityInput);
+						advancedControllableProperties.removeIf(item -> item.getName().equals(priorityInput));
+
+						stats.remove(priorityInputDown);
+						advancedControllableProperties.removeIf(item -> item.getName().equals(priorityInputDown));
+
+						stats.remove(priorityInputUp);
+						advancedControllableProperties.removeIf(item -> item.getName().equals(priorityInputUp));
+
+						if (cacheMapOfPriorityInputAndValue != null) {
+							for (Entry<String, String> input : cacheMapOfPriorityInputAndValue.entrySet()) {
+								stats.remove(group + input.getKey());
 							}
-						} else if (failOverStatus == LgWebOSConstants.NUMBER_ONE) {
-							sendRequestToControlValue(commandNames.FAILOVER, FailOverEnum.AUTO.getValue().getBytes(StandardCharsets.UTF_8), false, value);
-							updateValueForTheControllableProperty(property, value, stats, advancedControllableProperties);
-
-							AdvancedControllableProperty controlInputPriority = controlSwitch(stats, group + LgWebOSConstants.INPUT_PRIORITY, String.valueOf(LgWebOSConstants.ZERO),
-									LgWebOSConstants.AUTO,
-									LgWebOSConstants.MANUAL);
-							checkControlPropertyBeforeAddNewProperty(controlInputPriority, advancedControllableProperties);
-							failOverName = LgWebOSConstants.AUTO;
 						}
-						stats.put(LgWebOSConstants.FAILOVER_MODE, failOverName);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.FAILOVER_MODE, failOverName);
-						break;
-					case INPUT_PRIORITY:
-						String failoverStatus = LgWebOSConstants.AUTO;
-						if (String.valueOf(LgWebOSConstants.ZERO).equals(value)) {
-							if (cacheMapOfPriorityInputAndValue != null) {
-								for (Entry<String, String> input : cacheMapOfPriorityInputAndValue.entrySet()) {
-									stats.remove(group + input.getKey());
-								}
+					} else if (failOverStatus == LgWebOSConstants.NUMBER_ONE) {
+						sendRequestToControlValue(commandNames.FAILOVER, FailOverEnum.AUTO.getValue().getBytes(StandardCharsets.UTF_8), false, value);
+						updateValueForTheControllableProperty(property, value, stats, advancedControllableProperties);
+
+						AdvancedControllableProperty controlInputPriority = controlSwitch(stats, group + LgWebOSConstants.INPUT_PRIORITY, String.valueOf(LgWebOSConstants.ZERO),
+								LgWebOSConstants.AUTO,
+								LgWebOSConstants.MANUAL);
+						checkControlPropertyBeforeAddNewProperty(controlInputPriority, advancedControllableProperties);
+						failOverName = LgWebOSConstants.AUTO;
+					}
+					stats.put(LgWebOSConstants.FAILOVER_MODE, failOverName);
+					updateCachedDeviceData(LgWebOSProperty.FAILOVER_MODE, failOverName);
+					break;
+				case INPUT_PRIORITY:
+					String failoverStatus = LgWebOSConstants.AUTO;
+					if (String.valueOf(LgWebOSConstants.ZERO).equals(value)) {
+						if (cacheMapOfPriorityInputAndValue != null) {
+							for (Entry<String, String> input : cacheMapOfPriorityInputAndValue.entrySet()) {
+								stats.remove(group + input.getKey());
 							}
-							priorityInputDown = group + LgWebOSConstants.PRIORITY_DOWN;
-							priorityInputUp = group + LgWebOSConstants.PRIORITY_UP;
-							priorityInput = group + LgWebOSConstants.PRIORITY_INPUT;
+						}
+						priorityInputDown = group + LgWebOSConstants.PRIORITY_DOWN;
+						priorityInputUp = group + LgWebOSConstants.PRIORITY_UP;
+						priorityInput = group + LgWebOSConstants.PRIORITY_INPUT;
 
-							stats.remove(priorityInputDown);
-							advancedControllableProperties.removeIf(item -> item.getName().equals(priorityInputDown));
+						stats.remove(priorityInputDown);
+						advancedControllableProperties.removeIf(item -> item.getName().equals(priorityInputDown));
 
-							stats.remove(priorityInputUp);
-							advancedControllableProperties.removeIf(item -> item.getName().equals(priorityInputUp));
+						stats.remove(priorityInputUp);
+						advancedControllableProperties.removeIf(item -> item.getName().equals(priorityInputUp));
 
-							stats.remove(priorityInput);
-							advancedControllableProperties.removeIf(item -> item.getName().equals(priorityInput));
+						stats.remove(priorityInput);
+						advancedControllableProperties.removeIf(item -> item.getName().equals(priorityInput));
 
-							sendRequestToControlValue(commandNames.FAILOVER, FailOverEnum.AUTO.getValue().getBytes(StandardCharsets.UTF_8), false, value);
-						} else {
-							failoverStatus = LgWebOSConstants.MANUAL;
-							sendRequestToControlValue(commandNames.FAILOVER, FailOverEnum.MANUAL.getValue().getBytes(StandardCharsets.UTF_8), false, value);
-							retrieveDataByCommandName(commandNames.FAILOVER_INPUT_LIST, commandNames.GET, lgControllingCommand);
-							// failover is Manual
-							AdvancedControllableProperty controlInputPriority = controlSwitch(stats, group + LgWebOSConstants.INPUT_PRIORITY, String.valueOf(LgWebOSConstants.NUMBER_ONE), LgWebOSConstants.AUTO,
-									LgWebOSConstants.MANUAL);
-							checkControlPropertyBeforeAddNewProperty(controlInputPriority, advancedControllableProperties);
-							for (Entry<String, String> entry : cacheMapOfPriorityInputAndValue.entrySet()) {
-								if (LgWebOSConstants.PLAY_VIA_URL.equalsIgnoreCase(entry.getValue())) {
-									continue;
-								}
-								addOrUpdateStatisticProperties(stats,group + entry.getKey(), entry.getValue());
+						sendRequestToControlValue(commandNames.FAILOVER, FailOverEnum.AUTO.getValue().getBytes(StandardCharsets.UTF_8), false, value);
+					} else {
+						failoverStatus = LgWebOSConstants.MANUAL;
+						sendRequestToControlValue(commandNames.FAILOVER, FailOverEnum.MANUAL.getValue().getBytes(StandardCharsets.UTF_8), false, value);
+						retrieveDataByCommandName(commandNames.FAILOVER_INPUT_LIST, commandNames.GET, lgControllingCommand);
+						// failover is Manual
+						AdvancedControllableProperty controlInputPriority = controlSwitch(stats, group + LgWebOSConstants.INPUT_PRIORITY, String.valueOf(LgWebOSConstants.NUMBER_ONE), LgWebOSConstants.AUTO,
+								LgWebOSConstants.MANUAL);
+						checkControlPropertyBeforeAddNewProperty(controlInputPriority, advancedControllableProperties);
+						for (Entry<String, String> entry : cacheMapOfPriorityInputAndValue.entrySet()) {
+							if (LgWebOSConstants.PLAY_VIA_URL.equalsIgnoreCase(entry.getValue())) {
+								continue;
 							}
-							addOrUpdateStatisticProperties(stats,group + LgWebOSConstants.PRIORITY_UP, LgWebOSConstants.EMPTY_STRING);
-							advancedControllableProperties.add(createButton(group + LgWebOSConstants.PRIORITY_UP, LgWebOSConstants.UP, LgWebOSConstants.PROCESSING, 0));
+							addOrUpdateStatisticProperties(stats,group + entry.getKey(), entry.getValue());
+						}
+						addOrUpdateStatisticProperties(stats,group + LgWebOSConstants.PRIORITY_UP, LgWebOSConstants.EMPTY_STRING);
+						advancedControllableProperties.add(createButton(group + LgWebOSConstants.PRIORITY_UP, LgWebOSConstants.UP, LgWebOSConstants.PROCESSING, 0));
 
-							addOrUpdateStatisticProperties(stats,group + LgWebOSConstants.PRIORITY_DOWN, LgWebOSConstants.EMPTY_STRING);
-							advancedControllableProperties.add(createButton(group + LgWebOSConstants.PRIORITY_DOWN, LgWebOSConstants.DOWN, LgWebOSConstants.PROCESSING, 0));
+						addOrUpdateStatisticProperties(stats,group + LgWebOSConstants.PRIORITY_DOWN, LgWebOSConstants.EMPTY_STRING);
+						advancedControllableProperties.add(createButton(group + LgWebOSConstants.PRIORITY_DOWN, LgWebOSConstants.DOWN, LgWebOSConstants.PROCESSING, 0));
 
-							String[] inputSelected = cacheMapOfPriorityInputAndValue.values().stream().filter(item -> !item.equalsIgnoreCase(LgWebOSConstants.PLAY_VIA_URL)).collect(Collectors.toList())
-									.toArray(new String[0]);
+						String[] inputSelected = cacheMapOfPriorityInputAndValue.values().stream().filter(item -> !item.equalsIgnoreCase(LgWebOSConstants.PLAY_VIA_URL)).collect(Collectors.toList())
+								.toArray(new String[0]);
 
-							String inputSourceDefaultValue = getValueByName(LgWebOSConstants.PRIORITY_INPUT);
-							if (!LgWebOSConstants.NA.equals(inputSourceDefaultValue)) {
-								Optional<Entry<String, String>> priorityInputOption = cacheMapOfPriorityInputAndValue.entrySet().stream().filter(item -> !item.getValue().equalsIgnoreCase(LgWebOSConstants.PLAY_VIA_URL))
-										.findFirst();
-								if (priorityInputOption.isPresent()) {
-									inputSourceDefaultValue = priorityInputOption.get().getValue();
-								}
-								localCacheMapOfPropertyNameAndValue.put(LgWebOSConstants.PRIORITY_INPUT, inputSourceDefaultValue);
+						String inputSourceDefaultValue = getValueByName(LgWebOSProperty.PRIORITY_INPUT);
+						if (!LgWebOSConstants.NA.equals(inputSourceDefaultValue)) {
+							Optional<Entry<String, String>> priorityInputOption = cacheMapOfPriorityInputAndValue.entrySet().stream().filter(item -> !item.getValue().equalsIgnoreCase(LgWebOSConstants.PLAY_VIA_URL))
+									.findFirst();
+							if (priorityInputOption.isPresent()) {
+								inputSourceDefaultValue = priorityInputOption.get().getValue();
 							}
-							populatePriorityInput(stats, advancedControllableProperties, group, inputSourceDefaultValue);
-							AdvancedControllableProperty controlInputSource = controlDropdown(stats, inputSelected, group + LgWebOSConstants.PRIORITY_INPUT, inputSourceDefaultValue);
-							checkControlPropertyBeforeAddNewProperty(controlInputSource, advancedControllableProperties);
+							localPropertyStore.put(LgWebOSProperty.PRIORITY_INPUT, inputSourceDefaultValue);
 						}
-						addOrUpdateStatisticProperties(stats,LgWebOSConstants.FAILOVER_MODE, failoverStatus);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.FAILOVER_MODE, failoverStatus);
-						break;
-					case PRIORITY_INPUT:
-						localCacheMapOfPropertyNameAndValue.remove(LgWebOSConstants.PRIORITY_INPUT);
-						localCacheMapOfPropertyNameAndValue.put(propertyKey, value);
-						populatePriorityInput(stats, advancedControllableProperties, group, value);
-						break;
-					case PRIORITY_DOWN:
-						String currentPriority = getValueByName(LgWebOSConstants.PRIORITY_INPUT);
-						Map<String, String> newPriorityMap = new HashMap<>();
-						Entry<String, String> priorityKey = cacheMapOfPriorityInputAndValue.entrySet().stream().filter(item -> item.getValue().equals(currentPriority)).findFirst().orElse(null);
-						int len = cacheMapOfPriorityInputAndValue.size();
-						for (int i = 1; i <= len; i++) {
-							String currentKeyOfPriority = LgWebOSConstants.PRIORITY + i;
-							String previousKeyOfPriority = LgWebOSConstants.PRIORITY + (i - 1);
-							String nextKeyOfPriority = LgWebOSConstants.PRIORITY + (i + 1);
-							if (currentPriority.equals(cacheMapOfPriorityInputAndValue.get(LgWebOSConstants.PRIORITY + len))) {
-								break;
+						populatePriorityInput(stats, advancedControllableProperties, group, inputSourceDefaultValue);
+						AdvancedControllableProperty controlInputSource = controlDropdown(stats, inputSelected, group + LgWebOSConstants.PRIORITY_INPUT, inputSourceDefaultValue);
+						checkControlPropertyBeforeAddNewProperty(controlInputSource, advancedControllableProperties);
+					}
+					addOrUpdateStatisticProperties(stats,LgWebOSConstants.FAILOVER_MODE, failoverStatus);
+					updateCachedDeviceData(LgWebOSProperty.FAILOVER_MODE, failoverStatus);
+					break;
+				case PRIORITY_INPUT:
+					localPropertyStore.put(LgWebOSProperty.PRIORITY_INPUT, value);
+					populatePriorityInput(stats, advancedControllableProperties, group, value);
+					break;
+				case PRIORITY_DOWN:
+					String currentPriority = getValueByName(LgWebOSProperty.PRIORITY_INPUT);
+					Map<String, String> newPriorityMap = new HashMap<>();
+					Entry<String, String> priorityKey = cacheMapOfPriorityInputAndValue.entrySet().stream().filter(item -> item.getValue().equals(currentPriority)).findFirst().orElse(null);
+					int len = cacheMapOfPriorityInputAndValue.size();
+					for (int i = 1; i <= len; i++) {
+						String currentKeyOfPriority = LgWebOSConstants.PRIORITY + i;
+						String previousKeyOfPriority = LgWebOSConstants.PRIORITY + (i - 1);
+						String nextKeyOfPriority = LgWebOSConstants.PRIORITY + (i + 1);
+						if (currentPriority.equals(cacheMapOfPriorityInputAndValue.get(LgWebOSConstants.PRIORITY + len))) {
+							break;
+						} else {
+							if (priorityKey.getKey().equals(currentKeyOfPriority)) {
+								newPriorityMap.put(currentKeyOfPriority, cacheMapOfPriorityInputAndValue.get(nextKeyOfPriority));
+							} else if (priorityKey.getKey().equals(previousKeyOfPriority)) {
+								newPriorityMap.put(currentKeyOfPriority, cacheMapOfPriorityInputAndValue.get(previousKeyOfPriority));
 							} else {
-								if (priorityKey.getKey().equals(currentKeyOfPriority)) {
-									newPriorityMap.put(currentKeyOfPriority, cacheMapOfPriorityInputAndValue.get(nextKeyOfPriority));
-								} else if (priorityKey.getKey().equals(previousKeyOfPriority)) {
-									newPriorityMap.put(currentKeyOfPriority, cacheMapOfPriorityInputAndValue.get(previousKeyOfPriority));
-								} else {
-									newPriorityMap.put(currentKeyOfPriority, cacheMapOfPriorityInputAndValue.get(currentKeyOfPriority));
-								}
-							}
-						}
-						if (!newPriorityMap.isEmpty()) {
-							if (StringUtils.isNullOrEmpty(newPriorityMap.get(LgWebOSConstants.PRIORITY + newPriorityMap.size()))) {
-								newPriorityMap.remove(LgWebOSConstants.PRIORITY + newPriorityMap.size());
+								newPriorityMap.put(currentKeyOfPriority, cacheMapOfPriorityInputAndValue.get(currentKeyOfPriority));
 							}
-							cacheMapOfPriorityInputAndValue = newPriorityMap;
 						}
-						StringBuilder stringBuilder = new StringBuilder();
-						for (String values : cacheMapOfPriorityInputAndValue.values()) {
-							if (StringUtils.isNullOrEmpty(values) || LgWebOSConstants.PLAY_VIA_URL.equalsIgnoreCase(values)) {
-								continue;
-							}
-							stringBuilder.append(EnumTypeHandler.getValueOfEnumByName(FailOverInputSourceEnum.class, values));
-							stringBuilder.append(LgWebOSConstants.SPACE);
+					}
+					if (!newPriorityMap.isEmpty()) {
+						if (StringUtils.isNullOrEmpty(newPriorityMap.get(LgWebOSConstants.PRIORITY + newPriorityMap.size()))) {
+							newPriorityMap.remove(LgWebOSConstants.PRIORITY + newPriorityMap.size());
 						}
-						sendRequestToControlValue(commandNames.FAILOVER_INPUT_LIST, stringBuilder.substring(0, stringBuilder.length() - 1).getBytes(StandardCharsets.UTF_8), false, value);
-						for (Entry<String, String> input : cacheMapOfPriorityInputAndValue.entrySet()) {
-							addOrUpdateStatisticProperties(stats,group + input.getKey(), input.getValue());
+						cacheMapOfPriorityInputAndValue = newPriorityMap;
+					}
+					StringBuilder stringBuilder = new StringBuilder();
+					for (String values : cacheMapOfPriorityInputAndValue.values()) {
+						if (StringUtils.isNullOrEmpty(values) || LgWebOSConstants.PLAY_VIA_URL.equalsIgnoreCase(values)) {
+							continue;
 						}
-						populatePriorityInput(stats, advancedControllableProperties, group, currentPriority);
-						break;
-					case PRIORITY_UP:
-						currentPriority = getValueByName(LgWebOSConstants.PRIORITY_INPUT);
-						newPriorityMap = new HashMap<>();
-						priorityKey = cacheMapOfPriorityInputAndValue.entrySet().stream().filter(item -> item.getValue().equals(currentPriority)).findFirst().orElse(null);
-						len = cacheMapOfPriorityInputAndValue.size();
-						for (int i = 1; i <= len; i++) {
-							String currentKeyOfPriority = LgWebOSConstants.PRIORITY + i;
-							String previousKeyOfPriority = LgWebOSConstants.PRIORITY + (i - 1);
-							String nextKeyOfPriority = LgWebOSConstants.PRIORITY + (i + 1);
-							if (currentPriority.equals(cacheMapOfPriorityInputAndValue.get(LgWebOSConstants.PRIORITY + 1))) {
-								break;
+						stringBuilder.append(EnumTypeHandler.getValueOfEnumByName(FailOverInputSourceEnum.class, values));
+						stringBuilder.append(LgWebOSConstants.SPACE);
+					}
+					sendRequestToControlValue(commandNames.FAILOVER_INPUT_LIST, stringBuilder.substring(0, stringBuilder.length() - 1).getBytes(StandardCharsets.UTF_8), false, value);
+					for (Entry<String, String> input : cacheMapOfPriorityInputAndValue.entrySet()) {
+						addOrUpdateStatisticProperties(stats,group + input.getKey(), input.getValue());
+					}
+					populatePriorityInput(stats, advancedControllableProperties, group, currentPriority);
+					break;
+				case PRIORITY_UP:
+					currentPriority = getValueByName(LgWebOSProperty.PRIORITY_INPUT);
+					newPriorityMap = new HashMap<>();
+					priorityKey = cacheMapOfPriorityInputAndValue.entrySet().stream().filter(item -> item.getValue().equals(currentPriority)).findFirst().orElse(null);
+					len = cacheMapOfPriorityInputAndValue.size();
+					for (int i = 1; i <= len; i++) {
+						String currentKeyOfPriority = LgWebOSConstants.PRIORITY + i;
+						String previousKeyOfPriority = LgWebOSConstants.PRIORITY + (i - 1);
+						String nextKeyOfPriority = LgWebOSConstants.PRIORITY + (i + 1);
+						if (currentPriority.equals(cacheMapOfPriorityInputAndValue.get(LgWebOSConstants.PRIORITY + 1))) {
+							break;
+						} else {
+							if (priorityKey.getKey().equals(nextKeyOfPriority)) {
+								newPriorityMap.put(currentKeyOfPriority, cacheMapOfPriorityInputAndValue.get(nextKeyOfPriority));
+							} else if (priorityKey.getKey().equals(currentKeyOfPriority)) {
+								newPriorityMap.put(currentKeyOfPriority, cacheMapOfPriorityInputAndValue.get(previousKeyOfPriority));
 							} else {
-								if (priorityKey.getKey().equals(nextKeyOfPriority)) {
-									newPriorityMap.put(currentKeyOfPriority, cacheMapOfPriorityInputAndValue.get(nextKeyOfPriority));
-								} else if (priorityKey.getKey().equals(currentKeyOfPriority)) {
-									newPriorityMap.put(currentKeyOfPriority, cacheMapOfPriorityInputAndValue.get(previousKeyOfPriority));
-								} else {
-									newPriorityMap.put(currentKeyOfPriority, cacheMapOfPriorityInputAndValue.get(currentKeyOfPriority));
-								}
+								newPriorityMap.put(currentKeyOfPriority, cacheMapOfPriorityInputAndValue.get(currentKeyOfPriority));
 							}
 						}
-						if (!newPriorityMap.isEmpty()) {
-							if (StringUtils.isNullOrEmpty(newPriorityMap.get(LgWebOSConstants.PRIORITY + newPriorityMap.size()))) {
-								newPriorityMap.remove(LgWebOSConstants.PRIORITY + newPriorityMap.size());
-							}
-							cacheMapOfPriorityInputAndValue = newPriorityMap;
+					}
+					if (!newPriorityMap.isEmpty()) {
+						if (StringUtils.isNullOrEmpty(newPriorityMap.get(LgWebOSConstants.PRIORITY + newPriorityMap.size()))) {
+							newPriorityMap.remove(LgWebOSConstants.PRIORITY + newPriorityMap.size());
 						}
-						stringBuilder = new StringBuilder();
-						for (String values : cacheMapOfPriorityInputAndValue.values()) {
-							if (StringUtils.isNullOrEmpty(values) || LgWebOSConstants.PLAY_VIA_URL.equalsIgnoreCase(values)) {
-								continue;
-							}
-							stringBuilder.append(EnumTypeHandler.getValueOfEnumByName(FailOverInputSourceEnum.class, values));
-							stringBuilder.append(LgWebOSConstants.SPACE);
+						cacheMapOfPriorityInputAndValue = newPriorityMap;
+					}
+					stringBuilder = new StringBuilder();
+					for (String values : cacheMapOfPriorityInputAndValue.values()) {
+						if (StringUtils.isNullOrEmpty(values) || LgWebOSConstants.PLAY_VIA_URL.equalsIgnoreCase(values)) {
+							continue;
 						}
-						sendRequestToControlValue(commandNames.FAILOVER_INPUT_LIST, stringBuilder.substring(0, stringBuilder.length() - 1).getBytes(StandardCharsets.UTF_8), false, value);
-						for (Entry<String, String> entry : cacheMapOfPriorityInputAndValue.entrySet()) {
-							if (LgWebOSConstants.PLAY_VIA_URL.equalsIgnoreCase(entry.getValue())) {
-								continue;
-							}
-							stats.remove(group + entry.getKey());
-							addOrUpdateStatisticProperties(stats,group + entry.getKey(), entry.getValue());
+						stringBuilder.append(EnumTypeHandler.getValueOfEnumByName(FailOverInputSourceEnum.class, values));
+						stringBuilder.append(LgWebOSConstants.SPACE);
+					}
+					sendRequestToControlValue(commandNames.FAILOVER_INPUT_LIST, stringBuilder.substring(0, stringBuilder.length() - 1).getBytes(StandardCharsets.UTF_8), false, value);
+					for (Entry<String, String> entry : cacheMapOfPriorityInputAndValue.entrySet()) {
+						if (LgWebOSConstants.PLAY_VIA_URL.equalsIgnoreCase(entry.getValue())) {
+							continue;
 						}
-						populatePriorityInput(stats, advancedControllableProperties, group, currentPriority);
-						break;
-					case TILE_MODE:
-						String tileModeValue = LgWebOSConstants.OFF;
-						String naturalModeKey = group + LgWebOSConstants.NATURAL_MODE;
-						String naturalSize = group + LgWebOSConstants.NATURAL_SIZE;
-						String tileID = group + LgWebOSConstants.TILE_MODE_ID;
-						String paramTileMode;
-						if (String.valueOf(LgWebOSConstants.ZERO).equals(value)) {
-							stats.remove(naturalModeKey);
-							stats.remove(naturalSize);
-							stats.remove(tileID);
-							advancedControllableProperties.removeIf(item -> item.getName().equals(naturalModeKey));
-							paramTileMode = String.valueOf(LgWebOSConstants.ZERO) + LgWebOSConstants.ZERO;
-							sendRequestToControlValue(commandNames.TILE_MODE_CONTROL, paramTileMode.getBytes(StandardCharsets.UTF_8), false, value);
-						} else {
-							tileModeValue = LgWebOSConstants.ON;
-							retrieveDataByCommandName(commandNames.TILE_MODE_SETTINGS, commandNames.GET, lgControllingCommand);
-							paramTileMode =
-									Integer.toHexString(Integer.parseInt(stats.get(group + LgWebOSConstants.TILE_MODE_COLUMN))) + Integer.toHexString(Integer.parseInt(stats.get(group + LgWebOSConstants.TILE_MODE_ROW)));
-							sendRequestToControlValue(commandNames.TILE_MODE_CONTROL, paramTileMode.getBytes(StandardCharsets.UTF_8), false, value);
-							retrieveDataByCommandName(commandNames.NATURAL_MODE, commandNames.GET, lgControllingCommand);
-							String naturalMode = getValueByName(LgWebOSConstants.NATURAL_MODE);
-							if (!LgWebOSConstants.NA.equals(naturalMode)) {
-								naturalMode = String.valueOf(LgWebOSConstants.ZERO == Integer.parseInt(naturalMode) ? 0 : 1);
-							}
-							AdvancedControllableProperty controlNaturalMode = controlSwitch(stats, group + LgWebOSConstants.NATURAL_MODE, naturalMode, LgWebOSConstants.OFF, LgWebOSConstants.ON);
-							checkControlPropertyBeforeAddNewProperty(controlNaturalMode, advancedControllableProperties);
-							if (String.valueOf(LgWebOSConstants.NUMBER_ONE).equals(naturalMode)) {
-								retrieveDataByCommandName(commandNames.NATURAL_SIZE, commandNames.NATURAL_SIZE_PARAM, lgControllingCommand);
-								addOrUpdateStatisticProperties(stats,group + LgWebOSConstants.NATURAL_SIZE, getValueByName(LgWebOSConstants.NATURAL_SIZE));
-							}
-							retrieveDataByCommandName(commandNames.TILE_ID, commandNames.GET, lgControllingCommand);
-							String tileModeID = getValueByName(LgWebOSConstants.TILE_MODE_ID);
-							if (!LgWebOSConstants.NA.equals(tileModeID)) {
-								tileModeID = String.valueOf(Integer.parseInt(tileModeID));
-							}
-							addOrUpdateStatisticProperties(stats,group + LgWebOSConstants.TILE_MODE_ID, tileModeID);
+						stats.remove(group + entry.getKey());
+						addOrUpdateStatisticProperties(stats,group + entry.getKey(), entry.getValue());
+					}
+					populatePriorityInput(stats, advancedControllableProperties, group, currentPriority);
+					break;
+				case TILE_MODE:
+					String tileModeValue = LgWebOSConstants.OFF;
+					String naturalModeKey = group + LgWebOSConstants.NATURAL_MODE;
+					String naturalSize = group + LgWebOSConstants.NATURAL_SIZE;
+					String tileID = group + LgWebOSConstants.TILE_MODE_ID;
+					String paramTileMode;
+					if (String.valueOf(LgWebOSConstants.ZERO).equals(value)) {
+						stats.remove(naturalModeKey);
+						stats.remove(naturalSize);
+						stats.remove(tileID);
+						advancedControllableProperties.removeIf(item -> item.getName().equals(naturalModeKey));
+						paramTileMode = String.valueOf(LgWebOSConstants.ZERO) + LgWebOSConstants.ZERO;
+						sendRequestToControlValue(commandNames.TILE_MODE_CONTROL, paramTileMode.getBytes(StandardCharsets.UTF_8), false, value);
+					} else {
+						tileModeValue = LgWebOSConstants.ON;
+						retrieveDataByCommandName(commandNames.TILE_MODE_SETTINGS, commandNames.GET, lgControllingCommand);
+						paramTileMode =
+								Integer.toHexString(Integer.parseInt(stats.get(group + LgWebOSConstants.TILE_MODE_COLUMN))) + Integer.toHexString(Integer.parseInt(stats.get(group + LgWebOSConstants.TILE_MODE_ROW)));
+						sendRequestToControlValue(commandNames.TILE_MODE_CONTROL, paramTileMode.getBytes(StandardCharsets.UTF_8), false, value);
+						retrieveDataByCommandName(commandNames.NATURAL_MODE, commandNames.GET, lgControllingCommand);
+						String naturalMode = getValueByName(LgWebOSProperty.NATURAL_MODE);
+						if (!LgWebOSConstants.NA.equals(naturalMode)) {
+							naturalMode = String.valueOf(LgWebOSConstants.ZERO == Integer.parseInt(naturalMode) ? 0 : 1);
 						}
-						addOrUpdateStatisticProperties(stats,LgWebOSConstants.TILE_MODE, tileModeValue);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.TILE_MODE, tileModeValue);
-						break;
-					case NATURAL_MODE:
-						naturalSize = group + LgWebOSConstants.NATURAL_SIZE;
-						String paramNatural = String.valueOf(LgWebOSConstants.ZERO);
-						if (String.valueOf(LgWebOSConstants.ZERO).equals(value)) {
-							stats.remove(naturalSize);
-							paramNatural = paramNatural + LgWebOSConstants.ZERO;
-							sendRequestToControlValue(commandNames.NATURAL_MODE, paramNatural.getBytes(StandardCharsets.UTF_8), false, value);
-						} else {
-							paramNatural = paramNatural + LgWebOSConstants.NUMBER_ONE;
-							sendRequestToControlValue(commandNames.NATURAL_MODE, paramNatural.getBytes(StandardCharsets.UTF_8), false, value);
+						AdvancedControllableProperty controlNaturalMode = controlSwitch(stats, group + LgWebOSConstants.NATURAL_MODE, naturalMode, LgWebOSConstants.OFF, LgWebOSConstants.ON);
+						checkControlPropertyBeforeAddNewProperty(controlNaturalMode, advancedControllableProperties);
+						if (String.valueOf(LgWebOSConstants.NUMBER_ONE).equals(naturalMode)) {
 							retrieveDataByCommandName(commandNames.NATURAL_SIZE, commandNames.NATURAL_SIZE_PARAM, lgControllingCommand);
-							addOrUpdateStatisticProperties(stats,group + LgWebOSConstants.NATURAL_SIZE, getValueByName(LgWebOSConstants.NATURAL_SIZE));
-						}
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.NATURAL_MODE, String.valueOf(Integer.parseInt(paramNatural)));
-						break;
-					case BALANCE:
-						String balance = EnumTypeHandler.getValueOfEnumByName(Balance.class, value);
-						sendRequestToControlValue(lgControllingCommand.getCommandNames(), balance.getBytes(StandardCharsets.UTF_8), true, value);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.BALANCE, balance);
-						break;
-					case BRIGHTNESS:
-						int brightness = (int) Float.parseFloat(value);
-						sendRequestToControlValue(lgControllingCommand.getCommandNames(), Integer.toHexString(brightness).getBytes(StandardCharsets.UTF_8), false, value);
-						stats.put(group + LgWebOSConstants.BRIGHTNESS_VALUE, String.valueOf(brightness));
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.BRIGHTNESS_VALUE, String.valueOf(brightness));
-						break;
-					case COLOR_TEMPERATURE:
-						int colorTemperature = (int) convertFromUIValueToApiValue(String.valueOf((int) Float.parseFloat(value)), LgWebOSConstants.COLOR_TEMPERATURE_UI_MAX_VALUE,
-								LgWebOSConstants.COLOR_TEMPERATURE_UI_MIN_VALUE);
-						sendRequestToControlValue(lgControllingCommand.getCommandNames(), Integer.toHexString(colorTemperature).getBytes(StandardCharsets.UTF_8), false, value);
-						int newValue = (int) convertFromApiValueToUIValue(String.valueOf(colorTemperature), LgWebOSConstants.COLOR_TEMPERATURE_MAX_VALUE, LgWebOSConstants.COLOR_TEMPERATURE_MIN_VALUE);
-						stats.put(group + LgWebOSConstants.COLOR_TEMPERATURE_VALUE, String.valueOf(newValue));
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.COLOR_TEMPERATURE, String.valueOf(colorTemperature));
-						break;
-					case CONTRAST:
-						int contrast = (int) Float.parseFloat(value);
-						dataConvert = Integer.toHexString(contrast);
-						sendRequestToControlValue(lgControllingCommand.getCommandNames(), dataConvert.getBytes(StandardCharsets.UTF_8), false, value);
-						stats.put(group + LgWebOSConstants.CONTRAST_VALUE, String.valueOf(contrast));
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.CONTRAST, String.valueOf(contrast));
-						break;
-					case SCREEN_COLOR:
-						int screenColor = (int) Float.parseFloat(value);
-						dataConvert = Integer.toHexString(screenColor);
-						sendRequestToControlValue(lgControllingCommand.getCommandNames(), dataConvert.getBytes(StandardCharsets.UTF_8), false, value);
-						stats.put(group + LgWebOSConstants.SCREEN_COLOR_VALUE, String.valueOf(screenColor));
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.SCREEN_COLOR, String.valueOf(screenColor));
-						break;
-					case SHARPNESS:
-						int sharpness = (int) Float.parseFloat(value);
-						sendRequestToControlValue(lgControllingCommand.getCommandNames(), Integer.toHexString(sharpness).getBytes(StandardCharsets.UTF_8), false, value);
-						stats.put(group + LgWebOSConstants.SHARPNESS_VALUE, String.valueOf(sharpness));
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.SHARPNESS, String.valueOf(sharpness));
-						break;
-					case TINT:
-						String tint = EnumTypeHandler.getValueOfEnumByName(Tint.class, value);
-						sendRequestToControlValue(lgControllingCommand.getCommandNames(), tint.getBytes(StandardCharsets.UTF_8), true, value);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.TINT, tint);
-						break;
-					case ASPECT_RATIO:
-						String aspectRatio = EnumTypeHandler.getValueOfEnumByName(AspectRatio.class, value);
-						sendRequestToControlValue(lgControllingCommand.getCommandNames(), aspectRatio.getBytes(StandardCharsets.UTF_8), true, value);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.ASPECT_RATIO, value);
-						break;
-					case BRIGHTNESS_CONTROL:
-						String brightnessSize = EnumTypeHandler.getValueOfEnumByName(BrightnessSize.class, value);
-						sendRequestToControlValue(lgControllingCommand.getCommandNames(), brightnessSize.getBytes(StandardCharsets.UTF_8), true, value);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.BRIGHTNESS_CONTROL, value);
-						break;
-					case LANGUAGE:
-						String language = EnumTypeHandler.getValueOfEnumByName(Language.class, value);
-						sendRequestToControlValue(lgControllingCommand.getCommandNames(), language.getBytes(StandardCharsets.UTF_8), true, value);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.LANGUAGE, value);
-						break;
-					case SOUND_MODE:
-						String soundMode = EnumTypeHandler.getValueOfEnumByName(SoundMode.class, value);
-						sendRequestToControlValue(lgControllingCommand.getCommandNames(), soundMode.getBytes(StandardCharsets.UTF_8), true, value);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.SOUND_MODE, value);
-						break;
-					case PICTURE_MODE:
-						String pictureMode = EnumTypeHandler.getValueOfEnumByName(PictureMode.class, value);
-						sendRequestToControlValue(lgControllingCommand.getCommandNames(), pictureMode.getBytes(StandardCharsets.UTF_8), true, value);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.PICTURE_MODE, pictureMode);
-						break;
-					case POWER_ON_STATUS:
-						String powerStatus = EnumTypeHandler.getValueOfEnumByName(PowerStatus.class, value);
-						sendRequestToControlValue(lgControllingCommand.getCommandNames(), powerStatus.getBytes(StandardCharsets.UTF_8), false, value);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.POWER_ON_STATUS, value);
-						break;
-					case NO_IR_POWER_OFF:
-					case NO_SIGNAL_POWER_OFF:
-						String powerValue = String.valueOf(LgWebOSConstants.ZERO) + LgWebOSConstants.ZERO;
-						if (String.valueOf(LgWebOSConstants.NUMBER_ONE).equals(value)) {
-							powerValue = String.valueOf(LgWebOSConstants.ZERO) + LgWebOSConstants.NUMBER_ONE;
+							addOrUpdateStatisticProperties(stats,group + LgWebOSConstants.NATURAL_SIZE, getValueByName(LgWebOSProperty.NATURAL_SIZE));
 						}
-						sendRequestToControlValue(lgControllingCommand.getCommandNames(), powerValue.getBytes(StandardCharsets.UTF_8), false, value);
-						powerValue = Integer.parseInt(powerValue) == LgWebOSConstants.ZERO ? LgWebOSConstants.OFF : LgWebOSConstants.ON;
-						if (lgControllingCommand.getName().equals(LgControllingCommand.NO_IR_POWER_OFF.getName())) {
-							updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.NO_IR_POWER_OFF, powerValue);
-						} else {
-							updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.NO_SIGNAL_POWER_OFF, powerValue);
+						retrieveDataByCommandName(commandNames.TILE_ID, commandNames.GET, lgControllingCommand);
+						String tileModeID = getValueByName(LgWebOSProperty.TILE_MODE_ID);
+						if (!LgWebOSConstants.NA.equals(tileModeID)) {
+							tileModeID = String.valueOf(Integer.parseInt(tileModeID));
 						}
-						break;
-					case REBOOT:
-						String rebootValue = LgWebOSConstants.REBOOT_VALUE;
-						sendRequestToControlValue(lgControllingCommand.getCommandNames(), rebootValue.getBytes(StandardCharsets.UTF_8), false, rebootValue);
-						break;
-					default:
-						logger.debug(String.format("Property name %s doesn't support", propertyKey));
-				}
+						addOrUpdateStatisticProperties(stats,group + LgWebOSConstants.TILE_MODE_ID, tileModeID);
+					}
+					addOrUpdateStatisticProperties(stats,LgWebOSConstants.TILE_MODE, tileModeValue);
+					updateCachedDeviceData(LgWebOSProperty.TILE_MODE, tileModeValue);
+					break;
+				case NATURAL_MODE:
+					naturalSize = group + LgWebOSConstants.NATURAL_SIZE;
+					String paramNatural = String.valueOf(LgWebOSConstants.ZERO);
+					if (String.valueOf(LgWebOSConstants.ZERO).equals(value)) {
+						stats.remove(naturalSize);
+						paramNatural = paramNatural + LgWebOSConstants.ZERO;
+						sendRequestToControlValue(commandNames.NATURAL_MODE, paramNatural.getBytes(StandardCharsets.UTF_8), false, value);
+					} else {
+						paramNatural = paramNatural + LgWebOSConstants.NUMBER_ONE;
+						sendRequestToControlValue(commandNames.NATURAL_MODE, paramNatural.getBytes(StandardCharsets.UTF_8), false, value);
+						retrieveDataByCommandName(commandNames.NATURAL_SIZE, commandNames.NATURAL_SIZE_PARAM, lgControllingCommand);
+						addOrUpdateStatisticProperties(stats,group + LgWebOSConstants.NATURAL_SIZE, getValueByName(LgWebOSProperty.NATURAL_SIZE));
+					}
+					updateCachedDeviceData(LgWebOSProperty.NATURAL_MODE, String.valueOf(Integer.parseInt(paramNatural)));
+					break;
+				case BALANCE:
+					String balance = encodeControlValue(lgControllingCommand, value);
+					sendRequestToControlValue(lgControllingCommand.getCommandNames(), balance.getBytes(StandardCharsets.UTF_8), true, value);
+					updateCachedDeviceData(LgWebOSProperty.BALANCE, balance);
+					break;
+				case BRIGHTNESS:
+					int brightness = (int) Float.parseFloat(value);
+					sendRequestToControlValue(lgControllingCommand.getCommandNames(), encodeControlValue(lgControllingCommand, value).getBytes(StandardCharsets.UTF_8), false, value);
+					stats.put(group + LgWebOSConstants.BRIGHTNESS_VALUE, String.valueOf(brightness));
+					updateCachedDeviceData(LgWebOSProperty.BRIGHTNESS, String.valueOf(brightness));
+					break;
+				case COLOR_TEMPERATURE:
+					int colorTemperature = (int) convertFromUIValueToApiValue(String.valueOf((int) Float.parseFloat(value)), LgWebOSConstants.COLOR_TEMPERATURE_UI_MAX_VALUE,
+							LgWebOSConstants.COLOR_TEMPERATURE_UI_MIN_VALUE);
+					sendRequestToControlValue(lgControllingCommand.getCommandNames(), encodeControlValue(lgControllingCommand, value).getBytes(StandardCharsets.UTF_8), false, value);
+					int newValue = (int) convertFromApiValueToUIValue(String.valueOf(colorTemperature), LgWebOSConstants.COLOR_TEMPERATURE_MAX_VALUE, LgWebOSConstants.COLOR_TEMPERATURE_MIN_VALUE);
+					stats.put(group + LgWebOSConstants.COLOR_TEMPERATURE_VALUE, String.valueOf(newValue));
+					updateCachedDeviceData(LgWebOSProperty.COLOR_TEMPERATURE, String.valueOf(colorTemperature));
+					break;
+				case CONTRAST:
+					int contrast = (int) Float.parseFloat(value);
+					dataConvert = encodeControlValue(lgControllingCommand, value);
+					sendRequestToControlValue(lgControllingCommand.getCommandNames(), dataConvert.getBytes(StandardCharsets.UTF_8), false, value);
+					stats.put(group + LgWebOSConstants.CONTRAST_VALUE, String.valueOf(contrast));
+					updateCachedDeviceData(LgWebOSProperty.CONTRAST, String.valueOf(contrast));
+					break;
+				case SCREEN_COLOR:
+					int screenColor = (int) Float.parseFloat(value);
+					dataConvert = encodeControlValue(lgControllingCommand, value);
+					sendRequestToControlValue(lgControllingCommand.getCommandNames(), dataConvert.getBytes(StandardCharsets.UTF_8), false, value);
+					stats.put(group + LgWebOSConstants.SCREEN_COLOR_VALUE, String.valueOf(screenColor));
+					updateCachedDeviceData(LgWebOSProperty.SCREEN_COLOR, String.valueOf(screenColor));
+					break;
+				case SHARPNESS:
+					int sharpness = (int) Float.parseFloat(value);
+					sendRequestToControlValue(lgControllingCommand.getCommandNames(), encodeControlValue(lgControllingCommand, value).getBytes(StandardCharsets.UTF_8), false, value);
+					stats.put(group + LgWebOSConstants.SHARPNESS_VALUE, String.valueOf(sharpness));
+					updateCachedDeviceData(LgWebOSProperty.SHARPNESS, String.valueOf(sharpness));
+					break;
+				case TINT:
+					String tint = encodeControlValue(lgControllingCommand, value);
+					sendRequestToControlValue(lgControllingCommand.getCommandNames(), tint.getBytes(StandardCharsets.UTF_8), true, value);
+					updateCachedDeviceData(LgWebOSProperty.TINT, tint);
+					break;
+				case ASPECT_RATIO:
+					String aspectRatio = encodeControlValue(lgControllingCommand, value);
+					sendRequestToControlValue(lgControllingCommand.getCommandNames(), aspectRatio.getBytes(StandardCharsets.UTF_8), true, value);
+					updateCachedDeviceData(LgWebOSProperty.ASPECT_RATIO, value);
+					break;
+				case BRIGHTNESS_CONTROL:
+					String brightnessSize = encodeControlValue(lgControllingCommand, value);
+					sendRequestToControlValue(lgControllingCommand.getCommandNames(), brightnessSize.getBytes(StandardCharsets.UTF_8), true, value);
+					updateCachedDeviceData(LgWebOSProperty.BRIGHTNESS_CONTROL, value);
+					break;
+				case LANGUAGE:
+					String language = encodeControlValue(lgControllingCommand, value);
+					sendRequestToControlValue(lgControllingCommand.getCommandNames(), language.getBytes(StandardCharsets.UTF_8), true, value);
+					updateCachedDeviceData(LgWebOSProperty.LANGUAGE, value);
+					break;
+				case SOUND_MODE:
+					String soundMode = encodeControlValue(lgControllingCommand, value);
+					sendRequestToControlValue(lgControllingCommand.getCommandNames(), soundMode.getBytes(StandardCharsets.UTF_8), true, value);
+					updateCachedDeviceData(LgWebOSProperty.SOUND_MODE, value);
+					break;
+				case PICTURE_MODE:
+					String pictureMode = encodeControlValue(lgControllingCommand, value);
+					sendRequestToControlValue(lgControllingCommand.getCommandNames(), pictureMode.getBytes(StandardCharsets.UTF_8), true, value);
+					updateCachedDeviceData(LgWebOSProperty.PICTURE_MODE, pictureMode);
+					break;
+				case POWER_ON_STATUS:
+					String powerStatus = encodeControlValue(lgControllingCommand, value);
+					sendRequestToControlValue(lgControllingCommand.getCommandNames(), powerStatus.getBytes(StandardCharsets.UTF_8), false, value);
+					updateCachedDeviceData(LgWebOSProperty.POWER_ON_STATUS, value);
+					break;
+				case NO_IR_POWER_OFF:
+				case NO_SIGNAL_POWER_OFF:
+					String powerValue = encodeControlValue(lgControllingCommand, value);
+					sendRequestToControlValue(lgControllingCommand.getCommandNames(), powerValue.getBytes(StandardCharsets.UTF_8), false, value);
+					powerValue = Integer.parseInt(powerValue) == LgWebOSConstants.ZERO ? LgWebOSConstants.OFF : LgWebOSConstants.ON;
+					if (lgControllingCommand.getName().equals(LgControllingCommand.NO_IR_POWER_OFF.getName())) {
+						updateCachedDeviceData(LgWebOSProperty.NO_IR_POWER_OFF, powerValue);
+					} else {
+						updateCachedDeviceData(LgWebOSProperty.NO_SIGNAL_POWER_OFF, powerValue);
+					}
+					break;
+				case REBOOT:
+					String rebootValue = LgWebOSConstants.REBOOT_VALUE;
+					sendRequestToControlValue(lgControllingCommand.getCommandNames(), rebootValue.getBytes(StandardCharsets.UTF_8), false, rebootValue);
+					isStaticRefreshRequested = true;
+					break;
+				default:
+					logger.debug(String.format("Property name %s doesn't support", propertyKey));
 			}
-			updateValueForTheControllableProperty(property, value, stats, advancedControllableProperties);
-		} finally {
-			reentrantLock.unlock();
 		}
+		updateValueForTheControllableProperty(property, value, stats, advancedControllableProperties);
 	}
 
 	/**
@@ -890,67 +1913,292 @@ public class LgWebOSDevice extends SocketCommunicator implements Controller, Mon
 	 */
 	@Override
 	public List<Statistics> getMultipleStatistics() throws Exception {
+		convertBackgroundPolling();
+		if (isBackgroundPolling) {
+			scheduleBackgroundPolling();
+			return Collections.singletonList(getLatestSnapshot());
+		}
+		cancelBackgroundPolling();
+		if (isEmergencyDelivery) {
+			//A control just published a new snapshot, it is delivered without waiting for the device
+			isEmergencyDelivery = false;
+			return Collections.singletonList(getSnapshot());
+		}
+		reentrantLock.lock();
+		try {
+			pollDevice();
+		} finally {
+			reentrantLock.unlock();
+		}
+		return Collections.singletonList(getSnapshot());
+	}
+
+	/**
+	 * Get the latest published snapshot
+	 *
+	 * @return ExtendedStatistics is latest snapshot, or an empty one if nothing was published yet
+	 */
+	private ExtendedStatistics getSnapshot() {
+		ExtendedStatistics snapshot = localExtendedStatistics.get();
+		return snapshot == null ? new ExtendedStatistics() : snapshot;
+	}
+
+	/**
+	 * Make the collections of a snapshot read only before it is published
+	 *
+	 * @param extendedStatistics the extendedStatistics is snapshot to publish
+	 * @return ExtendedStatistics is the same snapshot with read only collections
+	 */
+	private ExtendedStatistics freezeSnapshot(ExtendedStatistics extendedStatistics) {
+		if (extendedStatistics.getStatistics() != null) {
+			extendedStatistics.setStatistics(Collections.unmodifiableMap(extendedStatistics.getStatistics()));
+		}
+		if (extendedStatistics.getDynamicStatistics() != null) {
+			extendedStatistics.setDynamicStatistics(Collections.unmodifiableMap(extendedStatistics.getDynamicStatistics()));
+		}
+		if (extendedStatistics.getControllableProperties() != null) {
+			extendedStatistics.setControllableProperties(Collections.unmodifiableList(extendedStatistics.getControllableProperties()));
+		}
+		return extendedStatistics;
+	}
 
+	/**
+	 * Poll the device and publish a new {@link #localExtendedStatistics} snapshot, the caller must hold {@link #reentrantLock}
+	 *
+	 * @throws Exception if polling the device fails
+	 */
+	private void pollDevice() throws Exception {
 		ExtendedStatistics extendedStatistics = new ExtendedStatistics();
 		List<AdvancedControllableProperty> advancedControllableProperties = new ArrayList<>();
 		Map<String, String> statistics = new HashMap<>();
 		Map<String, String> controlStatistics = new HashMap<>();
 		Map<String, String> dynamicStatistics = new HashMap<>();
-		reentrantLock.lock();
-		try {
-			if (localExtendedStatistics == null) {
-				localExtendedStatistics = new ExtendedStatistics();
-			}
-			if (!isEmergencyDelivery) {
-				convertCacheLifetime();
-				convertDelayTime();
-				convertConfigTimeout();
-				convertPollingInterval();
-				failedMonitor.clear();
-				convertConfigManagement();
-				//Use thread to fetching the monitoring and controlling data if connected with the device successfully
-				populateMonitoringAndControllingData();
-				//destroy channel after collecting all device's information
-				destroyChannel();
-				if (!isFirstInit && currentGetMultipleInPollingInterval < pollingIntervalInIntValue) {
-					return Collections.singletonList(localExtendedStatistics);
-				}
-				//We will check if the value of localCachedFailedMonitor is greater than or equal to the value of currentCommandIndex,
-				// as we have 36 properties by default and if all options are enabled, then we have a total of 37 properties.
-				if (localCachedFailedMonitor >= currentCommandIndex && currentGetMultipleInPollingInterval == pollingIntervalInIntValue) {
-					//Handle the case where all properties receive an error response and the case where 2 connections run in parallel to the device
-					ping();
-					isFirstInit = false;
-					statistics.put(LgWebOSConstants.CONTROL_PROTOCOL_STATUS, LgWebOSConstants.UNAVAILABLE);
-					countControlUnavailable++;
-					if (countControlUnavailable > currentCachingLifetime) {
-						localCacheMapOfPropertyNameAndValue.clear();
-						localCachingLifeTimeOfMap.clear();
-					}
-				} else {
-					isFirstInit = true;
-					populateMonitoringData(statistics, dynamicStatistics);
-					if (isConfigManagement) {
-						populateControllingData(controlStatistics, advancedControllableProperties);
-						extendedStatistics.setControllableProperties(advancedControllableProperties);
-						statistics.putAll(controlStatistics);
-					} else {
-						statistics.remove(LgWebOSConstants.INPUT + LgWebOSConstants.HASH + LgWebOSConstants.SIGNAL);
-					}
-					//If failed for all monitoring data
-					checkFailedCommand(statistics, advancedControllableProperties);
-					extendedStatistics.setDynamicStatistics(dynamicStatistics);
-					countControlUnavailable = 0;
-				}
-				extendedStatistics.setStatistics(statistics);
+		convertCacheLifetime();
+		convertDelayTime();
+		convertAdaptiveCoolDown();
+		convertIdempotentControl();
+		convertConfigTimeout();
+		convertPollingInterval();
+		failedMonitor.clear();
+		convertConfigManagement();
+		convertPersistentConnection();
+		convertPipelineWindow();
+		convertTransportMode();
+		convertSlowPollingMultiplier();
+		//Use thread to fetching the monitoring and controlling data if connected with the device successfully
+		populateMonitoringAndControllingData();
+		//destroy channel after collecting all device's information, unless it is kept open for the next cycle
+		if (isPersistentConnection) {
+			getPersistentChannel().markReuseCandidate();
+		} else {
+			destroyChannelBetweenFrames();
+		}
+		if (!isFirstInit && currentGetMultipleInPollingInterval < pollingIntervalInIntValue) {
+			return;
+		}
+		//We will check if the value of localCachedFailedMonitor is greater than or equal to the value of currentCommandIndex,
+		// as we have 36 properties by default and if all options are enabled, then we have a total of 37 properties.
+		if (localCachedFailedMonitor >= currentCommandIndex && currentGetMultipleInPollingInterval == pollingIntervalInIntValue) {
+			//Handle the case where all properties receive an error response and the case where 2 connections run in parallel to the device
+			ping();
+			isFirstInit = false;
+			fetchedStaticCommands.clear();
+			statistics.put(LgWebOSConstants.CONTROL_PROTOCOL_STATUS, LgWebOSConstants.UNAVAILABLE);
+			countControlUnavailable++;
+			if (countControlUnavailable > currentCachingLifetime) {
+				localPropertyStore.clearValues();
+				localPropertyStore.clearFailedCycles();
+			}
+		} else {
+			isFirstInit = true;
+			populateMonitoringData(statistics, dynamicStatistics);
+			if (isConfigManagement) {
+				populateControllingData(controlStatistics, advancedControllableProperties);
 				extendedStatistics.setControllableProperties(advancedControllableProperties);
-				localExtendedStatistics = extendedStatistics;
+				statistics.putAll(controlStatistics);
+			} else {
+				statistics.remove(LgWebOSConstants.INPUT + LgWebOSConstants.HASH + LgWebOSConstants.SIGNAL);
+			}
+			//If failed for all monitoring data
+			checkFailedCommand(statistics, advancedControllableProperties);
+			extendedStatistics.setDynamicStatistics(dynamicStatistics);
+			countControlUnavailable = 0;
+		}
+		populateAdapterMetrics(statistics);
+		extendedStatistics.setStatistics(statistics);
+		extendedStatistics.setControllableProperties(advancedControllableProperties);
+		localExtendedStatistics.set(freezeSnapshot(extendedStatistics));
+	}
+
+	/**
+	 * Get the latest snapshot built by the background polling, the device is not contacted
+	 *
+	 * @return ExtendedStatistics is copy of the latest snapshot with the background polling metrics
+	 */
+	private ExtendedStatistics getLatestSnapshot() {
+		ExtendedStatistics snapshot = localExtendedStatistics.get();
+		ExtendedStatistics extendedStatistics = new ExtendedStatistics();
+		Map<String, String> statistics = new HashMap<>();
+		if (snapshot != null) {
+			if (snapshot.getStatistics() != null) {
+				statistics.putAll(snapshot.getStatistics());
+			}
+			extendedStatistics.setDynamicStatistics(snapshot.getDynamicStatistics());
+			extendedStatistics.setControllableProperties(snapshot.getControllableProperties());
+			servedWithoutBlocking++;
+		}
+		String groupName = LgWebOSConstants.ADAPTER_METRICS + LgWebOSConstants.HASH;
+		statistics.put(groupName + LgWebOSConstants.SERVED_WITHOUT_BLOCKING, String.valueOf(servedWithoutBlocking));
+		if (snapshotTimestamp > 0) {
+			statistics.put(groupName + LgWebOSConstants.SNAPSHOT_AGE, String.valueOf((System.currentTimeMillis() - snapshotTimestamp) / 1000));
+		}
+		long lag = schedulingLag;
+		if (lag >= 0) {
+			statistics.put(groupName + LgWebOSConstants.SCHEDULING_LAG, String.valueOf(lag));
+		}
+		extendedStatistics.setStatistics(statistics);
+		return extendedStatistics;
+	}
+
+	/**
+	 * Schedule the background polling on {@link LgWebOSScheduler}, the task is scheduled again when the interval changed
+	 */
+	private synchronized void scheduleBackgroundPolling() {
+		if (backgroundPollingTask != null && !backgroundPollingTask.isDone() && scheduledBackgroundPollingInterval == backgroundPollingIntervalInIntValue) {
+			return;
+		}
+		if (backgroundPollingTask != null) {
+			backgroundPollingTask.cancel(false);
+		}
+		if (backgroundPollingTask == null) {
+			LgWebOSScheduler.register();
+		}
+		scheduledBackgroundPollingInterval = backgroundPollingIntervalInIntValue;
+		backgroundPollingEndTimestamp = 0;
+		schedulingLag = -1;
+		backgroundPollingTask = LgWebOSScheduler.getInstance().scheduleWithFixedDelay(this::runBackgroundPolling, 0, backgroundPollingIntervalInIntValue, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Cancel the background polling
+	 */
+	private synchronized void cancelBackgroundPolling() {
+		if (backgroundPollingTask != null) {
+			backgroundPollingTask.cancel(false);
+			backgroundPollingTask = null;
+			LgWebOSScheduler.unregister();
+		}
+	}
+
+	/**
+	 * Background polling task, it keeps the property cache and the snapshot fresh at its own cadence
+	 */
+	private void runBackgroundPolling() {
+		measureSchedulingLag();
+		try {
+			if (!isBackgroundPolling) {
+				return;
 			}
+			//The snapshot of a control is served by getMultipleStatistics anyway, the sweep still runs so frequent controls
+			//never starve the polling
 			isEmergencyDelivery = false;
+			reentrantLock.lock();
+			try {
+				ExtendedStatistics previousSnapshot = localExtendedStatistics.get();
+				pollDevice();
+				if (previousSnapshot != localExtendedStatistics.get()) {
+					snapshotTimestamp = System.currentTimeMillis();
+				}
+			} catch (Exception e) {
+				logger.warn("An error occurred when polling the device in background", e);
+			} finally {
+				reentrantLock.unlock();
+			}
 		} finally {
-			reentrantLock.unlock();
+			synchronized (this) {
+				backgroundPollingEndTimestamp = System.currentTimeMillis();
+			}
+		}
+	}
+
+	/**
+	 * Measure how late the background polling started compared to the end of the previous call plus the interval
+	 */
+	private synchronized void measureSchedulingLag() {
+		if (backgroundPollingEndTimestamp <= 0) {
+			return;
+		}
+		schedulingLag = Math.max(0, System.currentTimeMillis() - backgroundPollingEndTimestamp - scheduledBackgroundPollingInterval);
+		if (schedulingLag > scheduledBackgroundPollingInterval && logger.isWarnEnabled()) {
+			logger.warn(String.format("The background polling of %s started %s ms late, the shared scheduler is saturated", host, schedulingLag));
+		}
+	}
+
+	/**
+	 * Populate adapter metrics, the counters show the values of the latest polling cycle
+	 *
+	 * @param statistics the statistics are list of statistics
+	 */
+	private void populateAdapterMetrics(Map<String, String> statistics) {
+		String groupName = LgWebOSConstants.ADAPTER_METRICS + LgWebOSConstants.HASH;
+		if (isPowerOff()) {
+			statistics.put(groupName + LgWebOSConstants.POWER_OFF_POLLING, LgWebOSConstants.TRUE);
+			statistics.put(groupName + LgWebOSConstants.CACHED_DATA_AGE, String.valueOf(getCachedDataAge()));
+		}
+		long controlLatency = commandScheduler.getLastLatency(Lane.CONTROL);
+		if (controlLatency >= 0) {
+			statistics.put(groupName + LgWebOSConstants.CONTROL_LATENCY, String.valueOf(controlLatency));
+		}
+		long pollLatency = commandScheduler.takeAverageLatency(Lane.POLL);
+		if (pollLatency >= 0) {
+			statistics.put(groupName + LgWebOSConstants.POLL_LATENCY, String.valueOf(pollLatency));
+		}
+		int coalesced = coalescedControls.get();
+		statistics.put(groupName + LgWebOSConstants.COALESCED_CONTROLS, String.valueOf(coalesced - lastCoalescedControls));
+		lastCoalescedControls = coalesced;
+		int refreshed = refreshedProperties.get();
+		statistics.put(groupName + LgWebOSConstants.REFRESHED_PROPERTIES, String.valueOf(refreshed - lastRefreshedProperties));
+		lastRefreshedProperties = refreshed;
+		if (isIdempotentControl) {
+			int sent = sentControls.get();
+			int skipped = skippedControls.get();
+			statistics.put(groupName + LgWebOSConstants.SENT_CONTROLS, String.valueOf(sent - lastSentControls));
+			statistics.put(groupName + LgWebOSConstants.SKIPPED_CONTROLS, String.valueOf(skipped - lastSkippedControls));
+			lastSentControls = sent;
+			lastSkippedControls = skipped;
+		}
+		if (coolDownController.isAdaptive()) {
+			int coolDownFaults = coolDownController.getFaults();
+			statistics.put(groupName + LgWebOSConstants.COOL_DOWN_DELAY, String.valueOf(coolDownController.getDelay()));
+			statistics.put(groupName + LgWebOSConstants.COOL_DOWN_FAULTS, String.valueOf(coolDownFaults - lastCoolDownFaults));
+			lastCoolDownFaults = coolDownFaults;
+		}
+		LgWebOSTransport<?> channel = persistentChannel;
+		if (channel == null) {
+			return;
+		}
+		int unparsedFrames = channel.getUnparsedFrames();
+		statistics.put(groupName + LgWebOSConstants.UNPARSED_FRAMES, String.valueOf(unparsedFrames - lastUnparsedFrames));
+		lastUnparsedFrames = unparsedFrames;
+		if (!isPersistentConnection) {
+			return;
 		}
-		return Collections.singletonList(localExtendedStatistics);
+		int openedConnections = channel.getOpenedConnections();
+		int avoidedConnects = channel.getAvoidedConnects();
+		statistics.put(groupName + LgWebOSConstants.CONNECTIONS_OPENED, String.valueOf(openedConnections - lastOpenedConnections));
+		statistics.put(groupName + LgWebOSConstants.CONNECTS_AVOIDED, String.valueOf(avoidedConnects - lastAvoidedConnects));
+		lastOpenedConnections = openedConnections;
+		lastAvoidedConnects = avoidedConnects;
+	}
+
+	/**
+	 * Get the age of the oldest cached value, while the panel is off the values that are not polled are served from the cache
+	 *
+	 * @return long is age in seconds
+	 */
+	private long getCachedDataAge() {
+		long now = System.currentTimeMillis();
+		return (now - localPropertyStore.getOldestTimestamp(now)) / 1000;
 	}
 
 	/**
@@ -998,85 +2246,211 @@ public class LgWebOSDevice extends SocketCommunicator implements Controller, Mon
 	}
 
 	/**
-	 * populate monitoring and controlling data
-	 * using 2 thread to get monitoring and controlling data
-	 * Thread 1 fetches device monitoring and controlling data of each property's
-	 * Thread 2 manages the timeout for each command sent by Thread 1
-	 *
-	 * if the response time is greater than the default timeout => Close connection and update failedMonitor
+	 * populate monitoring and controlling data
+	 * the worker thread fetches device monitoring and controlling data of each property's,
+	 * the caller waits for every command until its deadline
+	 *
+	 * if the response time is greater than the default timeout => Close connection and update failedMonitor
+	 */
+	private void populateMonitoringAndControllingData() throws InterruptedException {
+		List<LgControllingCommand> commands = Arrays.stream(LgControllingCommand.values()).filter(item -> item.isMonitorType() || item.isControlType()).collect(Collectors.toList());
+		int range = 0;
+		if (currentGetMultipleInPollingInterval == pollingIntervalInIntValue - 1) {
+			range = commands.size();
+		}
+		if (currentGetMultipleInPollingInterval == pollingIntervalInIntValue) {
+			devicesExecutionPool.clear();
+			currentGetMultipleInPollingInterval = 0;
+			localCachedFailedMonitor = 0;
+			range = 0;
+			currentCommandIndex = 0;
+			pollingCycleCount++;
+		}
+		if (isStaticRefreshRequested) {
+			isStaticRefreshRequested = false;
+			fetchedStaticCommands.clear();
+		}
+		checkPowerTransition();
+		List<LgControllingCommand> staticCommands = new ArrayList<>();
+		int intervalIndex = currentGetMultipleInPollingInterval * commands.size() / pollingIntervalInIntValue;
+		if (range == 0) {
+			range = (currentGetMultipleInPollingInterval + LgWebOSConstants.NUMBER_ONE) * commands.size() / pollingIntervalInIntValue;
+		}
+		List<LgControllingCommand> pipelinedCommands = new ArrayList<>();
+		List<commandNames> pipelinedParams = new ArrayList<>();
+		for (int i = intervalIndex; i < range; i++) {
+			LgControllingCommand controllingCommand = commands.get(i);
+			if (isSkippedWithoutConfigManagement(controllingCommand)) {
+				continue;
+			}
+			if ((controllingCommand.isControlType() || controllingCommand.isMonitorType())) {
+				//Power on is detected as soon as the power command answers, the next commands follow the full poll plan
+				checkPowerTransition();
+				if (isPowerOff() && !controllingCommand.isPolledWhilePowerOff()) {
+					continue;
+				}
+				if (!isDueInCurrentCycle(controllingCommand) || CommandDependency.isDependent(controllingCommand)) {
+					continue;
+				}
+				commandNames param = getParamByCommandName(controllingCommand);
+				//Count the number of requests in one polling cycle.
+				currentCommandIndex++;
+				if (param == null) {
+					continue;
+				}
+				if (PollingTier.STATIC == controllingCommand.getPollingTier()) {
+					staticCommands.add(controllingCommand);
+				}
+				if (isPipelined() || isEventLoopTransport()) {
+					pipelinedCommands.add(controllingCommand);
+					pipelinedParams.add(param);
+					continue;
+				}
+				retrieveDataWithDependents(controllingCommand, param, staticCommands);
+			}
+		}
+		//The dependents of a pipelined batch are sent as the next batch, once their parents answered
+		while (!pipelinedCommands.isEmpty()) {
+			retrieveDataPipelined(pipelinedCommands, pipelinedParams);
+			List<LgControllingCommand> dependentCommands = new ArrayList<>();
+			for (LgControllingCommand parentCommand : pipelinedCommands) {
+				dependentCommands.addAll(getDueDependents(parentCommand, staticCommands));
+			}
+			pipelinedCommands = dependentCommands;
+			pipelinedParams = dependentCommands.stream().map(this::getParamByCommandName).collect(Collectors.toList());
+		}
+		for (LgControllingCommand staticCommand : staticCommands) {
+			if (!failedMonitor.contains(staticCommand)) {
+				fetchedStaticCommands.add(staticCommand);
+			}
+		}
+		logger.debug("Get data success with getMultipleTime: " + currentGetMultipleInPollingInterval);
+		currentGetMultipleInPollingInterval++;
+		localCachedFailedMonitor = localCachedFailedMonitor + failedMonitor.size();
+	}
+
+	/**
+	 * Retrieve data of the command, then of the commands depending on it right after it answered
+	 *
+	 * @param controllingCommand the controllingCommand is command to retrieve
+	 * @param param the param is param of the command
+	 * @param staticCommands the staticCommands are static commands sent in the current polling call
+	 * @throws InterruptedException if the polling thread is interrupted while waiting for the device
+	 */
+	private void retrieveDataWithDependents(LgControllingCommand controllingCommand, commandNames param, List<LgControllingCommand> staticCommands) throws InterruptedException {
+		if (LgWebOSConstants.TRANSPORT_MODE_NIO.equals(transportModeInValue)) {
+			// The NIO transport enforces the read timeout itself, so the command is sent on the caller thread
+			retrieveDataByCommandName(controllingCommand.getCommandNames(), param, controllingCommand);
+		} else {
+			initExecutors();
+			//Submit thread to fetch data, the caller waits until the response or the defaultConfigTimeout deadline
+			Future<?> fetchingData = fetchingDataExSer.submit(() -> {
+				retrieveDataByCommandName(controllingCommand.getCommandNames(), param, controllingCommand);
+			});
+			devicesExecutionPool.add(fetchingData);
+			try {
+				fetchingData.get((long) defaultConfigTimeout * LgWebOSConstants.CONFIG_TIMEOUT_STEP, TimeUnit.MILLISECONDS);
+			} catch (TimeoutException e) {
+				//If the Future is not completed after the defaultConfigTimeout =>  update the failedMonitor and destroy the connection.
+				//The connection is kept if the command only waited for a control frame in flight
+				failedMonitor.add(controllingCommand);
+				if (!commandScheduler.isControlInFlight()) {
+					destroyChannel();
+				}
+				fetchingData.cancel(true);
+			} catch (ExecutionException e) {
+				failedMonitor.add(controllingCommand);
+				logger.warn(String.format("An error occurred when retrieving data of command %s", controllingCommand.getName()), e);
+			}
+		}
+		for (LgControllingCommand dependentCommand : getDueDependents(controllingCommand, staticCommands)) {
+			retrieveDataWithDependents(dependentCommand, getParamByCommandName(dependentCommand), staticCommands);
+		}
+	}
+
+	/**
+	 * Check whether a control type command is skipped because the configuration management is off
+	 * POWER is always polled, the power off poll plan is driven by its value
+	 *
+	 * @param controllingCommand the controllingCommand is command to check
+	 * @return boolean true if the command is not polled
+	 */
+	private boolean isSkippedWithoutConfigManagement(LgControllingCommand controllingCommand) {
+		return !isConfigManagement && controllingCommand.isControlType() && LgControllingCommand.POWER != controllingCommand;
+	}
+
+	/**
+	 * Get the commands to poll right after the parent command answered
+	 * A dependent command is pruned with its own dependents when the parent failed or its value doesn't satisfy the dependency
+	 *
+	 * @param parentCommand the parentCommand is command that was just retrieved
+	 * @param staticCommands the staticCommands are static commands sent in the current polling call
+	 * @return List<LgControllingCommand> is dependent commands to poll
+	 */
+	private List<LgControllingCommand> getDueDependents(LgControllingCommand parentCommand, List<LgControllingCommand> staticCommands) {
+		List<CommandDependency> dependencies = CommandDependency.getDependents(parentCommand);
+		if (dependencies.isEmpty() || failedMonitor.contains(parentCommand)) {
+			return Collections.emptyList();
+		}
+		List<LgControllingCommand> dependentCommands = new ArrayList<>();
+		for (CommandDependency dependency : dependencies) {
+			LgControllingCommand dependentCommand = dependency.getCommand();
+			if (isSkippedWithoutConfigManagement(dependentCommand) || isPowerOff() && !dependentCommand.isPolledWhilePowerOff()) {
+				continue;
+			}
+			if (!isDueInCurrentCycle(dependentCommand) || !dependency.isSatisfiedBy(getValueByName(dependency.getParentProperty()))) {
+				continue;
+			}
+			//Count the number of requests in one polling cycle.
+			currentCommandIndex++;
+			if (PollingTier.STATIC == dependentCommand.getPollingTier()) {
+				staticCommands.add(dependentCommand);
+			}
+			dependentCommands.add(dependentCommand);
+		}
+		return dependentCommands;
+	}
+
+	/**
+	 * Check whether the cached power value changed, the static values are fetched again after a power cycle
+	 * and the slow values are refreshed right after power on
 	 */
-	private void populateMonitoringAndControllingData() throws InterruptedException {
-		List<LgControllingCommand> commands = Arrays.stream(LgControllingCommand.values()).filter(item -> item.isMonitorType() || item.isControlType()).collect(Collectors.toList());
-		Future manageTimeOutWorkerThread;
-		int range = 0;
-		if (currentGetMultipleInPollingInterval == pollingIntervalInIntValue - 1) {
-			range = commands.size();
-		}
-		if (currentGetMultipleInPollingInterval == pollingIntervalInIntValue) {
-			devicesExecutionPool.clear();
-			currentGetMultipleInPollingInterval = 0;
-			localCachedFailedMonitor = 0;
-			range = 0;
-			currentCommandIndex = 0;
+	private void checkPowerTransition() {
+		String powerValue = getValueByName(LgWebOSProperty.POWER);
+		if (powerValue.equals(lastPowerValue)) {
+			return;
 		}
-		int intervalIndex = currentGetMultipleInPollingInterval * commands.size() / pollingIntervalInIntValue;
-		if (range == 0) {
-			range = (currentGetMultipleInPollingInterval + LgWebOSConstants.NUMBER_ONE) * commands.size() / pollingIntervalInIntValue;
+		fetchedStaticCommands.clear();
+		if (LgWebOSConstants.powerStatusNames.OFF.name().equals(lastPowerValue)) {
+			slowRefreshUntilCycle = pollingCycleCount + 1;
 		}
-		for (int i = intervalIndex; i < range; i++) {
-			LgControllingCommand controllingCommand = commands.get(i);
-			if (!isConfigManagement && controllingCommand.isControlType()) {
-				continue;
-			}
-			if ((controllingCommand.isControlType() || controllingCommand.isMonitorType())) {
-				commandNames param = getParamByCommandName(controllingCommand);
-				//Count the number of requests in one polling cycle.
-				currentCommandIndex++;
-				if (param == null) {
-					continue;
-				}
-				//Submit thread to fetch data
-				devicesExecutionPool.add(fetchingDataExSer.submit(() -> {
-					retrieveDataByCommandName(controllingCommand.getCommandNames(), param, controllingCommand);
-				}));
-				// The thread responsible for checking the ExecutorService waits until the defaultConfigTimeout period has elapsed.
-				// If the Future is not completed at that point, the thread will cancel it
-				manageTimeOutWorkerThread = timeoutManagementExSer.submit(() -> {
-					int timeoutCount = 1;
-					while (!devicesExecutionPool.get(devicesExecutionPool.size() - LgWebOSConstants.ORDINAL_TO_INDEX_CONVERT_FACTOR).isDone() && timeoutCount <= defaultConfigTimeout) {
-						try {
-							Thread.sleep(100);
-
-							// The thread waits until the controlProperty() method successfully controls.
-							if (isEmergencyDelivery) {
-								condition.wait();
-							}
-						} catch (InterruptedException e) {
-							e.printStackTrace();
-						}
-						timeoutCount++;
-					}
-					//If the Future is not completed after the defaultConfigTimeout =>  update the failedMonitor and destroy the connection.
-					int lastIndex = devicesExecutionPool.size() - 1;
-					if (!devicesExecutionPool.get(lastIndex).isDone()) {
-						failedMonitor.add(controllingCommand.getName());
-						destroyChannel();
-						devicesExecutionPool.get(lastIndex).cancel(true);
-					}
-				});
-				try {
-					while (!manageTimeOutWorkerThread.isDone()) {
-						Thread.sleep(100);
-					}
-					manageTimeOutWorkerThread.get();
-				} catch (ExecutionException e) {
-					e.printStackTrace();
-				}
-			}
+		lastPowerValue = powerValue;
+	}
+
+	/**
+	 * Check whether the panel is off according to the latest power value
+	 *
+	 * @return boolean true if the power off poll plan is used
+	 */
+	private boolean isPowerOff() {
+		return LgWebOSConstants.powerStatusNames.OFF.name().equals(getValueByName(LgWebOSProperty.POWER));
+	}
+
+	/**
+	 * Check whether the command has to be polled in the current polling cycle according to its {@link PollingTier}
+	 *
+	 * @param controllingCommand the controllingCommand is command to check
+	 * @return boolean true if the command is polled
+	 */
+	private boolean isDueInCurrentCycle(LgControllingCommand controllingCommand) {
+		switch (controllingCommand.getPollingTier()) {
+			case STATIC:
+				return !fetchedStaticCommands.contains(controllingCommand);
+			case SLOW:
+				return pollingCycleCount % slowPollingMultiplierInIntValue == 0 || pollingCycleCount <= slowRefreshUntilCycle;
+			default:
+				return true;
 		}
-		logger.debug("Get data success with getMultipleTime: " + currentGetMultipleInPollingInterval);
-		currentGetMultipleInPollingInterval++;
-		localCachedFailedMonitor = localCachedFailedMonitor + failedMonitor.size();
 	}
 
 	/**
@@ -1087,16 +2461,7 @@ public class LgWebOSDevice extends SocketCommunicator implements Controller, Mon
 	 */
 	private commandNames getParamByCommandName(LgControllingCommand commandName) {
 		commandNames param = commandNames.GET;
-		if (LgControllingCommand.NATURAL_MODE.getName().equals(commandName.getName())) {
-			String value = getValueByName(LgWebOSConstants.TILE_MODE);
-			if (LgWebOSConstants.NA.equals(value) || !LgWebOSConstants.ON.equals(value)) {
-				return null;
-			}
-		} else if (LgControllingCommand.NATURAL_SIZE.getName().equals(commandName.getName())) {
-			String value = getValueByName(LgWebOSConstants.NATURAL_MODE);
-			if (LgWebOSConstants.NA.equals(value) || LgWebOSConstants.NUMBER_ONE != Integer.parseInt(value)) {
-				return null;
-			}
+		if (LgControllingCommand.NATURAL_SIZE.getName().equals(commandName.getName())) {
 			param = commandNames.NATURAL_SIZE_PARAM;
 		} else if (LgControllingCommand.NETWORK_SETTING.getName().equals(commandName.getName())) {
 			param = commandNames.NETWORK_SETTING_PARAM;
@@ -1116,71 +2481,67 @@ public class LgWebOSDevice extends SocketCommunicator implements Controller, Mon
 	 */
 	private void checkFailedCommand(Map<String, String> statistics, List<AdvancedControllableProperty> advancedControllableProperties) {
 		if (!failedMonitor.isEmpty()) {
-			for (String value : failedMonitor) {
-				Optional<Entry<String, Integer>> cachingCurrentValue = localCachingLifeTimeOfMap.entrySet().stream().filter(item -> item.getKey().equalsIgnoreCase(value)).findFirst();
-				if (cachingCurrentValue.isPresent()) {
-					int currentCachingLifetime = cachingCurrentValue.get().getValue();
-					LgControllingCommand controllingCommand = LgControllingCommand.getCommandByName(value);
-					if (currentCachingLifetime >= this.currentCachingLifetime) {
-						localCachingLifeTimeOfMap.put(value.toLowerCase(Locale.ROOT), 0);
-						switch (controllingCommand) {
-							case NETWORK_SETTING:
-								localCacheMapOfPropertyNameAndValue.remove(LgWebOSConstants.IP_ADDRESS);
-								localCacheMapOfPropertyNameAndValue.remove(LgWebOSConstants.GATEWAY);
-								localCacheMapOfPropertyNameAndValue.remove(LgWebOSConstants.SUBNET_MASK);
-								localCacheMapOfPropertyNameAndValue.remove(LgWebOSConstants.DNS_SERVER);
-								break;
-							case TILE_MODE_SETTINGS:
-								String groupName = LgWebOSConstants.TILE_MODE_SETTINGS + LgWebOSConstants.HASH;
-								if (String.valueOf(LgWebOSConstants.NUMBER_ONE).equalsIgnoreCase(statistics.get(groupName + LgWebOSConstants.TILE_MODE))) {
-									if (String.valueOf(LgWebOSConstants.NUMBER_ONE).equalsIgnoreCase(statistics.get(groupName + LgWebOSConstants.NATURAL_MODE))) {
-										updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.NATURAL_SIZE, LgWebOSConstants.NA);
-									}
-									updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.NATURAL_MODE, LgWebOSConstants.NA);
-									advancedControllableProperties.removeIf(item -> item.getName().equals(groupName + LgWebOSConstants.NATURAL_MODE));
-								}
-								updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.TILE_MODE_COLUMN, LgWebOSConstants.NA);
-								updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.TILE_MODE_ROW, LgWebOSConstants.NA);
-								updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.TILE_MODE, LgWebOSConstants.NA);
-								updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.TILE_MODE_ID, LgWebOSConstants.NA);
-								advancedControllableProperties.removeIf(item -> item.getName().equals(groupName + LgWebOSConstants.TILE_MODE));
-								break;
-							case NATURAL_MODE:
-								groupName = LgWebOSConstants.TILE_MODE_SETTINGS + LgWebOSConstants.HASH;
+			for (LgControllingCommand controllingCommand : failedMonitor) {
+				String value = controllingCommand.getName();
+				if (localPropertyStore.getFailedCycles(controllingCommand) >= this.currentCachingLifetime) {
+					localPropertyStore.resetFailedCycles(controllingCommand);
+					switch (controllingCommand) {
+						case NETWORK_SETTING:
+							localPropertyStore.remove(LgWebOSProperty.IP_ADDRESS);
+							localPropertyStore.remove(LgWebOSProperty.GATEWAY);
+							localPropertyStore.remove(LgWebOSProperty.SUBNET_MASK);
+							localPropertyStore.remove(LgWebOSProperty.DNS_SERVER);
+							break;
+						case TILE_MODE_SETTINGS:
+							String groupName = LgWebOSConstants.TILE_MODE_SETTINGS + LgWebOSConstants.HASH;
+							if (String.valueOf(LgWebOSConstants.NUMBER_ONE).equalsIgnoreCase(statistics.get(groupName + LgWebOSConstants.TILE_MODE))) {
 								if (String.valueOf(LgWebOSConstants.NUMBER_ONE).equalsIgnoreCase(statistics.get(groupName + LgWebOSConstants.NATURAL_MODE))) {
-									updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.NATURAL_SIZE, LgWebOSConstants.NA);
+									updateCachedDeviceData(LgWebOSProperty.NATURAL_SIZE, LgWebOSConstants.NA);
 								}
-								updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.NATURAL_MODE, LgWebOSConstants.NA);
+								updateCachedDeviceData(LgWebOSProperty.NATURAL_MODE, LgWebOSConstants.NA);
 								advancedControllableProperties.removeIf(item -> item.getName().equals(groupName + LgWebOSConstants.NATURAL_MODE));
-								break;
-							case DATE:
-							case TIME:
-								updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.DATE, LgWebOSConstants.NA);
-								updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.TIME, LgWebOSConstants.NA);
-								localCacheMapOfPropertyNameAndValue.remove(value);
-								break;
-							default:
-								Entry<String, String> property = statistics.entrySet().stream().filter((item) -> {
-									String key = item.getKey();
-									String[] group = key.split(LgWebOSConstants.HASH);
-									String propertyName = group[0];
-									if (key.contains(LgWebOSConstants.HASH)) {
-										propertyName = group[1];
-									}
-									return propertyName.equals(value);
-								}).findFirst().orElse(null);
-								if (property != null) {
-									advancedControllableProperties.removeIf(item -> item.getName().equals(property.getKey()));
-									localCacheMapOfPropertyNameAndValue.remove(value);
+							}
+							updateCachedDeviceData(LgWebOSProperty.TILE_MODE_COLUMN, LgWebOSConstants.NA);
+							updateCachedDeviceData(LgWebOSProperty.TILE_MODE_ROW, LgWebOSConstants.NA);
+							updateCachedDeviceData(LgWebOSProperty.TILE_MODE, LgWebOSConstants.NA);
+							updateCachedDeviceData(LgWebOSProperty.TILE_MODE_ID, LgWebOSConstants.NA);
+							advancedControllableProperties.removeIf(item -> item.getName().equals(groupName + LgWebOSConstants.TILE_MODE));
+							break;
+						case NATURAL_MODE:
+							groupName = LgWebOSConstants.TILE_MODE_SETTINGS + LgWebOSConstants.HASH;
+							if (String.valueOf(LgWebOSConstants.NUMBER_ONE).equalsIgnoreCase(statistics.get(groupName + LgWebOSConstants.NATURAL_MODE))) {
+								updateCachedDeviceData(LgWebOSProperty.NATURAL_SIZE, LgWebOSConstants.NA);
+							}
+							updateCachedDeviceData(LgWebOSProperty.NATURAL_MODE, LgWebOSConstants.NA);
+							advancedControllableProperties.removeIf(item -> item.getName().equals(groupName + LgWebOSConstants.NATURAL_MODE));
+							break;
+						case DATE:
+						case TIME:
+							updateCachedDeviceData(LgWebOSProperty.DATE, LgWebOSConstants.NA);
+							updateCachedDeviceData(LgWebOSProperty.TIME, LgWebOSConstants.NA);
+							localPropertyStore.remove(controllingCommand == LgControllingCommand.DATE ? LgWebOSProperty.DATE : LgWebOSProperty.TIME);
+							break;
+						default:
+							Entry<String, String> property = statistics.entrySet().stream().filter((item) -> {
+								String key = item.getKey();
+								String[] group = key.split(LgWebOSConstants.HASH);
+								String propertyName = group[0];
+								if (key.contains(LgWebOSConstants.HASH)) {
+									propertyName = group[1];
 								}
-								break;
-						}
-					} else {
-						currentCachingLifetime = currentCachingLifetime + 1;
-						localCachingLifeTimeOfMap.replace(cachingCurrentValue.get().getKey(), currentCachingLifetime);
+								return propertyName.equals(value);
+							}).findFirst().orElse(null);
+							if (property != null) {
+								advancedControllableProperties.removeIf(item -> item.getName().equals(property.getKey()));
+								LgWebOSProperty cachedProperty = LgWebOSProperty.getByName(value);
+								if (cachedProperty != null) {
+									localPropertyStore.remove(cachedProperty);
+								}
+							}
+							break;
 					}
 				} else {
-					localCachingLifeTimeOfMap.put(value.toLowerCase(Locale.ROOT), 1);
+					localPropertyStore.incrementFailedCycles(controllingCommand);
 				}
 			}
 		}
@@ -1250,8 +2611,13 @@ public class LgWebOSDevice extends SocketCommunicator implements Controller, Mon
 	 */
 	private void sendRequestToControlValue(commandNames command, byte[] param, boolean isDropdownControl, String value) {
 		try {
-			byte[] response = send(LgWebOSUtils.buildSendString((byte) monitorID, LgWebOSConstants.commands.get(command), param));
-			String result = digestResponse(response, command).toString();
+			//The reply of a control sent in a pipelined burst is digested instead of sending the frame again
+			byte[] frame = LgWebOSUtils.buildSendString((byte) monitorID, LgWebOSConstants.commands.get(command), param);
+			byte[] response = controlReplies.remove(command);
+			if (response == null) {
+				response = send(frame);
+			}
+			String result = digestResponse(response, command, frame).toString();
 			if (LgWebOSConstants.NA.equals(result)) {
 				throw new IllegalArgumentException("The response NG reply ");
 			}
@@ -1271,7 +2637,7 @@ public class LgWebOSDevice extends SocketCommunicator implements Controller, Mon
 	 * @param controlStatistics the controlStatistics are list of statistics
 	 * @param advancedControllableProperties the advancedControllableProperties is advancedControllableProperties instance
 	 */
-	private void populateControllingData(Map<String, String> controlStatistics, List<AdvancedControllableProperty> advancedControllableProperties) {
+	void populateControllingData(Map<String, String> controlStatistics, List<AdvancedControllableProperty> advancedControllableProperties) {
 		retrieveFailOverGroupValue(controlStatistics, advancedControllableProperties);
 		retrieveDisplayAndSoundGroupValue(controlStatistics, advancedControllableProperties);
 		retrieveTileModeGroupValue(controlStatistics, advancedControllableProperties);
@@ -1307,7 +2673,7 @@ public class LgWebOSDevice extends SocketCommunicator implements Controller, Mon
 		String value;
 		switch (lgControllingCommand) {
 			case POWER:
-				value = getValueByName(LgWebOSConstants.POWER);
+				value = getValueByName(LgWebOSProperty.POWER);
 				if (!LgWebOSConstants.NA.equals(value)) {
 					value = String.valueOf(LgWebOSConstants.ON.equalsIgnoreCase(value) ? 1 : 0);
 				}
@@ -1318,61 +2684,61 @@ public class LgWebOSDevice extends SocketCommunicator implements Controller, Mon
 				advancedControllableProperties.add(createButton(LgWebOSConstants.REBOOT, LgWebOSConstants.REBOOT, LgWebOSConstants.PROCESSING, 0));
 				break;
 			case ASPECT_RATIO:
-				value = getValueByName(LgWebOSConstants.ASPECT_RATIO);
+				value = getValueByName(LgWebOSProperty.ASPECT_RATIO);
 				String[] aspectRatioDropdown = EnumTypeHandler.getEnumNames(AspectRatio.class);
 				AdvancedControllableProperty aspectRatioControl = controlDropdown(controlStatistics, aspectRatioDropdown, displayGroupName + LgWebOSConstants.ASPECT_RATIO, value);
 				checkControlPropertyBeforeAddNewProperty(aspectRatioControl, advancedControllableProperties);
 				break;
 			case BRIGHTNESS_CONTROL:
-				value = getValueByName(LgWebOSConstants.BRIGHTNESS_CONTROL);
+				value = getValueByName(LgWebOSProperty.BRIGHTNESS_CONTROL);
 				String[] brightnessSizeDropdown = EnumTypeHandler.getEnumNames(BrightnessSize.class);
 				AdvancedControllableProperty brightnessSizeControl = controlDropdown(controlStatistics, brightnessSizeDropdown, displayGroupName + LgWebOSConstants.BRIGHTNESS_CONTROL,
 						value);
 				checkControlPropertyBeforeAddNewProperty(brightnessSizeControl, advancedControllableProperties);
 				break;
 			case CONTRAST:
-				value = getValueByName(LgWebOSConstants.CONTRAST);
+				value = getValueByName(LgWebOSProperty.CONTRAST);
 				getDefaultValueForNullValue(value, controlStatistics, displayGroupName + LgWebOSConstants.CONTRAST_VALUE);
 				AdvancedControllableProperty controlContrast = createControlSlider(displayGroupName + LgWebOSConstants.CONTRAST, value, controlStatistics, String.valueOf(LgWebOSConstants.ZERO),
 						String.valueOf(LgWebOSConstants.MAX_RANGE_CONTRAST));
 				checkControlPropertyBeforeAddNewProperty(controlContrast, advancedControllableProperties);
 				break;
 			case PICTURE_MODE:
-				value = getValueByName(LgWebOSConstants.PICTURE_MODE);
+				value = getValueByName(LgWebOSProperty.PICTURE_MODE);
 				String[] pictureModeDropdown = EnumTypeHandler.getEnumNames(PictureMode.class);
 				AdvancedControllableProperty pictureModeControl = controlDropdown(controlStatistics, pictureModeDropdown, displayGroupName + LgWebOSConstants.PICTURE_MODE, value);
 				checkControlPropertyBeforeAddNewProperty(pictureModeControl, advancedControllableProperties);
 				break;
 			case BRIGHTNESS:
-				value = getValueByName(LgWebOSConstants.BRIGHTNESS);
+				value = getValueByName(LgWebOSProperty.BRIGHTNESS);
 				getDefaultValueForNullValue(value, controlStatistics, displayGroupName + LgWebOSConstants.BRIGHTNESS_VALUE);
 				AdvancedControllableProperty controlBrightness = createControlSlider(displayGroupName + LgWebOSConstants.BRIGHTNESS, value, controlStatistics, String.valueOf(LgWebOSConstants.ZERO),
 						String.valueOf(LgWebOSConstants.MAX_RANGE_BRIGHTNESS));
 				checkControlPropertyBeforeAddNewProperty(controlBrightness, advancedControllableProperties);
 				break;
 			case SHARPNESS:
-				value = getValueByName(LgWebOSConstants.SHARPNESS);
+				value = getValueByName(LgWebOSProperty.SHARPNESS);
 				getDefaultValueForNullValue(value, controlStatistics, displayGroupName + LgWebOSConstants.SHARPNESS_VALUE);
 				AdvancedControllableProperty controlSharpness = createControlSlider(displayGroupName + LgWebOSConstants.SHARPNESS, value, controlStatistics, String.valueOf(LgWebOSConstants.ZERO),
 						String.valueOf(LgWebOSConstants.MAX_RANGE_SHARPNESS));
 				checkControlPropertyBeforeAddNewProperty(controlSharpness, advancedControllableProperties);
 				break;
 			case SCREEN_COLOR:
-				value = getValueByName(LgWebOSConstants.SCREEN_COLOR);
+				value = getValueByName(LgWebOSProperty.SCREEN_COLOR);
 				getDefaultValueForNullValue(value, controlStatistics, displayGroupName + LgWebOSConstants.SCREEN_COLOR_VALUE);
 				AdvancedControllableProperty controlScreenColor = createControlSlider(displayGroupName + LgWebOSConstants.SCREEN_COLOR, value, controlStatistics, String.valueOf(LgWebOSConstants.ZERO),
 						String.valueOf(LgWebOSConstants.MAX_RANGE_SCREEN_COLOR));
 				checkControlPropertyBeforeAddNewProperty(controlScreenColor, advancedControllableProperties);
 				break;
 			case TINT:
-				value = getValueByName(LgWebOSConstants.TINT);
+				value = getValueByName(LgWebOSProperty.TINT);
 				String[] tintDropdown = EnumTypeHandler.getEnumNames(Tint.class);
 				String tintValue = EnumTypeHandler.getNameEnumByValue(Tint.class, value);
 				AdvancedControllableProperty controlTint = controlDropdown(controlStatistics, tintDropdown, displayGroupName + LgWebOSConstants.TINT, tintValue);
 				checkControlPropertyBeforeAddNewProperty(controlTint, advancedControllableProperties);
 				break;
 			case COLOR_TEMPERATURE:
-				value = getValueByName(LgWebOSConstants.COLOR_TEMPERATURE);
+				value = getValueByName(LgWebOSProperty.COLOR_TEMPERATURE);
 				Float colorTemperatureValue = convertFromApiValueToUIValue(value, LgWebOSConstants.COLOR_TEMPERATURE_MAX_VALUE, LgWebOSConstants.COLOR_TEMPERATURE_MIN_VALUE);
 				if (colorTemperatureValue != 0f) {
 					value = String.valueOf((int) Float.parseFloat(String.valueOf(colorTemperatureValue)));
@@ -1384,32 +2750,32 @@ public class LgWebOSDevice extends SocketCommunicator implements Controller, Mon
 				checkControlPropertyBeforeAddNewProperty(controlColorTemperature, advancedControllableProperties);
 				break;
 			case BALANCE:
-				value = getValueByName(LgWebOSConstants.BALANCE);
+				value = getValueByName(LgWebOSProperty.BALANCE);
 				String[] balanceDropdown = EnumTypeHandler.getEnumNames(Balance.class);
 				String balanceValue = EnumTypeHandler.getNameEnumByValue(Balance.class, value);
 				AdvancedControllableProperty controlBalance = controlDropdown(controlStatistics, balanceDropdown, soundGroupName + LgWebOSConstants.BALANCE, balanceValue);
 				checkControlPropertyBeforeAddNewProperty(controlBalance, advancedControllableProperties);
 				break;
 			case SOUND_MODE:
-				value = getValueByName(LgWebOSConstants.SOUND_MODE);
+				value = getValueByName(LgWebOSProperty.SOUND_MODE);
 				String[] soundModeDropdown = EnumTypeHandler.getEnumNames(SoundMode.class);
 				AdvancedControllableProperty soundModeControl = controlDropdown(controlStatistics, soundModeDropdown, soundGroupName + LgWebOSConstants.SOUND_MODE, value);
 				checkControlPropertyBeforeAddNewProperty(soundModeControl, advancedControllableProperties);
 				break;
 			case LANGUAGE:
-				value = getValueByName(LgWebOSConstants.LANGUAGE);
+				value = getValueByName(LgWebOSProperty.LANGUAGE);
 				String[] languageDropdown = EnumTypeHandler.getEnumNames(Language.class);
 				AdvancedControllableProperty languageControl = controlDropdown(controlStatistics, languageDropdown, LgWebOSConstants.LANGUAGE, value);
 				checkControlPropertyBeforeAddNewProperty(languageControl, advancedControllableProperties);
 				break;
 			case POWER_ON_STATUS:
-				value = getValueByName(LgWebOSConstants.POWER_ON_STATUS);
+				value = getValueByName(LgWebOSProperty.POWER_ON_STATUS);
 				String[] powerDropdown = EnumTypeHandler.getEnumNames(PowerStatus.class);
 				AdvancedControllableProperty powerControl = controlDropdown(controlStatistics, powerDropdown, powerManagementGroupName + LgWebOSConstants.POWER_ON_STATUS, value);
 				checkControlPropertyBeforeAddNewProperty(powerControl, advancedControllableProperties);
 				break;
 			case NO_SIGNAL_POWER_OFF:
-				value = getValueByName(LgWebOSConstants.NO_SIGNAL_POWER_OFF);
+				value = getValueByName(LgWebOSProperty.NO_SIGNAL_POWER_OFF);
 				if (!LgWebOSConstants.NA.equals(value)) {
 					value = String.valueOf(LgWebOSConstants.ON.equalsIgnoreCase(value) ? LgWebOSConstants.NUMBER_ONE : LgWebOSConstants.ZERO);
 				}
@@ -1419,7 +2785,7 @@ public class LgWebOSDevice extends SocketCommunicator implements Controller, Mon
 				checkControlPropertyBeforeAddNewProperty(controlNoSignalPower, advancedControllableProperties);
 				break;
 			case NO_IR_POWER_OFF:
-				value = getValueByName(LgWebOSConstants.NO_IR_POWER_OFF);
+				value = getValueByName(LgWebOSProperty.NO_IR_POWER_OFF);
 				if (!LgWebOSConstants.NA.equalsIgnoreCase(value)) {
 					value = String.valueOf(LgWebOSConstants.ON.equalsIgnoreCase(value) ? LgWebOSConstants.NUMBER_ONE : LgWebOSConstants.ZERO);
 				}
@@ -1452,36 +2818,36 @@ public class LgWebOSDevice extends SocketCommunicator implements Controller, Mon
 	 * @param statistics the statistics are list of statistics
 	 * @param dynamicStatistics the dynamicStatistics are list of dynamicStatistics
 	 */
-	private void populateMonitoringData(Map<String, String> statistics, Map<String, String> dynamicStatistics) {
+	void populateMonitoringData(Map<String, String> statistics, Map<String, String> dynamicStatistics) {
 		//The flow code is handled in the previous version
-		String signal = getValueByName(LgWebOSConstants.SIGNAL);
+		String signal = getValueByName(LgWebOSProperty.SIGNAL);
 		if (LgWebOSConstants.NA.equals(signal)) {
 			signal = syncStatusNames.NO_SYNC.name();
 		}
 		addOrUpdateStatisticProperties(statistics, LgWebOSConstants.SIGNAL, signal);
-		String inputSignal = getValueByName(LgWebOSConstants.INPUT_SELECT);
+		String inputSignal = getValueByName(LgWebOSProperty.INPUT_SELECT);
 		addOrUpdateStatisticProperties(statistics, LgWebOSConstants.INPUT_SELECT, inputSignal);
 
-		String fan = getValueByName(LgWebOSConstants.FAN);
+		String fan = getValueByName(LgWebOSProperty.FAN);
 		if (LgWebOSConstants.NA.equals(fan)) {
 			fan = fanStatusNames.NO_FAN.name();
 		}
 		addOrUpdateStatisticProperties(statistics, LgWebOSConstants.FAN, fan);
 
-		String temperatureValue = getValueByName(LgWebOSConstants.TEMPERATURE);
+		String temperatureValue = getValueByName(LgWebOSProperty.TEMPERATURE);
 		if (!historicalProperties.isEmpty() && historicalProperties.contains(LgWebOSConstants.TEMPERATURE)) {
 			addOrUpdateStatisticProperties(dynamicStatistics,LgWebOSConstants.TEMPERATURE, temperatureValue);
 		} else {
 			addOrUpdateStatisticProperties(statistics,LgWebOSConstants.TEMPERATURE, temperatureValue);
 		}
 		//new feature retrieve device dashboard
-		String software = getValueByName(LgWebOSConstants.SOFTWARE_VERSION);
-		String failover = getValueByName(LgWebOSConstants.FAILOVER_MODE);
-		String tileMode = getValueByName(LgWebOSConstants.TILE_MODE);
-		String serialNumber = getValueByName(LgWebOSConstants.SERIAL_NUMBER);
-		String standbyMode = getValueByName(LgWebOSConstants.DISPLAY_STAND_BY_MODE);
-		String date = getValueByName(LgWebOSConstants.DATE);
-		String time = getValueByName(LgWebOSConstants.TIME);
+		String software = getValueByName(LgWebOSProperty.SOFTWARE_VERSION);
+		String failover = getValueByName(LgWebOSProperty.FAILOVER_MODE);
+		String tileMode = getValueByName(LgWebOSProperty.TILE_MODE);
+		String serialNumber = getValueByName(LgWebOSProperty.SERIAL_NUMBER);
+		String standbyMode = getValueByName(LgWebOSProperty.DISPLAY_STAND_BY_MODE);
+		String date = getValueByName(LgWebOSProperty.DATE);
+		String time = getValueByName(LgWebOSProperty.TIME);
 
 		String dateTimeValue = String.format("%s %s", date, time);
 		if (LgWebOSConstants.NA.equals(date) || LgWebOSConstants.NA.equals(time)) {
@@ -1498,10 +2864,10 @@ public class LgWebOSDevice extends SocketCommunicator implements Controller, Mon
 		addOrUpdateStatisticProperties(statistics,LgWebOSConstants.DISPLAY_STAND_BY_MODE, standbyMode);
 
 		//populate Network information
-		String ipAddress = getValueByName(LgWebOSConstants.IP_ADDRESS);
-		String gateway = getValueByName(LgWebOSConstants.GATEWAY);
-		String subnetMask = getValueByName(LgWebOSConstants.SUBNET_MASK);
-		String dnsServer = getValueByName(LgWebOSConstants.DNS_SERVER);
+		String ipAddress = getValueByName(LgWebOSProperty.IP_ADDRESS);
+		String gateway = getValueByName(LgWebOSProperty.GATEWAY);
+		String subnetMask = getValueByName(LgWebOSProperty.SUBNET_MASK);
+		String dnsServer = getValueByName(LgWebOSProperty.DNS_SERVER);
 		addOrUpdateStatisticProperties(statistics,LgWebOSConstants.GATEWAY, gateway);
 		addOrUpdateStatisticProperties(statistics,LgWebOSConstants.SUBNET_MASK, subnetMask);
 		addOrUpdateStatisticProperties(statistics,LgWebOSConstants.DNS_SERVER, dnsServer);
@@ -1517,7 +2883,7 @@ public class LgWebOSDevice extends SocketCommunicator implements Controller, Mon
 	private void retrieveTileModeGroupValue(Map<String, String> controlStatistics, List<AdvancedControllableProperty> advancedControllableProperties) {
 		String groupName = LgWebOSConstants.TILE_MODE_SETTINGS + LgWebOSConstants.HASH;
 		//populate tile settings
-		String tileMode = getValueByName(LgWebOSConstants.TILE_MODE);
+		String tileMode = getValueByName(LgWebOSProperty.TILE_MODE);
 		String tileModeValue = LgWebOSConstants.NA;
 		if (!LgWebOSConstants.NA.equals(tileMode)) {
 			tileModeValue = String.valueOf(LgWebOSConstants.ON.equalsIgnoreCase(tileMode) ? 1 : 0);
@@ -1525,26 +2891,26 @@ public class LgWebOSDevice extends SocketCommunicator implements Controller, Mon
 		AdvancedControllableProperty controlTileMode = controlSwitch(controlStatistics, groupName + LgWebOSConstants.TILE_MODE, tileModeValue, LgWebOSConstants.OFF, LgWebOSConstants.ON);
 		checkControlPropertyBeforeAddNewProperty(controlTileMode, advancedControllableProperties);
 
-		addOrUpdateStatisticProperties(controlStatistics,groupName + LgWebOSConstants.TILE_MODE_COLUMN, getValueByName(LgWebOSConstants.TILE_MODE_COLUMN));
-		addOrUpdateStatisticProperties(controlStatistics,groupName + LgWebOSConstants.TILE_MODE_ROW, getValueByName(LgWebOSConstants.TILE_MODE_ROW));
+		addOrUpdateStatisticProperties(controlStatistics,groupName + LgWebOSConstants.TILE_MODE_COLUMN, getValueByName(LgWebOSProperty.TILE_MODE_COLUMN));
+		addOrUpdateStatisticProperties(controlStatistics,groupName + LgWebOSConstants.TILE_MODE_ROW, getValueByName(LgWebOSProperty.TILE_MODE_ROW));
 
 		//NaturalMode
 		if (LgWebOSConstants.ON.equals(tileMode)) {
 
 			//Retrieve Tile ID
-			String tileModeID = getValueByName(LgWebOSConstants.TILE_MODE_ID);
+			String tileModeID = getValueByName(LgWebOSProperty.TILE_MODE_ID);
 			if (!LgWebOSConstants.NA.equals(tileModeID)) {
 				tileModeID = String.valueOf(Integer.parseInt(tileModeID));
 			}
 			addOrUpdateStatisticProperties(controlStatistics,groupName + LgWebOSConstants.TILE_MODE_ID, tileModeID);
-			String naturalMode = getValueByName(LgWebOSConstants.NATURAL_MODE);
+			String naturalMode = getValueByName(LgWebOSProperty.NATURAL_MODE);
 			if (!LgWebOSConstants.NA.equals(naturalMode)) {
 				naturalMode = String.valueOf(LgWebOSConstants.ZERO == Integer.parseInt(naturalMode) ? 0 : 1);
 			}
 			AdvancedControllableProperty controlNaturalMode = controlSwitch(controlStatistics, groupName + LgWebOSConstants.NATURAL_MODE, naturalMode, LgWebOSConstants.OFF, LgWebOSConstants.ON);
 			checkControlPropertyBeforeAddNewProperty(controlNaturalMode, advancedControllableProperties);
 			if (String.valueOf(LgWebOSConstants.NUMBER_ONE).equals(naturalMode)) {
-				addOrUpdateStatisticProperties(controlStatistics,groupName + LgWebOSConstants.NATURAL_SIZE, getValueByName(LgWebOSConstants.NATURAL_SIZE));
+				addOrUpdateStatisticProperties(controlStatistics,groupName + LgWebOSConstants.NATURAL_SIZE, getValueByName(LgWebOSProperty.NATURAL_SIZE));
 			}
 		}
 	}
@@ -1557,7 +2923,7 @@ public class LgWebOSDevice extends SocketCommunicator implements Controller, Mon
 	 */
 	private void retrieveFailOverGroupValue(Map<String, String> controlStatistics, List<AdvancedControllableProperty> advancedControllableProperties) {
 		String groupName = LgWebOSConstants.FAILOVER + LgWebOSConstants.HASH;
-		String failOver = getValueByName(LgWebOSConstants.FAILOVER_MODE);
+		String failOver = getValueByName(LgWebOSProperty.FAILOVER_MODE);
 		int failOverValue = LgWebOSConstants.NUMBER_ONE;
 		if (LgWebOSConstants.NA.equals(failOver)) {
 			addOrUpdateStatisticProperties(controlStatistics,groupName + LgWebOSConstants.INPUT_PRIORITY, failOver);
@@ -1582,14 +2948,14 @@ public class LgWebOSDevice extends SocketCommunicator implements Controller, Mon
 			}
 			String[] inputSelected = cacheMapOfPriorityInputAndValue.values().stream().filter(item -> !item.equalsIgnoreCase(LgWebOSConstants.PLAY_VIA_URL)).collect(Collectors.toList())
 					.toArray(new String[0]);
-			String priorityInput = getValueByName(LgWebOSConstants.PRIORITY_INPUT);
+			String priorityInput = getValueByName(LgWebOSProperty.PRIORITY_INPUT);
 			if (LgWebOSConstants.NA.equals(priorityInput)) {
 				Optional<Entry<String, String>> priorityInputOption = cacheMapOfPriorityInputAndValue.entrySet().stream().filter(item -> !item.getValue().equalsIgnoreCase(LgWebOSConstants.PLAY_VIA_URL))
 						.findFirst();
 				if (priorityInputOption.isPresent()) {
 					priorityInput = priorityInputOption.get().getValue();
 				}
-				localCacheMapOfPropertyNameAndValue.put(LgWebOSConstants.PRIORITY_INPUT, priorityInput);
+				localPropertyStore.put(LgWebOSProperty.PRIORITY_INPUT, priorityInput);
 			}
 			populatePriorityInput(controlStatistics, advancedControllableProperties, groupName, priorityInput);
 			AdvancedControllableProperty controlInputSource = controlDropdown(controlStatistics, inputSelected, groupName + LgWebOSConstants.PRIORITY_INPUT, priorityInput);
@@ -1610,9 +2976,9 @@ public class LgWebOSDevice extends SocketCommunicator implements Controller, Mon
 		String soundGroupName = LgWebOSConstants.SOUND + LgWebOSConstants.HASH;
 		String inputGroupName = LgWebOSConstants.INPUT + LgWebOSConstants.HASH;
 		String powerManagementGroupName = LgWebOSConstants.POWER_MANAGEMENT + LgWebOSConstants.HASH;
-		String backlight = getValueByName(LgWebOSConstants.BACKLIGHT);
-		String mute = getValueByName(LgWebOSConstants.MUTE);
-		String volume = getValueByName(LgWebOSConstants.VOLUME);
+		String backlight = getValueByName(LgWebOSProperty.BACKLIGHT);
+		String mute = getValueByName(LgWebOSProperty.MUTE);
+		String volume = getValueByName(LgWebOSProperty.VOLUME);
 
 		getDefaultValueForNullValue(backlight, statistics, displayGroupName + LgWebOSConstants.BACKLIGHT_VALUE);
 		AdvancedControllableProperty controlBacklight = createControlSlider(displayGroupName + LgWebOSConstants.BACKLIGHT, backlight, statistics, String.valueOf(LgWebOSConstants.ZERO),
@@ -1630,20 +2996,25 @@ public class LgWebOSDevice extends SocketCommunicator implements Controller, Mon
 				String.valueOf(LgWebOSConstants.MAX_RANGE_VOLUME));
 		checkControlPropertyBeforeAddNewProperty(controlVolume, advancedControllableProperties);
 
-		String inputSourceValue = getValueByName(LgWebOSConstants.INPUT_SELECT);
+		String inputSourceValue = getValueByName(LgWebOSProperty.INPUT_SELECT);
 		if (!LgWebOSConstants.NA.equals(inputSourceValue)) {
-			cacheMapOfPriorityInputAndValue.put(LgWebOSConstants.PLAY_VIA_URL, LgWebOSConstants.PLAY_VIA_URL);
-			String[] inputDropdown = cacheMapOfPriorityInputAndValue.values().stream().sorted().collect(Collectors.toList()).toArray(new String[0]);
+			Map<String, String> priorityInputs = cacheMapOfPriorityInputAndValue;
+			if (!priorityInputs.containsKey(LgWebOSConstants.PLAY_VIA_URL)) {
+				priorityInputs = new HashMap<>(priorityInputs);
+				priorityInputs.put(LgWebOSConstants.PLAY_VIA_URL, LgWebOSConstants.PLAY_VIA_URL);
+				cacheMapOfPriorityInputAndValue = priorityInputs;
+			}
+			String[] inputDropdown = priorityInputs.values().stream().sorted().collect(Collectors.toList()).toArray(new String[0]);
 			AdvancedControllableProperty controlInputSource = controlDropdown(statistics, inputDropdown, inputGroupName + LgWebOSConstants.INPUT_SELECT, inputSourceValue);
 			checkControlPropertyBeforeAddNewProperty(controlInputSource, advancedControllableProperties);
 			statistics.put(LgWebOSConstants.INPUT_SELECT, inputSourceValue);
 		}
 		String[] pmdDropdown = EnumTypeHandler.getEnumNames(PowerManagement.class);
 		AdvancedControllableProperty controlPMD = controlDropdown(statistics, pmdDropdown, powerManagementGroupName + LgWebOSConstants.DISPLAY_STAND_BY_MODE,
-				getValueByName(LgWebOSConstants.DISPLAY_STAND_BY_MODE));
+				getValueByName(LgWebOSProperty.DISPLAY_STAND_BY_MODE));
 		checkControlPropertyBeforeAddNewProperty(controlPMD, advancedControllableProperties);
 
-		String pmdModeValue = getValueByName(LgWebOSConstants.POWER_MANAGEMENT_MODE);
+		String pmdModeValue = getValueByName(LgWebOSProperty.POWER_MANAGEMENT_MODE);
 
 		String[] pmdModeDropdown = EnumTypeHandler.getEnumNames(PowerManagementModeEnum.class);
 		AdvancedControllableProperty controlPMDMode = controlDropdown(statistics, pmdModeDropdown, powerManagementGroupName + LgWebOSConstants.POWER_MANAGEMENT_MODE, pmdModeValue);
@@ -1651,13 +3022,13 @@ public class LgWebOSDevice extends SocketCommunicator implements Controller, Mon
 	}
 
 	/**
-	 * Get value of property by name
+	 * Get value of property
 	 *
-	 * @param name the name is name if property
+	 * @param property the property is property to read
 	 * @return String is value of property or NA if the value is null or N/A
 	 */
-	private String getValueByName(String name) {
-		String value = localCacheMapOfPropertyNameAndValue.get(name);
+	String getValueByName(LgWebOSProperty property) {
+		String value = localPropertyStore.get(property);
 		if (StringUtils.isNullOrEmpty(value) || LgWebOSConstants.NA.equals(value)) {
 			return LgWebOSConstants.NA;
 		}
@@ -1672,26 +3043,103 @@ public class LgWebOSDevice extends SocketCommunicator implements Controller, Mon
 	 * @return String is data response from the device or None if response fail
 	 */
 	private String retrieveDataByCommandName(commandNames command, commandNames param, LgControllingCommand lgControllingCommand) {
+		if (Thread.currentThread() == controlThread) {
+			controlReadCommands.add(command);
+		}
 		try {
-			byte[] response = send(LgWebOSUtils.buildSendString((byte) monitorID, LgWebOSConstants.commands.get(command), LgWebOSConstants.commands.get(param)));
-			return digestResponse(response, command).toString();
+			byte[] frame = getFrameCache().getQueryFrame(command, param);
+			byte[] response = send(frame);
+			return digestResponse(response, command, frame).toString();
 		} catch (Exception ce) {
-			failedMonitor.add(lgControllingCommand.getName());
+			addFailedCommand(lgControllingCommand);
 			this.logger.warn(String.format("An error occurred when sending command %s to retrieve data", command.name()), ce);
 			return LgWebOSConstants.NA;
 		}
 	}
 
+	/**
+	 * Record a command that could not be read, a read of the controls is kept apart from the polling failures
+	 *
+	 * @param lgControllingCommand the lgControllingCommand is command that could not be read
+	 */
+	private void addFailedCommand(LgControllingCommand lgControllingCommand) {
+		if (Thread.currentThread() == controlThread) {
+			controlFailedCommands.add(lgControllingCommand);
+		} else {
+			failedMonitor.add(lgControllingCommand);
+		}
+	}
+
+	/**
+	 * Get the query frames of the current monitor ID, the cache is looked up again when the monitor ID changes
+	 *
+	 * @return LgWebOSFrameCache is the frame cache
+	 */
+	private LgWebOSFrameCache getFrameCache() {
+		LgWebOSFrameCache current = frameCache;
+		if (current == null || current.getMonitorID() != (monitorID & 0xFF)) {
+			current = LgWebOSFrameCache.getInstance(monitorID);
+			frameCache = current;
+		}
+		return current;
+	}
+
+	/**
+	 * Create the executor of the blocking transport on first use, the NIO transport doesn't need them
+	 */
+	private void initExecutors() {
+		if (fetchingDataExSer == null) {
+			fetchingDataExSer = Executors.newFixedThreadPool(1);
+		}
+	}
+
+	/**
+	 * Retrieve data of several commands with one pipelined burst, replies are digested in the order of the commands
+	 *
+	 * @param controllingCommands the controllingCommands are commands to retrieve
+	 * @param params the params are param of every command
+	 */
+	private void retrieveDataPipelined(List<LgControllingCommand> controllingCommands, List<commandNames> params) {
+		byte[][] frames = new byte[controllingCommands.size()][];
+		for (int i = 0; i < frames.length; i++) {
+			frames[i] = getFrameCache().getQueryFrame(controllingCommands.get(i).getCommandNames(), params.get(i));
+		}
+		byte[][] replies;
+		try {
+			replies = sendPipelined(frames, Thread.currentThread() == controlThread ? Lane.CONTROL : Lane.POLL);
+		} catch (Exception e) {
+			this.logger.warn("An error occurred when sending pipelined commands to retrieve data", e);
+			destroyChannel();
+			for (LgControllingCommand controllingCommand : controllingCommands) {
+				addFailedCommand(controllingCommand);
+			}
+			return;
+		}
+		for (int i = 0; i < replies.length; i++) {
+			LgControllingCommand controllingCommand = controllingCommands.get(i);
+			if (replies[i] == null) {
+				addFailedCommand(controllingCommand);
+				continue;
+			}
+			try {
+				digestResponse(replies[i], controllingCommand.getCommandNames(), frames[i]);
+			} catch (Exception e) {
+				addFailedCommand(controllingCommand);
+				this.logger.warn(String.format("An error occurred when digesting the reply of command %s", controllingCommand.getCommandNames().name()), e);
+			}
+		}
+	}
+
 	/**
 	 * Control power on
 	 */
 	protected void powerON() {
 		try {
-			byte[] response = send(
-					LgWebOSUtils.buildSendString((byte) monitorID, LgWebOSConstants.commands.get(LgWebOSConstants.commandNames.POWER), LgWebOSConstants.powerStatus.get(LgWebOSConstants.powerStatusNames.ON)));
+			byte[] frame = LgWebOSUtils.buildSendString((byte) monitorID, LgWebOSConstants.commands.get(LgWebOSConstants.commandNames.POWER),
+					LgWebOSConstants.powerStatus.get(LgWebOSConstants.powerStatusNames.ON));
+			byte[] response = send(frame);
 
-			digestResponse(response, LgWebOSConstants.commandNames.POWER);
-			updateCachedDeviceData(cacheMapOfPriorityInputAndValue, LgWebOSConstants.POWER, LgWebOSConstants.ON);
+			digestResponse(response, LgWebOSConstants.commandNames.POWER, frame);
 		} catch (Exception e) {
 			if (this.logger.isDebugEnabled()) {
 				this.logger.debug("error during power OFF send", e);
@@ -1705,11 +3153,11 @@ public class LgWebOSDevice extends SocketCommunicator implements Controller, Mon
 	 */
 	protected void powerOFF() {
 		try {
-			byte[] response = send(
-					LgWebOSUtils.buildSendString((byte) monitorID, LgWebOSConstants.commands.get(LgWebOSConstants.commandNames.POWER), LgWebOSConstants.powerStatus.get(LgWebOSConstants.powerStatusNames.OFF)));
+			byte[] frame = LgWebOSUtils.buildSendString((byte) monitorID, LgWebOSConstants.commands.get(LgWebOSConstants.commandNames.POWER),
+					LgWebOSConstants.powerStatus.get(LgWebOSConstants.powerStatusNames.OFF));
+			byte[] response = send(frame);
 
-			digestResponse(response, LgWebOSConstants.commandNames.POWER);
-			updateCachedDeviceData(cacheMapOfPriorityInputAndValue, LgWebOSConstants.POWER, LgWebOSConstants.OFF);
+			digestResponse(response, LgWebOSConstants.commandNames.POWER, frame);
 		} catch (Exception e) {
 			if (this.logger.isDebugEnabled()) {
 				this.logger.debug("error during power ON send", e);
@@ -1719,274 +3167,51 @@ public class LgWebOSDevice extends SocketCommunicator implements Controller, Mon
 	}
 
 	/**
-	 * Update cache device data
+	 * Update cache device data, the value is written by the adapter so it doesn't count as a value read from the device
 	 *
-	 * @param cacheMapOfPropertyNameAndValue the cacheMapOfPropertyNameAndValue are map key and value of it
-	 * @param property the key is property name
+	 * @param property the property is property to update
 	 * @param value the value is String value
 	 */
-	private void updateCachedDeviceData(Map<String, String> cacheMapOfPropertyNameAndValue, String property, String value) {
-		cacheMapOfPropertyNameAndValue.remove(property);
-		cacheMapOfPropertyNameAndValue.put(property, value);
+	private void updateCachedDeviceData(LgWebOSProperty property, String value) {
+		localPropertyStore.put(property, value);
 		//Remove the caching lifetime after receiving new data
-		localCachingLifeTimeOfMap.remove(property);
+		localPropertyStore.resetFailedCycles(property.getCommand());
 	}
 
 	/**
-	 * This method is used to digest the response received from the device
+	 * This method is used to digest the response received from the device, the request frame is unknown so an NG reply
+	 * is not recorded by {@link #coolDownController}
 	 *
 	 * @param response This is the response to be digested
 	 * @param expectedResponse This is the expected response type to be compared with received
 	 * @return Object This returns the result digested from the response.
 	 */
 	protected Object digestResponse(byte[] response, commandNames expectedResponse) {
-		if (response[0] == LgWebOSConstants.commands.get(expectedResponse)[1]) {
-
-			byte[] responseStatus = Arrays.copyOfRange(response, 5, 7);
-
-			if (Arrays.equals(responseStatus, LgWebOSConstants.replyStatusCodes.get(replyStatusNames.OK))) {
+		return digestResponse(response, expectedResponse, null);
+	}
 
-				byte[] reply = Arrays.copyOfRange(response, 7, 9);
+	/**
+	 * This method is used to digest the response received from the device
+	 *
+	 * @param response This is the response to be digested
+	 * @param expectedResponse This is the expected response type to be compared with received
+	 * @param frame This is the request frame the response answers, null if unknown
+	 * @return Object This returns the result digested from the response.
+	 */
+	protected Object digestResponse(byte[] response, commandNames expectedResponse, byte[] frame) {
+		if (response[0] == LgWebOSConstants.commands.get(expectedResponse)[1]) {
 
-				switch (expectedResponse) {
-					case NATURAL_MODE:
-						String natural = convertByteToValue(reply);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.NATURAL_MODE, natural);
-						return natural;
-					case TILE_ID:
-						String tileID = convertByteToValue(reply);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.TILE_MODE_ID, tileID);
-						return tileID;
-					case TILE_MODE_CONTROL:
-						String tileModeControl = convertByteToValue(reply);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.TILE_MODE_SETTINGS, tileModeControl);
-						return tileModeControl;
-					case NATURAL_SIZE:
-						int naturalSize = Integer.parseInt(convertByteToValue(Arrays.copyOfRange(response, 9, 11)), 16);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.NATURAL_SIZE, String.valueOf(naturalSize));
-						return naturalSize;
-					case BACKLIGHT:
-						int backlight = Integer.parseInt(convertByteToValue(reply), 16);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.BACKLIGHT, String.valueOf(backlight));
-						return backlight;
-					case MUTE:
-						int mute = Integer.parseInt(convertByteToValue(reply), 16);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.MUTE, String.valueOf(mute));
-						return mute;
-					case VOLUME:
-						int volume = Integer.parseInt(convertByteToValue(reply), 16);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.VOLUME, String.valueOf(volume));
-						return volume;
-					case FAILOVER_INPUT_LIST:
-						int len = response.length;
-						reply = Arrays.copyOfRange(response, 7, len - 1);
-						convertInputPriorityByValue(convertByteToValue(reply));
-						return reply;
-					case POWER_MANAGEMENT_MODE:
-						reply = Arrays.copyOfRange(response, 9, 11);
-						String powerManagement = convertByteToValue(reply);
-						powerManagement = EnumTypeHandler.getNameEnumByValue(PowerManagementModeEnum.class, powerManagement);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.POWER_MANAGEMENT_MODE, powerManagement);
-						return powerManagement;
-					case POWER:
-						for (Map.Entry<LgWebOSConstants.powerStatusNames, byte[]> entry : LgWebOSConstants.powerStatus.entrySet()) {
-							if (Arrays.equals(reply, entry.getValue())) {
-								updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.POWER, entry.getKey().toString());
-								return entry.getKey();
-							}
-						}
-						break;
-					case NETWORK_SETTING:
-						reply = Arrays.copyOfRange(response, 10, response.length - 1);
-						convertNetworkSettingByValue(convertByteToValue(reply));
-						return reply;
-					case INPUT_SELECT:
-					case INPUT:
-						for (Map.Entry<LgWebOSConstants.inputNames, byte[]> entry : LgWebOSConstants.inputs.entrySet()) {
-							if (Arrays.equals(reply, entry.getValue())) {
-								String input = convertByteToValue(entry.getValue());
-								String inputValue = EnumTypeHandler.getNameEnumByValue(FailOverInputSourceEnum.class, input);
-								if (LgWebOSConstants.NA.equalsIgnoreCase(inputValue)) {
-									inputValue = EnumTypeHandler.getNameEnumByValue(InputSourceDropdown.class, input);
-								}
-								updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.INPUT_SELECT, inputValue);
-								return entry.getKey();
-							}
-						}
-						break;
-					case TEMPERATURE:
-						int temperature = Integer.parseInt(new String(reply), 16);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.TEMPERATURE, String.valueOf(temperature));
-						return temperature;
-					case FAN_STATUS:
-						for (Map.Entry<LgWebOSConstants.fanStatusNames, byte[]> entry : LgWebOSConstants.fanStatusCodes.entrySet()) {
-							if (Arrays.equals(reply, entry.getValue())) {
-								updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.FAN, entry.getKey().name());
-								return entry.getKey();
-							}
-						}
-						break;
-					case SYNC_STATUS:
-						reply = Arrays.copyOfRange(response, 7, 11);
-						for (Map.Entry<LgWebOSConstants.syncStatusNames, byte[]> entry : LgWebOSConstants.syncStatusCodes.entrySet()) {
-							if (Arrays.equals(reply, entry.getValue())) {
-								updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.SIGNAL, entry.getKey().toString());
-								return entry.getKey();
-							}
-						}
-						break;
-					case SERIAL_NUMBER:
-						byte[] data = Arrays.copyOfRange(response, 7, 19);
-						String serialNumber = convertByteToValue(data);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.SERIAL_NUMBER, serialNumber);
-						return serialNumber;
-					case FAILOVER:
-						String failOver = convertByteToValue(reply);
-						for (FailOverEnum name : FailOverEnum.values()) {
-							if (name.getValue().equals(failOver)) {
-								updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.FAILOVER_MODE, name.getName());
-								return name.getName();
-							}
-						}
-						break;
-					case SOFTWARE_VERSION:
-						data = Arrays.copyOfRange(response, 7, 13);
-						String softwareVersion = convertByteToValue(data);
-						//Custom software with format xx.xx.xx
-						StringBuilder stringBuilder = new StringBuilder();
-						for (int i = 0; i < softwareVersion.length(); i = i + 2) {
-							stringBuilder.append(softwareVersion, i, i + 2);
-							if (i != softwareVersion.length() - 2) {
-								stringBuilder.append(LgWebOSConstants.DOT);
-							}
-						}
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.SOFTWARE_VERSION, stringBuilder.toString());
-						return stringBuilder.toString();
-					case DISPLAY_STAND_BY_MODE:
-						String pdm = convertByteToValue(reply);
-						for (PowerManagement name : PowerManagement.values()) {
-							if (name.getValue().equals(pdm)) {
-								if (!localCacheMapOfPropertyNameAndValue.isEmpty()) {
-									localCacheMapOfPropertyNameAndValue.remove(LgWebOSConstants.DISPLAY_STAND_BY_MODE);
-								}
-								updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.DISPLAY_STAND_BY_MODE, name.getName());
-								if (PowerManagement.OFF.getName().equals(name.getName())) {
-									return name.getName();
-								}
-								return LgWebOSConstants.ON;
-							}
-						}
-						break;
-					case DATE:
-						data = Arrays.copyOfRange(response, 7, 13);
-						String date = convertDateFormatByValue(data, false);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.DATE, date);
-						return date;
-					case TIME:
-						data = Arrays.copyOfRange(response, 7, 13);
-						String time = convertDateFormatByValue(data, true);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.TIME, time);
-						return time;
-					case TILE_MODE_SETTINGS:
-						byte[] typeModeStatus = Arrays.copyOfRange(response, 7, 9);
-						byte[] typeModeColumn = Arrays.copyOfRange(response, 9, 11);
-						byte[] typeModeRow = Arrays.copyOfRange(response, 11, 13);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.TILE_MODE_COLUMN, String.valueOf(Integer.parseInt(convertByteToValue(typeModeColumn), 16)));
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.TILE_MODE_ROW, String.valueOf(Integer.parseInt(convertByteToValue(typeModeRow), 16)));
-						String tileMode = convertByteToValue(typeModeStatus);
-						for (TileMode name : TileMode.values()) {
-							if (name.isStatus() && name.getValue().equals(tileMode)) {
-								updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.TILE_MODE, name.getName());
-								return name.getName();
-							}
-						}
-						break;
-					case ASPECT_RATIO:
-						String aspectRatio = EnumTypeHandler.getNameEnumByValue(AspectRatio.class, convertByteToValue(reply));
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.ASPECT_RATIO, aspectRatio);
-						return aspectRatio;
-					case BRIGHTNESS_CONTROL:
-						String brightness = EnumTypeHandler.getNameEnumByValue(BrightnessSize.class, convertByteToValue(reply));
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.BRIGHTNESS_CONTROL, brightness);
-						return brightness;
-					case PICTURE_MODE:
-						String pictureMode = EnumTypeHandler.getNameEnumByValue(PictureMode.class, convertByteToValue(reply));
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.PICTURE_MODE, pictureMode);
-						return pictureMode;
-					case BRIGHTNESS:
-						reply = Arrays.copyOfRange(response, 7, 9);
-						String brightnessMode = String.valueOf(Integer.parseInt(convertByteToValue(reply), 16));
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.BRIGHTNESS, brightnessMode);
-						return brightnessMode;
-					case CONTRAST:
-						reply = Arrays.copyOfRange(response, 7, 9);
-						String sharpness = String.valueOf(Integer.parseInt(convertByteToValue(reply), 16));
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.CONTRAST, sharpness);
-						return sharpness;
-					case SHARPNESS:
-						reply = Arrays.copyOfRange(response, 7, 9);
-						String sharpnessValue = String.valueOf(Integer.parseInt(convertByteToValue(reply), 16));
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.SHARPNESS, sharpnessValue);
-						return sharpnessValue;
-					case SCREEN_COLOR:
-						reply = Arrays.copyOfRange(response, 7, 9);
-						String tint = String.valueOf(Integer.parseInt(convertByteToValue(reply), 16));
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.SCREEN_COLOR, tint);
-						return tint;
-					case TINT:
-						reply = Arrays.copyOfRange(response, 7, 9);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.TINT, convertByteToValue(reply));
-						return reply;
-					case COLOR_TEMPERATURE:
-						reply = Arrays.copyOfRange(response, 7, 9);
-						String colorTemperature = String.valueOf(Integer.parseInt(convertByteToValue(reply), 16));
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.COLOR_TEMPERATURE, colorTemperature);
-						return colorTemperature;
-					case BALANCE:
-						reply = Arrays.copyOfRange(response, 7, 9);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.BALANCE, convertByteToValue(reply));
-						return reply;
-					case SOUND_MODE:
-						String soundModeValue = EnumTypeHandler.getNameEnumByValue(SoundMode.class, convertByteToValue(reply));
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.SOUND_MODE, soundModeValue);
-						return soundModeValue;
-					case NO_SIGNAL_POWER_OFF:
-						String noSignal = String.valueOf(Integer.parseInt(convertByteToValue(reply)));
-						String noSignalValue = LgWebOSConstants.ON;
-						if (String.valueOf(LgWebOSConstants.ZERO).equals(noSignal)) {
-							noSignalValue = LgWebOSConstants.OFF;
-						}
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.NO_SIGNAL_POWER_OFF, noSignalValue);
-						return noSignalValue;
-					case NO_IR_POWER_OFF:
-						String noIRPower = String.valueOf(Integer.parseInt(convertByteToValue(reply)));
-						String noIRPowerValue = LgWebOSConstants.ON;
-						if (String.valueOf(LgWebOSConstants.ZERO).equals(noIRPower)) {
-							noIRPowerValue = LgWebOSConstants.OFF;
-						}
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.NO_IR_POWER_OFF, noIRPowerValue);
-						return noIRPowerValue;
-					case LANGUAGE:
-						String languageValue = EnumTypeHandler.getNameEnumByValue(Language.class, convertByteToValue(reply));
-						if (!LgWebOSConstants.NA.equals(languageValue)) {
-							updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.LANGUAGE, languageValue);
-						}
-						return languageValue;
-					case POWER_ON_STATUS:
-						String powerOnStatus = EnumTypeHandler.getNameEnumByValue(PowerStatus.class, convertByteToValue(reply));
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgWebOSConstants.POWER_ON_STATUS, powerOnStatus);
-						return powerOnStatus;
-					case REBOOT:
-						reply = Arrays.copyOfRange(response, 7, 9);
-						String rebootValue = convertByteToValue(reply);
-						if (!LgWebOSConstants.REBOOT_VALUE.equals(rebootValue)) {
-							throw new ResourceNotReachableException("NG reply");
-						}
-						return rebootValue;
-					default:
-						logger.debug("this command name is not supported" + expectedResponse);
+			if (isReplyStatus(response, replyStatusNames.OK)) {
+				coolDownController.onCleanReply(expectedResponse);
+				ResponseDecoder decoder = responseDecoderRegistry.get(expectedResponse);
+				if (decoder != null) {
+					return decoder.decode(response, localPropertyStore);
+				}
+				logger.debug("this command name is not supported" + expectedResponse);
+			} else if (isReplyStatus(response, replyStatusNames.NG)) {
+				if (frame != null) {
+					coolDownController.onNgReply(expectedResponse, frame);
 				}
-			} else if (Arrays.equals(responseStatus, LgWebOSConstants.replyStatusCodes.get(replyStatusNames.NG))) {
 				switch (expectedResponse) {
 					case FAN_STATUS: {
 						return LgWebOSConstants.fanStatusNames.NOT_SUPPORTED;
@@ -2000,6 +3225,7 @@ public class LgWebOSDevice extends SocketCommunicator implements Controller, Mon
 				}
 			}
 		} else {
+			coolDownController.onFault();
 			if (this.logger.isErrorEnabled()) {
 				this.logger.error("error: Unexpected reply: " + this.host + " port: " + this.getPort());
 			}
@@ -2010,136 +3236,35 @@ public class LgWebOSDevice extends SocketCommunicator implements Controller, Mon
 	}
 
 	/**
-	 * Convert input priority by value
-	 *
-	 * @param inputPriority the inputPriority is String value
-	 */
-	private void convertInputPriorityByValue(String inputPriority) {
-		int index = 1;
-		cacheMapOfPriorityInputAndValue = new HashMap<>();
-		for (int i = 0; i < inputPriority.length(); i = i + 2) {
-			String value = inputPriority.substring(i, i + 2);
-			cacheMapOfPriorityInputAndValue.put(LgWebOSConstants.PRIORITY + index, EnumTypeHandler.getNameEnumByValue(FailOverInputSourceEnum.class, value));
-			index++;
-		}
-	}
-
-	/**
-	 * Convert network setting by value
-	 *
-	 * @param networkResponse the networkResponse is String value
-	 */
-	private void convertNetworkSettingByValue(String networkResponse) {
-		String[] networkArray = networkResponse.split(LgWebOSConstants.SPACE);
-		StringBuilder stringBuilder = new StringBuilder();
-		// value of network settings will be 172000001001 255255255000 172000001001 172000000003
-		try {
-			convertNetworkSettingToValue(stringBuilder, networkArray[networkArray.length - 4]);
-			localCacheMapOfPropertyNameAndValue.put(LgWebOSConstants.IP_ADDRESS, stringBuilder.toString());
-
-			stringBuilder = new StringBuilder();
-			convertNetworkSettingToValue(stringBuilder, networkArray[networkArray.length - 3]);
-			localCacheMapOfPropertyNameAndValue.put(LgWebOSConstants.SUBNET_MASK, stringBuilder.toString());
-
-			stringBuilder = new StringBuilder();
-			convertNetworkSettingToValue(stringBuilder, networkArray[networkArray.length - 2]);
-			localCacheMapOfPropertyNameAndValue.put(LgWebOSConstants.GATEWAY, stringBuilder.toString());
-
-			stringBuilder = new StringBuilder();
-			convertNetworkSettingToValue(stringBuilder, networkArray[networkArray.length - 1]);
-			localCacheMapOfPropertyNameAndValue.put(LgWebOSConstants.DNS_SERVER, stringBuilder.toString());
-		} catch (Exception e) {
-			localCacheMapOfPropertyNameAndValue.put(LgWebOSConstants.IP_ADDRESS, LgWebOSConstants.NA);
-			localCacheMapOfPropertyNameAndValue.put(LgWebOSConstants.SUBNET_MASK, LgWebOSConstants.NA);
-			localCacheMapOfPropertyNameAndValue.put(LgWebOSConstants.GATEWAY, LgWebOSConstants.NA);
-			localCacheMapOfPropertyNameAndValue.put(LgWebOSConstants.DNS_SERVER, LgWebOSConstants.NA);
-		}
-	}
-
-	/**
-	 * Convert data of network settings by value
-	 *
-	 * @param propertyName the propertyName is name of property
-	 * @param networkValue the networkValue is value as String
-	 */
-	private void convertNetworkSettingToValue(StringBuilder propertyName, String networkValue) {
-		//The network example value would be 192168000001, we will convert it to 192.168.0.1
-		for (int i = 0; i < networkValue.length(); i = i + 3) {
-			String value = networkValue.substring(i, i + 3);
-			propertyName.append(Integer.parseInt(value));
-			if (i != networkValue.length() - 3) {
-				propertyName.append(LgWebOSConstants.DOT);
-			}
-		}
-	}
-
-	/**
-	 * Convert byte to value
+	 * Check the status of the reply, it is read in place from the reply
 	 *
-	 * @param bytes is data represented as bytes
-	 * @return String is data after converting byte to String
-	 */
-	private String convertByteToValue(byte[] bytes) {
-		StringBuilder stringBuilder = new StringBuilder();
-		for (byte byteValue : bytes) {
-			stringBuilder.append((char) (byteValue));
-		}
-		return stringBuilder.toString();
+	 * @param response the response is reply of the device
+	 * @param status the status is expected status
+	 * @return boolean is true if the reply has the status
+	 */
+	private boolean isReplyStatus(byte[] response, replyStatusNames status) {
+		byte[] statusCode = LgWebOSConstants.replyStatusCodes.get(status);
+		return response.length >= LgWebOSConstants.REPLY_STATUS_END_INDEX
+				&& response[LgWebOSConstants.REPLY_STATUS_END_INDEX - 2] == statusCode[0] && response[LgWebOSConstants.REPLY_STATUS_END_INDEX - 1] == statusCode[1];
 	}
 
 	/**
-	 * Convert value to format month/day/year
+	 * Decode the failover input list, the value example 908091 is converted to Priority1 to Priority3 inputs
 	 *
-	 * @param data the data is data of the response
-	 * @param isTimeFormat the isTimeFormat is boolean value
-	 * @return String is format of date
+	 * @param response the response is reply of the device
+	 * @param store the store is property store of the device
+	 * @return Object is the input list
 	 */
-	private String convertDateFormatByValue(byte[] data, boolean isTimeFormat) {
-		StringBuilder stringBuilder = new StringBuilder();
-		StringBuilder dateValue = new StringBuilder();
-		String year = LgWebOSConstants.EMPTY_STRING;
-		for (byte byteValue : data) {
-			stringBuilder.append((char) (byteValue));
-		}
-
-		//The value example 173B00 with 17 is hours, 3B is minutes, and 00 is seconds
-		//convert Hex to decimal data to 173B00 to 23:59:00
-		String defaultTime = LgWebOSConstants.AM;
-		if (isTimeFormat) {
-			for (int i = 0; i < stringBuilder.length() - 3; i = i + 2) {
-				int hexValue = Integer.parseInt(stringBuilder.substring(i, i + 2), 16);
-				if (i == 0) {
-					if (hexValue == 0) {
-						defaultTime = LgWebOSConstants.PM;
-						hexValue = 12;
-					} else if (hexValue > 12) {
-						defaultTime = LgWebOSConstants.PM;
-						hexValue = hexValue - 12;
-					}
-					dateValue.append(hexValue);
-				} else {
-					if (hexValue < 10) {
-						dateValue.append(LgWebOSConstants.COLON + LgWebOSConstants.ZERO + hexValue);
-					} else {
-						dateValue.append(LgWebOSConstants.COLON + hexValue);
-					}
-					dateValue.append(LgWebOSConstants.SPACE + defaultTime);
-				}
-			}
-			return dateValue.toString();
-		}
-		//The value example 0c011F with 0c is year, 01 is month, and 1F is day
-		//convert Hex to decimal data to 0c011f to 1/31/2022
-		//the year format = 2010 + 0c in(0c111F)
-		for (int i = 0; i < stringBuilder.length() - 1; i = i + 2) {
-			int hexValue = Integer.parseInt(stringBuilder.substring(i, i + 2), 16);
-			if (i == 0) {
-				year = String.valueOf(2010 + hexValue);
-			} else {
-				dateValue.append(hexValue + "/");
-			}
+	private Object decodeFailoverInputList(byte[] response, LgWebOSPropertyStore store) {
+		int index = 1;
+		Map<String, String> inputPriority = new HashMap<>();
+		for (int i = LgWebOSConstants.REPLY_STATUS_END_INDEX; i + 2 < response.length; i = i + 2) {
+			String value = ResponseDecoderRegistry.decodeCode(response, i);
+			inputPriority.put(LgWebOSConstants.PRIORITY + index, EnumTypeHandler.getNameEnumByValue(FailOverInputSourceEnum.class, value));
+			index++;
 		}
-		return dateValue.append(year).toString();
+		cacheMapOfPriorityInputAndValue = inputPriority;
+		return inputPriority;
 	}
 
 	/**
@@ -2173,10 +3298,25 @@ public class LgWebOSDevice extends SocketCommunicator implements Controller, Mon
 		advancedControllableProperty.setName(name);
 		advancedControllableProperty.setValue(status);
 		advancedControllableProperty.setType(toggle);
-		advancedControllableProperty.setTimestamp(new Date());
+		advancedControllableProperty.setTimestamp(getFreshness(name));
 		return advancedControllableProperty;
 	}
 
+	/**
+	 * Get the timestamp of a control, with background polling it is the time the value was last read from the device
+	 *
+	 * @param name the name is name of the control in Group#Property format
+	 * @return Date is timestamp of the control
+	 */
+	private Date getFreshness(String name) {
+		if (!isBackgroundPolling) {
+			return new Date();
+		}
+		LgWebOSProperty property = LgWebOSProperty.getByName(name.substring(name.indexOf(LgWebOSConstants.HASH) + 1));
+		long timestamp = property == null ? 0 : localPropertyStore.getTimestamp(property);
+		return timestamp == 0 ? new Date() : new Date(timestamp);
+	}
+
 	/**
 	 * Create control slider is control property for the metric
 	 *
@@ -2193,7 +3333,7 @@ public class LgWebOSDevice extends SocketCommunicator implements Controller, Mon
 		slider.setRangeEnd(Float.valueOf(rangeEnd));
 		slider.setRangeStart(Float.valueOf(rangeStart));
 
-		return new AdvancedControllableProperty(name, new Date(), slider, value);
+		return new AdvancedControllableProperty(name, getFreshness(name), slider, value);
 	}
 
 	/**
@@ -2241,7 +3381,7 @@ public class LgWebOSDevice extends SocketCommunicator implements Controller, Mon
 		dropDown.setOptions(values);
 		dropDown.setLabels(values);
 
-		return new AdvancedControllableProperty(name, new Date(), dropDown, initialValue);
+		return new AdvancedControllableProperty(name, getFreshness(name), dropDown, initialValue);
 	}
 
 	/**
@@ -2268,6 +3408,95 @@ public class LgWebOSDevice extends SocketCommunicator implements Controller, Mon
 		isConfigManagement = StringUtils.isNotNullOrEmpty(this.configManagement) && this.configManagement.equalsIgnoreCase(LgWebOSConstants.IS_VALID_CONFIG_MANAGEMENT);
 	}
 
+	/**
+	 * This method is used to validate input persistent connection and connection idle timeout from user
+	 */
+	private void convertPersistentConnection() {
+		isPersistentConnection = StringUtils.isNotNullOrEmpty(this.persistentConnection) && this.persistentConnection.equalsIgnoreCase(LgWebOSConstants.TRUE);
+		try {
+			connectionIdleTimeoutInIntValue = Integer.parseInt(this.connectionIdleTimeout);
+			if (LgWebOSConstants.MIN_CONNECTION_IDLE_TIMEOUT >= connectionIdleTimeoutInIntValue) {
+				connectionIdleTimeoutInIntValue = LgWebOSConstants.MIN_CONNECTION_IDLE_TIMEOUT;
+			}
+			if (LgWebOSConstants.MAX_CONNECTION_IDLE_TIMEOUT <= connectionIdleTimeoutInIntValue) {
+				connectionIdleTimeoutInIntValue = LgWebOSConstants.MAX_CONNECTION_IDLE_TIMEOUT;
+			}
+		} catch (Exception e) {
+			connectionIdleTimeoutInIntValue = LgWebOSConstants.DEFAULT_CONNECTION_IDLE_TIMEOUT;
+		}
+		LgWebOSTransport<?> channel = persistentChannel;
+		if (!isPersistentConnection && channel != null) {
+			channel.close();
+		}
+	}
+
+	/**
+	 * This method is used to validate input background polling and background polling interval from user
+	 */
+	private void convertBackgroundPolling() {
+		isBackgroundPolling = StringUtils.isNotNullOrEmpty(this.backgroundPolling) && this.backgroundPolling.equalsIgnoreCase(LgWebOSConstants.TRUE);
+		try {
+			backgroundPollingIntervalInIntValue = Integer.parseInt(this.backgroundPollingInterval);
+			if (LgWebOSConstants.MIN_BACKGROUND_POLLING_INTERVAL >= backgroundPollingIntervalInIntValue) {
+				backgroundPollingIntervalInIntValue = LgWebOSConstants.MIN_BACKGROUND_POLLING_INTERVAL;
+			}
+			if (LgWebOSConstants.MAX_BACKGROUND_POLLING_INTERVAL <= backgroundPollingIntervalInIntValue) {
+				backgroundPollingIntervalInIntValue = LgWebOSConstants.MAX_BACKGROUND_POLLING_INTERVAL;
+			}
+		} catch (Exception e) {
+			backgroundPollingIntervalInIntValue = LgWebOSConstants.DEFAULT_BACKGROUND_POLLING_INTERVAL;
+		}
+	}
+
+	/**
+	 * This method is used to validate input slow polling multiplier from user
+	 */
+	private void convertSlowPollingMultiplier() {
+		try {
+			slowPollingMultiplierInIntValue = Integer.parseInt(this.slowPollingMultiplier);
+			if (LgWebOSConstants.MIN_SLOW_POLLING_MULTIPLIER >= slowPollingMultiplierInIntValue) {
+				slowPollingMultiplierInIntValue = LgWebOSConstants.MIN_SLOW_POLLING_MULTIPLIER;
+			}
+			if (LgWebOSConstants.MAX_SLOW_POLLING_MULTIPLIER <= slowPollingMultiplierInIntValue) {
+				slowPollingMultiplierInIntValue = LgWebOSConstants.MAX_SLOW_POLLING_MULTIPLIER;
+			}
+		} catch (Exception e) {
+			slowPollingMultiplierInIntValue = LgWebOSConstants.DEFAULT_SLOW_POLLING_MULTIPLIER;
+		}
+	}
+
+	/**
+	 * This method is used to validate input transport mode from user, the blocking transport is used by default
+	 */
+	private void convertTransportMode() {
+		transportModeInValue = LgWebOSConstants.TRANSPORT_MODE_BLOCKING;
+		if (StringUtils.isNullOrEmpty(this.transportMode)) {
+			return;
+		}
+		if (this.transportMode.trim().equalsIgnoreCase(LgWebOSConstants.TRANSPORT_MODE_NIO)) {
+			transportModeInValue = LgWebOSConstants.TRANSPORT_MODE_NIO;
+		} else if (this.transportMode.trim().equalsIgnoreCase(LgWebOSConstants.TRANSPORT_MODE_EVENT_LOOP)) {
+			transportModeInValue = LgWebOSConstants.TRANSPORT_MODE_EVENT_LOOP;
+		}
+	}
+
+	/**
+	 * This method is used to validate input pipeline window from user
+	 */
+	private void convertPipelineWindow() {
+		try {
+			pipelineWindowInIntValue = Integer.parseInt(this.pipelineWindow);
+			if (LgWebOSConstants.DEFAULT_PIPELINE_WINDOW >= pipelineWindowInIntValue) {
+				pipelineWindowInIntValue = LgWebOSConstants.DEFAULT_PIPELINE_WINDOW;
+			}
+			if (LgWebOSConstants.MAX_PIPELINE_WINDOW <= pipelineWindowInIntValue) {
+				pipelineWindowInIntValue = LgWebOSConstants.MAX_PIPELINE_WINDOW;
+			}
+		} catch (Exception e) {
+			pipelineWindowInIntValue = LgWebOSConstants.DEFAULT_PIPELINE_WINDOW;
+		}
+	}
+
 	/**
 	 * This method is used to convert or validate the user input
 	 */
@@ -2299,6 +3528,33 @@ public class LgWebOSDevice extends SocketCommunicator implements Controller, Mon
 		}
 	}
 
+	/**
+	 * This method is used to validate input adaptive cool down from user, the controller keeps the learned gap while it doesn't change
+	 */
+	private void convertAdaptiveCoolDown() {
+		boolean isAdaptiveCoolDown = StringUtils.isNotNullOrEmpty(this.adaptiveCoolDown) && this.adaptiveCoolDown.equalsIgnoreCase(LgWebOSConstants.TRUE);
+		coolDownController.configure((int) commandsCoolDownDelay, isAdaptiveCoolDown);
+	}
+
+	/**
+	 * This method is used to validate input idempotent control and its max age from user
+	 */
+	private void convertIdempotentControl() {
+		isIdempotentControl = StringUtils.isNotNullOrEmpty(this.idempotentControl) && this.idempotentControl.equalsIgnoreCase(LgWebOSConstants.TRUE);
+		try {
+			int maxAge = Integer.parseInt(this.idempotentControlMaxAge);
+			if (LgWebOSConstants.MIN_IDEMPOTENT_CONTROL_MAX_AGE >= maxAge) {
+				maxAge = LgWebOSConstants.MIN_IDEMPOTENT_CONTROL_MAX_AGE;
+			}
+			if (LgWebOSConstants.MAX_IDEMPOTENT_CONTROL_MAX_AGE <= maxAge) {
+				maxAge = LgWebOSConstants.MAX_IDEMPOTENT_CONTROL_MAX_AGE;
+			}
+			idempotentControlMaxAgeInIntValue = maxAge;
+		} catch (Exception e) {
+			idempotentControlMaxAgeInIntValue = LgWebOSConstants.DEFAULT_IDEMPOTENT_CONTROL_MAX_AGE;
+		}
+	}
+
 	/**
 	 * This method is used to validate input config timeout from user
 	 */
@@ -2315,7 +3571,7 @@ public class LgWebOSDevice extends SocketCommunicator implements Controller, Mon
 		} catch (Exception e) {
 			configTimeout = LgWebOSConstants.DEFAULT_CONFIG_TIMEOUT;
 		}
-		defaultConfigTimeout = configTimeout / 100;
+		defaultConfigTimeout = configTimeout / LgWebOSConstants.CONFIG_TIMEOUT_STEP;
 	}
 
 	/**
@@ -2346,4 +3602,48 @@ public class LgWebOSDevice extends SocketCommunicator implements Controller, Mon
 			statistics.put(propertyName, propertyValue);
 		}
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Controllable property resolved to its group, its command and its rank in a batch of controls
+	 */
+	private static final class ResolvedControl {
+		private final String property;
+		private final String group;
+		private final String propertyKey;
+		private final LgControllingCommand command;
+		private final int rank;
+		private String value;
+
+		/**
+		 * ResolvedControl instantiation
+		 *
+		 * @param property the property is name of the controllable property
+		 * @param value the value is value of the control
+		 * @throws IllegalArgumentException if the property is not supported
+		 */
+		ResolvedControl(String property, String value) {
+			this.property = property;
+			this.value = value;
+			String[] propertyList = property.split(LgWebOSConstants.HASH);
+			if (property.contains(LgWebOSConstants.HASH)) {
+				propertyKey = propertyList[1];
+				group = propertyList[0] + LgWebOSConstants.HASH;
+			} else {
+				propertyKey = property;
+				group = property + LgWebOSConstants.HASH;
+			}
+			command = LgControllingCommand.getCommandByName(propertyKey);
+			if (LgControllingCommand.POWER == command) {
+				rank = String.valueOf(LgWebOSConstants.NUMBER_ONE).equals(value) ? 0 : Integer.MAX_VALUE;
+			} else if (LgControllingCommand.REBOOT == command) {
+				rank = Integer.MAX_VALUE;
+			} else {
+				int depth = 1;
+				for (LgControllingCommand parent = command.getControlParent(); parent != null; parent = parent.getControlParent()) {
+					depth++;
+				}
+				rank = depth;
+			}
+		}
+	}
+}
@@ -0,0 +1,478 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.webos;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * LgWebOSEventLoop class is a JVM-wide event loop that owns the sockets of every LG adapter instance using it
+ * A single daemon thread drives all the connections with one {@link Selector}, so the thread count doesn't grow with the fleet
+ * Every {@link Endpoint} sends its queued commands one at a time, not before the cool down delay of the previous command,
+ * and completes a {@link CompletableFuture} with the reply or with the failure
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public final class LgWebOSEventLoop implements Runnable {
+
+	/**
+	 * Holder of the shared instance, the loop thread is started on first use
+	 */
+	private static final class Holder {
+		private static final LgWebOSEventLoop INSTANCE = new LgWebOSEventLoop();
+	}
+
+	private static final Log LOG = LogFactory.getLog(LgWebOSEventLoop.class);
+
+	private final Selector selector;
+	private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * LgWebOSEventLoop instantiation
+	 */
+	private LgWebOSEventLoop() {
+		try {
+			selector = Selector.open();
+		} catch (IOException e) {
+			throw new IllegalStateException("Unable to open the selector of the event loop", e);
+		}
+		Thread thread = new Thread(this, LgWebOSConstants.EVENT_LOOP_THREAD_NAME);
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	/**
+	 * Get the shared event loop
+	 *
+	 * @return LgWebOSEventLoop is the shared instance
+	 */
+	public static LgWebOSEventLoop getInstance() {
+		return Holder.INSTANCE;
+	}
+
+	/**
+	 * Open a connection to the display, {@link Endpoint#connected()} is completed when the connection is established
+	 *
+	 * @param host the host is display address
+	 * @param port the port is display port
+	 * @param connectTimeout the connectTimeout is timeout of the connection in ms
+	 * @param frameReader the frameReader is reader of the replies, it is only used by the loop thread
+	 * @return Endpoint is the new connection
+	 */
+	public Endpoint open(String host, int port, int connectTimeout, LgWebOSFrameReader frameReader) {
+		Endpoint endpoint = new Endpoint(host, port, frameReader);
+		endpoint.execute(() -> endpoint.connect(connectTimeout));
+		return endpoint;
+	}
+
+	/**
+	 * Run a task on the loop thread
+	 *
+	 * @param task the task is action to run
+	 */
+	private void execute(Runnable task) {
+		tasks.add(task);
+		selector.wakeup();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void run() {
+		while (true) {
+			try {
+				long timeout = processTimers();
+				selector.select(timeout);
+				Runnable task;
+				while ((task = tasks.poll()) != null) {
+					task.run();
+				}
+				Iterator<SelectionKey> iterator = selector.selectedKeys().iterator();
+				while (iterator.hasNext()) {
+					SelectionKey key = iterator.next();
+					iterator.remove();
+					((Endpoint) key.attachment()).handle(key);
+				}
+			} catch (Exception e) {
+				// keep the loop alive, the endpoint failures are handled and logged by the endpoints themselves
+				LOG.error("The LG event loop failed to process the ready channels", e);
+			}
+		}
+	}
+
+	/**
+	 * Fail the commands and connections that passed their deadline and dispatch the commands whose cool down is over
+	 * The registered keys are iterated in place, a failed endpoint only cancels its key and the key leaves the set on the next select
+	 *
+	 * @return long is time to the next timer in ms, 0 means no timer
+	 */
+	private long processTimers() {
+		long now = System.currentTimeMillis();
+		long next = Long.MAX_VALUE;
+		for (SelectionKey registeredKey : selector.keys()) {
+			if (!registeredKey.isValid()) {
+				continue;
+			}
+			Endpoint endpoint = (Endpoint) registeredKey.attachment();
+			long timer;
+			try {
+				timer = endpoint.processTimer(now);
+			} catch (RuntimeException e) {
+				endpoint.onUnexpectedFailure(e);
+				continue;
+			}
+			if (timer > 0) {
+				next = Math.min(next, timer);
+			}
+		}
+		return next == Long.MAX_VALUE ? 0 : Math.max(1, next - now);
+	}
+
+	/**
+	 * Command waiting for its reply
+	 */
+	private static final class Request {
+		private final byte[] frame;
+		private final int timeout;
+		private final int coolDown;
+		private final CompletableFuture<byte[]> reply = new CompletableFuture<>();
+		private long deadline;
+
+		/**
+		 * Request instantiation
+		 *
+		 * @param frame {@link #frame}
+		 * @param timeout {@link #timeout}
+		 * @param coolDown {@link #coolDown}
+		 */
+		private Request(byte[] frame, int timeout, int coolDown) {
+			this.frame = frame;
+			this.timeout = timeout;
+			this.coolDown = coolDown;
+		}
+	}
+
+	/**
+	 * Connection to one display, the channel state is only accessed by the loop thread
+	 */
+	public final class Endpoint {
+		private final String host;
+		private final int port;
+		private final CompletableFuture<Void> connected = new CompletableFuture<>();
+		private final Queue<Request> pending = new ConcurrentLinkedQueue<>();
+		private final ByteBuffer writeBuffer = ByteBuffer.allocateDirect(LgWebOSConstants.NIO_BUFFER_SIZE);
+		private final ByteBuffer readBuffer = ByteBuffer.allocateDirect(LgWebOSConstants.NIO_BUFFER_SIZE);
+		private ByteBuffer outgoing = writeBuffer;
+		private volatile boolean isClosed;
+		private SocketChannel channel;
+		private SelectionKey key;
+		private long connectDeadline;
+		private Request current;
+		private long notBefore;
+		private final LgWebOSFrameReader frameReader;
+		private final Runnable dispatchTask = guard(this::dispatch);
+
+		/**
+		 * Endpoint instantiation
+		 *
+		 * @param host {@link #host}
+		 * @param port {@link #port}
+		 * @param frameReader {@link #frameReader}
+		 */
+		private Endpoint(String host, int port, LgWebOSFrameReader frameReader) {
+			this.host = host;
+			this.port = port;
+			this.frameReader = frameReader;
+		}
+
+		/**
+		 * Retrieves {@link #connected}
+		 *
+		 * @return value of {@link #connected}
+		 */
+		public CompletableFuture<Void> connected() {
+			return connected;
+		}
+
+		/**
+		 * Check whether the connection is usable, the loop closes the endpoint as soon as the display closes its side
+		 *
+		 * @return boolean true if the endpoint is not closed
+		 */
+		public boolean isOpen() {
+			return !isClosed;
+		}
+
+		/**
+		 * Queue a command, the command is sent when the previous one is answered and its cool down is over
+		 *
+		 * @param frame the frame is request bytes
+		 * @param timeout the timeout is time to wait for the reply after the frame is sent, in ms
+		 * @param coolDown the coolDown is minimum time between this frame and the next one, in ms
+		 * @return CompletableFuture is reply from the device
+		 */
+		public CompletableFuture<byte[]> submit(byte[] frame, int timeout, int coolDown) {
+			Request request = new Request(frame, timeout, coolDown);
+			pending.add(request);
+			LgWebOSEventLoop.this.execute(dispatchTask);
+			return request.reply;
+		}
+
+		/**
+		 * Close the connection, the queued commands fail with {@link ClosedChannelException}
+		 */
+		public void close() {
+			isClosed = true;
+			execute(() -> fail(new ClosedChannelException()));
+		}
+
+		/**
+		 * Run a task of the endpoint on the loop thread
+		 *
+		 * @param task the task is action to run
+		 */
+		private void execute(Runnable task) {
+			LgWebOSEventLoop.this.execute(guard(task));
+		}
+
+		/**
+		 * Wrap a task of the endpoint, an unexpected failure of the task closes the endpoint
+		 *
+		 * @param task the task is action to run
+		 * @return Runnable is the guarded task
+		 */
+		private Runnable guard(Runnable task) {
+			return () -> {
+				try {
+					task.run();
+				} catch (RuntimeException e) {
+					onUnexpectedFailure(e);
+				}
+			};
+		}
+
+		/**
+		 * Start connecting the channel
+		 *
+		 * @param connectTimeout the connectTimeout is timeout of the connection in ms
+		 */
+		private void connect(int connectTimeout) {
+			if (isClosed) {
+				fail(new ClosedChannelException());
+				return;
+			}
+			frameReader.reset();
+			try {
+				channel = SocketChannel.open();
+				channel.configureBlocking(false);
+				channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+				channel.setOption(StandardSocketOptions.SO_KEEPALIVE, true);
+				key = channel.register(selector, 0, this);
+				if (channel.connect(new InetSocketAddress(host, port))) {
+					onConnected();
+				} else {
+					connectDeadline = System.currentTimeMillis() + connectTimeout;
+					key.interestOps(SelectionKey.OP_CONNECT);
+				}
+			} catch (IOException e) {
+				fail(e);
+			}
+		}
+
+		/**
+		 * Handle a ready channel
+		 *
+		 * @param readyKey the readyKey is selected key of the channel
+		 */
+		private void handle(SelectionKey readyKey) {
+			try {
+				if (!readyKey.isValid()) {
+					return;
+				}
+				if (readyKey.isConnectable() && channel.finishConnect()) {
+					onConnected();
+				}
+				if (readyKey.isValid() && readyKey.isWritable()) {
+					flush();
+				}
+				if (readyKey.isValid() && readyKey.isReadable()) {
+					read();
+				}
+			} catch (IOException e) {
+				fail(e);
+			} catch (RuntimeException e) {
+				onUnexpectedFailure(e);
+			}
+		}
+
+		/**
+		 * Log a failure that is not an I/O error of the connection and close the endpoint
+		 *
+		 * @param cause the cause is unexpected failure
+		 */
+		private void onUnexpectedFailure(RuntimeException cause) {
+			LOG.error(String.format("The LG event loop failed to drive the connection to %s:%s", host, port), cause);
+			fail(new IOException(cause));
+		}
+
+		/**
+		 * The channel is connected, it is always read so a closed connection or a late reply is noticed while idle
+		 */
+		private void onConnected() {
+			connectDeadline = 0;
+			key.interestOps(SelectionKey.OP_READ);
+			connected.complete(null);
+			dispatch();
+		}
+
+		/**
+		 * Send the next queued command if the channel is idle and the cool down is over
+		 */
+		private void dispatch() {
+			if (isClosed) {
+				fail(new ClosedChannelException());
+				return;
+			}
+			if (!connected.isDone() || current != null || pending.isEmpty() || System.currentTimeMillis() < notBefore) {
+				return;
+			}
+			Request request = pending.poll();
+			long now = System.currentTimeMillis();
+			request.deadline = now + request.timeout;
+			notBefore = now + request.coolDown;
+			current = request;
+			if (request.frame.length > writeBuffer.capacity()) {
+				outgoing = ByteBuffer.wrap(request.frame);
+			} else {
+				outgoing = writeBuffer;
+				outgoing.clear();
+				outgoing.put(request.frame);
+				outgoing.flip();
+			}
+			try {
+				flush();
+			} catch (IOException e) {
+				fail(e);
+			}
+		}
+
+		/**
+		 * Write the pending request bytes, the channel waits for OP_WRITE when the socket buffer is full
+		 *
+		 * @throws IOException if writing fails
+		 */
+		private void flush() throws IOException {
+			channel.write(outgoing);
+			key.interestOps(outgoing.hasRemaining() ? SelectionKey.OP_READ | SelectionKey.OP_WRITE : SelectionKey.OP_READ);
+		}
+
+		/**
+		 * Read the available bytes and complete the current command at the 'x' terminator
+		 * Bytes received while no command is waiting are left-overs of a previous exchange and are dropped
+		 *
+		 * @throws IOException if the display closed the connection
+		 */
+		private void read() throws IOException {
+			readBuffer.clear();
+			int count = channel.read(readBuffer);
+			if (count < 0) {
+				throw new EOFException("The device closed the connection");
+			}
+			readBuffer.flip();
+			while (readBuffer.hasRemaining()) {
+				byte value = readBuffer.get();
+				if (current == null) {
+					frameReader.reset();
+					continue;
+				}
+				byte[] completed = frameReader.accept(value);
+				if (completed != null) {
+					Request request = current;
+					current = null;
+					request.reply.complete(completed);
+				}
+			}
+			dispatch();
+		}
+
+		/**
+		 * Check the deadlines of the endpoint
+		 *
+		 * @param now the now is current timestamp
+		 * @return long is timestamp of the next timer of the endpoint, 0 means no timer
+		 */
+		private long processTimer(long now) {
+			if (connectDeadline > 0) {
+				if (now >= connectDeadline) {
+					fail(new SocketTimeoutException("Unable to connect to " + host + ":" + port));
+					return 0;
+				}
+				return connectDeadline;
+			}
+			if (current != null) {
+				if (now >= current.deadline) {
+					// the late reply can't be told apart from the reply of the next command, so the connection is dropped
+					fail(new SocketTimeoutException("The device did not answer in " + current.timeout + " ms"));
+					return 0;
+				}
+				return current.deadline;
+			}
+			if (!pending.isEmpty()) {
+				if (now >= notBefore) {
+					dispatch();
+					return current == null ? 0 : current.deadline;
+				}
+				return notBefore;
+			}
+			return 0;
+		}
+
+		/**
+		 * Close the channel and fail the connection and every command that is not answered yet
+		 *
+		 * @param cause the cause is reason of the failure
+		 */
+		private void fail(IOException cause) {
+			isClosed = true;
+			if (key != null) {
+				key.cancel();
+			}
+			if (channel != null) {
+				try {
+					channel.close();
+				} catch (IOException e) {
+					// the channel is dropped anyway
+				}
+			}
+			connected.completeExceptionally(cause);
+			if (current != null) {
+				current.reply.completeExceptionally(cause);
+				current = null;
+			}
+			Request request;
+			while ((request = pending.poll()) != null) {
+				request.reply.completeExceptionally(cause);
+			}
+		}
+	}
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.webos;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * LgWebOSEventLoopTransport class hands the commands of one adapter instance to the shared {@link LgWebOSEventLoop}
+ * The loop owns the socket and applies the cool down delay between commands, this class only waits for the replies
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class LgWebOSEventLoopTransport extends LgWebOSTransport<LgWebOSEventLoopTransport.Session> {
+
+	/**
+	 * Minimum time between two commands, in ms
+	 */
+	private int coolDown;
+
+	/**
+	 * LgWebOSEventLoopTransport instantiation
+	 *
+	 * @param host {@link #host}
+	 * @param port {@link #port}
+	 */
+	public LgWebOSEventLoopTransport(String host, int port) {
+		super(host, port);
+	}
+
+	/**
+	 * Sets {@link #coolDown} value
+	 *
+	 * @param coolDown new value of {@link #coolDown}
+	 */
+	public void setCoolDown(int coolDown) {
+		this.coolDown = coolDown;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected Session open() throws IOException {
+		LgWebOSEventLoop.Endpoint endpoint = LgWebOSEventLoop.getInstance().open(host, port, getReadTimeout(), frameReader);
+		try {
+			await(endpoint.connected());
+		} catch (IOException e) {
+			endpoint.close();
+			throw e;
+		}
+		return new Session(endpoint);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected boolean isHandleOpen(Session current) {
+		return current.endpoint.isOpen();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * The frame is queued on the event loop, it is written when the previous command is answered and the cool down is over
+	 */
+	@Override
+	protected void write(Session current, byte[] frame) throws IOException {
+		current.replies.addLast(current.endpoint.submit(frame, getReadTimeout(), coolDown));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected byte[] readReply(Session current) throws IOException {
+		CompletableFuture<byte[]> reply = current.replies.pollFirst();
+		if (reply == null) {
+			throw new IOException("No command is waiting for a reply");
+		}
+		return await(reply);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * The event loop closes the endpoint as soon as the display closes its side, and drops the bytes nobody waits for
+	 */
+	@Override
+	protected boolean isHalfOpen(Session current) {
+		return !current.endpoint.isOpen();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void closeHandle(Session current) {
+		current.endpoint.close();
+		current.replies.clear();
+	}
+
+	/**
+	 * Wait for a future of the event loop, the loop enforces the read timeout itself so the wait is only bounded
+	 * in case the loop never completes the future
+	 *
+	 * @param future the future is result to wait for
+	 * @param <V> the type of the result
+	 * @return V is result of the future
+	 * @throws IOException if the future failed
+	 */
+	private <V> V await(CompletableFuture<V> future) throws IOException {
+		try {
+			return future.get((long) getReadTimeout() + coolDown + LgWebOSConstants.EVENT_LOOP_GRACE_PERIOD, TimeUnit.MILLISECONDS);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof IOException) {
+				throw (IOException) e.getCause();
+			}
+			throw new IOException(e.getCause());
+		} catch (TimeoutException e) {
+			throw new SocketTimeoutException("The event loop did not complete the command in time");
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting for the device");
+		}
+	}
+
+	/**
+	 * Endpoint of the event loop with the replies this transport waits for, in the order the frames were queued
+	 */
+	static final class Session {
+		private final LgWebOSEventLoop.Endpoint endpoint;
+		private final Deque<CompletableFuture<byte[]>> replies = new ArrayDeque<>();
+
+		/**
+		 * Session instantiation
+		 *
+		 * @param endpoint {@link #endpoint}
+		 */
+		Session(LgWebOSEventLoop.Endpoint endpoint) {
+			this.endpoint = endpoint;
+		}
+	}
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.webos;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.avispl.symphony.dal.communicator.lg.webos.LgWebOSConstants.commandNames;
+
+/**
+ * LgWebOSFrameCache class keeps the query frames of one monitor ID, a query frame only depends on the monitor ID,
+ * the command and the param so it is built on first use and shared by every adapter instance with the same monitor ID
+ * The frames are shared, they must not be modified
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public final class LgWebOSFrameCache {
+
+	private static final commandNames[] COMMAND_NAMES = commandNames.values();
+	private static final Map<Integer, LgWebOSFrameCache> CACHES = new ConcurrentHashMap<>();
+
+	private final int monitorID;
+
+	/**
+	 * Frames indexed by command ordinal and param ordinal
+	 */
+	private final AtomicReferenceArray<byte[]> frames = new AtomicReferenceArray<>(COMMAND_NAMES.length * COMMAND_NAMES.length);
+
+	/**
+	 * LgWebOSFrameCache instantiation
+	 *
+	 * @param monitorID {@link #monitorID}
+	 */
+	private LgWebOSFrameCache(int monitorID) {
+		this.monitorID = monitorID;
+	}
+
+	/**
+	 * Get the frame cache of a monitor ID
+	 *
+	 * @param monitorID the monitorID is set ID of the display
+	 * @return LgWebOSFrameCache is the cache of the monitor ID
+	 */
+	public static LgWebOSFrameCache getInstance(int monitorID) {
+		return CACHES.computeIfAbsent(monitorID & 0xFF, LgWebOSFrameCache::new);
+	}
+
+	/**
+	 * Retrieves {@link #monitorID}
+	 *
+	 * @return value of {@link #monitorID}
+	 */
+	public int getMonitorID() {
+		return monitorID;
+	}
+
+	/**
+	 * Get the frame querying a command with a param, e.g. "ka 01 FF"
+	 *
+	 * @param command the command is command to query
+	 * @param param the param is param of the query
+	 * @return byte[] is the shared frame
+	 */
+	byte[] getQueryFrame(commandNames command, commandNames param) {
+		int index = command.ordinal() * COMMAND_NAMES.length + param.ordinal();
+		byte[] frame = frames.get(index);
+		if (frame == null) {
+			// concurrent builders produce the same frame, the first one is kept
+			frames.compareAndSet(index, null, LgWebOSUtils.buildSendString((byte) monitorID, LgWebOSConstants.commands.get(command), LgWebOSConstants.commands.get(param)));
+			frame = frames.get(index);
+		}
+		return frame;
+	}
+}
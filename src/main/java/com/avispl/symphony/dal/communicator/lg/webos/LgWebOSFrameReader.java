@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.webos;
+
+import java.util.Arrays;
+
+/**
+ * LgWebOSFrameReader class parses the replies of the display byte by byte, a reply is complete as soon as its 'x'
+ * terminator is received. The header of a reply is checked while it arrives, e.g. "a 01 OK", so bytes that can't
+ * be part of a reply are drained and the reader resynchronises on the next reply instead of failing the connection
+ * A run of drained bytes is counted as one unparsed frame, whitespace between replies is ignored
+ * A reader is used by one thread at a time
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class LgWebOSFrameReader {
+
+	private byte[] frame = new byte[LgWebOSConstants.REPLY_INITIAL_SIZE];
+	private int length;
+
+	/**
+	 * true while bytes are drained, a run of drained bytes is only counted once
+	 */
+	private boolean isDraining;
+
+	/**
+	 * Number of frames that could not be parsed
+	 */
+	private volatile int unparsedFrames;
+
+	/**
+	 * Retrieves {@link #unparsedFrames}
+	 *
+	 * @return value of {@link #unparsedFrames}
+	 */
+	public int getUnparsedFrames() {
+		return unparsedFrames;
+	}
+
+	/**
+	 * Check whether a reply is partially received
+	 *
+	 * @return boolean true if some bytes of a reply are received
+	 */
+	public boolean isInFrame() {
+		return length > 0;
+	}
+
+	/**
+	 * Drop the partially received reply, e.g. when the connection is replaced
+	 */
+	public void reset() {
+		length = 0;
+		isDraining = false;
+	}
+
+	/**
+	 * Parse the next byte received from the display
+	 *
+	 * @param value the value is received byte
+	 * @return byte[] is the complete reply if the byte is its terminator, null otherwise
+	 */
+	public byte[] accept(byte value) {
+		if (length > 0 && isExpected(length, value)) {
+			if (length == frame.length) {
+				frame = Arrays.copyOf(frame, length * 2);
+			}
+			frame[length++] = value;
+			if (length > LgWebOSConstants.REPLY_STATUS_END_INDEX && value == LgWebOSConstants.REPLY_TERMINATOR) {
+				isDraining = false;
+				byte[] reply = Arrays.copyOf(frame, length);
+				length = 0;
+				return reply;
+			}
+			if (length == LgWebOSConstants.MAX_REPLY_SIZE) {
+				drain();
+			}
+			return null;
+		}
+		if (length > 0) {
+			return resync(value);
+		}
+		if (isEcho(value)) {
+			frame[length++] = value;
+		} else if (!isWhitespace(value)) {
+			drain();
+		}
+		return null;
+	}
+
+	/**
+	 * Drop the broken header and parse its bytes again after the first one, since the next reply may start inside it
+	 * Only the header is checked, so at most {@link LgWebOSConstants#REPLY_STATUS_END_INDEX} bytes are parsed again
+	 *
+	 * @param value the value is received byte that broke the header
+	 * @return byte[] is the complete reply if the byte is its terminator, null otherwise
+	 */
+	private byte[] resync(byte value) {
+		byte[] header = Arrays.copyOfRange(frame, 1, length);
+		drain();
+		for (byte headerValue : header) {
+			accept(headerValue);
+		}
+		return accept(value);
+	}
+
+	/**
+	 * Drop the partial reply and count the unparsed frame, unless the bytes before were already drained
+	 */
+	private void drain() {
+		length = 0;
+		if (!isDraining) {
+			isDraining = true;
+			unparsedFrames++;
+		}
+	}
+
+	/**
+	 * Check a byte of the header "e ii OK", with e the echo letter and ii the set ID in hex
+	 *
+	 * @param index the index is position of the byte in the reply
+	 * @param value the value is received byte
+	 * @return boolean true if the byte is valid at this position
+	 */
+	private boolean isExpected(int index, byte value) {
+		switch (index) {
+			case 1:
+			case 4:
+				return value == ' ';
+			case 2:
+			case 3:
+				return LgWebOSCodec.hexDigit(value) >= 0;
+			case 5:
+				return value == 'O' || value == 'N';
+			case 6:
+				return frame[5] == 'O' ? value == 'K' : value == 'G';
+			default:
+				return true;
+		}
+	}
+
+	/**
+	 * Check whether a byte can start a reply, every reply starts with the lower case second letter of its command
+	 *
+	 * @param value the value is received byte
+	 * @return boolean true if the byte is an echo letter
+	 */
+	private boolean isEcho(byte value) {
+		return value >= 'a' && value <= 'z';
+	}
+
+	/**
+	 * Check whether a byte is whitespace sent between replies
+	 *
+	 * @param value the value is received byte
+	 * @return boolean true if the byte is whitespace
+	 */
+	private boolean isWhitespace(byte value) {
+		return value == ' ' || value == '\r' || value == '\n';
+	}
+}
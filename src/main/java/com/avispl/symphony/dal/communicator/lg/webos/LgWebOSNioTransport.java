@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.webos;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+
+/**
+ * LgWebOSNioTransport class is the non-blocking transport, it drives a {@link SocketChannel} with a {@link Selector}
+ * and reuses direct {@link ByteBuffer}s for every frame. No thread is parked in a socket read, the reply is collected
+ * as it arrives until the LG 'x' terminator by {@link LgWebOSFrameReader} and the read timeout is enforced by the selector deadline
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class LgWebOSNioTransport extends LgWebOSTransport<LgWebOSNioTransport.NioChannel> {
+
+	/**
+	 * Request buffer, frames are copied into it before they are written
+	 */
+	private final ByteBuffer writeBuffer = ByteBuffer.allocateDirect(LgWebOSConstants.NIO_BUFFER_SIZE);
+
+	/**
+	 * Reply buffer, it is kept in write mode between reads so bytes received after a terminator stay for the next reply
+	 */
+	private final ByteBuffer readBuffer = ByteBuffer.allocateDirect(LgWebOSConstants.NIO_BUFFER_SIZE);
+
+	/**
+	 * LgWebOSNioTransport instantiation
+	 *
+	 * @param host {@link #host}
+	 * @param port {@link #port}
+	 */
+	public LgWebOSNioTransport(String host, int port) {
+		super(host, port);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected NioChannel open() throws IOException {
+		long deadline = System.currentTimeMillis() + getReadTimeout();
+		SocketChannel socketChannel = SocketChannel.open();
+		Selector selector = null;
+		try {
+			selector = Selector.open();
+			socketChannel.configureBlocking(false);
+			socketChannel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+			socketChannel.setOption(StandardSocketOptions.SO_KEEPALIVE, true);
+			NioChannel current = new NioChannel(socketChannel, selector, socketChannel.register(selector, 0));
+			if (!socketChannel.connect(new InetSocketAddress(host, port))) {
+				while (!socketChannel.finishConnect()) {
+					await(current, SelectionKey.OP_CONNECT, deadline);
+				}
+			}
+			writeBuffer.clear();
+			readBuffer.clear();
+			frameReader.reset();
+			return current;
+		} catch (IOException e) {
+			closeQuietly(socketChannel, selector);
+			throw e;
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected boolean isHandleOpen(NioChannel current) {
+		return current.socketChannel.isOpen() && current.socketChannel.isConnected();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void write(NioChannel current, byte[] frame) throws IOException {
+		long deadline = System.currentTimeMillis() + getReadTimeout();
+		ByteBuffer buffer = writeBuffer;
+		if (frame.length > buffer.capacity()) {
+			buffer = ByteBuffer.wrap(frame);
+		} else {
+			buffer.clear();
+			buffer.put(frame);
+			buffer.flip();
+		}
+		while (buffer.hasRemaining()) {
+			if (current.socketChannel.write(buffer) == 0) {
+				await(current, SelectionKey.OP_WRITE, deadline);
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected byte[] readReply(NioChannel current) throws IOException {
+		long deadline = System.currentTimeMillis() + getReadTimeout();
+		while (true) {
+			readBuffer.flip();
+			while (readBuffer.hasRemaining()) {
+				byte[] reply = frameReader.accept(readBuffer.get());
+				if (reply != null) {
+					readBuffer.compact();
+					return reply;
+				}
+			}
+			readBuffer.clear();
+			int count = current.socketChannel.read(readBuffer);
+			if (count < 0) {
+				throw new EOFException("The device closed the connection");
+			}
+			if (count == 0) {
+				await(current, SelectionKey.OP_READ, deadline);
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * The channel is read without waiting, nothing to read means the channel is still healthy
+	 */
+	@Override
+	protected boolean isHalfOpen(NioChannel current) {
+		try {
+			frameReader.reset();
+			while (true) {
+				readBuffer.clear();
+				int count = current.socketChannel.read(readBuffer);
+				if (count < 0) {
+					return true;
+				}
+				if (count == 0) {
+					readBuffer.clear();
+					return false;
+				}
+			}
+		} catch (IOException e) {
+			return true;
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * The selector is woken up, so a thread waiting for this channel fails right away
+	 */
+	@Override
+	protected void closeHandle(NioChannel current) {
+		current.selector.wakeup();
+		closeQuietly(current.socketChannel, current.selector);
+	}
+
+	/**
+	 * Wait until the channel is ready for the operation or the deadline is reached
+	 *
+	 * @param current the current is channel to wait for
+	 * @param operation the operation is one of {@link SelectionKey} operations
+	 * @param deadline the deadline is timestamp when waiting is given up
+	 * @throws IOException if the channel is closed while waiting
+	 * @throws SocketTimeoutException if the deadline is reached
+	 */
+	private void await(NioChannel current, int operation, long deadline) throws IOException {
+		long remaining = deadline - System.currentTimeMillis();
+		if (remaining <= 0) {
+			throw new SocketTimeoutException("The device did not answer in " + getReadTimeout() + " ms");
+		}
+		try {
+			current.selectionKey.interestOps(operation);
+			current.selector.select(remaining);
+			current.selector.selectedKeys().clear();
+		} catch (ClosedSelectorException | CancelledKeyException e) {
+			throw new ClosedChannelException();
+		}
+	}
+
+	/**
+	 * Close a channel and its selector quietly
+	 *
+	 * @param socketChannel the socketChannel is channel to close
+	 * @param selector the selector is selector to close, it may be null
+	 */
+	private void closeQuietly(SocketChannel socketChannel, Selector selector) {
+		try {
+			socketChannel.close();
+		} catch (IOException e) {
+			// the channel is dropped anyway
+		}
+		if (selector == null) {
+			return;
+		}
+		try {
+			selector.close();
+		} catch (IOException e) {
+			// the selector is dropped anyway
+		}
+	}
+
+	/**
+	 * Channel with the selector it is registered with
+	 */
+	static final class NioChannel {
+		private final SocketChannel socketChannel;
+		private final Selector selector;
+		private final SelectionKey selectionKey;
+
+		/**
+		 * NioChannel instantiation
+		 *
+		 * @param socketChannel {@link #socketChannel}
+		 * @param selector {@link #selector}
+		 * @param selectionKey {@link #selectionKey}
+		 */
+		NioChannel(SocketChannel socketChannel, Selector selector, SelectionKey selectionKey) {
+			this.socketChannel = socketChannel;
+			this.selector = selector;
+			this.selectionKey = selectionKey;
+		}
+	}
+}
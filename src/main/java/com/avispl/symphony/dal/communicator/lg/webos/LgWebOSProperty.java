@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.webos;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * LgWebOSProperty class defined the enum provides the properties kept in {@link LgWebOSPropertyStore}
+ * Every property is read by one {@link LgControllingCommand}, the name is only used when the statistics are emitted
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public enum LgWebOSProperty {
+
+	TEMPERATURE(LgWebOSConstants.TEMPERATURE, LgControllingCommand.TEMPERATURE),
+	SOFTWARE_VERSION(LgWebOSConstants.SOFTWARE_VERSION, LgControllingCommand.SOFTWARE_VERSION),
+	SERIAL_NUMBER(LgWebOSConstants.SERIAL_NUMBER, LgControllingCommand.SERIAL_NUMBER),
+	DISPLAY_STAND_BY_MODE(LgWebOSConstants.DISPLAY_STAND_BY_MODE, LgControllingCommand.DISPLAY_STAND_BY_MODE),
+	POWER_MANAGEMENT_MODE(LgWebOSConstants.POWER_MANAGEMENT_MODE, LgControllingCommand.POWER_MANAGEMENT_MODE),
+	DATE(LgWebOSConstants.DATE, LgControllingCommand.DATE),
+	TIME(LgWebOSConstants.TIME, LgControllingCommand.TIME),
+	IP_ADDRESS(LgWebOSConstants.IP_ADDRESS, LgControllingCommand.NETWORK_SETTING),
+	SUBNET_MASK(LgWebOSConstants.SUBNET_MASK, LgControllingCommand.NETWORK_SETTING),
+	GATEWAY(LgWebOSConstants.GATEWAY, LgControllingCommand.NETWORK_SETTING),
+	DNS_SERVER(LgWebOSConstants.DNS_SERVER, LgControllingCommand.NETWORK_SETTING),
+	INPUT_SELECT(LgWebOSConstants.INPUT_SELECT, LgControllingCommand.INPUT_SELECT),
+	POWER(LgWebOSConstants.POWER, LgControllingCommand.POWER),
+	FAN(LgWebOSConstants.FAN, LgControllingCommand.FAN_STATUS),
+	SIGNAL(LgWebOSConstants.SIGNAL, LgControllingCommand.SYNC_STATUS),
+	FAILOVER_MODE(LgWebOSConstants.FAILOVER_MODE, LgControllingCommand.FAILOVER),
+	PRIORITY_INPUT(LgWebOSConstants.PRIORITY_INPUT, LgControllingCommand.PRIORITY_INPUT),
+	TILE_MODE_SETTINGS(LgWebOSConstants.TILE_MODE_SETTINGS, LgControllingCommand.TILE_MODE),
+	TILE_MODE(LgWebOSConstants.TILE_MODE, LgControllingCommand.TILE_MODE_SETTINGS),
+	TILE_MODE_COLUMN(LgWebOSConstants.TILE_MODE_COLUMN, LgControllingCommand.TILE_MODE_SETTINGS),
+	TILE_MODE_ROW(LgWebOSConstants.TILE_MODE_ROW, LgControllingCommand.TILE_MODE_SETTINGS),
+	NATURAL_MODE(LgWebOSConstants.NATURAL_MODE, LgControllingCommand.NATURAL_MODE),
+	TILE_MODE_ID(LgWebOSConstants.TILE_MODE_ID, LgControllingCommand.TILE_ID),
+	NATURAL_SIZE(LgWebOSConstants.NATURAL_SIZE, LgControllingCommand.NATURAL_SIZE),
+	MUTE(LgWebOSConstants.MUTE, LgControllingCommand.MUTE),
+	VOLUME(LgWebOSConstants.VOLUME, LgControllingCommand.VOLUME),
+	BACKLIGHT(LgWebOSConstants.BACKLIGHT, LgControllingCommand.BACKLIGHT),
+	ASPECT_RATIO(LgWebOSConstants.ASPECT_RATIO, LgControllingCommand.ASPECT_RATIO),
+	BRIGHTNESS_CONTROL(LgWebOSConstants.BRIGHTNESS_CONTROL, LgControllingCommand.BRIGHTNESS_CONTROL),
+	CONTRAST(LgWebOSConstants.CONTRAST, LgControllingCommand.CONTRAST),
+	PICTURE_MODE(LgWebOSConstants.PICTURE_MODE, LgControllingCommand.PICTURE_MODE),
+	BRIGHTNESS(LgWebOSConstants.BRIGHTNESS, LgControllingCommand.BRIGHTNESS),
+	BRIGHTNESS_VALUE(LgWebOSConstants.BRIGHTNESS_VALUE, LgControllingCommand.BRIGHTNESS),
+	SHARPNESS(LgWebOSConstants.SHARPNESS, LgControllingCommand.SHARPNESS),
+	SCREEN_COLOR(LgWebOSConstants.SCREEN_COLOR, LgControllingCommand.SCREEN_COLOR),
+	TINT(LgWebOSConstants.TINT, LgControllingCommand.TINT),
+	COLOR_TEMPERATURE(LgWebOSConstants.COLOR_TEMPERATURE, LgControllingCommand.COLOR_TEMPERATURE),
+	BALANCE(LgWebOSConstants.BALANCE, LgControllingCommand.BALANCE),
+	SOUND_MODE(LgWebOSConstants.SOUND_MODE, LgControllingCommand.SOUND_MODE),
+	NO_SIGNAL_POWER_OFF(LgWebOSConstants.NO_SIGNAL_POWER_OFF, LgControllingCommand.NO_SIGNAL_POWER_OFF),
+	NO_IR_POWER_OFF(LgWebOSConstants.NO_IR_POWER_OFF, LgControllingCommand.NO_IR_POWER_OFF),
+	LANGUAGE(LgWebOSConstants.LANGUAGE, LgControllingCommand.LANGUAGE),
+	POWER_ON_STATUS(LgWebOSConstants.POWER_ON_STATUS, LgControllingCommand.POWER_ON_STATUS);
+
+	private static final Map<String, LgWebOSProperty> PROPERTY_BY_NAME = new HashMap<>();
+
+	static {
+		for (LgWebOSProperty property : values()) {
+			PROPERTY_BY_NAME.put(property.name, property);
+		}
+	}
+
+	private final String name;
+	private final LgControllingCommand command;
+
+	/**
+	 * LgWebOSProperty instantiation
+	 *
+	 * @param name {@link #name}
+	 * @param command {@link #command}
+	 */
+	LgWebOSProperty(String name, LgControllingCommand command) {
+		this.name = name;
+		this.command = command;
+	}
+
+	/**
+	 * Retrieves {@link #name}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Retrieves {@link #command}
+	 *
+	 * @return value of {@link #command}
+	 */
+	public LgControllingCommand getCommand() {
+		return command;
+	}
+
+	/**
+	 * Get property by the name used in the statistics
+	 *
+	 * @param name the name is name of the property
+	 * @return LgWebOSProperty is the property or null if no property has this name
+	 */
+	public static LgWebOSProperty getByName(String name) {
+		return PROPERTY_BY_NAME.get(name);
+	}
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.webos;
+
+import java.util.Arrays;
+
+/**
+ * LgWebOSPropertyStore class keeps the latest value of every {@link LgWebOSProperty} and the failed polling cycles
+ * of every {@link LgControllingCommand} in arrays indexed by ordinal, so reads, writes and lifetime checks don't allocate
+ * The latest value decoded from a reply of the device is kept apart from the value written by the adapter, e.g. after a control
+ * The polling and the controls use the store from their own threads, every method holds the monitor of the store
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class LgWebOSPropertyStore {
+
+	private static final LgWebOSProperty[] PROPERTIES = LgWebOSProperty.values();
+	private static final int COMMAND_COUNT = LgControllingCommand.values().length;
+
+	/**
+	 * Value of every property, null if the property has no value
+	 */
+	private final String[] values = new String[PROPERTIES.length];
+
+	/**
+	 * Timestamp when every property was last written
+	 */
+	private final long[] timestamps = new long[PROPERTIES.length];
+
+	/**
+	 * Value of every property in the latest reply of the device, null if the device didn't report the property
+	 */
+	private final String[] readValues = new String[PROPERTIES.length];
+
+	/**
+	 * Timestamp when every property was last received from the device
+	 */
+	private final long[] readTimestamps = new long[PROPERTIES.length];
+
+	/**
+	 * Number of consecutive polling cycles every command failed in
+	 */
+	private final int[] failedCycles = new int[COMMAND_COUNT];
+
+	/**
+	 * Get value of the property
+	 *
+	 * @param property the property is property to read
+	 * @return String is value or null if the property has no value
+	 */
+	public synchronized String get(LgWebOSProperty property) {
+		return values[property.ordinal()];
+	}
+
+	/**
+	 * Set value of the property and record the time it was written
+	 *
+	 * @param property the property is property to write
+	 * @param value the value is new value of the property
+	 */
+	public synchronized void put(LgWebOSProperty property, String value) {
+		values[property.ordinal()] = value;
+		timestamps[property.ordinal()] = System.currentTimeMillis();
+	}
+
+	/**
+	 * Set value of the property received from the device, the failed cycles of its command are reset
+	 *
+	 * @param property the property is property to write
+	 * @param value the value is new value of the property
+	 */
+	public synchronized void update(LgWebOSProperty property, String value) {
+		put(property, value);
+		readValues[property.ordinal()] = value;
+		readTimestamps[property.ordinal()] = timestamps[property.ordinal()];
+		//Remove the caching lifetime after receiving new data
+		resetFailedCycles(property.getCommand());
+	}
+
+	/**
+	 * Remove value of the property
+	 *
+	 * @param property the property is property to remove
+	 */
+	public synchronized void remove(LgWebOSProperty property) {
+		values[property.ordinal()] = null;
+		timestamps[property.ordinal()] = 0;
+		readValues[property.ordinal()] = null;
+		readTimestamps[property.ordinal()] = 0;
+	}
+
+	/**
+	 * Get the time the property was last written
+	 *
+	 * @param property the property is property to check
+	 * @return long is timestamp in ms or 0 if the property has no value
+	 */
+	public synchronized long getTimestamp(LgWebOSProperty property) {
+		return timestamps[property.ordinal()];
+	}
+
+	/**
+	 * Get value of the property in the latest reply of the device, a value written by the adapter is not returned
+	 *
+	 * @param property the property is property to read
+	 * @return String is value or null if the device didn't report the property
+	 */
+	public synchronized String getReadValue(LgWebOSProperty property) {
+		return readValues[property.ordinal()];
+	}
+
+	/**
+	 * Get the time the property was last received from the device
+	 *
+	 * @param property the property is property to check
+	 * @return long is timestamp in ms or 0 if the device didn't report the property
+	 */
+	public synchronized long getReadTimestamp(LgWebOSProperty property) {
+		return readTimestamps[property.ordinal()];
+	}
+
+	/**
+	 * Get the time of the oldest value in the store
+	 *
+	 * @param now the now is timestamp returned if the store is empty
+	 * @return long is the oldest timestamp in ms
+	 */
+	public synchronized long getOldestTimestamp(long now) {
+		long oldest = now;
+		for (int i = 0; i < values.length; i++) {
+			if (values[i] != null && timestamps[i] < oldest) {
+				oldest = timestamps[i];
+			}
+		}
+		return oldest;
+	}
+
+	/**
+	 * Get the number of consecutive polling cycles the command failed in
+	 *
+	 * @param command the command is command to check
+	 * @return int is number of failed cycles
+	 */
+	public synchronized int getFailedCycles(LgControllingCommand command) {
+		return failedCycles[command.ordinal()];
+	}
+
+	/**
+	 * Count one more failed polling cycle for the command
+	 *
+	 * @param command the command is command that failed
+	 */
+	public synchronized void incrementFailedCycles(LgControllingCommand command) {
+		failedCycles[command.ordinal()]++;
+	}
+
+	/**
+	 * Reset the failed polling cycles of the command
+	 *
+	 * @param command the command is command to reset
+	 */
+	public synchronized void resetFailedCycles(LgControllingCommand command) {
+		failedCycles[command.ordinal()] = 0;
+	}
+
+	/**
+	 * Remove every value, the failed polling cycles are kept
+	 */
+	public synchronized void clearValues() {
+		Arrays.fill(values, null);
+		Arrays.fill(timestamps, 0);
+		Arrays.fill(readValues, null);
+		Arrays.fill(readTimestamps, 0);
+	}
+
+	/**
+	 * Reset the failed polling cycles of every command
+	 */
+	public synchronized void clearFailedCycles() {
+		Arrays.fill(failedCycles, 0);
+	}
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.webos;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * LgWebOSScheduler class provides the JVM-wide scheduler shared by the LG adapter instances for their background work
+ * A background polling sweep blocks its thread while it waits for the display, so the pool has one daemon thread
+ * per registered adapter instance, up to {@link LgWebOSConstants#SCHEDULER_MAX_THREADS}
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public final class LgWebOSScheduler {
+
+	/**
+	 * Holder of the shared instance, the threads are started on first use
+	 */
+	private static final class Holder {
+		private static final ScheduledThreadPoolExecutor INSTANCE = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+			private final AtomicInteger threadCount = new AtomicInteger();
+
+			@Override
+			public Thread newThread(Runnable runnable) {
+				Thread thread = new Thread(runnable, LgWebOSConstants.SCHEDULER_THREAD_NAME + threadCount.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+	}
+
+	/**
+	 * Number of adapter instances that have a task scheduled
+	 */
+	private static int registeredDevices;
+
+	/**
+	 * LgWebOSScheduler is not instantiated
+	 */
+	private LgWebOSScheduler() {
+	}
+
+	/**
+	 * Get the shared scheduler
+	 *
+	 * @return ScheduledExecutorService is the shared instance
+	 */
+	public static ScheduledExecutorService getInstance() {
+		return Holder.INSTANCE;
+	}
+
+	/**
+	 * Register an adapter instance that schedules a blocking task, the pool gets one more thread
+	 */
+	public static synchronized void register() {
+		registeredDevices++;
+		resize();
+	}
+
+	/**
+	 * Unregister an adapter instance whose task is cancelled, the extra thread ends once it is idle
+	 */
+	public static synchronized void unregister() {
+		if (registeredDevices > 0) {
+			registeredDevices--;
+		}
+		resize();
+	}
+
+	/**
+	 * Size the pool from the registered adapter instances
+	 */
+	private static void resize() {
+		Holder.INSTANCE.setCorePoolSize(Math.max(1, Math.min(registeredDevices, LgWebOSConstants.SCHEDULER_MAX_THREADS)));
+	}
+}
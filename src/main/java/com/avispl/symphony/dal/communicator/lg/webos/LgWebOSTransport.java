@@ -0,0 +1,331 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.webos;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * LgWebOSTransport class keeps a single connection to the display and implements the LG request/reply exchange on top of it
+ * The connection is closed after {@link #idleTimeout} of inactivity, probed for half-open state before it is reused
+ * and reopened transparently when the reused connection turns out to be dead
+ * The subclasses provide the I/O primitives for the connection handle {@code T}
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public abstract class LgWebOSTransport<T> {
+
+	protected final String host;
+	protected final int port;
+
+	/**
+	 * Reader of the replies, it is reset by the subclasses when a connection is opened
+	 */
+	protected final LgWebOSFrameReader frameReader = new LgWebOSFrameReader();
+	private volatile T handle;
+	private int readTimeout = LgWebOSConstants.DEFAULT_CONFIG_TIMEOUT;
+	private int idleTimeout = LgWebOSConstants.DEFAULT_CONNECTION_IDLE_TIMEOUT;
+	private long lastActivityTimestamp;
+
+	/**
+	 * Number of connections opened to the display
+	 */
+	private int openedConnections;
+
+	/**
+	 * Number of connects saved by reusing the connection after a point where the adapter used to close it
+	 */
+	private int avoidedConnects;
+
+	/**
+	 * true if the adapter would have closed the connection before the next command
+	 */
+	private boolean isReuseCandidate;
+
+	/**
+	 * LgWebOSTransport instantiation
+	 *
+	 * @param host {@link #host}
+	 * @param port {@link #port}
+	 */
+	protected LgWebOSTransport(String host, int port) {
+		this.host = host;
+		this.port = port;
+	}
+
+	/**
+	 * Retrieves {@link #readTimeout}
+	 *
+	 * @return value of {@link #readTimeout}
+	 */
+	public int getReadTimeout() {
+		return readTimeout;
+	}
+
+	/**
+	 * Sets {@link #readTimeout} value
+	 *
+	 * @param readTimeout new value of {@link #readTimeout}
+	 */
+	public void setReadTimeout(int readTimeout) {
+		this.readTimeout = readTimeout;
+	}
+
+	/**
+	 * Sets {@link #idleTimeout} value
+	 *
+	 * @param idleTimeout new value of {@link #idleTimeout}
+	 */
+	public void setIdleTimeout(int idleTimeout) {
+		this.idleTimeout = idleTimeout;
+	}
+
+	/**
+	 * Retrieves {@link #openedConnections}
+	 *
+	 * @return value of {@link #openedConnections}
+	 */
+	public synchronized int getOpenedConnections() {
+		return openedConnections;
+	}
+
+	/**
+	 * Retrieves {@link #avoidedConnects}
+	 *
+	 * @return value of {@link #avoidedConnects}
+	 */
+	public synchronized int getAvoidedConnects() {
+		return avoidedConnects;
+	}
+
+	/**
+	 * Get the number of frames that could not be parsed and were drained
+	 *
+	 * @return int is number of unparsed frames
+	 */
+	public int getUnparsedFrames() {
+		return frameReader.getUnparsedFrames();
+	}
+
+	/**
+	 * Mark the point where the non-persistent mode would destroy the channel (the end of a polling cycle),
+	 * so the next command that reuses the open connection is counted as an avoided connect
+	 */
+	public synchronized void markReuseCandidate() {
+		isReuseCandidate = isOpen();
+	}
+
+	/**
+	 * Check whether the connection is currently open
+	 *
+	 * @return boolean true if there is an open connection
+	 */
+	public boolean isOpen() {
+		T current = handle;
+		return current != null && isHandleOpen(current);
+	}
+
+	/**
+	 * Send a frame to the device and read the reply up to the LG 'x' terminator
+	 * If the connection was reused and fails, it is reopened once and the frame is sent again, unless the frame was
+	 * already written and is a control: the display may have applied it, so it is not applied a second time
+	 *
+	 * @param frame the frame is request bytes
+	 * @return byte[] is reply from the device
+	 * @throws IOException if the device can't be reached or the reply is not received in {@link #readTimeout}
+	 */
+	public synchronized byte[] send(byte[] frame) throws IOException {
+		boolean isReused = prepare();
+		T current = handle;
+		boolean isWritten = false;
+		try {
+			if (current == null) {
+				throw new IOException("The connection was closed");
+			}
+			write(current, frame);
+			isWritten = true;
+			return receive(current);
+		} catch (IOException e) {
+			if (current != null) {
+				closeHandle(current);
+			}
+			// Retry only when the connection was reused and was not closed on purpose by another thread
+			if (!isReused || handle != current || Thread.currentThread().isInterrupted() || isWritten && !LgWebOSUtils.isQueryFrame(frame)) {
+				throw e;
+			}
+			handle = null;
+			openHandle();
+			current = handle;
+			try {
+				write(current, frame);
+				return receive(current);
+			} catch (IOException retryException) {
+				close();
+				throw retryException;
+			}
+		}
+	}
+
+	/**
+	 * Send frames back-to-back with at most {@code window} frames waiting for a reply
+	 * LG replies echo the second letter of the command, so every reply is matched to the oldest in-flight frame
+	 * with the same letter. The display answers in order, so in-flight frames older than the matched one will never be answered.
+	 * When a read times out the connection is reopened, so a late reply can't be matched to a later frame
+	 *
+	 * @param frames the frames are request bytes
+	 * @param window the window is maximum number of frames in flight
+	 * @return byte[][] is reply of every frame in the same order, or null if the frame was not answered
+	 * @throws IOException if the device can't be reached
+	 */
+	public synchronized byte[][] sendPipelined(byte[][] frames, int window) throws IOException {
+		byte[][] replies = new byte[frames.length][];
+		Deque<Integer> inFlight = new ArrayDeque<>();
+		int nextFrame = 0;
+		prepare();
+		while (nextFrame < frames.length || !inFlight.isEmpty()) {
+			T current = handle;
+			if (current == null) {
+				throw new IOException("The connection was closed");
+			}
+			try {
+				while (nextFrame < frames.length && inFlight.size() < window) {
+					write(current, frames[nextFrame]);
+					inFlight.addLast(nextFrame);
+					nextFrame++;
+				}
+				byte[] reply = readReply(current);
+				lastActivityTimestamp = System.currentTimeMillis();
+				LgWebOSUtils.matchReply(reply, frames, replies, inFlight);
+			} catch (SocketTimeoutException e) {
+				// frames in flight are not answered, start over on a new connection for the rest
+				inFlight.clear();
+				closeHandle(current);
+				if (handle != current || Thread.currentThread().isInterrupted()) {
+					throw e;
+				}
+				handle = null;
+				if (nextFrame < frames.length) {
+					openHandle();
+				}
+			} catch (IOException e) {
+				close();
+				throw e;
+			}
+		}
+		return replies;
+	}
+
+	/**
+	 * Close the connection, it is safe to call this method from another thread while a command is in progress
+	 */
+	public void close() {
+		T current = handle;
+		handle = null;
+		if (current != null) {
+			closeHandle(current);
+		}
+	}
+
+	/**
+	 * Make sure there is a usable connection, an idle or half-open connection is replaced by a new one
+	 *
+	 * @return boolean true if the existing connection is reused
+	 * @throws IOException if the connection can't be established
+	 */
+	private boolean prepare() throws IOException {
+		long now = System.currentTimeMillis();
+		if (isOpen() && (now - lastActivityTimestamp >= idleTimeout
+				|| now - lastActivityTimestamp >= LgWebOSConstants.HALF_OPEN_PROBE_THRESHOLD && isHalfOpen(handle))) {
+			close();
+		}
+		boolean isReused = isOpen();
+		if (!isReused) {
+			openHandle();
+		} else if (isReuseCandidate) {
+			avoidedConnects++;
+		}
+		isReuseCandidate = false;
+		return isReused;
+	}
+
+	/**
+	 * Open a new connection and count it
+	 *
+	 * @throws IOException if the connection can't be established
+	 */
+	private void openHandle() throws IOException {
+		handle = open();
+		openedConnections++;
+		lastActivityTimestamp = System.currentTimeMillis();
+	}
+
+	/**
+	 * Read the reply of the frame that was written and record the activity
+	 *
+	 * @param current the current is connection to use
+	 * @return byte[] is reply from the device
+	 * @throws IOException if reading fails
+	 */
+	private byte[] receive(T current) throws IOException {
+		byte[] reply = readReply(current);
+		lastActivityTimestamp = System.currentTimeMillis();
+		return reply;
+	}
+
+	/**
+	 * Open a new connection to the device
+	 *
+	 * @return T is the new connection
+	 * @throws IOException if the connection can't be established in {@link #readTimeout}
+	 */
+	protected abstract T open() throws IOException;
+
+	/**
+	 * Check whether a connection is open
+	 *
+	 * @param current the current is connection to check
+	 * @return boolean true if the connection is open
+	 */
+	protected abstract boolean isHandleOpen(T current);
+
+	/**
+	 * Write a whole frame to the connection
+	 *
+	 * @param current the current is connection to use
+	 * @param frame the frame is request bytes
+	 * @throws IOException if writing fails
+	 */
+	protected abstract void write(T current, byte[] frame) throws IOException;
+
+	/**
+	 * Read a reply until the 'x' terminator with {@link #frameReader}, bytes that are not part of a reply are drained
+	 *
+	 * @param current the current is connection to use
+	 * @return byte[] is reply from the device
+	 * @throws IOException if the connection ends before the terminator
+	 * @throws SocketTimeoutException if the reply is not received in {@link #readTimeout}
+	 */
+	protected abstract byte[] readReply(T current) throws IOException;
+
+	/**
+	 * Check whether the display closed its side of the connection while it was idle
+	 * Left-over bytes from a late reply are drained
+	 *
+	 * @param current the current is connection to check
+	 * @return boolean true if the connection can't be reused
+	 */
+	protected abstract boolean isHalfOpen(T current);
+
+	/**
+	 * Close a connection quietly
+	 *
+	 * @param current the current is connection to close
+	 */
+	protected abstract void closeHandle(T current);
+}
@@ -3,8 +3,9 @@
  */
 package com.avispl.symphony.dal.communicator.lg.webos;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.nio.charset.StandardCharsets;
+import java.util.Deque;
+import java.util.Iterator;
 
 /**
  * Class support build String to byte
@@ -16,34 +17,71 @@ import java.util.List;
  */
 public class LgWebOSUtils {
 
-	static byte[] buildSendString(byte monitorID, byte[] command, byte[] param) {
-		List<Byte> bytes = new ArrayList<>();
+	private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
 
-		for (int i = 0; i < command.length; i++) {
-			bytes.add(command[i]);
-		}
-		bytes.add((byte) ' ');
-		if (monitorID < 17) {
-			bytes.add((byte) '0');
-		}
+	/**
+	 * Build the frame of a command, the frame is written in one array of the exact size
+	 * The monitor ID is sent as two hex digits, e.g. 01 or 1a
+	 *
+	 * @param monitorID the monitorID is set ID of the display
+	 * @param command the command is two letters of the command
+	 * @param param the param is data of the command
+	 * @return byte[] is the frame
+	 */
+	static byte[] buildSendString(byte monitorID, byte[] command, byte[] param) {
+		byte[] frame = new byte[command.length + param.length + 5];
+		System.arraycopy(command, 0, frame, 0, command.length);
+		int index = command.length;
+		frame[index++] = (byte) ' ';
+		frame[index++] = HEX_DIGITS[(monitorID >> 4) & 0x0F];
+		frame[index++] = HEX_DIGITS[monitorID & 0x0F];
+		frame[index++] = (byte) ' ';
+		System.arraycopy(param, 0, frame, index, param.length);
+		frame[frame.length - 1] = (byte) '\r';
+		return frame;
+	}
 
-		String ID = Integer.toHexString(monitorID);
+	/**
+	 * Check whether a frame is a query, the data of every LG query ends with the FF read marker, e.g. ka 01 ff
+	 * Sending a query twice doesn't change the display state
+	 *
+	 * @param frame the frame is request bytes
+	 * @return boolean true if the frame is a query
+	 */
+	static boolean isQueryFrame(byte[] frame) {
+		int length = frame.length;
+		return length >= 4 && frame[length - 1] == '\r' && (frame[length - 2] | 0x20) == 'f' && (frame[length - 3] | 0x20) == 'f'
+				&& frame[length - 4] == ' ';
+	}
 
-		for (byte b : ID.getBytes()) {
-			bytes.add(b);
+	/**
+	 * Match a reply to the oldest in-flight frame with the same echo letter, and drop the older in-flight frames
+	 *
+	 * @param reply the reply is reply from the device
+	 * @param frames the frames are request bytes
+	 * @param replies the replies are matched replies
+	 * @param inFlight the inFlight is indexes of frames waiting for a reply
+	 */
+	static void matchReply(byte[] reply, byte[][] frames, byte[][] replies, Deque<Integer> inFlight) {
+		int matched = -1;
+		for (int index : inFlight) {
+			if (frames[index][1] == reply[0]) {
+				matched = index;
+				break;
+			}
 		}
-
-		bytes.add((byte) ' ');
-		for (int i = 0; i < param.length; i++) {
-			bytes.add(param[i]);
+		if (matched < 0) {
+			// unexpected reply, e.g. late reply of a previous command
+			return;
 		}
-		bytes.add((byte) '\r');
-
-		byte[] byteArray = new byte[bytes.size()];
-		for (int i = 0; i < bytes.size(); i++) {
-			byteArray[i] = bytes.get(i);
+		replies[matched] = reply;
+		Iterator<Integer> iterator = inFlight.iterator();
+		while (iterator.hasNext()) {
+			int index = iterator.next();
+			iterator.remove();
+			if (index == matched) {
+				break;
+			}
 		}
-
-		return byteArray;
 	}
 }
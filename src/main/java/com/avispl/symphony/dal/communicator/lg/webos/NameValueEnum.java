@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.webos;
+
+/**
+ * NameValueEnum interface is implemented by the enums mapping a display name to the value sent to the device,
+ * {@link EnumTypeHandler} indexes them without reflection
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public interface NameValueEnum {
+
+	/**
+	 * Get the display name
+	 *
+	 * @return String is name shown in the statistics and the dropdown options
+	 */
+	String getName();
+
+	/**
+	 * Get the value used by the device
+	 *
+	 * @return String is value sent to or received from the device
+	 */
+	String getValue();
+}
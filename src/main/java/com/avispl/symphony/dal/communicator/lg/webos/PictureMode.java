@@ -12,7 +12,7 @@ package com.avispl.symphony.dal.communicator.lg.webos;
  * @version 1.4.0
  * @since 1.4.0
  */
-public enum PictureMode {
+public enum PictureMode implements NameValueEnum {
 
 	MALL("Mall/QSR", "00"),
 	GENERAL("General", "01"),
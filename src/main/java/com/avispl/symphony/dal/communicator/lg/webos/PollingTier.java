@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.webos;
+
+/**
+ * PollingTier class defined the enum provides how often a command is polled
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public enum PollingTier {
+
+	/**
+	 * Fetched once per session, and again only after a reboot, a power cycle or a failure
+	 */
+	STATIC,
+
+	/**
+	 * Fetched every slowPollingMultiplier polling cycles
+	 */
+	SLOW,
+
+	/**
+	 * Fetched every polling cycle
+	 */
+	FAST
+}
@@ -11,7 +11,7 @@ package com.avispl.symphony.dal.communicator.lg.webos;
  * @version 1.4.0
  * @since 1.4.0
  */
-public enum PowerManagement {
+public enum PowerManagement implements NameValueEnum {
 
 	OFF("Off", "00"),
 	SECOND_10("10 seconds", "02"),
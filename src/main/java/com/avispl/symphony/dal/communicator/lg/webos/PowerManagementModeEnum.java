@@ -11,7 +11,7 @@ package com.avispl.symphony.dal.communicator.lg.webos;
  * @version 1.4.0
  * @since 1.4.0
  */
-public enum PowerManagementModeEnum {
+public enum PowerManagementModeEnum implements NameValueEnum {
 
 	POWER_OFF("Power Off", "00"),
 	SUSTAIN_ASPECT_RATIO("Sustain Aspect Ratio", "01"),
@@ -12,7 +12,7 @@ package com.avispl.symphony.dal.communicator.lg.webos;
  * @version 1.4.0
  * @since 1.4.0
  */
-public enum PowerStatus {
+public enum PowerStatus implements NameValueEnum {
 
 	LST("LST (Last Status)", "00"),
 	STD("STD (Standby)", "01"),
@@ -0,0 +1,25 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.webos;
+
+/**
+ * ResponseDecoder interface decodes the data of an OK reply of one command into {@link LgWebOSPropertyStore}
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+@FunctionalInterface
+public interface ResponseDecoder {
+
+	/**
+	 * Decode the reply, the data starts at {@link LgWebOSConstants#REPLY_STATUS_END_INDEX}
+	 *
+	 * @param response the response is the whole reply of the device
+	 * @param store the store is store to write the decoded values into
+	 * @return Object is the decoded value, or {@link LgWebOSConstants#NA} if the data is unknown
+	 */
+	Object decode(byte[] response, LgWebOSPropertyStore store);
+}
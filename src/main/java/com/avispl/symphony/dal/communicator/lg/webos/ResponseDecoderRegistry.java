@@ -0,0 +1,580 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.webos;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
+import com.avispl.symphony.dal.communicator.lg.webos.LgWebOSConstants.commandNames;
+import com.avispl.symphony.dal.communicator.lg.webos.LgWebOSConstants.fanStatusNames;
+import com.avispl.symphony.dal.communicator.lg.webos.LgWebOSConstants.inputNames;
+import com.avispl.symphony.dal.communicator.lg.webos.LgWebOSConstants.powerStatusNames;
+import com.avispl.symphony.dal.communicator.lg.webos.LgWebOSConstants.syncStatusNames;
+
+/**
+ * ResponseDecoderRegistry class maps every command to the {@link ResponseDecoder} of its reply
+ * The decoders read the reply at fixed offsets, a two hex digit code is resolved with a 256 entries table,
+ * so decoding a reply doesn't copy the reply or scan the code maps
+ * More commands are supported by registering their decoder
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class ResponseDecoderRegistry {
+
+	/**
+	 * Offsets of the first, second and third two digit fields of the data
+	 */
+	private static final int FIRST_FIELD = LgWebOSConstants.REPLY_STATUS_END_INDEX;
+	private static final int SECOND_FIELD = FIRST_FIELD + 2;
+	private static final int THIRD_FIELD = FIRST_FIELD + 4;
+
+	/**
+	 * Length of the serial number and of the software version in the data
+	 */
+	private static final int SERIAL_NUMBER_LENGTH = 12;
+	private static final int SOFTWARE_VERSION_LENGTH = 6;
+
+	/**
+	 * Offset of the network settings, after the two digit setting code and a space
+	 */
+	private static final int NETWORK_SETTING_FIELD = FIRST_FIELD + 3;
+
+	/**
+	 * Boxed and decimal strings of 0 to 255, and the two digit hex strings in lower and upper case
+	 */
+	private static final Integer[] INTEGERS = new Integer[256];
+	private static final String[] NUMBERS = new String[256];
+	private static final String[] LOWER_CASE_CODES = new String[256];
+	private static final String[] UPPER_CASE_CODES = new String[256];
+
+	static {
+		for (int i = 0; i < 256; i++) {
+			INTEGERS[i] = i;
+			NUMBERS[i] = String.valueOf(i);
+			LOWER_CASE_CODES[i] = String.format("%02x", i);
+			UPPER_CASE_CODES[i] = String.format("%02X", i);
+		}
+	}
+
+	private static final CodeTable<powerStatusNames> POWER_STATUS = CodeTable.of(LgWebOSConstants.powerStatus);
+	private static final CodeTable<fanStatusNames> FAN_STATUS = CodeTable.of(LgWebOSConstants.fanStatusCodes);
+	private static final CodeTable<inputNames> INPUTS = CodeTable.of(LgWebOSConstants.inputs);
+	private static final CodeTable<String> INPUT_NAMES = createInputNames();
+	private static final CodeTable<String> POWER_MANAGEMENT_MODES = CodeTable.ofNames(PowerManagementModeEnum.class);
+	private static final CodeTable<String> FAILOVER_MODES = CodeTable.ofNames(FailOverEnum.class);
+	private static final CodeTable<String> FAILOVER_INPUT_SOURCES = CodeTable.ofNames(FailOverInputSourceEnum.class);
+	private static final CodeTable<String> STAND_BY_MODES = CodeTable.ofNames(PowerManagement.class);
+	private static final CodeTable<String> ASPECT_RATIOS = CodeTable.ofNames(AspectRatio.class);
+	private static final CodeTable<String> BRIGHTNESS_SIZES = CodeTable.ofNames(BrightnessSize.class);
+	private static final CodeTable<String> PICTURE_MODES = CodeTable.ofNames(PictureMode.class);
+	private static final CodeTable<String> SOUND_MODES = CodeTable.ofNames(SoundMode.class);
+	private static final CodeTable<String> LANGUAGES = CodeTable.ofNames(Language.class);
+	private static final CodeTable<String> POWER_ON_STATUSES = CodeTable.ofNames(PowerStatus.class);
+	private static final CodeTable<String> TILE_MODES = createTileModes();
+
+	/**
+	 * Sync status codes are four digits, the first two digits repeat the requested parameter
+	 */
+	private static final syncStatusNames[] SYNC_STATUS_NAMES = syncStatusNames.values();
+	private static final int[] SYNC_STATUS_CODES = createSyncStatusCodes();
+
+	private final Map<commandNames, ResponseDecoder> decoders = new EnumMap<>(commandNames.class);
+
+	/**
+	 * Register the decoder of a command, it replaces the decoder registered before for the command
+	 *
+	 * @param command the command is command whose reply is decoded
+	 * @param decoder the decoder is decoder of the reply
+	 */
+	void register(commandNames command, ResponseDecoder decoder) {
+		decoders.put(command, decoder);
+	}
+
+	/**
+	 * Get the decoder of a command
+	 *
+	 * @param command the command is command whose reply is decoded
+	 * @return ResponseDecoder is the decoder or null if the command has no decoder
+	 */
+	ResponseDecoder get(commandNames command) {
+		return decoders.get(command);
+	}
+
+	/**
+	 * Create a registry with the decoders of every monitored and controlled command,
+	 * {@link commandNames#FAILOVER_INPUT_LIST} is registered by the device since it keeps the input list
+	 *
+	 * @return ResponseDecoderRegistry is new registry
+	 */
+	static ResponseDecoderRegistry createDefault() {
+		ResponseDecoderRegistry registry = new ResponseDecoderRegistry();
+		registry.register(commandNames.NATURAL_MODE, (response, store) -> decodeCode(response, store, LgWebOSProperty.NATURAL_MODE));
+		registry.register(commandNames.TILE_ID, (response, store) -> decodeCode(response, store, LgWebOSProperty.TILE_MODE_ID));
+		registry.register(commandNames.TILE_MODE_CONTROL, (response, store) -> decodeCode(response, store, LgWebOSProperty.TILE_MODE_SETTINGS));
+		registry.register(commandNames.TINT, (response, store) -> decodeCode(response, store, LgWebOSProperty.TINT));
+		registry.register(commandNames.BALANCE, (response, store) -> decodeCode(response, store, LgWebOSProperty.BALANCE));
+		registry.register(commandNames.NATURAL_SIZE, (response, store) -> decodeInteger(response, SECOND_FIELD, store, LgWebOSProperty.NATURAL_SIZE));
+		registry.register(commandNames.BACKLIGHT, (response, store) -> decodeInteger(response, FIRST_FIELD, store, LgWebOSProperty.BACKLIGHT));
+		registry.register(commandNames.MUTE, (response, store) -> decodeInteger(response, FIRST_FIELD, store, LgWebOSProperty.MUTE));
+		registry.register(commandNames.VOLUME, (response, store) -> decodeInteger(response, FIRST_FIELD, store, LgWebOSProperty.VOLUME));
+		registry.register(commandNames.TEMPERATURE, (response, store) -> decodeInteger(response, FIRST_FIELD, store, LgWebOSProperty.TEMPERATURE));
+		registry.register(commandNames.BRIGHTNESS, (response, store) -> decodeNumber(response, store, LgWebOSProperty.BRIGHTNESS));
+		registry.register(commandNames.CONTRAST, (response, store) -> decodeNumber(response, store, LgWebOSProperty.CONTRAST));
+		registry.register(commandNames.SHARPNESS, (response, store) -> decodeNumber(response, store, LgWebOSProperty.SHARPNESS));
+		registry.register(commandNames.SCREEN_COLOR, (response, store) -> decodeNumber(response, store, LgWebOSProperty.SCREEN_COLOR));
+		registry.register(commandNames.COLOR_TEMPERATURE, (response, store) -> decodeNumber(response, store, LgWebOSProperty.COLOR_TEMPERATURE));
+		registry.register(commandNames.POWER_MANAGEMENT_MODE, (response, store) -> decodeName(response, SECOND_FIELD, POWER_MANAGEMENT_MODES, store, LgWebOSProperty.POWER_MANAGEMENT_MODE));
+		registry.register(commandNames.ASPECT_RATIO, (response, store) -> decodeName(response, FIRST_FIELD, ASPECT_RATIOS, store, LgWebOSProperty.ASPECT_RATIO));
+		registry.register(commandNames.BRIGHTNESS_CONTROL, (response, store) -> decodeName(response, FIRST_FIELD, BRIGHTNESS_SIZES, store, LgWebOSProperty.BRIGHTNESS_CONTROL));
+		registry.register(commandNames.PICTURE_MODE, (response, store) -> decodeName(response, FIRST_FIELD, PICTURE_MODES, store, LgWebOSProperty.PICTURE_MODE));
+		registry.register(commandNames.SOUND_MODE, (response, store) -> decodeName(response, FIRST_FIELD, SOUND_MODES, store, LgWebOSProperty.SOUND_MODE));
+		registry.register(commandNames.POWER_ON_STATUS, (response, store) -> decodeName(response, FIRST_FIELD, POWER_ON_STATUSES, store, LgWebOSProperty.POWER_ON_STATUS));
+		registry.register(commandNames.LANGUAGE, ResponseDecoderRegistry::decodeLanguage);
+		registry.register(commandNames.FAILOVER, ResponseDecoderRegistry::decodeFailover);
+		registry.register(commandNames.POWER, ResponseDecoderRegistry::decodePower);
+		registry.register(commandNames.INPUT_SELECT, ResponseDecoderRegistry::decodeInput);
+		registry.register(commandNames.INPUT, ResponseDecoderRegistry::decodeInput);
+		registry.register(commandNames.FAN_STATUS, ResponseDecoderRegistry::decodeFanStatus);
+		registry.register(commandNames.SYNC_STATUS, ResponseDecoderRegistry::decodeSyncStatus);
+		registry.register(commandNames.SERIAL_NUMBER, ResponseDecoderRegistry::decodeSerialNumber);
+		registry.register(commandNames.SOFTWARE_VERSION, ResponseDecoderRegistry::decodeSoftwareVersion);
+		registry.register(commandNames.DISPLAY_STAND_BY_MODE, ResponseDecoderRegistry::decodeStandByMode);
+		registry.register(commandNames.DATE, ResponseDecoderRegistry::decodeDate);
+		registry.register(commandNames.TIME, ResponseDecoderRegistry::decodeTime);
+		registry.register(commandNames.TILE_MODE_SETTINGS, ResponseDecoderRegistry::decodeTileModeSettings);
+		registry.register(commandNames.NETWORK_SETTING, ResponseDecoderRegistry::decodeNetworkSetting);
+		registry.register(commandNames.NO_SIGNAL_POWER_OFF, (response, store) -> decodeSwitch(response, store, LgWebOSProperty.NO_SIGNAL_POWER_OFF));
+		registry.register(commandNames.NO_IR_POWER_OFF, (response, store) -> decodeSwitch(response, store, LgWebOSProperty.NO_IR_POWER_OFF));
+		registry.register(commandNames.REBOOT, ResponseDecoderRegistry::decodeReboot);
+		return registry;
+	}
+
+	/**
+	 * Get the two characters at the offset as a String, without allocating for hex codes
+	 *
+	 * @param response the response is reply of the device
+	 * @param offset the offset is index of the first character
+	 * @return String is the two characters
+	 */
+	static String decodeCode(byte[] response, int offset) {
+		int value = LgWebOSCodec.parseHexByte(response, offset);
+		if (value >= 0) {
+			String code = LOWER_CASE_CODES[value];
+			if (code.charAt(0) == response[offset] && code.charAt(1) == response[offset + 1]) {
+				return code;
+			}
+			code = UPPER_CASE_CODES[value];
+			if (code.charAt(0) == response[offset] && code.charAt(1) == response[offset + 1]) {
+				return code;
+			}
+		}
+		return new String(response, offset, Math.max(0, Math.min(2, response.length - offset)), StandardCharsets.US_ASCII);
+	}
+
+	/**
+	 * Get the decimal String of a number from 0 to 255
+	 *
+	 * @param value the value is number
+	 * @return String is the cached decimal String
+	 */
+	static String toDecimalString(int value) {
+		return NUMBERS[value];
+	}
+
+	/**
+	 * Get the length of a field of the data, bounded by the terminator of a short reply
+	 *
+	 * @param response the response is reply of the device
+	 * @param length the length is length of the field
+	 * @return int is length of the field in the reply
+	 */
+	private static int dataLength(byte[] response, int length) {
+		return Math.max(0, Math.min(length, response.length - 1 - FIRST_FIELD));
+	}
+
+	/**
+	 * Get the value of the two hex digits at the offset, the reply is invalid if they are not hex digits
+	 *
+	 * @param response the response is reply of the device
+	 * @param offset the offset is index of the first digit
+	 * @return int is value from 0 to 255
+	 * @throws NumberFormatException if the digits are not hex digits
+	 */
+	private static int parseHex(byte[] response, int offset) {
+		int value = LgWebOSCodec.parseHexByte(response, offset);
+		if (value < 0) {
+			throw new NumberFormatException("Invalid hex value in the reply at " + offset);
+		}
+		return value;
+	}
+
+	private static Object decodeCode(byte[] response, LgWebOSPropertyStore store, LgWebOSProperty property) {
+		String value = decodeCode(response, FIRST_FIELD);
+		store.update(property, value);
+		return value;
+	}
+
+	private static Object decodeInteger(byte[] response, int offset, LgWebOSPropertyStore store, LgWebOSProperty property) {
+		int value = parseHex(response, offset);
+		store.update(property, NUMBERS[value]);
+		return INTEGERS[value];
+	}
+
+	private static Object decodeNumber(byte[] response, LgWebOSPropertyStore store, LgWebOSProperty property) {
+		String value = NUMBERS[parseHex(response, FIRST_FIELD)];
+		store.update(property, value);
+		return value;
+	}
+
+	private static Object decodeName(byte[] response, int offset, CodeTable<String> names, LgWebOSPropertyStore store, LgWebOSProperty property) {
+		String value = names.getOrDefault(response, offset, LgWebOSConstants.NA);
+		store.update(property, value);
+		return value;
+	}
+
+	private static Object decodeLanguage(byte[] response, LgWebOSPropertyStore store) {
+		String value = LANGUAGES.getOrDefault(response, FIRST_FIELD, LgWebOSConstants.NA);
+		if (!LgWebOSConstants.NA.equals(value)) {
+			store.update(LgWebOSProperty.LANGUAGE, value);
+		}
+		return value;
+	}
+
+	private static Object decodeFailover(byte[] response, LgWebOSPropertyStore store) {
+		String value = FAILOVER_MODES.get(response, FIRST_FIELD);
+		if (value == null) {
+			return LgWebOSConstants.NA;
+		}
+		store.update(LgWebOSProperty.FAILOVER_MODE, value);
+		return value;
+	}
+
+	private static Object decodePower(byte[] response, LgWebOSPropertyStore store) {
+		powerStatusNames value = POWER_STATUS.get(response, FIRST_FIELD);
+		if (value == null) {
+			return LgWebOSConstants.NA;
+		}
+		store.update(LgWebOSProperty.POWER, value.toString());
+		return value;
+	}
+
+	private static Object decodeInput(byte[] response, LgWebOSPropertyStore store) {
+		inputNames value = INPUTS.get(response, FIRST_FIELD);
+		if (value == null) {
+			return LgWebOSConstants.NA;
+		}
+		store.update(LgWebOSProperty.INPUT_SELECT, INPUT_NAMES.getOrDefault(response, FIRST_FIELD, LgWebOSConstants.NA));
+		return value;
+	}
+
+	private static Object decodeFanStatus(byte[] response, LgWebOSPropertyStore store) {
+		fanStatusNames value = FAN_STATUS.get(response, FIRST_FIELD);
+		if (value == null) {
+			return LgWebOSConstants.NA;
+		}
+		store.update(LgWebOSProperty.FAN, value.name());
+		return value;
+	}
+
+	private static Object decodeSyncStatus(byte[] response, LgWebOSPropertyStore store) {
+		int parameter = LgWebOSCodec.parseHexByte(response, FIRST_FIELD);
+		int status = LgWebOSCodec.parseHexByte(response, SECOND_FIELD);
+		if (parameter < 0 || status < 0) {
+			return LgWebOSConstants.NA;
+		}
+		int code = parameter << 8 | status;
+		for (int i = 0; i < SYNC_STATUS_CODES.length; i++) {
+			if (SYNC_STATUS_CODES[i] == code) {
+				store.update(LgWebOSProperty.SIGNAL, SYNC_STATUS_NAMES[i].toString());
+				return SYNC_STATUS_NAMES[i];
+			}
+		}
+		return LgWebOSConstants.NA;
+	}
+
+	private static Object decodeSerialNumber(byte[] response, LgWebOSPropertyStore store) {
+		String value = new String(response, FIRST_FIELD, dataLength(response, SERIAL_NUMBER_LENGTH), StandardCharsets.US_ASCII);
+		store.update(LgWebOSProperty.SERIAL_NUMBER, value);
+		return value;
+	}
+
+	private static Object decodeSoftwareVersion(byte[] response, LgWebOSPropertyStore store) {
+		//Custom software with format xx.xx.xx
+		int end = FIRST_FIELD + dataLength(response, SOFTWARE_VERSION_LENGTH);
+		StringBuilder stringBuilder = new StringBuilder(SOFTWARE_VERSION_LENGTH + 2);
+		for (int i = FIRST_FIELD; i < end; i = i + 2) {
+			if (i != FIRST_FIELD) {
+				stringBuilder.append(LgWebOSConstants.DOT);
+			}
+			stringBuilder.append((char) response[i]);
+			if (i + 1 < end) {
+				stringBuilder.append((char) response[i + 1]);
+			}
+		}
+		String value = stringBuilder.toString();
+		store.update(LgWebOSProperty.SOFTWARE_VERSION, value);
+		return value;
+	}
+
+	private static Object decodeStandByMode(byte[] response, LgWebOSPropertyStore store) {
+		String value = STAND_BY_MODES.get(response, FIRST_FIELD);
+		if (value == null) {
+			return LgWebOSConstants.NA;
+		}
+		store.update(LgWebOSProperty.DISPLAY_STAND_BY_MODE, value);
+		return PowerManagement.OFF.getName().equals(value) ? value : LgWebOSConstants.ON;
+	}
+
+	/**
+	 * Decode the date, the value example 0c011F with 0c is year, 01 is month, and 1F is day
+	 * is converted to 1/31/2022, the year is 2010 + 0c
+	 */
+	private static Object decodeDate(byte[] response, LgWebOSPropertyStore store) {
+		int year = 2010 + parseHex(response, FIRST_FIELD);
+		String value = parseHex(response, SECOND_FIELD) + "/" + parseHex(response, THIRD_FIELD) + "/" + year;
+		store.update(LgWebOSProperty.DATE, value);
+		return value;
+	}
+
+	/**
+	 * Decode the time, the value example 173B00 with 17 is hours, 3B is minutes, and 00 is seconds
+	 * is converted to 11:59 PM
+	 */
+	private static Object decodeTime(byte[] response, LgWebOSPropertyStore store) {
+		int hours = parseHex(response, FIRST_FIELD);
+		int minutes = parseHex(response, SECOND_FIELD);
+		String defaultTime = LgWebOSConstants.AM;
+		if (hours == 0) {
+			defaultTime = LgWebOSConstants.PM;
+			hours = 12;
+		} else if (hours > 12) {
+			defaultTime = LgWebOSConstants.PM;
+			hours = hours - 12;
+		}
+		StringBuilder stringBuilder = new StringBuilder().append(hours).append(LgWebOSConstants.COLON);
+		if (minutes < 10) {
+			stringBuilder.append(LgWebOSConstants.ZERO);
+		}
+		String value = stringBuilder.append(minutes).append(LgWebOSConstants.SPACE).append(defaultTime).toString();
+		store.update(LgWebOSProperty.TIME, value);
+		return value;
+	}
+
+	private static Object decodeTileModeSettings(byte[] response, LgWebOSPropertyStore store) {
+		store.update(LgWebOSProperty.TILE_MODE_COLUMN, NUMBERS[parseHex(response, SECOND_FIELD)]);
+		store.update(LgWebOSProperty.TILE_MODE_ROW, NUMBERS[parseHex(response, THIRD_FIELD)]);
+		String value = TILE_MODES.get(response, FIRST_FIELD);
+		if (value == null) {
+			return LgWebOSConstants.NA;
+		}
+		store.update(LgWebOSProperty.TILE_MODE, value);
+		return value;
+	}
+
+	/**
+	 * Decode the network settings, the value example 172000001001 255255255000 172000001001 172000000003
+	 * is converted to IP address, subnet mask, gateway and DNS server as 172.0.1.1
+	 */
+	private static Object decodeNetworkSetting(byte[] response, LgWebOSPropertyStore store) {
+		LgWebOSProperty[] properties = { LgWebOSProperty.IP_ADDRESS, LgWebOSProperty.SUBNET_MASK, LgWebOSProperty.GATEWAY, LgWebOSProperty.DNS_SERVER };
+		// the settings are the last four fields, they are read backwards from the terminator, trailing spaces are ignored
+		int end = Math.max(response.length - 1, NETWORK_SETTING_FIELD);
+		while (end > NETWORK_SETTING_FIELD && response[end - 1] == ' ') {
+			end--;
+		}
+		String[] values = new String[properties.length];
+		for (int i = properties.length - 1; i >= 0; i--) {
+			int start = end;
+			while (start > NETWORK_SETTING_FIELD && response[start - 1] != ' ') {
+				start--;
+			}
+			values[i] = decodeAddress(response, start, end);
+			if (values[i] == null || (start <= NETWORK_SETTING_FIELD && i > 0)) {
+				Arrays.fill(values, LgWebOSConstants.NA);
+				break;
+			}
+			end = start - 1;
+		}
+		for (int i = 0; i < properties.length; i++) {
+			store.put(properties[i], values[i]);
+		}
+		return LgWebOSConstants.EMPTY_STRING;
+	}
+
+	/**
+	 * Decode an address of the network settings, the value example 192168000001 is converted to 192.168.0.1
+	 *
+	 * @param response the response is reply of the device
+	 * @param start the start is index of the first digit
+	 * @param end the end is index after the last digit
+	 * @return String is the address or null if the address is invalid
+	 */
+	private static String decodeAddress(byte[] response, int start, int end) {
+		if ((end - start) % 3 != 0) {
+			return null;
+		}
+		StringBuilder stringBuilder = new StringBuilder(end - start + 3);
+		for (int i = start; i < end; i = i + 3) {
+			int value = LgWebOSCodec.parseDecimal(response, i, 3);
+			if (value < 0) {
+				return null;
+			}
+			if (i != start) {
+				stringBuilder.append(LgWebOSConstants.DOT);
+			}
+			stringBuilder.append(value);
+		}
+		return stringBuilder.toString();
+	}
+
+	private static Object decodeSwitch(byte[] response, LgWebOSPropertyStore store, LgWebOSProperty property) {
+		int switchValue = LgWebOSCodec.parseDecimal(response, FIRST_FIELD, 2);
+		if (switchValue < 0) {
+			throw new NumberFormatException("Invalid decimal value in the reply");
+		}
+		String value = switchValue == 0 ? LgWebOSConstants.OFF : LgWebOSConstants.ON;
+		store.update(property, value);
+		return value;
+	}
+
+	private static Object decodeReboot(byte[] response, LgWebOSPropertyStore store) {
+		String value = decodeCode(response, FIRST_FIELD);
+		if (!LgWebOSConstants.REBOOT_VALUE.equals(value)) {
+			throw new ResourceNotReachableException("NG reply");
+		}
+		return value;
+	}
+
+	/**
+	 * Create the input names, the input is named by the failover input sources first, then by the input dropdown
+	 *
+	 * @return CodeTable<String> is input names by code
+	 */
+	private static CodeTable<String> createInputNames() {
+		CodeTable<String> failoverNames = CodeTable.ofNames(FailOverInputSourceEnum.class);
+		CodeTable<String> dropdownNames = CodeTable.ofNames(InputSourceDropdown.class);
+		CodeTable<String> inputNames = new CodeTable<>();
+		for (byte[] code : LgWebOSConstants.inputs.values()) {
+			String name = failoverNames.get(code, 0);
+			inputNames.put(code, name == null ? dropdownNames.getOrDefault(code, 0, LgWebOSConstants.NA) : name);
+		}
+		return inputNames;
+	}
+
+	/**
+	 * Create the tile mode names, only the tile modes reported as status are decoded
+	 *
+	 * @return CodeTable<String> is tile mode names by code
+	 */
+	private static CodeTable<String> createTileModes() {
+		CodeTable<String> tileModes = new CodeTable<>();
+		for (TileMode tileMode : TileMode.values()) {
+			if (tileMode.isStatus()) {
+				tileModes.put(tileMode.getValue().getBytes(StandardCharsets.US_ASCII), tileMode.getName());
+			}
+		}
+		return tileModes;
+	}
+
+	/**
+	 * Create the four digit sync status codes in the order of {@link #SYNC_STATUS_NAMES}
+	 *
+	 * @return int[] is codes, -1 for a status without code
+	 */
+	private static int[] createSyncStatusCodes() {
+		int[] codes = new int[SYNC_STATUS_NAMES.length];
+		for (int i = 0; i < codes.length; i++) {
+			byte[] code = LgWebOSConstants.syncStatusCodes.get(SYNC_STATUS_NAMES[i]);
+			codes[i] = code == null || code.length != 4 ? -1 : LgWebOSCodec.parseHexByte(code, 0) << 8 | LgWebOSCodec.parseHexByte(code, 2);
+		}
+		return codes;
+	}
+
+	/**
+	 * Table of the values of a two hex digit code, the first value registered for a code wins
+	 *
+	 * @param <V> the type of the values
+	 */
+	static final class CodeTable<V> {
+		private final Object[] values = new Object[256];
+
+		/**
+		 * Create the table of a code map of {@link LgWebOSConstants}
+		 *
+		 * @param codes the codes are codes by value
+		 * @param <K> the type of the values
+		 * @return CodeTable<K> is new table
+		 */
+		static <K> CodeTable<K> of(Map<K, byte[]> codes) {
+			CodeTable<K> codeTable = new CodeTable<>();
+			for (Map.Entry<K, byte[]> entry : codes.entrySet()) {
+				codeTable.put(entry.getValue(), entry.getKey());
+			}
+			return codeTable;
+		}
+
+		/**
+		 * Create the table of the names of an enum by value
+		 *
+		 * @param enumType the enumType is enum class
+		 * @param <T> the type of the enum
+		 * @return CodeTable<String> is new table
+		 */
+		static <T extends Enum<T> & NameValueEnum> CodeTable<String> ofNames(Class<T> enumType) {
+			CodeTable<String> codeTable = new CodeTable<>();
+			for (T constant : enumType.getEnumConstants()) {
+				codeTable.put(constant.getValue().getBytes(StandardCharsets.US_ASCII), constant.getName());
+			}
+			return codeTable;
+		}
+
+		/**
+		 * Register the value of a code, codes other than two hex digits are ignored
+		 *
+		 * @param code the code is two hex digits
+		 * @param value the value is value of the code
+		 */
+		void put(byte[] code, V value) {
+			if (code.length != 2) {
+				return;
+			}
+			int index = LgWebOSCodec.parseHexByte(code, 0);
+			if (index >= 0 && values[index] == null) {
+				values[index] = value;
+			}
+		}
+
+		/**
+		 * Get the value of the code at the offset
+		 *
+		 * @param response the response is reply of the device
+		 * @param offset the offset is index of the code
+		 * @return V is the value or null if the code is unknown
+		 */
+		@SuppressWarnings("unchecked")
+		V get(byte[] response, int offset) {
+			int index = LgWebOSCodec.parseHexByte(response, offset);
+			return index < 0 ? null : (V) values[index];
+		}
+
+		/**
+		 * Get the value of the code at the offset
+		 *
+		 * @param response the response is reply of the device
+		 * @param offset the offset is index of the code
+		 * @param defaultValue the defaultValue is returned if the code is unknown
+		 * @return V is the value or the default value
+		 */
+		V getOrDefault(byte[] response, int offset, V defaultValue) {
+			V value = get(response, offset);
+			return value == null ? defaultValue : value;
+		}
+	}
+}
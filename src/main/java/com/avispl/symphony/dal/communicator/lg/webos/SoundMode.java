@@ -12,7 +12,7 @@ package com.avispl.symphony.dal.communicator.lg.webos;
  * @version 1.4.0
  * @since 1.4.0
  */
-public enum SoundMode {
+public enum SoundMode implements NameValueEnum {
 
 	STANDARD("Standard", "01"),
 	CINEMA("Cinema", "03"),
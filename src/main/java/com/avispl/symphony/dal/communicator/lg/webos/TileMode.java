@@ -12,7 +12,7 @@ package com.avispl.symphony.dal.communicator.lg.webos;
  * @version 1.4.0
  * @since 1.4.0
  */
-public enum TileMode {
+public enum TileMode implements NameValueEnum {
 
 	ON("On", "01", true),
 	OFF("Off", "00", true);
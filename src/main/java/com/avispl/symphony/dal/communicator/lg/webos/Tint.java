@@ -11,7 +11,7 @@ package com.avispl.symphony.dal.communicator.lg.webos;
  * @version 1.4.0
  * @since 1.4.0
  */
-public enum Tint {
+public enum Tint implements NameValueEnum {
 
 	R50("R50", "00"),
 	R49("R49", "01"),
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.webos;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH benchmark of the {@link EnumTypeHandler} lookups against the reflective lookups they replace
+ * Run with the main method, or with the JMH runner on the test classpath
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnumTypeHandlerBenchmark {
+
+	/**
+	 * Value of the last {@link Tint} constant, the reflective lookup scans the whole enum for it
+	 */
+	private final String tintValue = Tint.values()[Tint.values().length - 1].getValue();
+	private final String languageName = Language.values()[Language.values().length - 1].getName();
+
+	@Benchmark
+	public String indexedNameByValue() {
+		return EnumTypeHandler.getNameEnumByValue(Tint.class, tintValue);
+	}
+
+	@Benchmark
+	public String reflectiveNameByValue() throws Exception {
+		for (Tint c : Tint.class.getEnumConstants()) {
+			Method method = c.getClass().getMethod("getValue");
+			if (method.invoke(c).equals(tintValue)) {
+				return (String) c.getClass().getMethod("getName").invoke(c);
+			}
+		}
+		return LgWebOSConstants.NA;
+	}
+
+	@Benchmark
+	public String indexedValueByName() {
+		return EnumTypeHandler.getValueOfEnumByName(Language.class, languageName);
+	}
+
+	@Benchmark
+	public String reflectiveValueByName() throws Exception {
+		for (Language c : Language.class.getEnumConstants()) {
+			Method method = c.getClass().getMethod("getName");
+			if (method.invoke(c).equals(languageName)) {
+				return (String) c.getClass().getMethod("getValue").invoke(c);
+			}
+		}
+		return LgWebOSConstants.NA;
+	}
+
+	@Benchmark
+	public String[] indexedNames() {
+		return EnumTypeHandler.getEnumNames(Tint.class);
+	}
+
+	@Benchmark
+	public String[] reflectiveNames() throws Exception {
+		Tint[] constants = Tint.class.getEnumConstants();
+		String[] names = new String[constants.length];
+		for (int i = 0; i < constants.length; i++) {
+			names[i] = (String) constants[i].getClass().getMethod("getName").invoke(constants[i]);
+		}
+		return names;
+	}
+
+	public static void main(String[] args) throws Exception {
+		new Runner(new OptionsBuilder().include(EnumTypeHandlerBenchmark.class.getSimpleName()).build()).run();
+	}
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.webos;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.communicator.lg.webos.LgWebOSConstants.commandNames;
+
+/**
+ * Unit test of LgWebOSCoolDownController
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class LgWebOSCoolDownControllerTest {
+
+	private static final byte[] VOLUME_QUERY = LgWebOSUtils.buildSendString((byte) 1, "kf".getBytes(StandardCharsets.US_ASCII), "ff".getBytes(StandardCharsets.US_ASCII));
+	private static final byte[] VOLUME_CONTROL = LgWebOSUtils.buildSendString((byte) 1, "kf".getBytes(StandardCharsets.US_ASCII), "1e".getBytes(StandardCharsets.US_ASCII));
+
+	private final LgWebOSCoolDownController coolDownController = new LgWebOSCoolDownController();
+
+	@BeforeEach
+	void setUp() {
+		coolDownController.configure(LgWebOSConstants.MIN_DELAY_TIME, true);
+	}
+
+	/**
+	 * Test LgWebOSCoolDownController.onNgReply with NG replies to controls of a command the display answered before
+	 * Expected a rejected control value is not a fault, the gap is kept
+	 */
+	@Test
+	void testNgReplyToControl() {
+		coolDownController.onCleanReply(commandNames.VOLUME);
+		for (int i = 0; i < 5; i++) {
+			coolDownController.onNgReply(commandNames.VOLUME, VOLUME_CONTROL);
+		}
+		Assertions.assertEquals(0, coolDownController.getFaults());
+		Assertions.assertEquals(LgWebOSConstants.MIN_DELAY_TIME, coolDownController.getDelay());
+	}
+
+	/**
+	 * Test LgWebOSCoolDownController.onNgReply with NG replies to queries
+	 * Expected the NG reply to a query the display never answered is not a fault, the NG reply to a query it answered
+	 * before doubles the gap
+	 */
+	@Test
+	void testNgReplyToQuery() {
+		coolDownController.onNgReply(commandNames.VOLUME, VOLUME_QUERY);
+		Assertions.assertEquals(0, coolDownController.getFaults());
+
+		coolDownController.onCleanReply(commandNames.VOLUME);
+		coolDownController.onNgReply(commandNames.VOLUME, VOLUME_QUERY);
+		Assertions.assertEquals(1, coolDownController.getFaults());
+		Assertions.assertEquals(LgWebOSConstants.MIN_DELAY_TIME * 2, coolDownController.getDelay());
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.webos;
+
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.communicator.lg.webos.LgWebOSConstants.commandNames;
+
+/**
+ * Allocation profile of the numeric replies decoded by LgWebOSDevice
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class LgWebOSDecodeAllocationTest {
+
+	private static final int WARM_UP = 50_000;
+	private static final int ITERATIONS = 200_000;
+
+	private final LgWebOSDevice lgWebOSDevice = new LgWebOSDevice();
+
+	/**
+	 * Test LgWebOSCodec parsing
+	 * Expected hex and decimal fields are parsed from arrays and buffers, invalid fields are -1
+	 */
+	@Test
+	void testCodec() {
+		byte[] reply = "b 01 OK1F64x".getBytes(StandardCharsets.US_ASCII);
+		Assertions.assertEquals(31, LgWebOSCodec.parseHexByte(reply, 7));
+		Assertions.assertEquals(100, LgWebOSCodec.parseHexByte(reply, 9));
+		Assertions.assertEquals(64, LgWebOSCodec.parseDecimal(reply, 9, 2));
+		Assertions.assertEquals(-1, LgWebOSCodec.parseDecimal(reply, 7, 2));
+		Assertions.assertEquals(-1, LgWebOSCodec.parseHexByte(reply, 11));
+		Assertions.assertEquals(-1, LgWebOSCodec.parseHexByte(reply, 1));
+		ByteBuffer buffer = ByteBuffer.wrap(reply);
+		Assertions.assertEquals(31, LgWebOSCodec.parseHexByte(buffer, 7));
+		Assertions.assertEquals(64, LgWebOSCodec.parseDecimal(buffer, 9, 2));
+		Assertions.assertEquals(0, buffer.position());
+	}
+
+	/**
+	 * Test decoding numeric replies
+	 * Expected no byte is allocated per decoded reply
+	 */
+	@Tag("Benchmark")
+	@Test
+	void testNumericRepliesDoNotAllocate() {
+		java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		Assumptions.assumeTrue(bean instanceof com.sun.management.ThreadMXBean, "Thread allocation counters are not available");
+		com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) bean;
+		Assumptions.assumeTrue(threadMXBean.isThreadAllocatedMemorySupported(), "Thread allocation counters are not supported");
+		threadMXBean.setThreadAllocatedMemoryEnabled(true);
+
+		commandNames[] commands = { commandNames.BACKLIGHT, commandNames.VOLUME, commandNames.MUTE, commandNames.TEMPERATURE, commandNames.CONTRAST,
+				commandNames.SHARPNESS, commandNames.SCREEN_COLOR, commandNames.COLOR_TEMPERATURE, commandNames.BRIGHTNESS, commandNames.NATURAL_SIZE,
+				commandNames.TILE_MODE_SETTINGS, commandNames.NO_SIGNAL_POWER_OFF, commandNames.POWER, commandNames.FAN_STATUS };
+		byte[][] replies = new byte[commands.length][];
+		for (int i = 0; i < commands.length; i++) {
+			char echo = (char) LgWebOSConstants.commands.get(commands[i])[1];
+			replies[i] = (echo + " 01 OK01C80Ax").getBytes(StandardCharsets.US_ASCII);
+		}
+
+		decode(commands, replies, WARM_UP);
+		long threadId = Thread.currentThread().getId();
+		long before = threadMXBean.getThreadAllocatedBytes(threadId);
+		decode(commands, replies, ITERATIONS);
+		long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - before;
+		System.out.println(String.format("Allocated %d bytes for %d decoded replies", allocated, ITERATIONS));
+		Assertions.assertEquals(0, allocated / ITERATIONS, "bytes allocated per decoded reply");
+	}
+
+	/**
+	 * Decode the replies in a round robin
+	 *
+	 * @param commands the commands are commands of the replies
+	 * @param replies the replies are replies to decode
+	 * @param count the count is number of replies to decode
+	 */
+	private void decode(commandNames[] commands, byte[][] replies, int count) {
+		for (int i = 0; i < count; i++) {
+			int index = i % commands.length;
+			lgWebOSDevice.digestResponse(replies[index], commands[index]);
+		}
+	}
+}
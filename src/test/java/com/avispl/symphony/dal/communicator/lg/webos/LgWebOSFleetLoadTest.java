@@ -0,0 +1,373 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.webos;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.OperatingSystemMXBean;
+import java.lang.management.ThreadMXBean;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
+
+/**
+ * Fleet load harness, N adapters poll N {@link LgWebOSSimulator} endpoints in one JVM at a Symphony like cadence
+ * Every adapter is driven by its own thread like the Symphony monitoring pool does, getMultipleStatistics is called once
+ * per cadence and a backlight control is sent every few cycles
+ * The report has the sweep time percentiles, the threads and the heap per adapter, the CPU per cycle and the timeout rate
+ * The CPU includes the simulators, the threads and the heap don't
+ * Run the main method to grow the fleet, the sizes and the cadence are read from the system properties
+ * fleet.sizes, fleet.cycles, fleet.cadence, fleet.controlEvery, fleet.latency and fleet.coolDownDelay
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class LgWebOSFleetLoadTest {
+
+	private static final String SIMULATOR_THREAD_NAME = "LgWebOSSimulator";
+	private static final String BACKLIGHT = LgWebOSConstants.DISPLAY + LgWebOSConstants.HASH + LgControllingCommand.BACKLIGHT.getName();
+
+	/**
+	 * Settings of a run
+	 */
+	static class Settings {
+		int devices = 10;
+		int cycles = 3;
+		int cadence = 2000;
+		int controlEvery = 2;
+		int latency = 5;
+		int coolDownDelay = LgWebOSConstants.MIN_DELAY_TIME;
+	}
+
+	/**
+	 * Result of a run
+	 */
+	static class Report {
+		int devices;
+		long[] sweepTimes;
+		long[] controlTimes;
+		int threadsPerHundredDevices;
+		long heapPerDevice;
+		double cpuPerCycle;
+		int commands;
+		int timeouts;
+		int failedCalls;
+
+		/**
+		 * Get the timeout rate of the commands
+		 *
+		 * @return double is share of the commands that timed out
+		 */
+		double getTimeoutRate() {
+			return commands == 0 ? 0 : (double) timeouts / commands;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%6d | %7d %7d %7d %7d | %7d %7d | %11.1f | %8.1f | %8.2f | %7.3f%% | %d",
+					devices, percentile(sweepTimes, 50), percentile(sweepTimes, 95), percentile(sweepTimes, 99), percentile(sweepTimes, 100),
+					percentile(controlTimes, 50), percentile(controlTimes, 99), threadsPerHundredDevices / 100.0, heapPerDevice / 1024.0, cpuPerCycle,
+					getTimeoutRate() * 100, failedCalls);
+		}
+
+		static String header() {
+			return "  size |  p50 ms  p95 ms  p99 ms  max ms | ctl p50 ctl p99 | threads/dev |  KB/dev  | CPU ms/cycle | timeouts | failed calls";
+		}
+	}
+
+	/**
+	 * LgWebOSDevice counting the commands and the commands that timed out
+	 */
+	static class CountingLgWebOSDevice extends LgWebOSDevice {
+		private final AtomicInteger commands;
+		private final AtomicInteger timeouts;
+
+		CountingLgWebOSDevice(AtomicInteger commands, AtomicInteger timeouts) {
+			this.commands = commands;
+			this.timeouts = timeouts;
+		}
+
+		@Override
+		public byte[] send(byte[] data) throws Exception {
+			commands.incrementAndGet();
+			try {
+				return super.send(data);
+			} catch (SocketTimeoutException e) {
+				timeouts.incrementAndGet();
+				throw e;
+			}
+		}
+	}
+
+	/**
+	 * Test a small fleet
+	 * Expected every cycle completes, no command times out and a sweep takes less than the cadence
+	 */
+	@Tag("Benchmark")
+	@Test
+	void testSmallFleet() throws Exception {
+		Settings settings = new Settings();
+		Report report = run(settings);
+		System.out.println(Report.header());
+		System.out.println(report);
+		Assertions.assertEquals(0, report.failedCalls);
+		Assertions.assertEquals(0, report.timeouts);
+		Assertions.assertTrue(percentile(report.sweepTimes, 99) < settings.cadence);
+	}
+
+	/**
+	 * Run a fleet
+	 *
+	 * @param settings the settings are settings of the run
+	 * @return Report is the result of the run
+	 */
+	static Report run(Settings settings) throws Exception {
+		MemoryMXBean memoryMXBean = ManagementFactory.getMemoryMXBean();
+		ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+		AtomicInteger commands = new AtomicInteger();
+		AtomicInteger timeouts = new AtomicInteger();
+		List<LgWebOSSimulator> simulators = new ArrayList<>();
+		List<CountingLgWebOSDevice> devices = new ArrayList<>();
+		ExecutorService drivers = Executors.newFixedThreadPool(settings.devices);
+		try {
+			for (int i = 0; i < settings.devices; i++) {
+				LgWebOSSimulator simulator = new LgWebOSSimulator().start();
+				simulator.setLatency(settings.latency);
+				simulators.add(simulator);
+			}
+			// the driver threads are started before the baseline, they stand for the Symphony monitoring pool
+			List<Future<?>> started = new ArrayList<>();
+			for (int i = 0; i < settings.devices; i++) {
+				started.add(drivers.submit(() -> {
+				}));
+			}
+			waitFor(started);
+			long baselineHeap = usedHeap(memoryMXBean);
+			int baselineThreads = threadMXBean.getThreadCount() - countSimulatorThreads();
+
+			for (LgWebOSSimulator simulator : simulators) {
+				CountingLgWebOSDevice device = new CountingLgWebOSDevice(commands, timeouts);
+				device.setHost("127.0.0.1");
+				device.setPort(simulator.getPort());
+				device.setConfigManagement("true");
+				device.setCoolDownDelay(String.valueOf(settings.coolDownDelay));
+				device.init();
+				devices.add(device);
+			}
+			// warm up, every adapter polls every command once
+			List<Future<?>> warmUp = new ArrayList<>();
+			for (CountingLgWebOSDevice device : devices) {
+				warmUp.add(drivers.submit(() -> {
+					for (int i = 0; i < LgWebOSConstants.DEFAULT_POLLING_INTERVAL; i++) {
+						device.getMultipleStatistics();
+					}
+					return null;
+				}));
+			}
+			waitFor(warmUp);
+
+			Report report = new Report();
+			report.devices = settings.devices;
+			report.heapPerDevice = (usedHeap(memoryMXBean) - baselineHeap) / settings.devices;
+			report.threadsPerHundredDevices = (threadMXBean.getThreadCount() - countSimulatorThreads() - baselineThreads) * 100 / settings.devices;
+			commands.set(0);
+			timeouts.set(0);
+
+			long cpuStart = getProcessCpuTime();
+			AtomicInteger failedCalls = new AtomicInteger();
+			List<Future<long[][]>> results = new ArrayList<>();
+			for (CountingLgWebOSDevice device : devices) {
+				results.add(drivers.submit(() -> drive(device, settings, failedCalls)));
+			}
+			List<long[]> sweepTimes = new ArrayList<>();
+			List<long[]> controlTimes = new ArrayList<>();
+			for (Future<long[][]> result : results) {
+				long[][] times = result.get();
+				sweepTimes.add(times[0]);
+				controlTimes.add(times[1]);
+			}
+			report.cpuPerCycle = (getProcessCpuTime() - cpuStart) / 1_000_000.0 / ((long) settings.devices * settings.cycles);
+			report.sweepTimes = merge(sweepTimes);
+			report.controlTimes = merge(controlTimes);
+			report.commands = commands.get();
+			report.timeouts = timeouts.get();
+			report.failedCalls = failedCalls.get();
+			return report;
+		} finally {
+			drivers.shutdownNow();
+			for (LgWebOSDevice device : devices) {
+				device.destroy();
+			}
+			for (LgWebOSSimulator simulator : simulators) {
+				simulator.close();
+			}
+		}
+	}
+
+	/**
+	 * Drive an adapter for the cycles of a run, the first call is delayed by a random part of the cadence so the fleet is spread
+	 *
+	 * @param device the device is adapter to drive
+	 * @param settings the settings are settings of the run
+	 * @param failedCalls the failedCalls is counter of the calls that threw
+	 * @return long[][] is sweep times and control times in ms
+	 */
+	private static long[][] drive(LgWebOSDevice device, Settings settings, AtomicInteger failedCalls) throws InterruptedException {
+		long[] sweepTimes = new long[settings.cycles];
+		List<Long> controlTimes = new ArrayList<>();
+		long next = System.currentTimeMillis() + ThreadLocalRandom.current().nextInt(settings.cadence);
+		for (int cycle = 0; cycle < settings.cycles; cycle++) {
+			sleepUntil(next);
+			next += settings.cadence;
+			long start = System.nanoTime();
+			try {
+				device.getMultipleStatistics();
+			} catch (Exception e) {
+				failedCalls.incrementAndGet();
+			}
+			sweepTimes[cycle] = (System.nanoTime() - start) / 1_000_000;
+			if (settings.controlEvery > 0 && cycle % settings.controlEvery == settings.controlEvery - 1) {
+				ControllableProperty controllableProperty = new ControllableProperty();
+				controllableProperty.setProperty(BACKLIGHT);
+				controllableProperty.setValue(String.valueOf(ThreadLocalRandom.current().nextInt(101)));
+				start = System.nanoTime();
+				try {
+					device.controlProperty(controllableProperty);
+				} catch (Exception e) {
+					failedCalls.incrementAndGet();
+				}
+				controlTimes.add((System.nanoTime() - start) / 1_000_000);
+			}
+		}
+		return new long[][] { sweepTimes, controlTimes.stream().mapToLong(Long::longValue).toArray() };
+	}
+
+	/**
+	 * Grow the fleet and print a report line per size
+	 *
+	 * @param args the args are not used, the settings are read from the system properties
+	 */
+	public static void main(String[] args) throws Exception {
+		String[] sizes = System.getProperty("fleet.sizes", "10,50,100,250,500,1000,2000").split(",");
+		System.out.println(Report.header());
+		for (String size : sizes) {
+			Settings settings = new Settings();
+			settings.devices = Integer.parseInt(size.trim());
+			settings.cycles = Integer.getInteger("fleet.cycles", 5);
+			settings.cadence = Integer.getInteger("fleet.cadence", settings.cadence);
+			settings.controlEvery = Integer.getInteger("fleet.controlEvery", settings.controlEvery);
+			settings.latency = Integer.getInteger("fleet.latency", settings.latency);
+			settings.coolDownDelay = Integer.getInteger("fleet.coolDownDelay", settings.coolDownDelay);
+			System.out.println(run(settings));
+		}
+		System.exit(0);
+	}
+
+	/**
+	 * Get a percentile of sorted values
+	 *
+	 * @param values the values are sorted values
+	 * @param percentile the percentile is percentile from 0 to 100
+	 * @return long is the value of the percentile, 0 if there is no value
+	 */
+	static long percentile(long[] values, int percentile) {
+		if (values.length == 0) {
+			return 0;
+		}
+		int index = (int) Math.ceil(percentile / 100.0 * values.length) - 1;
+		return values[Math.max(0, Math.min(index, values.length - 1))];
+	}
+
+	/**
+	 * Merge and sort the values of every adapter
+	 *
+	 * @param values the values are values of every adapter
+	 * @return long[] is sorted values
+	 */
+	private static long[] merge(List<long[]> values) {
+		long[] merged = values.stream().flatMapToLong(Arrays::stream).toArray();
+		Arrays.sort(merged);
+		return merged;
+	}
+
+	/**
+	 * Wait for tasks
+	 *
+	 * @param futures the futures are tasks to wait for
+	 */
+	private static void waitFor(List<? extends Future<?>> futures) throws Exception {
+		for (Future<?> future : futures) {
+			future.get();
+		}
+	}
+
+	/**
+	 * Get the used heap after a full GC
+	 *
+	 * @param memoryMXBean the memoryMXBean is memory bean of the JVM
+	 * @return long is used heap in bytes
+	 */
+	private static long usedHeap(MemoryMXBean memoryMXBean) throws InterruptedException {
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+			TimeUnit.MILLISECONDS.sleep(100);
+		}
+		return memoryMXBean.getHeapMemoryUsage().getUsed();
+	}
+
+	/**
+	 * Count the live threads of the simulators, they are not part of the adapter footprint
+	 *
+	 * @return int is number of simulator threads
+	 */
+	private static int countSimulatorThreads() {
+		int count = 0;
+		for (Thread thread : Thread.getAllStackTraces().keySet()) {
+			if (thread.getName().startsWith(SIMULATOR_THREAD_NAME)) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Get the CPU time of the process
+	 *
+	 * @return long is CPU time in ns, 0 if the JVM doesn't report it
+	 */
+	private static long getProcessCpuTime() {
+		OperatingSystemMXBean bean = ManagementFactory.getOperatingSystemMXBean();
+		if (bean instanceof com.sun.management.OperatingSystemMXBean) {
+			return ((com.sun.management.OperatingSystemMXBean) bean).getProcessCpuTime();
+		}
+		return 0;
+	}
+
+	/**
+	 * Sleep until a time
+	 *
+	 * @param time the time is time in ms
+	 */
+	private static void sleepUntil(long time) throws InterruptedException {
+		long delay = time - System.currentTimeMillis();
+		if (delay > 0) {
+			TimeUnit.MILLISECONDS.sleep(delay);
+		}
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.webos;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test of LgWebOSFrameReader
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class LgWebOSFrameReaderTest {
+
+	private final LgWebOSFrameReader frameReader = new LgWebOSFrameReader();
+
+	/**
+	 * Test LgWebOSFrameReader.accept with garbage before the reply
+	 * Expected the garbage is drained as one unparsed frame and the reply is parsed
+	 */
+	@Test
+	void testGarbageBeforeHeader() {
+		Assertions.assertEquals(Arrays.asList("g 01 OK50x"), read("##garbage g 01 OK50x"));
+		Assertions.assertEquals(1, frameReader.getUnparsedFrames());
+	}
+
+	/**
+	 * Test LgWebOSFrameReader.accept with a broken header followed by a reply
+	 * Expected the reader resynchronises on the reply that starts inside the broken header
+	 */
+	@Test
+	void testBrokenHeader() {
+		Assertions.assertEquals(Arrays.asList("f 01 OK10x"), read("g 0f 01 OK10x"));
+		Assertions.assertEquals(1, frameReader.getUnparsedFrames());
+		Assertions.assertEquals(Arrays.asList("g 01 NG01x"), read("g 01 OXg 01 NG01x"));
+		Assertions.assertEquals(2, frameReader.getUnparsedFrames());
+	}
+
+	/**
+	 * Test LgWebOSFrameReader.accept with a reply split in several reads
+	 * Expected the reply is complete only at its terminator
+	 */
+	@Test
+	void testSplitReads() {
+		Assertions.assertTrue(read("g 0").isEmpty());
+		Assertions.assertTrue(frameReader.isInFrame());
+		Assertions.assertTrue(read("1 OK").isEmpty());
+		Assertions.assertTrue(read("5").isEmpty());
+		Assertions.assertEquals(Arrays.asList("g 01 OK50x"), read("0x"));
+		Assertions.assertFalse(frameReader.isInFrame());
+		Assertions.assertEquals(0, frameReader.getUnparsedFrames());
+	}
+
+	/**
+	 * Test LgWebOSFrameReader.accept with replies sent back-to-back, with and without whitespace between them
+	 * Expected every reply is returned in order and nothing is counted as unparsed
+	 */
+	@Test
+	void testBackToBackFrames() {
+		Assertions.assertEquals(Arrays.asList("g 01 OK50x", "f 01 OK10x", "n 01 OK82 192168000010x"), read("g 01 OK50xf 01 OK10x\r\nn 01 OK82 192168000010x"));
+		Assertions.assertEquals(0, frameReader.getUnparsedFrames());
+	}
+
+	/**
+	 * Test LgWebOSFrameReader.accept with a reply longer than the maximum size, and LgWebOSFrameReader.reset
+	 * Expected the long reply is drained and the partial reply is dropped by reset
+	 */
+	@Test
+	void testOversizeReplyAndReset() {
+		StringBuilder reply = new StringBuilder("y 01 OK");
+		while (reply.length() < LgWebOSConstants.MAX_REPLY_SIZE) {
+			reply.append('0');
+		}
+		Assertions.assertTrue(read(reply + "x").isEmpty());
+		Assertions.assertEquals(1, frameReader.getUnparsedFrames());
+
+		read("g 01 OK5");
+		frameReader.reset();
+		Assertions.assertFalse(frameReader.isInFrame());
+		Assertions.assertEquals(Arrays.asList("f 01 OK10x"), read("f 01 OK10x"));
+	}
+
+	/**
+	 * Feed bytes to the reader
+	 *
+	 * @param bytes the bytes are bytes received from the display
+	 * @return List<String> is the complete replies
+	 */
+	private List<String> read(String bytes) {
+		List<String> replies = new ArrayList<>();
+		for (byte value : bytes.getBytes(StandardCharsets.US_ASCII)) {
+			byte[] reply = frameReader.accept(value);
+			if (reply != null) {
+				replies.add(new String(reply, StandardCharsets.US_ASCII));
+			}
+		}
+		return replies;
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.webos;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.avispl.symphony.dal.communicator.lg.webos.LgWebOSConstants.commandNames;
+
+/**
+ * JMH benchmark of the protocol codec, building the request frames and decoding the replies of every polled command
+ * The replies are the ones {@link LgWebOSSimulator} answers, so every decoder of {@link ResponseDecoderRegistry} is measured
+ * on a well formed reply. Run with the main method or with the benchmark profile, which adds the GC profiler
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LgWebOSProtocolBenchmark {
+
+	private static final byte MONITOR_ID = 1;
+
+	@Param({ "POWER", "INPUT", "TEMPERATURE", "FAN_STATUS", "SYNC_STATUS", "SERIAL_NUMBER", "SOFTWARE_VERSION", "FAILOVER", "FAILOVER_INPUT_LIST", "DATE", "TIME",
+			"TILE_MODE_SETTINGS", "DISPLAY_STAND_BY_MODE", "BACKLIGHT", "MUTE", "VOLUME", "POWER_MANAGEMENT_MODE", "NETWORK_SETTING", "TILE_ID", "NATURAL_MODE",
+			"NATURAL_SIZE", "TILE_MODE_CONTROL", "ASPECT_RATIO", "BRIGHTNESS_CONTROL", "CONTRAST", "PICTURE_MODE", "BRIGHTNESS", "SHARPNESS", "SCREEN_COLOR", "TINT",
+			"COLOR_TEMPERATURE", "BALANCE", "SOUND_MODE", "NO_SIGNAL_POWER_OFF", "NO_IR_POWER_OFF", "LANGUAGE", "POWER_ON_STATUS" })
+	private String commandName;
+
+	private final LgWebOSDevice lgWebOSDevice = new LgWebOSDevice();
+	private commandNames command;
+	private byte[] commandBytes;
+	private byte[] paramBytes;
+	private byte[] reply;
+
+	@Setup
+	public void setUp() {
+		command = commandNames.valueOf(commandName);
+		commandNames param = getParam(command);
+		commandBytes = LgWebOSConstants.commands.get(command);
+		paramBytes = LgWebOSConstants.commands.get(param);
+		byte[] frame = LgWebOSUtils.buildSendString(MONITOR_ID, commandBytes, paramBytes);
+		reply = new LgWebOSSimulator().handle(new String(frame, 0, frame.length - 1, StandardCharsets.US_ASCII));
+		// fail fast on a reply the decoder rejects, the benchmark would only measure the exception otherwise
+		lgWebOSDevice.digestResponse(reply, command);
+	}
+
+	@Benchmark
+	public byte[] buildSendString() {
+		return LgWebOSUtils.buildSendString(MONITOR_ID, commandBytes, paramBytes);
+	}
+
+	@Benchmark
+	public Object digestResponse() {
+		return lgWebOSDevice.digestResponse(reply, command);
+	}
+
+	/**
+	 * Get the param of the query of a command, the sub commands of sn and sv are queried with their own param
+	 *
+	 * @param command the command is command to query
+	 * @return commandNames is param of the query
+	 */
+	private static commandNames getParam(commandNames command) {
+		switch (command) {
+			case POWER_MANAGEMENT_MODE:
+				return commandNames.POWER_MANAGEMENT_MODE_PARAM;
+			case NETWORK_SETTING:
+				return commandNames.NETWORK_SETTING_PARAM;
+			case NATURAL_SIZE:
+				return commandNames.NATURAL_SIZE_PARAM;
+			case SYNC_STATUS:
+				return commandNames.SYNC_STATUS_PARAM;
+			default:
+				return commandNames.GET;
+		}
+	}
+
+	public static void main(String[] args) throws Exception {
+		new Runner(new OptionsBuilder().include(LgWebOSProtocolBenchmark.class.getSimpleName()).addProfiler("gc").build()).run();
+	}
+}
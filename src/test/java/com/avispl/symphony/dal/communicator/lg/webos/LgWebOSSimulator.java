@@ -0,0 +1,455 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.webos;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-process LG RS232C over IP simulator, it answers the commands of {@link LgWebOSConstants#commands} on a local TCP port
+ * Every monitor ID has its own state, a set command changes the state and a query with the FF param reads it back
+ * Latency, jitter, dropped replies, NG replies and the minimum gap between two commands can be configured while the simulator runs
+ * Several simulators can run at the same time, each one listens on its own ephemeral port
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class LgWebOSSimulator implements AutoCloseable {
+
+	private static final String QUERY = "ff";
+
+	/**
+	 * Initial state of a display, by command letters, commands with a sub command are keyed by command letters and sub command
+	 */
+	private static final Map<String, String> DEFAULT_STATE = new HashMap<String, String>() {{
+		put("kd", "00");
+		put("xb", "90");
+		put("dn", "28");
+		put("dw", "01");
+		put("sv02", "01");
+		put("fy", "405KCXY12345");
+		put("fz", "030405");
+		put("mi", "01");
+		put("mj", "90a0c0");
+		put("fa", "100a1f");
+		put("fx", "0c1e00");
+		put("dz", "000202");
+		put("fj", "00");
+		put("mg", "50");
+		put("ke", "01");
+		put("kf", "10");
+		put("sn0c", "01");
+		put("sn82", " 192168000010 255255255000 192168000001 008008008008");
+		put("sna5", "00");
+		put("di", "01");
+		put("dj", "00");
+		put("dd", "00");
+		put("kc", "02");
+		put("jq", "00");
+		put("kg", "50");
+		put("dx", "00");
+		put("kh", "50");
+		put("kk", "10");
+		put("ki", "50");
+		put("kj", "32");
+		put("xu", "50");
+		put("kt", "32");
+		put("dy", "01");
+		put("fg", "00");
+		put("mn", "00");
+		put("fi", "01");
+		put("tr", "00");
+		put("ka", "02");
+	}};
+
+	/**
+	 * Commands with a sub command, the first field of the data selects the value
+	 */
+	private static final Set<String> SUB_COMMANDS = DEFAULT_STATE.keySet().stream().filter(key -> key.length() > 2).map(key -> key.substring(0, 2))
+			.collect(java.util.stream.Collectors.toSet());
+
+	private final Map<Integer, Map<String, String>> states = new ConcurrentHashMap<>();
+	private final Set<Socket> clients = ConcurrentHashMap.newKeySet();
+	private final AtomicInteger receivedCommands = new AtomicInteger();
+	private final AtomicInteger droppedReplies = new AtomicInteger();
+	private final AtomicInteger connections = new AtomicInteger();
+	private final AtomicBoolean isClosingAfterCommand = new AtomicBoolean();
+	private ServerSocket serverSocket;
+	private Thread acceptor;
+	private volatile int latency;
+	private volatile int jitter;
+	private volatile double dropRate;
+	private volatile double ngRate;
+	private volatile int minimumGap;
+	private volatile int byteInterval;
+
+	/**
+	 * Start listening on an ephemeral port of the loopback address
+	 *
+	 * @return LgWebOSSimulator is this simulator
+	 * @throws IOException if the port can't be bound
+	 */
+	public LgWebOSSimulator start() throws IOException {
+		serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+		acceptor = new Thread(this::accept, "LgWebOSSimulator-" + serverSocket.getLocalPort());
+		acceptor.setDaemon(true);
+		acceptor.start();
+		return this;
+	}
+
+	/**
+	 * Retrieves the port the simulator listens on
+	 *
+	 * @return int is local port
+	 */
+	public int getPort() {
+		return serverSocket.getLocalPort();
+	}
+
+	/**
+	 * Sets {@link #latency} value, time before a reply is sent in ms
+	 *
+	 * @param latency new value of {@link #latency}
+	 */
+	public void setLatency(int latency) {
+		this.latency = latency;
+	}
+
+	/**
+	 * Sets {@link #jitter} value, a random time up to the jitter is added to the latency, in ms
+	 *
+	 * @param jitter new value of {@link #jitter}
+	 */
+	public void setJitter(int jitter) {
+		this.jitter = jitter;
+	}
+
+	/**
+	 * Sets {@link #dropRate} value, the share of the commands that are not answered, from 0 to 1
+	 *
+	 * @param dropRate new value of {@link #dropRate}
+	 */
+	public void setDropRate(double dropRate) {
+		this.dropRate = dropRate;
+	}
+
+	/**
+	 * Sets {@link #ngRate} value, the share of the commands that are answered with NG, from 0 to 1
+	 *
+	 * @param ngRate new value of {@link #ngRate}
+	 */
+	public void setNgRate(double ngRate) {
+		this.ngRate = ngRate;
+	}
+
+	/**
+	 * Sets {@link #minimumGap} value, a command received sooner than the gap after the previous one is answered with NG, in ms
+	 * Some firmware needs a long gap between two commands
+	 *
+	 * @param minimumGap new value of {@link #minimumGap}
+	 */
+	public void setMinimumGap(int minimumGap) {
+		this.minimumGap = minimumGap;
+	}
+
+	/**
+	 * Sets {@link #byteInterval} value, the reply is written one byte at a time with this pause between two bytes, in ms
+	 * It simulates a display that sends its reply slowly
+	 *
+	 * @param byteInterval new value of {@link #byteInterval}
+	 */
+	public void setByteInterval(int byteInterval) {
+		this.byteInterval = byteInterval;
+	}
+
+	/**
+	 * Close the connection after the next command instead of answering it, the command is applied to the state
+	 * It simulates a display that drops the connection after the frame was written
+	 */
+	public void closeAfterNextCommand() {
+		isClosingAfterCommand.set(true);
+	}
+
+	/**
+	 * Close every client connection while the simulator keeps accepting new ones, e.g. a display that restarts its network
+	 */
+	public void dropConnections() {
+		for (Socket client : clients) {
+			closeQuietly(client);
+		}
+	}
+
+	/**
+	 * Retrieves {@link #receivedCommands}
+	 *
+	 * @return value of {@link #receivedCommands}
+	 */
+	public int getReceivedCommands() {
+		return receivedCommands.get();
+	}
+
+	/**
+	 * Retrieves {@link #droppedReplies}
+	 *
+	 * @return value of {@link #droppedReplies}
+	 */
+	public int getDroppedReplies() {
+		return droppedReplies.get();
+	}
+
+	/**
+	 * Retrieves {@link #connections}
+	 *
+	 * @return value of {@link #connections}
+	 */
+	public int getConnections() {
+		return connections.get();
+	}
+
+	/**
+	 * Get the value of a command for a monitor ID
+	 *
+	 * @param monitorID the monitorID is set ID of the display
+	 * @param command the command is two command letters, followed by the sub command if any, e.g. "mg" or "sn0c"
+	 * @return String is the current value
+	 */
+	public String getValue(int monitorID, String command) {
+		return getState(monitorID).get(command);
+	}
+
+	/**
+	 * Set the value of a command for a monitor ID, e.g. to simulate a change made with the remote
+	 *
+	 * @param monitorID the monitorID is set ID of the display
+	 * @param command the command is two command letters, followed by the sub command if any, e.g. "mg" or "sn0c"
+	 * @param value the value is new value
+	 */
+	public void setValue(int monitorID, String command, String value) {
+		getState(monitorID).put(command, value);
+	}
+
+	/**
+	 * Stop listening and close every client connection
+	 * The acceptor is joined, the listening socket is released only once the blocked accept returns
+	 */
+	@Override
+	public void close() {
+		try {
+			serverSocket.close();
+			acceptor.join(1000);
+		} catch (IOException e) {
+			// the simulator is stopped anyway
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		for (Socket client : clients) {
+			closeQuietly(client);
+		}
+	}
+
+	/**
+	 * Accept the connections, every connection is served by its own thread
+	 */
+	private void accept() {
+		while (!serverSocket.isClosed()) {
+			try {
+				Socket client = serverSocket.accept();
+				client.setTcpNoDelay(true);
+				clients.add(client);
+				connections.incrementAndGet();
+				Thread thread = new Thread(() -> serve(client), "LgWebOSSimulator-client-" + client.getPort());
+				thread.setDaemon(true);
+				thread.start();
+			} catch (IOException e) {
+				// the server socket is closed
+			}
+		}
+	}
+
+	/**
+	 * Read the frames of a connection until the carriage return and answer them
+	 *
+	 * @param client the client is connection to serve
+	 */
+	private void serve(Socket client) {
+		try (Socket socket = client) {
+			InputStream inputStream = socket.getInputStream();
+			OutputStream outputStream = socket.getOutputStream();
+			ByteArrayOutputStream frame = new ByteArrayOutputStream();
+			long lastCommandTime = 0;
+			int value;
+			while ((value = inputStream.read()) >= 0) {
+				if (value != '\r') {
+					frame.write(value);
+					continue;
+				}
+				long now = System.currentTimeMillis();
+				byte[] reply = handle(new String(frame.toByteArray(), StandardCharsets.US_ASCII), now - lastCommandTime < minimumGap);
+				lastCommandTime = now;
+				frame.reset();
+				if (isClosingAfterCommand.compareAndSet(true, false)) {
+					break;
+				}
+				if (reply == null) {
+					continue;
+				}
+				delay();
+				write(outputStream, reply);
+			}
+		} catch (IOException e) {
+			// the client closed the connection
+		} finally {
+			clients.remove(client);
+		}
+	}
+
+	/**
+	 * Answer a frame "cc ii data", the reply is "c ii OKdatax" or "c ii NGdatax"
+	 *
+	 * @param frame the frame is request without the carriage return
+	 * @return byte[] is the reply or null if the reply is dropped
+	 */
+	byte[] handle(String frame) {
+		return handle(frame, false);
+	}
+
+	/**
+	 * Answer a frame "cc ii data", a frame received too early is answered with NG
+	 *
+	 * @param frame the frame is request without the carriage return
+	 * @param isTooEarly the isTooEarly is true if the frame is received sooner than the minimum gap
+	 * @return byte[] is the reply or null if the reply is dropped
+	 */
+	byte[] handle(String frame, boolean isTooEarly) {
+		receivedCommands.incrementAndGet();
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		if (dropRate > 0 && random.nextDouble() < dropRate) {
+			droppedReplies.incrementAndGet();
+			return null;
+		}
+		String[] fields = frame.trim().split(" ", 3);
+		if (fields.length < 3 || fields[0].length() != 2 || fields[1].length() != 2) {
+			return null;
+		}
+		String command = fields[0];
+		String monitorID = fields[1];
+		String data = fields[2];
+		String result;
+		try {
+			result = isTooEarly || ngRate > 0 && random.nextDouble() < ngRate ? null : execute(Integer.parseInt(monitorID, 16), command, data);
+		} catch (NumberFormatException e) {
+			result = null;
+		}
+		String reply = command.charAt(1) + " " + monitorID + " " + (result == null ? "NG01" : "OK" + result) + "x";
+		return reply.getBytes(StandardCharsets.US_ASCII);
+	}
+
+	/**
+	 * Run a command on the state of a monitor ID
+	 *
+	 * @param monitorID the monitorID is set ID of the display
+	 * @param command the command is two command letters
+	 * @param data the data is data of the command
+	 * @return String is data of the OK reply or null if the command is not supported
+	 */
+	private String execute(int monitorID, String command, String data) {
+		Map<String, String> state = getState(monitorID);
+		String key = command;
+		String prefix = "";
+		String value = data;
+		if (SUB_COMMANDS.contains(command)) {
+			int separator = data.indexOf(' ');
+			prefix = separator < 0 ? data : data.substring(0, separator);
+			value = separator < 0 ? QUERY : data.substring(separator + 1);
+			key = command + prefix.toLowerCase();
+		}
+		if (!state.containsKey(key)) {
+			return null;
+		}
+		if (!QUERY.equalsIgnoreCase(value.trim())) {
+			String newValue = value.replace(" ", "");
+			// the display answers with two digits per field, e.g. a backlight set with "5" is read back as "05"
+			state.put(key, newValue.length() % 2 == 0 ? newValue : "0" + newValue);
+		}
+		return prefix + state.get(key);
+	}
+
+	/**
+	 * Get the state of a monitor ID, it is created with the default values on first use
+	 *
+	 * @param monitorID the monitorID is set ID of the display
+	 * @return Map is values by command
+	 */
+	private Map<String, String> getState(int monitorID) {
+		return states.computeIfAbsent(monitorID, id -> new ConcurrentHashMap<>(DEFAULT_STATE));
+	}
+
+	/**
+	 * Wait for the latency and a random part of the jitter
+	 */
+	private void delay() {
+		int delay = latency + (jitter > 0 ? ThreadLocalRandom.current().nextInt(jitter + 1) : 0);
+		if (delay <= 0) {
+			return;
+		}
+		try {
+			Thread.sleep(delay);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Write a reply, one byte at a time when {@link #byteInterval} is set
+	 *
+	 * @param outputStream the outputStream is output of the connection
+	 * @param reply the reply is reply to write
+	 * @throws IOException if the connection is closed
+	 */
+	private void write(OutputStream outputStream, byte[] reply) throws IOException {
+		if (byteInterval <= 0) {
+			outputStream.write(reply);
+			outputStream.flush();
+			return;
+		}
+		for (byte value : reply) {
+			outputStream.write(value);
+			outputStream.flush();
+			try {
+				Thread.sleep(byteInterval);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Close a socket quietly
+	 *
+	 * @param socket the socket is socket to close
+	 */
+	private void closeQuietly(Socket socket) {
+		try {
+			socket.close();
+		} catch (IOException e) {
+			// the socket is dropped anyway
+		}
+	}
+}
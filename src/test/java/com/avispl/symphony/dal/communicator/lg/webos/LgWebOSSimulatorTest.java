@@ -0,0 +1,572 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.webos;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+
+/**
+ * End to end test of LgWebOSDevice against {@link LgWebOSSimulator}
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class LgWebOSSimulatorTest {
+
+	private static final int MONITOR_ID = 1;
+	private static final int MINIMUM_GAP = 40;
+	private static final int LATENCY = 20;
+
+	private LgWebOSSimulator simulator;
+	private LgWebOSDevice lgWebOSDevice;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		simulator = new LgWebOSSimulator().start();
+	}
+
+	@AfterEach
+	void destroy() throws Exception {
+		if (lgWebOSDevice != null) {
+			lgWebOSDevice.destroy();
+		}
+		simulator.close();
+	}
+
+	/**
+	 * Test LgWebOSDevice.getMultipleStatistics on every transport
+	 * Expected the statistics are decoded from the simulator state
+	 */
+	@Tag("Simulator")
+	@Test
+	void testGetStatistics() throws Exception {
+		String[] transportModes = { LgWebOSConstants.TRANSPORT_MODE_BLOCKING, LgWebOSConstants.TRANSPORT_MODE_NIO, LgWebOSConstants.TRANSPORT_MODE_EVENT_LOOP };
+		for (String transportMode : transportModes) {
+			lgWebOSDevice = createDevice(simulator);
+			lgWebOSDevice.setTransportMode(transportMode);
+			lgWebOSDevice.init();
+
+			Map<String, String> statistics = sweep();
+			Assertions.assertEquals("405KCXY12345", statistics.get(LgWebOSConstants.SERIAL_NUMBER), transportMode);
+			Assertions.assertEquals("80", statistics.get(LgWebOSConstants.DISPLAY + LgWebOSConstants.HASH + LgWebOSConstants.BACKLIGHT_VALUE), transportMode);
+			Assertions.assertEquals("SYNC", statistics.get(LgWebOSConstants.SIGNAL), transportMode);
+			lgWebOSDevice.destroy();
+			lgWebOSDevice = null;
+		}
+	}
+
+	/**
+	 * Test LgWebOSDevice.controlProperty backlight
+	 * Expected the simulator state is changed and the next statistics report the new value
+	 */
+	@Tag("Simulator")
+	@Test
+	void testControlBacklight() throws Exception {
+		lgWebOSDevice = createDevice(simulator);
+		lgWebOSDevice.init();
+		sweep();
+
+		ControllableProperty controllableProperty = new ControllableProperty();
+		controllableProperty.setProperty(LgWebOSConstants.DISPLAY + LgWebOSConstants.HASH + LgControllingCommand.BACKLIGHT.getName());
+		controllableProperty.setValue("20");
+		lgWebOSDevice.controlProperty(controllableProperty);
+
+		Assertions.assertEquals("14", simulator.getValue(MONITOR_ID, "mg"));
+		Map<String, String> statistics = sweep();
+		Assertions.assertEquals("20", statistics.get(LgWebOSConstants.DISPLAY + LgWebOSConstants.HASH + LgWebOSConstants.BACKLIGHT_VALUE));
+	}
+
+	/**
+	 * Test LgWebOSDevice.getMultipleStatistics against a display answering with NG replies and dropping replies
+	 * Expected the polling cycles don't fail
+	 */
+	@Tag("Simulator")
+	@Test
+	void testFaultyDisplay() throws Exception {
+		lgWebOSDevice = createDevice(simulator);
+		lgWebOSDevice.init();
+		sweep();
+		simulator.setNgRate(0.2);
+		simulator.setDropRate(0.05);
+		simulator.setJitter(5);
+		for (int i = 0; i < 3; i++) {
+			Assertions.assertNotNull(sweep());
+		}
+		Assertions.assertTrue(simulator.getReceivedCommands() > 0);
+	}
+
+	/**
+	 * Test the adaptive cool down against a display that needs a gap of {@link #MINIMUM_GAP} between two commands
+	 * Expected the gap shrinks below the configured cool down delay and settles above the gap the display needs
+	 */
+	@Tag("Simulator")
+	@Test
+	void testAdaptiveCoolDown() throws Exception {
+		simulator.setMinimumGap(MINIMUM_GAP);
+		lgWebOSDevice = createDevice(simulator);
+		lgWebOSDevice.setAdaptiveCoolDown("true");
+		lgWebOSDevice.init();
+		Map<String, String> statistics = null;
+		for (int i = 0; i < 10; i++) {
+			statistics = sweep();
+		}
+		int coolDownDelay = Integer.parseInt(statistics.get(LgWebOSConstants.ADAPTER_METRICS + LgWebOSConstants.HASH + LgWebOSConstants.COOL_DOWN_DELAY));
+		Assertions.assertTrue(coolDownDelay < LgWebOSConstants.MIN_DELAY_TIME, "learned cool down delay " + coolDownDelay);
+		Assertions.assertTrue(coolDownDelay >= MINIMUM_GAP, "learned cool down delay " + coolDownDelay);
+		Assertions.assertEquals("405KCXY12345", statistics.get(LgWebOSConstants.SERIAL_NUMBER));
+	}
+
+	/**
+	 * Test LgWebOSDevice.controlProperty while a polling sweep is sending its commands
+	 * Expected the control goes ahead of the remaining poll commands, it completes within a few round trips
+	 * while the sweep is still running
+	 */
+	@Tag("Simulator")
+	@Test
+	void testControlDuringSweep() throws Exception {
+		lgWebOSDevice = createDevice(simulator);
+		lgWebOSDevice.init();
+		sweep();
+		simulator.setLatency(LATENCY);
+		int receivedCommands = simulator.getReceivedCommands();
+		CompletableFuture<Map<String, String>> polling = CompletableFuture.supplyAsync(() -> {
+			try {
+				return sweep();
+			} catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+		});
+		while (simulator.getReceivedCommands() < receivedCommands + 3) {
+			Thread.sleep(5);
+		}
+
+		ControllableProperty controllableProperty = new ControllableProperty();
+		controllableProperty.setProperty(LgWebOSConstants.DISPLAY + LgWebOSConstants.HASH + LgControllingCommand.BACKLIGHT.getName());
+		controllableProperty.setValue("20");
+		long start = System.currentTimeMillis();
+		lgWebOSDevice.controlProperty(controllableProperty);
+		long controlTime = System.currentTimeMillis() - start;
+
+		Assertions.assertFalse(polling.isDone(), "the control waited for the sweep");
+		Assertions.assertTrue(controlTime < 3 * (LgWebOSConstants.MIN_DELAY_TIME + LATENCY), "control time " + controlTime);
+		Assertions.assertEquals("14", simulator.getValue(MONITOR_ID, "mg"));
+		polling.get();
+		Map<String, String> statistics = sweep();
+		Assertions.assertNotNull(statistics.get(LgWebOSConstants.ADAPTER_METRICS + LgWebOSConstants.HASH + LgWebOSConstants.CONTROL_LATENCY));
+	}
+
+	/**
+	 * Test the cached value of a slider while its control is on the wire and after its control failed
+	 * Expected the cache shows the new value before the display answers, and the accepted value again once a control fails
+	 */
+	@Tag("Simulator")
+	@Test
+	void testOptimisticSliderCache() throws Exception {
+		lgWebOSDevice = createDevice(simulator);
+		lgWebOSDevice.init();
+		sweep();
+		String backlight = LgWebOSConstants.DISPLAY + LgWebOSConstants.HASH + LgControllingCommand.BACKLIGHT.getName();
+		simulator.setLatency(LATENCY * 10);
+		int receivedCommands = simulator.getReceivedCommands();
+		CompletableFuture<Void> control = CompletableFuture.runAsync(() -> {
+			try {
+				lgWebOSDevice.controlProperty(createControl(backlight, "20"));
+			} catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+		});
+		while (simulator.getReceivedCommands() == receivedCommands) {
+			Thread.sleep(1);
+		}
+		Assertions.assertFalse(control.isDone());
+		Assertions.assertEquals("20", lgWebOSDevice.getValueByName(LgWebOSProperty.BACKLIGHT));
+		control.get();
+		Assertions.assertEquals("20", lgWebOSDevice.getValueByName(LgWebOSProperty.BACKLIGHT));
+
+		simulator.setLatency(0);
+		simulator.setNgRate(1);
+		Assertions.assertThrows(Exception.class, () -> lgWebOSDevice.controlProperty(createControl(backlight, "30")));
+		Assertions.assertEquals("20", lgWebOSDevice.getValueByName(LgWebOSProperty.BACKLIGHT));
+	}
+
+	/**
+	 * Test LgWebOSDevice.controlProperty while the polling closes the connection at the end of every cycle
+	 * Expected no control fails, the connection is never closed under a control frame in flight
+	 */
+	@Tag("Simulator")
+	@Test
+	void testControlDuringNonPersistentPolling() throws Exception {
+		lgWebOSDevice = createDevice(simulator);
+		lgWebOSDevice.setPersistentConnection("false");
+		lgWebOSDevice.setTransportMode(LgWebOSConstants.TRANSPORT_MODE_EVENT_LOOP);
+		lgWebOSDevice.init();
+		sweep();
+		String backlight = LgWebOSConstants.DISPLAY + LgWebOSConstants.HASH + LgControllingCommand.BACKLIGHT.getName();
+		CompletableFuture<Void> polling = CompletableFuture.runAsync(() -> {
+			try {
+				for (int i = 0; i < 3; i++) {
+					sweep();
+				}
+			} catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+		});
+
+		int controls = 0;
+		while (!polling.isDone()) {
+			lgWebOSDevice.controlProperty(createControl(backlight, controls % 2 == 0 ? "20" : "30"));
+			controls++;
+		}
+		polling.get();
+		Assertions.assertTrue(controls > 0);
+		Assertions.assertEquals(controls % 2 == 0 ? "1e" : "14", simulator.getValue(MONITOR_ID, "mg"));
+	}
+
+	/**
+	 * Test a burst of backlight controls sent while the previous value is still on the wire
+	 * Expected the superseded values are dropped and the last value reaches the display
+	 */
+	@Tag("Simulator")
+	@Test
+	void testCoalescedSliderControls() throws Exception {
+		lgWebOSDevice = createDevice(simulator);
+		lgWebOSDevice.init();
+		sweep();
+		//The first control keeps the display busy while the next controls queue up behind it
+		simulator.setLatency(LATENCY * 10);
+		int receivedCommands = simulator.getReceivedCommands();
+		List<CompletableFuture<Void>> controls = new ArrayList<>();
+		ExecutorService executorService = Executors.newCachedThreadPool();
+		for (int backlight = 21; backlight <= 30; backlight++) {
+			ControllableProperty controllableProperty = new ControllableProperty();
+			controllableProperty.setProperty(LgWebOSConstants.DISPLAY + LgWebOSConstants.HASH + LgControllingCommand.BACKLIGHT.getName());
+			controllableProperty.setValue(String.valueOf(backlight));
+			AtomicReference<Thread> controlThread = new AtomicReference<>();
+			CompletableFuture<Void> control = CompletableFuture.runAsync(() -> {
+				controlThread.set(Thread.currentThread());
+				try {
+					lgWebOSDevice.controlProperty(controllableProperty);
+				} catch (Exception e) {
+					throw new IllegalStateException(e);
+				}
+			}, executorService);
+			controls.add(control);
+			if (controls.size() == 1) {
+				while (!control.isDone() && simulator.getReceivedCommands() == receivedCommands) {
+					Thread.sleep(1);
+				}
+			} else {
+				awaitQueued(control, controlThread);
+			}
+		}
+		CompletableFuture.allOf(controls.toArray(new CompletableFuture<?>[0])).get();
+		executorService.shutdown();
+
+		int sentControls = simulator.getReceivedCommands() - receivedCommands;
+		Assertions.assertTrue(sentControls < controls.size(), "sent controls " + sentControls);
+		Assertions.assertEquals("1e", simulator.getValue(MONITOR_ID, "mg"));
+		Map<String, String> statistics = sweep();
+		Assertions.assertEquals("30", statistics.get(LgWebOSConstants.DISPLAY + LgWebOSConstants.HASH + LgWebOSConstants.BACKLIGHT_VALUE));
+	}
+
+	/**
+	 * Test LgWebOSDevice.controlProperties with a pipelined connection
+	 * Expected the volume is sent before the mute, the single frame controls are sent in one burst and every value
+	 * reaches the display
+	 */
+	@Tag("Simulator")
+	@Test
+	void testControlProperties() throws Exception {
+		lgWebOSDevice = createDevice(simulator);
+		lgWebOSDevice.setPipelineWindow("4");
+		lgWebOSDevice.init();
+		sweep();
+		int receivedCommands = simulator.getReceivedCommands();
+
+		List<ControllableProperty> controllableProperties = new ArrayList<>();
+		controllableProperties.add(createControl(LgWebOSConstants.SOUND + LgWebOSConstants.HASH + LgControllingCommand.MUTE.getName(), "1"));
+		controllableProperties.add(createControl(LgWebOSConstants.SOUND + LgWebOSConstants.HASH + LgControllingCommand.VOLUME.getName(), "30"));
+		controllableProperties.add(createControl(LgWebOSConstants.DISPLAY + LgWebOSConstants.HASH + LgControllingCommand.BACKLIGHT.getName(), "20"));
+		controllableProperties.add(createControl(LgWebOSConstants.DISPLAY + LgWebOSConstants.HASH + "Unknown", "1"));
+		Map<String, Exception> results = lgWebOSDevice.executeControls(controllableProperties);
+
+		Assertions.assertEquals(controllableProperties.size(), results.size());
+		Assertions.assertNotNull(results.get(LgWebOSConstants.DISPLAY + LgWebOSConstants.HASH + "Unknown"));
+		Assertions.assertNull(results.get(LgWebOSConstants.SOUND + LgWebOSConstants.HASH + LgControllingCommand.MUTE.getName()));
+		Assertions.assertEquals(3, simulator.getReceivedCommands() - receivedCommands);
+		Assertions.assertEquals("1e", simulator.getValue(MONITOR_ID, "kf"));
+		Assertions.assertEquals(LgWebOSConstants.MUTE_VALUE, simulator.getValue(MONITOR_ID, "ke"));
+		Assertions.assertEquals("14", simulator.getValue(MONITOR_ID, "mg"));
+	}
+
+	/**
+	 * Test the idempotent control with a backlight already at the requested value
+	 * Expected the control is skipped, a control with another value is sent, and both are counted
+	 */
+	@Tag("Simulator")
+	@Test
+	void testIdempotentControl() throws Exception {
+		lgWebOSDevice = createDevice(simulator);
+		lgWebOSDevice.setIdempotentControl("true");
+		lgWebOSDevice.init();
+		sweep();
+		int receivedCommands = simulator.getReceivedCommands();
+		String backlight = LgWebOSConstants.DISPLAY + LgWebOSConstants.HASH + LgControllingCommand.BACKLIGHT.getName();
+
+		lgWebOSDevice.controlProperty(createControl(backlight, "80"));
+		Assertions.assertEquals(receivedCommands, simulator.getReceivedCommands());
+		lgWebOSDevice.controlProperty(createControl(backlight, "20"));
+		Assertions.assertEquals(receivedCommands + 1, simulator.getReceivedCommands());
+		Assertions.assertEquals("14", simulator.getValue(MONITOR_ID, "mg"));
+
+		//The first call after a control delivers the snapshot of the control, the second call polls the display
+		lgWebOSDevice.getMultipleStatistics();
+		Map<String, String> statistics = ((ExtendedStatistics) lgWebOSDevice.getMultipleStatistics().get(0)).getStatistics();
+		Assertions.assertEquals("1", statistics.get(LgWebOSConstants.ADAPTER_METRICS + LgWebOSConstants.HASH + LgWebOSConstants.SKIPPED_CONTROLS));
+		Assertions.assertEquals("1", statistics.get(LgWebOSConstants.ADAPTER_METRICS + LgWebOSConstants.HASH + LgWebOSConstants.SENT_CONTROLS));
+	}
+
+	/**
+	 * Test the idempotent control with the panel already in the requested power state
+	 * Expected both power controls are skipped, nothing is sent to the display
+	 */
+	@Tag("Simulator")
+	@Test
+	void testIdempotentPowerControl() throws Exception {
+		lgWebOSDevice = createDevice(simulator);
+		lgWebOSDevice.setIdempotentControl("true");
+		lgWebOSDevice.init();
+		sweep();
+		int receivedCommands = simulator.getReceivedCommands();
+
+		lgWebOSDevice.controlProperty(createControl(LgWebOSConstants.POWER, "1"));
+		lgWebOSDevice.controlProperty(createControl(LgWebOSConstants.POWER, "1"));
+		Assertions.assertEquals(receivedCommands, simulator.getReceivedCommands());
+		Map<String, String> statistics = ((ExtendedStatistics) lgWebOSDevice.getMultipleStatistics().get(0)).getStatistics();
+		Assertions.assertEquals("2", statistics.get(LgWebOSConstants.ADAPTER_METRICS + LgWebOSConstants.HASH + LgWebOSConstants.SKIPPED_CONTROLS));
+	}
+
+	/**
+	 * Test a control retried after the display rejected it, with the idempotent control enabled
+	 * Expected the retry is sent, the value of the failed control is not trusted as the value of the display and only the
+	 * control that succeeded is counted as sent
+	 */
+	@Tag("Simulator")
+	@Test
+	void testIdempotentControlRetryAfterFailure() throws Exception {
+		lgWebOSDevice = createDevice(simulator);
+		lgWebOSDevice.setIdempotentControl("true");
+		lgWebOSDevice.init();
+		sweep();
+		String volume = LgWebOSConstants.SOUND + LgWebOSConstants.HASH + LgControllingCommand.VOLUME.getName();
+
+		simulator.setNgRate(1);
+		Assertions.assertThrows(Exception.class, () -> lgWebOSDevice.controlProperty(createControl(volume, "30")));
+		Assertions.assertEquals("10", simulator.getValue(MONITOR_ID, "kf"));
+		simulator.setNgRate(0);
+		int receivedCommands = simulator.getReceivedCommands();
+		lgWebOSDevice.controlProperty(createControl(volume, "30"));
+		Assertions.assertEquals(receivedCommands + 1, simulator.getReceivedCommands());
+		Assertions.assertEquals("1e", simulator.getValue(MONITOR_ID, "kf"));
+
+		//The first call after a control delivers the snapshot of the control, the second call polls the display
+		lgWebOSDevice.getMultipleStatistics();
+		Map<String, String> statistics = ((ExtendedStatistics) lgWebOSDevice.getMultipleStatistics().get(0)).getStatistics();
+		Assertions.assertEquals("1", statistics.get(LgWebOSConstants.ADAPTER_METRICS + LgWebOSConstants.HASH + LgWebOSConstants.SENT_CONTROLS));
+	}
+
+	/**
+	 * Test the picture settings are read again after a picture mode control
+	 * Expected the snapshot of the control shows the contrast of the new picture mode before the next polling cycle
+	 */
+	@Tag("Simulator")
+	@Test
+	void testRefreshAffectedProperties() throws Exception {
+		lgWebOSDevice = createDevice(simulator);
+		lgWebOSDevice.init();
+		sweep();
+		String contrast = LgWebOSConstants.DISPLAY + LgWebOSConstants.HASH + LgWebOSConstants.CONTRAST_VALUE;
+		Assertions.assertEquals("80", ((ExtendedStatistics) lgWebOSDevice.getMultipleStatistics().get(0)).getStatistics().get(contrast));
+		simulator.setValue(MONITOR_ID, "kg", "1e");
+
+		lgWebOSDevice.controlProperty(createControl(LgWebOSConstants.DISPLAY + LgWebOSConstants.HASH + LgControllingCommand.PICTURE_MODE.getName(), PictureMode.GENERAL.getName()));
+		Assertions.assertEquals("01", simulator.getValue(MONITOR_ID, "dx"));
+		//The first call after a control delivers the snapshot of the control
+		Map<String, String> statistics = ((ExtendedStatistics) lgWebOSDevice.getMultipleStatistics().get(0)).getStatistics();
+		Assertions.assertEquals("30", statistics.get(contrast));
+		statistics = ((ExtendedStatistics) lgWebOSDevice.getMultipleStatistics().get(0)).getStatistics();
+		Assertions.assertEquals("7", statistics.get(LgWebOSConstants.ADAPTER_METRICS + LgWebOSConstants.HASH + LgWebOSConstants.REFRESHED_PROPERTIES));
+	}
+
+	/**
+	 * Test the tile mode and the natural mode turned off
+	 * Expected only the control frames are sent, the natural mode, tile ID and natural size are not supported by the
+	 * display once their parent is off so they are not read again
+	 */
+	@Tag("Simulator")
+	@Test
+	void testRefreshSkipsUnsupportedDependents() throws Exception {
+		lgWebOSDevice = createDevice(simulator);
+		lgWebOSDevice.init();
+		sweep();
+		String group = LgWebOSConstants.TILE_MODE_SETTINGS + LgWebOSConstants.HASH;
+		int receivedCommands = simulator.getReceivedCommands();
+
+		lgWebOSDevice.controlProperty(createControl(group + LgWebOSConstants.NATURAL_MODE, "0"));
+		lgWebOSDevice.controlProperty(createControl(group + LgWebOSConstants.TILE_MODE, "0"));
+		Assertions.assertEquals(receivedCommands + 2, simulator.getReceivedCommands());
+		Assertions.assertEquals("00", simulator.getValue(MONITOR_ID, "dd"));
+	}
+
+	/**
+	 * Test the background polling on the shared scheduler
+	 * Expected the snapshot reports the scheduling lag of the background polling once it ran twice
+	 */
+	@Tag("Simulator")
+	@Test
+	void testBackgroundPollingSchedulingLag() throws Exception {
+		lgWebOSDevice = createDevice(simulator);
+		lgWebOSDevice.setBackgroundPolling("true");
+		lgWebOSDevice.setBackgroundPollingInterval(String.valueOf(LgWebOSConstants.MIN_BACKGROUND_POLLING_INTERVAL));
+		lgWebOSDevice.init();
+
+		String schedulingLag = LgWebOSConstants.ADAPTER_METRICS + LgWebOSConstants.HASH + LgWebOSConstants.SCHEDULING_LAG;
+		Map<String, String> statistics = ((ExtendedStatistics) lgWebOSDevice.getMultipleStatistics().get(0)).getStatistics();
+		Assertions.assertNull(statistics.get(schedulingLag));
+		Thread.sleep(LgWebOSConstants.MIN_BACKGROUND_POLLING_INTERVAL * 3L);
+		statistics = ((ExtendedStatistics) lgWebOSDevice.getMultipleStatistics().get(0)).getStatistics();
+		Assertions.assertNotNull(statistics.get(schedulingLag));
+		Assertions.assertTrue(Long.parseLong(statistics.get(schedulingLag)) < LgWebOSConstants.MIN_BACKGROUND_POLLING_INTERVAL);
+	}
+
+	/**
+	 * Test the background polling while controls arrive more often than the background polling interval
+	 * Expected the background polling keeps running, a value changed on the display reaches the snapshot
+	 */
+	@Tag("Simulator")
+	@Test
+	void testBackgroundPollingDuringFrequentControls() throws Exception {
+		lgWebOSDevice = createDevice(simulator);
+		lgWebOSDevice.setBackgroundPolling("true");
+		lgWebOSDevice.setBackgroundPollingInterval(String.valueOf(LgWebOSConstants.MIN_BACKGROUND_POLLING_INTERVAL));
+		lgWebOSDevice.init();
+		lgWebOSDevice.getMultipleStatistics();
+		Thread.sleep(LgWebOSConstants.MIN_BACKGROUND_POLLING_INTERVAL * 2L);
+		String volume = LgWebOSConstants.SOUND + LgWebOSConstants.HASH + LgControllingCommand.VOLUME.getName();
+		String backlight = LgWebOSConstants.DISPLAY + LgWebOSConstants.HASH + LgWebOSConstants.BACKLIGHT_VALUE;
+
+		long start = System.currentTimeMillis();
+		long deadline = start + LgWebOSConstants.MIN_BACKGROUND_POLLING_INTERVAL * 8L;
+		int controls = 0;
+		Map<String, String> statistics;
+		do {
+			if (System.currentTimeMillis() - start > LgWebOSConstants.MIN_BACKGROUND_POLLING_INTERVAL * 2L) {
+				//The backlight is changed on the display once the controls run more often than the background polling
+				simulator.setValue(MONITOR_ID, "mg", "14");
+			}
+			lgWebOSDevice.controlProperty(createControl(volume, controls % 2 == 0 ? "20" : "30"));
+			controls++;
+			Thread.sleep(LgWebOSConstants.MIN_BACKGROUND_POLLING_INTERVAL / 10);
+			statistics = ((ExtendedStatistics) lgWebOSDevice.getMultipleStatistics().get(0)).getStatistics();
+		} while (!"20".equals(statistics.get(backlight)) && System.currentTimeMillis() < deadline);
+		Assertions.assertEquals("20", statistics.get(backlight));
+	}
+
+	/**
+	 * Test several displays polled at the same time
+	 * Expected every adapter reports the state of its own simulator
+	 */
+	@Tag("Simulator")
+	@Test
+	void testSeveralSimulators() throws Exception {
+		try (LgWebOSSimulator secondSimulator = new LgWebOSSimulator().start()) {
+			secondSimulator.setValue(MONITOR_ID, "fy", "405KCXY67890");
+			LgWebOSDevice secondDevice = createDevice(secondSimulator);
+			lgWebOSDevice = createDevice(simulator);
+			lgWebOSDevice.init();
+			secondDevice.init();
+			try {
+				Assertions.assertEquals("405KCXY12345", sweep().get(LgWebOSConstants.SERIAL_NUMBER));
+				Map<String, String> statistics = null;
+				for (int i = 0; i < LgWebOSConstants.DEFAULT_POLLING_INTERVAL; i++) {
+					statistics = ((ExtendedStatistics) secondDevice.getMultipleStatistics().get(0)).getStatistics();
+				}
+				Assertions.assertEquals("405KCXY67890", statistics.get(LgWebOSConstants.SERIAL_NUMBER));
+			} finally {
+				secondDevice.destroy();
+			}
+		}
+	}
+
+	/**
+	 * Wait until a control is done or waits for the control lock, its value is then pending so the controls arrive in order
+	 *
+	 * @param control the control is future of the control
+	 * @param controlThread the controlThread is thread running the control, set when the control starts
+	 */
+	private void awaitQueued(CompletableFuture<Void> control, AtomicReference<Thread> controlThread) throws InterruptedException {
+		while (!control.isDone() && (controlThread.get() == null || controlThread.get().getState() != Thread.State.WAITING)) {
+			Thread.sleep(1);
+		}
+	}
+
+	/**
+	 * Create a control
+	 *
+	 * @param property the property is name of the controllable property
+	 * @param value the value is value of the control
+	 * @return ControllableProperty is the control
+	 */
+	private ControllableProperty createControl(String property, String value) {
+		ControllableProperty controllableProperty = new ControllableProperty();
+		controllableProperty.setProperty(property);
+		controllableProperty.setValue(value);
+		return controllableProperty;
+	}
+
+	/**
+	 * Create an adapter polling a simulator
+	 *
+	 * @param simulator the simulator is simulator to poll
+	 * @return LgWebOSDevice is the adapter, not initialized
+	 */
+	private LgWebOSDevice createDevice(LgWebOSSimulator simulator) {
+		LgWebOSDevice device = new LgWebOSDevice();
+		device.setHost("127.0.0.1");
+		device.setPort(simulator.getPort());
+		device.setConfigManagement("true");
+		device.setPersistentConnection("true");
+		device.setCoolDownDelay(String.valueOf(LgWebOSConstants.MIN_DELAY_TIME));
+		return device;
+	}
+
+	/**
+	 * Run getMultipleStatistics until every command of the polling interval is sent once
+	 *
+	 * @return Map is the statistics of the last call
+	 */
+	private Map<String, String> sweep() throws Exception {
+		Map<String, String> statistics = null;
+		for (int i = 0; i < LgWebOSConstants.DEFAULT_POLLING_INTERVAL; i++) {
+			statistics = ((ExtendedStatistics) lgWebOSDevice.getMultipleStatistics().get(0)).getStatistics();
+		}
+		return statistics;
+	}
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.webos;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+
+/**
+ * Contention between the monitoring calls, the background polling and the controls on the statistics snapshot
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class LgWebOSSnapshotContentionTest {
+
+	private static final int READERS = 4;
+	private static final int DURATION = 2000;
+	private static final String BACKLIGHT = "Display#Backlight";
+
+	private LgWebOSSweepTimeTest.StubbedLgWebOSDevice lgWebOSDevice;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		lgWebOSDevice = new LgWebOSSweepTimeTest.StubbedLgWebOSDevice();
+		lgWebOSDevice.setHost("127.0.0.1");
+		lgWebOSDevice.setConfigManagement("true");
+		lgWebOSDevice.init();
+		for (int i = 0; i < LgWebOSConstants.DEFAULT_POLLING_INTERVAL; i++) {
+			lgWebOSDevice.getMultipleStatistics();
+		}
+		lgWebOSDevice.setBackgroundPolling("true");
+		lgWebOSDevice.setBackgroundPollingInterval(String.valueOf(LgWebOSConstants.MIN_BACKGROUND_POLLING_INTERVAL));
+	}
+
+	@AfterEach
+	void destroy() throws Exception {
+		lgWebOSDevice.destroy();
+	}
+
+	/**
+	 * Test monitoring calls from several threads while a writer sends controls and the background polling runs
+	 * Expected the monitoring calls are not held up by the controls and every control is visible in a later snapshot
+	 */
+	@Tag("Benchmark")
+	@Test
+	void testReadersDuringControls() throws Exception {
+		ExecutorService executorService = Executors.newFixedThreadPool(READERS + 1);
+		CountDownLatch start = new CountDownLatch(1);
+		long end = System.currentTimeMillis() + DURATION;
+		List<Future<long[]>> readers = new ArrayList<>();
+		for (int i = 0; i < READERS; i++) {
+			readers.add(executorService.submit(() -> {
+				start.await();
+				long[] latencies = new long[1 << 20];
+				int count = 0;
+				while (System.currentTimeMillis() < end && count < latencies.length) {
+					long begin = System.nanoTime();
+					ExtendedStatistics extendedStatistics = (ExtendedStatistics) lgWebOSDevice.getMultipleStatistics().get(0);
+					latencies[count++] = System.nanoTime() - begin;
+					Assertions.assertNotNull(extendedStatistics.getStatistics());
+				}
+				return Arrays.copyOf(latencies, count);
+			}));
+		}
+		Future<Integer> writer = executorService.submit(() -> {
+			start.await();
+			int controls = 0;
+			while (System.currentTimeMillis() < end) {
+				ControllableProperty controllableProperty = new ControllableProperty();
+				controllableProperty.setProperty(BACKLIGHT);
+				controllableProperty.setValue(String.valueOf(controls % 100));
+				lgWebOSDevice.controlProperty(controllableProperty);
+				controls++;
+			}
+			return controls;
+		});
+		start.countDown();
+		List<Long> latencies = new ArrayList<>();
+		for (Future<long[]> reader : readers) {
+			for (long latency : reader.get()) {
+				latencies.add(latency);
+			}
+		}
+		int controls = writer.get();
+		executorService.shutdown();
+		Assertions.assertTrue(executorService.awaitTermination(1, TimeUnit.SECONDS));
+
+		latencies.sort(Long::compare);
+		long p50 = latencies.get(latencies.size() / 2) / 1000;
+		long p99 = latencies.get(latencies.size() * 99 / 100) / 1000;
+		System.out.println(String.format("%d monitoring calls from %d threads and %d controls in %d ms, p50 %d us, p99 %d us",
+				latencies.size(), READERS, controls, DURATION, p50, p99));
+		Assertions.assertTrue(controls > 0);
+		Assertions.assertTrue(p99 < TimeUnit.MILLISECONDS.toMicros(LgWebOSSweepTimeTest.DEVICE_LATENCY));
+	}
+}
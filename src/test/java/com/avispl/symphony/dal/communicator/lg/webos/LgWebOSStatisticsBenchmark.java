@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.webos;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
+
+/**
+ * JMH benchmark of the statistics assembly, populateMonitoringData and populateControllingData on a warm property cache
+ * The cache is filled by polling {@link LgWebOSSimulator}, the device is not contacted while measuring
+ * Run with the main method or with the benchmark profile, which adds the GC profiler
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LgWebOSStatisticsBenchmark {
+
+	private LgWebOSSimulator simulator;
+	private LgWebOSDevice lgWebOSDevice;
+
+	@Setup
+	public void setUp() throws Exception {
+		simulator = new LgWebOSSimulator().start();
+		lgWebOSDevice = new LgWebOSDevice();
+		lgWebOSDevice.setHost("127.0.0.1");
+		lgWebOSDevice.setPort(simulator.getPort());
+		lgWebOSDevice.setConfigManagement("true");
+		lgWebOSDevice.setCoolDownDelay(String.valueOf(LgWebOSConstants.MIN_DELAY_TIME));
+		lgWebOSDevice.init();
+		for (int i = 0; i < LgWebOSConstants.DEFAULT_POLLING_INTERVAL; i++) {
+			lgWebOSDevice.getMultipleStatistics();
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		lgWebOSDevice.destroy();
+		simulator.close();
+	}
+
+	@Benchmark
+	public Map<String, String> populateMonitoringData() {
+		Map<String, String> statistics = new HashMap<>();
+		lgWebOSDevice.populateMonitoringData(statistics, new HashMap<>());
+		return statistics;
+	}
+
+	@Benchmark
+	public List<AdvancedControllableProperty> populateControllingData() {
+		List<AdvancedControllableProperty> advancedControllableProperties = new ArrayList<>();
+		lgWebOSDevice.populateControllingData(new HashMap<>(), advancedControllableProperties);
+		return advancedControllableProperties;
+	}
+
+	public static void main(String[] args) throws Exception {
+		new Runner(new OptionsBuilder().include(LgWebOSStatisticsBenchmark.class.getSimpleName()).addProfiler("gc").build()).run();
+	}
+}
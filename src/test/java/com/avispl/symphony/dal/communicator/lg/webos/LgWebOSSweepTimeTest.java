@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.webos;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Sweep time of LgWebOSDevice against a stubbed device that answers every command after a fixed latency
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class LgWebOSSweepTimeTest {
+
+	static final int DEVICE_LATENCY = 5;
+	private static final int SWEEPS = 3;
+
+	private StubbedLgWebOSDevice lgWebOSDevice;
+
+	/**
+	 * LgWebOSDevice answering every command with an OK reply after {@link #DEVICE_LATENCY}
+	 */
+	static class StubbedLgWebOSDevice extends LgWebOSDevice {
+		private final AtomicInteger sentCommands = new AtomicInteger();
+		private volatile boolean isPowerOff;
+
+		@Override
+		public byte[] send(byte[] data) throws Exception {
+			sentCommands.incrementAndGet();
+			Thread.sleep(DEVICE_LATENCY);
+			if (data[0] == 'k' && data[1] == 'd') {
+				return (isPowerOff ? "d 01 OK01x" : "d 01 OK00x").getBytes(StandardCharsets.UTF_8);
+			}
+			return (((char) data[1]) + " 01 OK0101010101x").getBytes(StandardCharsets.UTF_8);
+		}
+	}
+
+	@BeforeEach
+	void setUp() throws Exception {
+		lgWebOSDevice = new StubbedLgWebOSDevice();
+		lgWebOSDevice.setHost("127.0.0.1");
+		lgWebOSDevice.setConfigManagement("true");
+		lgWebOSDevice.init();
+	}
+
+	@AfterEach
+	void destroy() throws Exception {
+		lgWebOSDevice.destroy();
+	}
+
+	/**
+	 * Test a full polling cycle on a stubbed device
+	 * Expected the sweep time is bounded by the device latency, not by a 100 ms poll granularity
+	 */
+	@Tag("Benchmark")
+	@Test
+	void testSweepTime() throws Exception {
+		// warm up
+		sweep();
+		lgWebOSDevice.sentCommands.set(0);
+		long start = System.nanoTime();
+		for (int i = 0; i < SWEEPS; i++) {
+			sweep();
+		}
+		long sweepTime = (System.nanoTime() - start) / 1_000_000 / SWEEPS;
+		int commandsPerSweep = lgWebOSDevice.sentCommands.get() / SWEEPS;
+		System.out.println(String.format("Sweep time: %d ms for %d commands, %.1f ms per command", sweepTime, commandsPerSweep, (double) sweepTime / commandsPerSweep));
+		Assertions.assertTrue(sweepTime < (long) commandsPerSweep * (DEVICE_LATENCY + 50));
+	}
+
+	/**
+	 * Test polling cycles while the panel is off
+	 * Expected only the power off poll plan is sent, at most a quarter of the commands of the full plan
+	 */
+	@Tag("Benchmark")
+	@Test
+	void testPowerOffSweep() throws Exception {
+		sweep();
+		lgWebOSDevice.sentCommands.set(0);
+		for (int i = 0; i < SWEEPS; i++) {
+			sweep();
+		}
+		int fullPlanCommands = lgWebOSDevice.sentCommands.get();
+		lgWebOSDevice.isPowerOff = true;
+		sweep();
+		lgWebOSDevice.sentCommands.set(0);
+		for (int i = 0; i < SWEEPS; i++) {
+			sweep();
+		}
+		int powerOffCommands = lgWebOSDevice.sentCommands.get();
+		System.out.println(String.format("Commands per sweep: %d with power on, %d with power off", fullPlanCommands / SWEEPS, powerOffCommands / SWEEPS));
+		Assertions.assertTrue(powerOffCommands * 4 <= fullPlanCommands);
+	}
+
+	/**
+	 * Test polling cycles while the panel is off, with the configuration management off
+	 * Expected POWER is still polled, so the power off poll plan engages and the full plan comes back at power on
+	 */
+	@Tag("Benchmark")
+	@Test
+	void testPowerOffSweepWithoutConfigManagement() throws Exception {
+		lgWebOSDevice.setConfigManagement("false");
+		sweep();
+		lgWebOSDevice.sentCommands.set(0);
+		sweep();
+		int fullPlanCommands = lgWebOSDevice.sentCommands.get();
+		lgWebOSDevice.isPowerOff = true;
+		sweep();
+		lgWebOSDevice.sentCommands.set(0);
+		sweep();
+		int powerOffCommands = lgWebOSDevice.sentCommands.get();
+		System.out.println(String.format("Commands per sweep without configuration management: %d with power on, %d with power off", fullPlanCommands, powerOffCommands));
+		Assertions.assertTrue(powerOffCommands * 2 <= fullPlanCommands);
+
+		lgWebOSDevice.isPowerOff = false;
+		sweep();
+		lgWebOSDevice.sentCommands.set(0);
+		sweep();
+		Assertions.assertTrue(lgWebOSDevice.sentCommands.get() >= fullPlanCommands);
+	}
+
+	/**
+	 * Run getMultipleStatistics until every command of the polling interval is sent once
+	 */
+	private void sweep() throws Exception {
+		for (int i = 0; i < LgWebOSConstants.DEFAULT_POLLING_INTERVAL; i++) {
+			lgWebOSDevice.getMultipleStatistics();
+		}
+	}
+}
@@ -0,0 +1,281 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.webos;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test of the transports, the fault tests run against {@link LgWebOSSimulator}
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class LgWebOSTransportTest {
+
+	private static final byte MONITOR_ID = 1;
+	private static final int READ_TIMEOUT = 500;
+	private static final String[] TRANSPORT_MODES = { LgWebOSConstants.TRANSPORT_MODE_BLOCKING, LgWebOSConstants.TRANSPORT_MODE_NIO,
+			LgWebOSConstants.TRANSPORT_MODE_EVENT_LOOP };
+	private static final String[] NON_BLOCKING_TRANSPORT_MODES = { LgWebOSConstants.TRANSPORT_MODE_NIO, LgWebOSConstants.TRANSPORT_MODE_EVENT_LOOP };
+	private static final byte[] VOLUME_QUERY = frame("kf", "ff");
+	private static final byte[] VOLUME_CONTROL = frame("kf", "1e");
+	private static final byte[] BACKLIGHT_QUERY = frame("mg", "ff");
+	private static final byte[] CONTRAST_QUERY = frame("kg", "ff");
+
+	/**
+	 * Frame the simulator doesn't answer, it has no data field
+	 */
+	private static final byte[] UNANSWERED_FRAME = "zz 01\r".getBytes(StandardCharsets.US_ASCII);
+
+	private LgWebOSSimulator simulator;
+	private LgWebOSTransport<?> transport;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		simulator = new LgWebOSSimulator().start();
+	}
+
+	@AfterEach
+	void destroy() {
+		if (transport != null) {
+			transport.close();
+		}
+		simulator.close();
+	}
+
+	/**
+	 * Test LgWebOSTransport.send with a control on a reused connection that the display drops after the frame is written
+	 * Expected the control is not sent a second time and the failure is reported
+	 */
+	@Tag("Simulator")
+	@Test
+	void testControlIsNotResentAfterWrite() throws Exception {
+		for (String transportMode : TRANSPORT_MODES) {
+			transport = createTransport(transportMode);
+			Assertions.assertEquals("f 01 OK10x", send(VOLUME_QUERY), transportMode);
+			int receivedCommands = simulator.getReceivedCommands();
+
+			simulator.closeAfterNextCommand();
+			Assertions.assertThrows(IOException.class, () -> transport.send(VOLUME_CONTROL), transportMode);
+			Assertions.assertEquals(receivedCommands + 1, simulator.getReceivedCommands(), transportMode);
+			Assertions.assertEquals("1e", simulator.getValue(MONITOR_ID, "kf"), transportMode);
+
+			Assertions.assertEquals("f 01 OK1ex", send(VOLUME_QUERY), transportMode);
+			transport.close();
+			simulator.setValue(MONITOR_ID, "kf", "10");
+		}
+	}
+
+	/**
+	 * Test LgWebOSTransport.send with a query on a reused connection that the display drops after the frame is written
+	 * Expected the query is sent again on a new connection and answered
+	 */
+	@Tag("Simulator")
+	@Test
+	void testQueryIsResentOnNewConnection() throws Exception {
+		for (String transportMode : TRANSPORT_MODES) {
+			transport = createTransport(transportMode);
+			send(VOLUME_QUERY);
+			int receivedCommands = simulator.getReceivedCommands();
+			int connections = simulator.getConnections();
+
+			simulator.closeAfterNextCommand();
+			Assertions.assertEquals("f 01 OK10x", send(VOLUME_QUERY), transportMode);
+			Assertions.assertEquals(receivedCommands + 2, simulator.getReceivedCommands(), transportMode);
+			Assertions.assertEquals(connections + 1, simulator.getConnections(), transportMode);
+			transport.close();
+		}
+	}
+
+	/**
+	 * Test LgWebOSTransport.send when the reply comes later than the read timeout
+	 * Expected the command times out in bounded time and the late reply is not returned for the next command
+	 */
+	@Tag("Simulator")
+	@Test
+	void testDelayedReplyTimesOut() throws Exception {
+		for (String transportMode : NON_BLOCKING_TRANSPORT_MODES) {
+			transport = createTransport(transportMode);
+			send(VOLUME_QUERY);
+
+			simulator.setLatency(READ_TIMEOUT * 2);
+			long start = System.currentTimeMillis();
+			Assertions.assertThrows(IOException.class, () -> transport.send(VOLUME_QUERY), transportMode);
+			Assertions.assertTrue(System.currentTimeMillis() - start < READ_TIMEOUT * 2 + LgWebOSConstants.EVENT_LOOP_GRACE_PERIOD, transportMode);
+
+			simulator.setLatency(0);
+			Assertions.assertEquals("g 01 OK50x", send(BACKLIGHT_QUERY), transportMode);
+			Thread.sleep(READ_TIMEOUT * 2);
+			Assertions.assertEquals("g 01 OK50x", send(BACKLIGHT_QUERY), transportMode);
+			transport.close();
+		}
+	}
+
+	/**
+	 * Test LgWebOSTransport.send when the display sends every byte of the reply within the read timeout, but the whole
+	 * reply later than the read timeout
+	 * Expected the command times out once the reply deadline is reached, the query sent again on a new connection too
+	 */
+	@Tag("Simulator")
+	@Test
+	void testSlowReplyTimesOut() throws Exception {
+		for (String transportMode : TRANSPORT_MODES) {
+			transport = createTransport(transportMode);
+			send(VOLUME_QUERY);
+
+			simulator.setByteInterval(READ_TIMEOUT / 5);
+			long start = System.currentTimeMillis();
+			Assertions.assertThrows(IOException.class, () -> transport.send(VOLUME_QUERY), transportMode);
+			Assertions.assertTrue(System.currentTimeMillis() - start < READ_TIMEOUT * 2 + READ_TIMEOUT / 2, transportMode);
+			simulator.setByteInterval(0);
+			transport.close();
+		}
+	}
+
+	/**
+	 * Test LgWebOSTransport.send when the display drops the idle connection, and when the display is not reachable
+	 * Expected the query is answered on a new connection, and the command fails once the display stops listening
+	 */
+	@Tag("Simulator")
+	@Test
+	void testDroppedConnection() throws Exception {
+		for (String transportMode : NON_BLOCKING_TRANSPORT_MODES) {
+			transport = createTransport(transportMode);
+			send(VOLUME_QUERY);
+			int connections = simulator.getConnections();
+
+			simulator.dropConnections();
+			Thread.sleep(LgWebOSConstants.HALF_OPEN_PROBE_THRESHOLD);
+			Assertions.assertEquals("g 01 OK50x", send(BACKLIGHT_QUERY), transportMode);
+			Assertions.assertEquals(connections + 1, simulator.getConnections(), transportMode);
+
+			simulator.dropConnections();
+			Assertions.assertEquals("f 01 OK10x", send(VOLUME_QUERY), transportMode);
+			Assertions.assertEquals(connections + 2, simulator.getConnections(), transportMode);
+			transport.close();
+		}
+		simulator.close();
+		for (String transportMode : NON_BLOCKING_TRANSPORT_MODES) {
+			transport = createTransport(transportMode);
+			Assertions.assertThrows(IOException.class, () -> transport.send(VOLUME_QUERY), transportMode);
+			Assertions.assertFalse(transport.isOpen(), transportMode);
+		}
+	}
+
+	/**
+	 * Test LgWebOSUtils.matchReply with replies in order, a skipped frame and a reply that matches no frame
+	 * Expected a reply is matched to the oldest in-flight frame with its echo letter, the older frames are dropped
+	 * and a reply without frame is ignored
+	 */
+	@Test
+	void testMatchReply() {
+		byte[][] frames = { VOLUME_QUERY, BACKLIGHT_QUERY, CONTRAST_QUERY, VOLUME_QUERY };
+		byte[][] replies = new byte[frames.length][];
+		Deque<Integer> inFlight = new ArrayDeque<>(Arrays.asList(0, 1, 2, 3));
+
+		byte[] unexpectedReply = "d 01 OK00x".getBytes(StandardCharsets.US_ASCII);
+		LgWebOSUtils.matchReply(unexpectedReply, frames, replies, inFlight);
+		Assertions.assertEquals(Arrays.asList(0, 1, 2, 3), Arrays.asList(inFlight.toArray()));
+		Assertions.assertArrayEquals(new byte[frames.length][], replies);
+
+		byte[] backlightReply = "g 01 OK50x".getBytes(StandardCharsets.US_ASCII);
+		LgWebOSUtils.matchReply(backlightReply, frames, replies, inFlight);
+		Assertions.assertNull(replies[0]);
+		Assertions.assertSame(backlightReply, replies[1]);
+		Assertions.assertEquals(Arrays.asList(2, 3), Arrays.asList(inFlight.toArray()));
+
+		byte[] volumeReply = "f 01 OK10x".getBytes(StandardCharsets.US_ASCII);
+		LgWebOSUtils.matchReply(volumeReply, frames, replies, inFlight);
+		Assertions.assertNull(replies[2]);
+		Assertions.assertSame(volumeReply, replies[3]);
+		Assertions.assertTrue(inFlight.isEmpty());
+	}
+
+	/**
+	 * Test LgWebOSTransport.sendPipelined with a frame the display doesn't answer
+	 * Expected with a window of one the read times out, the connection is reopened and the next frames are answered;
+	 * with a larger window the unanswered frame is skipped by the next reply without waiting for the timeout,
+	 * except on the event loop that sends the next frame only once the previous one is answered
+	 */
+	@Tag("Simulator")
+	@Test
+	void testPipelinedUnansweredFrame() throws Exception {
+		byte[][] frames = { VOLUME_QUERY, UNANSWERED_FRAME, BACKLIGHT_QUERY };
+		for (String transportMode : TRANSPORT_MODES) {
+			transport = createTransport(transportMode);
+			int connections = simulator.getConnections();
+			byte[][] replies = transport.sendPipelined(frames, 1);
+			Assertions.assertEquals("f 01 OK10x", new String(replies[0], StandardCharsets.US_ASCII), transportMode);
+			Assertions.assertNull(replies[1], transportMode);
+			Assertions.assertEquals("g 01 OK50x", new String(replies[2], StandardCharsets.US_ASCII), transportMode);
+			Assertions.assertEquals(connections + 2, simulator.getConnections(), transportMode);
+			if (LgWebOSConstants.TRANSPORT_MODE_EVENT_LOOP.equals(transportMode)) {
+				transport.close();
+				continue;
+			}
+
+			connections = simulator.getConnections();
+			long start = System.currentTimeMillis();
+			replies = transport.sendPipelined(frames, frames.length);
+			Assertions.assertTrue(System.currentTimeMillis() - start < READ_TIMEOUT, transportMode);
+			Assertions.assertNotNull(replies[0], transportMode);
+			Assertions.assertNull(replies[1], transportMode);
+			Assertions.assertNotNull(replies[2], transportMode);
+			Assertions.assertEquals(connections, simulator.getConnections(), transportMode);
+			transport.close();
+		}
+	}
+
+	/**
+	 * Create a transport connected to the simulator
+	 *
+	 * @param transportMode the transportMode is one of the transport modes of the adapter
+	 * @return LgWebOSTransport is the transport
+	 */
+	private LgWebOSTransport<?> createTransport(String transportMode) {
+		LgWebOSTransport<?> newTransport;
+		if (LgWebOSConstants.TRANSPORT_MODE_NIO.equals(transportMode)) {
+			newTransport = new LgWebOSNioTransport("127.0.0.1", simulator.getPort());
+		} else if (LgWebOSConstants.TRANSPORT_MODE_EVENT_LOOP.equals(transportMode)) {
+			newTransport = new LgWebOSEventLoopTransport("127.0.0.1", simulator.getPort());
+		} else {
+			newTransport = new LgWebOSConnection("127.0.0.1", simulator.getPort());
+		}
+		newTransport.setReadTimeout(READ_TIMEOUT);
+		return newTransport;
+	}
+
+	/**
+	 * Send a frame with the current transport
+	 *
+	 * @param frame the frame is request bytes
+	 * @return String is reply from the simulator
+	 */
+	private String send(byte[] frame) throws IOException {
+		return new String(transport.send(frame), StandardCharsets.US_ASCII);
+	}
+
+	/**
+	 * Build a frame for the monitor ID of the test
+	 *
+	 * @param command the command is two letters of the command
+	 * @param param the param is data of the command
+	 * @return byte[] is the frame
+	 */
+	private static byte[] frame(String command, String param) {
+		return LgWebOSUtils.buildSendString(MONITOR_ID, command.getBytes(StandardCharsets.US_ASCII), param.getBytes(StandardCharsets.US_ASCII));
+	}
+}
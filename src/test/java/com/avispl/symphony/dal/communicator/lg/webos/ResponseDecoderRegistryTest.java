@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.webos;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
+import com.avispl.symphony.dal.communicator.lg.webos.LgWebOSConstants.commandNames;
+import com.avispl.symphony.dal.communicator.lg.webos.LgWebOSConstants.fanStatusNames;
+import com.avispl.symphony.dal.communicator.lg.webos.LgWebOSConstants.inputNames;
+import com.avispl.symphony.dal.communicator.lg.webos.LgWebOSConstants.powerStatusNames;
+import com.avispl.symphony.dal.communicator.lg.webos.LgWebOSConstants.syncStatusNames;
+
+/**
+ * Unit test of the decoders of ResponseDecoderRegistry, the replies are the OK replies of the display for every command
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class ResponseDecoderRegistryTest {
+
+	private final ResponseDecoderRegistry registry = ResponseDecoderRegistry.createDefault();
+	private final LgWebOSPropertyStore store = new LgWebOSPropertyStore();
+
+	/**
+	 * Replies of the display with the property they update, the stored value and the value returned by the decoder
+	 * Tint and balance return the code as a String, the network settings return an empty String
+	 *
+	 * @return Stream<Arguments> is command, reply, property, stored value and returned value
+	 */
+	static Stream<Arguments> replies() {
+		return Stream.of(
+				Arguments.of(commandNames.NATURAL_MODE, "j 01 OK01x", LgWebOSProperty.NATURAL_MODE, "01", "01"),
+				Arguments.of(commandNames.TILE_ID, "i 01 OK05x", LgWebOSProperty.TILE_MODE_ID, "05", "05"),
+				Arguments.of(commandNames.TILE_MODE_CONTROL, "d 01 OK01x", LgWebOSProperty.TILE_MODE_SETTINGS, "01", "01"),
+				Arguments.of(commandNames.TINT, "j 01 OK32x", LgWebOSProperty.TINT, "32", "32"),
+				Arguments.of(commandNames.BALANCE, "t 01 OK1Fx", LgWebOSProperty.BALANCE, "1F", "1F"),
+				Arguments.of(commandNames.NATURAL_SIZE, "n 01 OKa50Ax", LgWebOSProperty.NATURAL_SIZE, "10", 10),
+				Arguments.of(commandNames.BACKLIGHT, "g 01 OK50x", LgWebOSProperty.BACKLIGHT, "80", 80),
+				Arguments.of(commandNames.MUTE, "e 01 OK01x", LgWebOSProperty.MUTE, "1", 1),
+				Arguments.of(commandNames.VOLUME, "f 01 OK10x", LgWebOSProperty.VOLUME, "16", 16),
+				Arguments.of(commandNames.TEMPERATURE, "n 01 OK28x", LgWebOSProperty.TEMPERATURE, "40", 40),
+				Arguments.of(commandNames.BRIGHTNESS, "h 01 OK50x", LgWebOSProperty.BRIGHTNESS, "80", "80"),
+				Arguments.of(commandNames.CONTRAST, "g 01 OK46x", LgWebOSProperty.CONTRAST, "70", "70"),
+				Arguments.of(commandNames.SHARPNESS, "k 01 OK10x", LgWebOSProperty.SHARPNESS, "16", "16"),
+				Arguments.of(commandNames.SCREEN_COLOR, "i 01 OK32x", LgWebOSProperty.SCREEN_COLOR, "50", "50"),
+				Arguments.of(commandNames.COLOR_TEMPERATURE, "u 01 OK80x", LgWebOSProperty.COLOR_TEMPERATURE, "128", "128"),
+				Arguments.of(commandNames.POWER_MANAGEMENT_MODE, "n 01 OK0c02x", LgWebOSProperty.POWER_MANAGEMENT_MODE, "Screen Off", "Screen Off"),
+				Arguments.of(commandNames.ASPECT_RATIO, "c 01 OK02x", LgWebOSProperty.ASPECT_RATIO, "Full Screen", "Full Screen"),
+				Arguments.of(commandNames.BRIGHTNESS_CONTROL, "q 01 OK03x", LgWebOSProperty.BRIGHTNESS_CONTROL, "Maximum", "Maximum"),
+				Arguments.of(commandNames.PICTURE_MODE, "x 01 OK01x", LgWebOSProperty.PICTURE_MODE, "General", "General"),
+				Arguments.of(commandNames.SOUND_MODE, "y 01 OK01x", LgWebOSProperty.SOUND_MODE, "Standard", "Standard"),
+				Arguments.of(commandNames.POWER_ON_STATUS, "r 01 OK02x", LgWebOSProperty.POWER_ON_STATUS, "PWR (Power On)", "PWR (Power On)"),
+				Arguments.of(commandNames.LANGUAGE, "i 01 OK03x", LgWebOSProperty.LANGUAGE, "English", "English"),
+				Arguments.of(commandNames.FAILOVER, "i 01 OK01x", LgWebOSProperty.FAILOVER_MODE, "Auto", "Auto"),
+				Arguments.of(commandNames.POWER, "d 01 OK00x", LgWebOSProperty.POWER, "ON", powerStatusNames.ON),
+				Arguments.of(commandNames.INPUT_SELECT, "b 01 OK90x", LgWebOSProperty.INPUT_SELECT, "HDMI1", inputNames.HDMI1_DTV),
+				Arguments.of(commandNames.INPUT, "b 01 OKa0x", LgWebOSProperty.INPUT_SELECT, "HDMI1", inputNames.HDMI1_PC),
+				Arguments.of(commandNames.FAN_STATUS, "w 01 OK01x", LgWebOSProperty.FAN, "NORMAL", fanStatusNames.NORMAL),
+				Arguments.of(commandNames.SYNC_STATUS, "v 01 OK0201x", LgWebOSProperty.SIGNAL, "SYNC", syncStatusNames.SYNC),
+				Arguments.of(commandNames.SERIAL_NUMBER, "y 01 OK405KCXY12345x", LgWebOSProperty.SERIAL_NUMBER, "405KCXY12345", "405KCXY12345"),
+				Arguments.of(commandNames.SOFTWARE_VERSION, "z 01 OK030405x", LgWebOSProperty.SOFTWARE_VERSION, "03.04.05", "03.04.05"),
+				Arguments.of(commandNames.DISPLAY_STAND_BY_MODE, "j 01 OK04x", LgWebOSProperty.DISPLAY_STAND_BY_MODE, "1 minute", LgWebOSConstants.ON),
+				Arguments.of(commandNames.DISPLAY_STAND_BY_MODE, "j 01 OK00x", LgWebOSProperty.DISPLAY_STAND_BY_MODE, "Off", "Off"),
+				Arguments.of(commandNames.DATE, "a 01 OK100a1fx", LgWebOSProperty.DATE, "10/31/2026", "10/31/2026"),
+				Arguments.of(commandNames.TIME, "x 01 OK0e0500x", LgWebOSProperty.TIME, "2:05 PM", "2:05 PM"),
+				Arguments.of(commandNames.TILE_MODE_SETTINGS, "z 01 OK010302x", LgWebOSProperty.TILE_MODE, "On", "On"),
+				Arguments.of(commandNames.TILE_MODE_SETTINGS, "z 01 OK010302x", LgWebOSProperty.TILE_MODE_COLUMN, "3", "On"),
+				Arguments.of(commandNames.TILE_MODE_SETTINGS, "z 01 OK010302x", LgWebOSProperty.TILE_MODE_ROW, "2", "On"),
+				Arguments.of(commandNames.NETWORK_SETTING, "n 01 OK82 192168000010 255255255000 192168000001 008008008008x", LgWebOSProperty.IP_ADDRESS,
+						"192.168.0.10", LgWebOSConstants.EMPTY_STRING),
+				Arguments.of(commandNames.NETWORK_SETTING, "n 01 OK82 192168000010 255255255000 192168000001 008008008008x", LgWebOSProperty.DNS_SERVER,
+						"8.8.8.8", LgWebOSConstants.EMPTY_STRING),
+				Arguments.of(commandNames.NO_SIGNAL_POWER_OFF, "g 01 OK01x", LgWebOSProperty.NO_SIGNAL_POWER_OFF, LgWebOSConstants.ON, LgWebOSConstants.ON),
+				Arguments.of(commandNames.NO_IR_POWER_OFF, "n 01 OK00x", LgWebOSProperty.NO_IR_POWER_OFF, LgWebOSConstants.OFF, LgWebOSConstants.OFF));
+	}
+
+	/**
+	 * Replies with a code the adapter doesn't know, with the property that is left unchanged or set to N/A
+	 *
+	 * @return Stream<Arguments> is command, reply, property and stored value
+	 */
+	static Stream<Arguments> unknownCodes() {
+		return Stream.of(
+				Arguments.of(commandNames.PICTURE_MODE, "x 01 OKffx", LgWebOSProperty.PICTURE_MODE, LgWebOSConstants.NA),
+				Arguments.of(commandNames.POWER_MANAGEMENT_MODE, "n 01 OK0cffx", LgWebOSProperty.POWER_MANAGEMENT_MODE, LgWebOSConstants.NA),
+				Arguments.of(commandNames.LANGUAGE, "i 01 OKffx", LgWebOSProperty.LANGUAGE, null),
+				Arguments.of(commandNames.FAILOVER, "i 01 OK09x", LgWebOSProperty.FAILOVER_MODE, null),
+				Arguments.of(commandNames.POWER, "d 01 OK05x", LgWebOSProperty.POWER, null),
+				Arguments.of(commandNames.INPUT_SELECT, "b 01 OKffx", LgWebOSProperty.INPUT_SELECT, null),
+				Arguments.of(commandNames.FAN_STATUS, "w 01 OK09x", LgWebOSProperty.FAN, null),
+				Arguments.of(commandNames.SYNC_STATUS, "v 01 OK0209x", LgWebOSProperty.SIGNAL, null),
+				Arguments.of(commandNames.DISPLAY_STAND_BY_MODE, "j 01 OKffx", LgWebOSProperty.DISPLAY_STAND_BY_MODE, null),
+				Arguments.of(commandNames.TILE_MODE_SETTINGS, "z 01 OK050302x", LgWebOSProperty.TILE_MODE, null),
+				Arguments.of(commandNames.NETWORK_SETTING, "n 01 OK82 19216800001 255255255000x", LgWebOSProperty.IP_ADDRESS, LgWebOSConstants.NA));
+	}
+
+	/**
+	 * Test ResponseDecoder.decode of every command
+	 * Expected the property is stored with the decoded value and the decoder returns the value of the baseline decoding
+	 */
+	@ParameterizedTest(name = "{0} {1} {2}")
+	@MethodSource("replies")
+	void testDecode(commandNames command, String reply, LgWebOSProperty property, String storedValue, Object returnedValue) {
+		Object value = registry.get(command).decode(toBytes(reply), store);
+		Assertions.assertEquals(returnedValue, value);
+		Assertions.assertEquals(storedValue, store.get(property));
+	}
+
+	/**
+	 * Test ResponseDecoder.decode of an unknown code
+	 * Expected the decoder returns N/A and the property is N/A or not stored
+	 */
+	@ParameterizedTest(name = "{0} {1}")
+	@MethodSource("unknownCodes")
+	void testDecodeUnknownCode(commandNames command, String reply, LgWebOSProperty property, String storedValue) {
+		Object value = registry.get(command).decode(toBytes(reply), store);
+		if (command != commandNames.NETWORK_SETTING) {
+			Assertions.assertEquals(LgWebOSConstants.NA, value);
+		}
+		Assertions.assertEquals(storedValue, store.get(property));
+	}
+
+	/**
+	 * Test ResponseDecoder.decode of invalid numbers and of a reboot that is not acknowledged
+	 * Expected the decoder fails and the property is not stored
+	 */
+	@Test
+	void testDecodeInvalidReply() {
+		Assertions.assertThrows(NumberFormatException.class, () -> registry.get(commandNames.BACKLIGHT).decode(toBytes("g 01 OKzzx"), store));
+		Assertions.assertThrows(NumberFormatException.class, () -> registry.get(commandNames.NO_IR_POWER_OFF).decode(toBytes("n 01 OK0ax"), store));
+		Assertions.assertNull(store.get(LgWebOSProperty.BACKLIGHT));
+		Assertions.assertEquals("02", registry.get(commandNames.REBOOT).decode(toBytes("a 01 OK02x"), store));
+		Assertions.assertThrows(ResourceNotReachableException.class, () -> registry.get(commandNames.REBOOT).decode(toBytes("a 01 OK00x"), store));
+	}
+
+	/**
+	 * Test LgWebOSDevice.digestResponse with NG replies and replies of another command
+	 * Expected an NG reply fails, except the fan status that is not supported, and a reply of another command fails
+	 */
+	@Test
+	void testDigestNgAndUnexpectedReply() {
+		LgWebOSDevice lgWebOSDevice = new LgWebOSDevice();
+		Assertions.assertThrows(ResourceNotReachableException.class, () -> lgWebOSDevice.digestResponse(toBytes("g 01 NG01x"), commandNames.BACKLIGHT));
+		Assertions.assertEquals(fanStatusNames.NOT_SUPPORTED, lgWebOSDevice.digestResponse(toBytes("w 01 NG01x"), commandNames.FAN_STATUS));
+		Assertions.assertThrows(RuntimeException.class, () -> lgWebOSDevice.digestResponse(toBytes("f 01 OK10x"), commandNames.BACKLIGHT));
+		Assertions.assertEquals(80, lgWebOSDevice.digestResponse(toBytes("g 01 OK50x"), commandNames.BACKLIGHT));
+	}
+
+	/**
+	 * Test LgWebOSDevice.digestResponse with the failover input list
+	 * Expected the priorities are decoded in the order of the reply
+	 */
+	@Test
+	void testDigestFailoverInputList() {
+		LgWebOSDevice lgWebOSDevice = new LgWebOSDevice();
+		Map<?, ?> priorities = (Map<?, ?>) lgWebOSDevice.digestResponse(toBytes("j 01 OK9091x"), commandNames.FAILOVER_INPUT_LIST);
+		Assertions.assertEquals(2, priorities.size());
+		Assertions.assertEquals("HDMI1", priorities.get(LgWebOSConstants.PRIORITY + 1));
+		Assertions.assertEquals("HDMI2", priorities.get(LgWebOSConstants.PRIORITY + 2));
+	}
+
+	/**
+	 * Get the bytes of a reply
+	 *
+	 * @param reply the reply is reply of the display
+	 * @return byte[] is the reply bytes
+	 */
+	private static byte[] toBytes(String reply) {
+		return reply.getBytes(StandardCharsets.US_ASCII);
+	}
+}